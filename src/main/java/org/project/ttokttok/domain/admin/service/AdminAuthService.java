@@ -18,6 +18,7 @@ import org.project.ttokttok.domain.admin.service.dto.response.ReissueServiceResp
 import org.project.ttokttok.domain.club.domain.Club;
 import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.club.service.ClubPopularityStatsService;
 import org.project.ttokttok.global.auth.jwt.dto.request.TokenRequest;
 import org.project.ttokttok.global.auth.jwt.dto.response.TokenResponse;
 import org.project.ttokttok.global.auth.jwt.exception.InvalidRefreshTokenException;
@@ -36,6 +37,7 @@ public class AdminAuthService {
     private final ClubRepository clubRepository;
     private final TokenProvider tokenProvider;
     private final RefreshTokenRedisService refreshTokenRedisService;
+    private final ClubPopularityStatsService clubPopularityStatsService;
 
     public AdminLoginServiceResponse login(AdminLoginServiceRequest request) {
         Admin targetAdmin = adminRepository.findByUsername(request.username())
@@ -85,6 +87,7 @@ public class AdminAuthService {
 
         Admin saved = adminRepository.save(admin);
         clubRepository.save(club);
+        clubPopularityStatsService.initialize(club.getId());
 
         return saved.getId();
     }
@@ -8,6 +8,7 @@ import org.project.ttokttok.domain.applicant.controller.dto.request.SendResultMa
 import org.project.ttokttok.domain.applicant.controller.dto.response.ApplicantDetailResponse;
 import org.project.ttokttok.domain.applicant.controller.dto.response.ApplicantFinalizeResponse;
 import org.project.ttokttok.domain.applicant.controller.dto.response.ApplicantPageResponse;
+import org.project.ttokttok.domain.applicant.controller.dto.response.ResultMailJobResponse;
 import org.project.ttokttok.domain.applicant.controller.enums.Kind;
 import org.project.ttokttok.domain.applicant.controller.enums.Sort;
 import org.project.ttokttok.domain.applicant.service.ApplicantAdminService;
@@ -31,6 +32,7 @@ public class ApplicantAdminApiController implements ApplicantAdminDocs {
                                                                    @RequestParam(name = "sort", required = false, defaultValue = "GRADE") Sort sort,
                                                                    @RequestParam(required = false, defaultValue = "false") boolean isEvaluating,
                                                                    @RequestParam(required = false, defaultValue = "1") int cursor,
+                                                                   @RequestParam(required = false) String lastId,
                                                                    @RequestParam(required = false, defaultValue = "7") int size,
                                                                    @RequestParam Kind kind) {
 
@@ -39,6 +41,7 @@ public class ApplicantAdminApiController implements ApplicantAdminDocs {
                 sort.name(),
                 isEvaluating,
                 cursor,
+                lastId,
                 size,
                 kind.name()
         );
@@ -69,6 +72,7 @@ public class ApplicantAdminApiController implements ApplicantAdminDocs {
                                                                      @RequestParam(name = "sort", required = false, defaultValue = "GRADE") Sort sort,
                                                                      @RequestParam(required = false, defaultValue = "false") boolean isEvaluating,
                                                                      @RequestParam(required = false, defaultValue = "1") int cursor,
+                                                                     @RequestParam(required = false) String lastId,
                                                                      @RequestParam(required = false, defaultValue = "7") int size,
                                                                      @RequestParam Kind kind) {
 
@@ -78,6 +82,7 @@ public class ApplicantAdminApiController implements ApplicantAdminDocs {
                 sort.name(),
                 isEvaluating,
                 cursor,
+                lastId,
                 size,
                 kind.name()
         );
@@ -93,6 +98,7 @@ public class ApplicantAdminApiController implements ApplicantAdminDocs {
     @GetMapping("/passed")
     public ResponseEntity<ApplicantPageResponse> getPassedApplicantsPage(@AuthUserInfo String username,
                                                                          @RequestParam(required = false, defaultValue = "1") int page,
+                                                                         @RequestParam(required = false) String lastId,
                                                                          @RequestParam(required = false, defaultValue = "4") int size,
                                                                          @RequestParam Kind kind) {
 
@@ -100,6 +106,7 @@ public class ApplicantAdminApiController implements ApplicantAdminDocs {
                 username,
                 true,
                 page,
+                lastId,
                 size,
                 kind.name()
         );
@@ -115,6 +122,7 @@ public class ApplicantAdminApiController implements ApplicantAdminDocs {
     @GetMapping("/failed")
     public ResponseEntity<ApplicantPageResponse> getFailedApplicantsPage(@AuthUserInfo String username,
                                                                          @RequestParam(required = false, defaultValue = "1") int page,
+                                                                         @RequestParam(required = false) String lastId,
                                                                          @RequestParam(required = false, defaultValue = "4") int size,
                                                                          @RequestParam Kind kind) {
 
@@ -122,6 +130,7 @@ public class ApplicantAdminApiController implements ApplicantAdminDocs {
                 username,
                 false,
                 page,
+                lastId,
                 size,
                 kind.name()
         );
@@ -177,14 +186,30 @@ public class ApplicantAdminApiController implements ApplicantAdminDocs {
                                                                      @Valid @RequestBody SendResultMailRequest request,
                                                                      @RequestParam Kind kind) {
 
-        applicantAdminService.sendResultMailToApplicants(
+        String jobId = applicantAdminService.sendResultMailToApplicants(
                 request.toServiceRequest(),
                 username,
                 clubId,
                 kind.name()
         );
 
+        return ResponseEntity.accepted()
+                .body(Map.of(
+                        "message", "이메일 발송이 요청되었습니다.",
+                        "jobId", jobId
+                ));
+    }
+
+    @GetMapping("/{clubId}/send-email/{jobId}")
+    public ResponseEntity<ResultMailJobResponse> getSendEmailJob(@AuthUserInfo String username,
+                                                                 @PathVariable String clubId,
+                                                                 @PathVariable String jobId) {
+
+        ResultMailJobResponse response = ResultMailJobResponse.from(
+                applicantAdminService.getResultMailJob(username, jobId)
+        );
+
         return ResponseEntity.ok()
-                .body(Map.of("message", "이메일 전송이 완료되었습니다."));
+                .body(response);
     }
 }
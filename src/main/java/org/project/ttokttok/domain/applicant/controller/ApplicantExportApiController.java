@@ -0,0 +1,60 @@
+package org.project.ttokttok.domain.applicant.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.applicant.controller.docs.ApplicantExportDocs;
+import org.project.ttokttok.domain.applicant.controller.dto.response.ApplicantExportJobResponse;
+import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantExportFileServiceResponse;
+import org.project.ttokttok.domain.applicant.service.export.ApplicantExportService;
+import org.project.ttokttok.global.annotation.auth.AuthUserInfo;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/applies/exports")
+public class ApplicantExportApiController implements ApplicantExportDocs {
+
+    private final ApplicantExportService applicantExportService;
+
+    @PostMapping
+    public ResponseEntity<ApplicantExportJobResponse> requestExport(@AuthUserInfo String username) {
+        ApplicantExportJobResponse response = ApplicantExportJobResponse.from(
+                applicantExportService.submit(username)
+        );
+
+        return ResponseEntity.accepted()
+                .body(response);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApplicantExportJobResponse> getExportJob(@AuthUserInfo String username,
+                                                                   @PathVariable String jobId) {
+        ApplicantExportJobResponse response = ApplicantExportJobResponse.from(
+                applicantExportService.getJob(username, jobId)
+        );
+
+        return ResponseEntity.ok()
+                .body(response);
+    }
+
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<StreamingResponseBody> downloadExport(@AuthUserInfo String username,
+                                                                @PathVariable String jobId) {
+        ApplicantExportFileServiceResponse file = applicantExportService.getFile(username, jobId);
+
+        String fileName = URLEncoder.encode(file.fileName(), StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(MediaType.parseMediaType(
+                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                .body(out -> applicantExportService.writeFile(file, out));
+    }
+}
@@ -12,6 +12,7 @@ import org.project.ttokttok.domain.applicant.controller.dto.request.SendResultMa
 import org.project.ttokttok.domain.applicant.controller.dto.response.ApplicantDetailResponse;
 import org.project.ttokttok.domain.applicant.controller.dto.response.ApplicantFinalizeResponse;
 import org.project.ttokttok.domain.applicant.controller.dto.response.ApplicantPageResponse;
+import org.project.ttokttok.domain.applicant.controller.dto.response.ResultMailJobResponse;
 import org.project.ttokttok.domain.applicant.controller.enums.Kind;
 import org.project.ttokttok.domain.applicant.controller.enums.Sort;
 import org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus;
@@ -75,6 +76,7 @@ public interface ApplicantAdminDocs {
             @Parameter(description = "정렬 기준 (GRADE 등)", example = "GRADE") Sort sort,
             @Parameter(description = "평가 중인 지원자만 조회 여부", example = "false") boolean isEvaluating,
             @Parameter(description = "페이지 커서 (1부터 시작)", example = "1") int cursor,
+            @Parameter(description = "직전 페이지 마지막 지원자 ID (응답의 nextCursor). 주면 keyset 으로 다음 페이지를 조회한다", example = "UUID") String lastId,
             @Parameter(description = "페이지 크기", example = "7") int size,
             @Parameter(description = "서류 / 면접 구분", schema = @Schema(implementation = Kind.class), example = "DOCUMENT / INTERVIEW") Kind kind
     );
@@ -165,6 +167,7 @@ public interface ApplicantAdminDocs {
             @Parameter(description = "정렬 기준", example = "GRADE") Sort sort,
             @Parameter(description = "평가 중인 지원자만 조회 여부", example = "false") boolean isEvaluating,
             @Parameter(description = "페이지 커서", example = "1") int cursor,
+            @Parameter(description = "직전 페이지 마지막 지원자 ID (응답의 nextCursor). 주면 keyset 으로 다음 페이지를 조회한다", example = "UUID") String lastId,
             @Parameter(description = "페이지 크기", example = "7") int size,
             @Parameter(description = "서류 / 면접 구분", schema = @Schema(implementation = Kind.class), example = "DOCUMENT / INTERVIEW") Kind kind
     );
@@ -210,6 +213,7 @@ public interface ApplicantAdminDocs {
     ResponseEntity<ApplicantPageResponse> getPassedApplicantsPage(
             @Parameter(hidden = true) String username,
             @Parameter(description = "페이지 번호", example = "1") int page,
+            @Parameter(description = "직전 페이지 마지막 지원자 ID (응답의 nextCursor). 주면 keyset 으로 다음 페이지를 조회한다", example = "UUID") String lastId,
             @Parameter(description = "페이지 크기", example = "4") int size,
             @Parameter(description = "서류 / 면접 구분", schema = @Schema(implementation = Kind.class), example = "DOCUMENT / INTERVIEW") Kind kind
     );
@@ -255,6 +259,7 @@ public interface ApplicantAdminDocs {
     ResponseEntity<ApplicantPageResponse> getFailedApplicantsPage(
             @Parameter(hidden = true) String username,
             @Parameter(description = "페이지 번호", example = "1") int page,
+            @Parameter(description = "직전 페이지 마지막 지원자 ID (응답의 nextCursor). 주면 keyset 으로 다음 페이지를 조회한다", example = "UUID") String lastId,
             @Parameter(description = "페이지 크기", example = "4") int size,
             @Parameter(description = "서류 / 면접 구분", example = "DOCUMENT / INTERVIEW") Kind kind
     );
@@ -358,18 +363,21 @@ public interface ApplicantAdminDocs {
     @Operation(
             summary = "지원자에게 결과 이메일 발송",
             description = """
-                    해당 동아리의 지원자들에게 결과 이메일을 일괄 발송합니다.
+                    해당 동아리의 지원자들에게 결과 이메일 발송 작업을 등록합니다.
                     합격/불합격 상태에 따라 다른 내용의 이메일이 발송됩니다.
+                    메일은 백그라운드에서 순차 발송되므로 응답의 jobId 로 진행 상태를 조회합니다.
                     
                     *주의사항*
                     - 이메일은 한번 발송하면 취소할 수 없습니다.
                     - 지원자 상태가 확정된 후 발송하는 것을 권장합니다.
+                    - 발송에 실패한 메일은 간격을 늘려가며 최대 5번까지 다시 시도합니다.
+                    - 형식이 잘못된 이메일 주소는 발송하지 않고 실패로 집계됩니다.
                     """
     )
     @ApiResponses(value = {
             @ApiResponse(
-                    responseCode = "200",
-                    description = "이메일 발송 성공"
+                    responseCode = "202",
+                    description = "이메일 발송 작업 등록 성공 (message, jobId 반환)"
             ),
             @ApiResponse(
                     responseCode = "400",
@@ -403,4 +411,37 @@ public interface ApplicantAdminDocs {
             @Parameter(description = "이메일 발송 요청 정보") SendResultMailRequest request,
             @Parameter(description = "서류 / 면접 구분", schema = @Schema(implementation = Kind.class), example = "DOCUMENT / INTERVIEW") Kind kind
     );
+
+    @Operation(
+            summary = "결과 이메일 발송 진행 상태 조회",
+            description = """
+                    결과 이메일 발송 작업의 진행률을 조회합니다.
+                    
+                    *상태*
+                    - IN_PROGRESS: 발송 대기/발송 중인 메일이 남아 있음 (pendingCount)
+                    - COMPLETED: 모든 메일의 발송이 끝남 (sentCount / failedCount 로 결과 확인)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ResultMailJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "권한 없음 (해당 동아리 관리자 권한 필요)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "작업을 찾을 수 없음 (다른 관리자의 작업 포함)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<ResultMailJobResponse> getSendEmailJob(
+            @Parameter(hidden = true) String username,
+            @Parameter(description = "동아리 ID", example = "UUID") String clubId,
+            @Parameter(description = "발송 작업 ID", example = "UUID") String jobId
+    );
 }
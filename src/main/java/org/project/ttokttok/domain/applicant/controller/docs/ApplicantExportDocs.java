@@ -0,0 +1,119 @@
+package org.project.ttokttok.domain.applicant.controller.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.project.ttokttok.domain.applicant.controller.dto.response.ApplicantExportJobResponse;
+import org.project.ttokttok.global.exception.dto.ErrorResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "[관리자] 지원자 내보내기 API", description = "관리자가 지원자 목록을 엑셀 파일로 내보내는 API입니다.")
+public interface ApplicantExportDocs {
+
+    @Operation(
+            summary = "지원자 내보내기 요청",
+            description = """
+                    가장 최근 지원폼의 지원자 목록(기본 정보, 전형 상태, 지원서 답변)을 엑셀 파일로 만드는 작업을 등록합니다.
+                    파일은 백그라운드에서 생성되므로 응답의 jobId 로 진행 상태를 조회한 뒤 내려받습니다.
+                    
+                    *주의사항*
+                    - 모집이 끝난 지원폼도 내보낼 수 있습니다.
+                    - 진행 중인 내보내기 작업이 많으면 503 이 반환되며, 잠시 후 다시 요청해야 합니다.
+                    - 작업 정보는 1일 동안 보관됩니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "내보내기 작업 등록 성공",
+                    content = @Content(schema = @Schema(implementation = ApplicantExportJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "권한 없음 (동아리 관리자 권한 필요)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "지원폼을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "진행 중인 내보내기 작업이 많음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<ApplicantExportJobResponse> requestExport(
+            @Parameter(hidden = true) String username
+    );
+
+    @Operation(
+            summary = "지원자 내보내기 작업 조회",
+            description = """
+                    내보내기 작업의 상태와 진행률을 조회합니다.
+                    
+                    *상태*
+                    - PENDING: 실행 대기
+                    - RUNNING: 파일 작성 중 (processedCount / totalCount 로 진행률 표시)
+                    - COMPLETED: 내려받기 가능
+                    - FAILED: 실패 (다시 요청해야 함)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ApplicantExportJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "작업을 찾을 수 없음 (만료되었거나 다른 관리자의 작업)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<ApplicantExportJobResponse> getExportJob(
+            @Parameter(hidden = true) String username,
+            @Parameter(description = "내보내기 작업 ID", example = "UUID") String jobId
+    );
+
+    @Operation(
+            summary = "지원자 내보내기 파일 다운로드",
+            description = """
+                    완료된 내보내기 작업의 엑셀 파일을 내려받습니다.
+                    파일명: "{동아리명}_지원자_목록.xlsx"
+                    
+                    *주의사항*
+                    - 지원자 개인정보가 포함되므로 신중하게 관리해야 합니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "다운로드 성공",
+                    content = @Content(
+                            mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                            schema = @Schema(type = "string", format = "binary")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "작업을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "파일이 아직 준비되지 않음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<StreamingResponseBody> downloadExport(
+            @Parameter(hidden = true) String username,
+            @Parameter(description = "내보내기 작업 ID", example = "UUID") String jobId
+    );
+}
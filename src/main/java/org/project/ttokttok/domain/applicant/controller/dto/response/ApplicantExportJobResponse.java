@@ -0,0 +1,24 @@
+package org.project.ttokttok.domain.applicant.controller.dto.response;
+
+import lombok.Builder;
+import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantExportJobServiceResponse;
+import org.project.ttokttok.domain.applicant.service.export.ApplicantExportStatus;
+
+@Builder
+public record ApplicantExportJobResponse(
+        String jobId,
+        ApplicantExportStatus status,
+        long processedCount,
+        long totalCount,
+        String fileName
+) {
+    public static ApplicantExportJobResponse from(ApplicantExportJobServiceResponse response) {
+        return ApplicantExportJobResponse.builder()
+                .jobId(response.jobId())
+                .status(response.status())
+                .processedCount(response.processedCount())
+                .totalCount(response.totalCount())
+                .fileName(response.fileName())
+                .build();
+    }
+}
@@ -13,7 +13,8 @@ public record ApplicantPageResponse(
         Integer currentPage,
         Integer totalPage,
         Integer totalCount,
-        List<ApplicantSimpleResponse> applicants
+        List<ApplicantSimpleResponse> applicants,
+        String nextCursor
 ) {
     public static ApplicantPageResponse from(ApplicantPageServiceResponse response) {
         return ApplicantPageResponse.builder()
@@ -22,6 +23,7 @@ public record ApplicantPageResponse(
                 .totalPage(response.totalPage())
                 .totalCount(response.totalCount())
                 .applicants(response.applicants())
+                .nextCursor(response.nextCursor())
                 .build();
     }
 }
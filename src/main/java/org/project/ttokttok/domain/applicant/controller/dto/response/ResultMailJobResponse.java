@@ -0,0 +1,26 @@
+package org.project.ttokttok.domain.applicant.controller.dto.response;
+
+import lombok.Builder;
+import org.project.ttokttok.domain.mail.domain.enums.MailJobStatus;
+import org.project.ttokttok.domain.mail.service.dto.response.MailJobServiceResponse;
+
+@Builder
+public record ResultMailJobResponse(
+        String jobId,
+        MailJobStatus status,
+        long totalCount,
+        long sentCount,
+        long failedCount,
+        long pendingCount
+) {
+    public static ResultMailJobResponse from(MailJobServiceResponse response) {
+        return ResultMailJobResponse.builder()
+                .jobId(response.jobId())
+                .status(response.status())
+                .totalCount(response.totalCount())
+                .sentCount(response.sentCount())
+                .failedCount(response.failedCount())
+                .pendingCount(response.pendingCount())
+                .build();
+    }
+}
@@ -11,6 +11,7 @@ public record ApplicantPageDto(
         int currentPage,
         int totalPage,
         int totalCount,
-        List<ApplicantSimpleResponse> applicants
+        List<ApplicantSimpleResponse> applicants,
+        String nextCursor
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package org.project.ttokttok.domain.applicant.event;
+
+/**
+ * 지원폼의 지원자 구성(새 지원, 전형 상태 변경, 전형 마감)이 바뀌었음을 알리는 이벤트
+ * 커밋 후 관리자 지원자 목록의 개수 캐시를 무효화하는 데 사용됩니다.
+ *
+ * @param applyFormId 변경된 지원폼 ID
+ */
+public record ApplicantChangedEvent(
+        String applyFormId
+) {
+}
@@ -0,0 +1,11 @@
+package org.project.ttokttok.domain.applicant.exception;
+
+import org.project.ttokttok.global.exception.ErrorMessage;
+import org.project.ttokttok.global.exception.exception.CustomException;
+
+public class ApplicantExportNotFoundException extends CustomException {
+
+    public ApplicantExportNotFoundException() {
+        super(ErrorMessage.APPLICANT_EXPORT_NOT_FOUND);
+    }
+}
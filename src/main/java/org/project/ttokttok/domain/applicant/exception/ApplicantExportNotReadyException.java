@@ -0,0 +1,11 @@
+package org.project.ttokttok.domain.applicant.exception;
+
+import org.project.ttokttok.global.exception.ErrorMessage;
+import org.project.ttokttok.global.exception.exception.CustomException;
+
+public class ApplicantExportNotReadyException extends CustomException {
+
+    public ApplicantExportNotReadyException() {
+        super(ErrorMessage.APPLICANT_EXPORT_NOT_READY);
+    }
+}
@@ -1,31 +1,106 @@
 package org.project.ttokttok.domain.applicant.repository;
 
+import org.project.ttokttok.domain.applicant.domain.Applicant;
+import org.project.ttokttok.domain.applicant.domain.enums.ApplicantPhase;
+import org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus;
 import org.project.ttokttok.domain.applicant.repository.dto.UserApplicationHistoryQueryResponse;
 import org.project.ttokttok.domain.applicant.repository.dto.response.ApplicantPageQueryResponse;
+import org.project.ttokttok.domain.applicant.repository.dto.response.ApplicantResultCountQueryResponse;
 
 import java.util.List;
 
 public interface ApplicantCustomRepository {
+
+    /*
+     * 지원자 목록 조회는 두 가지 방식을 지원한다.
+     * - lastId 가 없으면 cursor(페이지 번호) 기준 OFFSET 조회 (페이지 점프용)
+     * - lastId 가 있으면 (정렬 기준 값, 지원자 ID) 가 직전 페이지 마지막 지원자보다 큰 행부터 읽는 keyset 조회
+     * lastId 없는 오버로드는 OFFSET 조회와 같다.
+     *
+     * 검색이 아닌 목록은 전체 개수를 호출자가 넘긴다. (서비스가 countApplicants 결과를 캐싱해 페이지마다 다시 세지 않는다)
+     * totalCount 없는 오버로드는 매번 countApplicants 로 센다.
+     */
+
     ApplicantPageQueryResponse findApplicantsPageWithSortCriteria(String sortCriteria,
                                                                   boolean evaluating,
                                                                   int cursor,
+                                                                  String lastId,
                                                                   int size,
                                                                   String applyFormId,
-                                                                  String kind);
+                                                                  String kind,
+                                                                  long totalCount);
 
     ApplicantPageQueryResponse searchApplicantsByKeyword(String searchKeyword,
                                                          String sortCriteria,
                                                          boolean evaluating,
                                                          int cursor,
+                                                         String lastId,
                                                          int size,
                                                          String applyFormId,
                                                          String kind);
 
     ApplicantPageQueryResponse findApplicantsByStatus(boolean isPassed,
                                                       int page,
+                                                      String lastId,
                                                       int size,
                                                       String applyFormId,
-                                                      String kind);
+                                                      String kind,
+                                                      long totalCount);
+
+    /**
+     * 이름 검색 없이 목록 조건(전형 단계, 평가중 필터, 상태 필터)에 맞는 지원자 수 조회
+     *
+     * @param status 상태 필터 (null 이면 전체)
+     */
+    long countApplicants(String applyFormId, String kind, boolean evaluating, PhaseStatus status);
+
+    default ApplicantPageQueryResponse findApplicantsPageWithSortCriteria(String sortCriteria,
+                                                                          boolean evaluating,
+                                                                          int cursor,
+                                                                          String lastId,
+                                                                          int size,
+                                                                          String applyFormId,
+                                                                          String kind) {
+        return findApplicantsPageWithSortCriteria(sortCriteria, evaluating, cursor, lastId, size, applyFormId, kind,
+                countApplicants(applyFormId, kind, evaluating, null));
+    }
+
+    default ApplicantPageQueryResponse findApplicantsByStatus(boolean isPassed,
+                                                              int page,
+                                                              String lastId,
+                                                              int size,
+                                                              String applyFormId,
+                                                              String kind) {
+        return findApplicantsByStatus(isPassed, page, lastId, size, applyFormId, kind,
+                countApplicants(applyFormId, kind, false, isPassed ? PhaseStatus.PASS : PhaseStatus.FAIL));
+    }
+
+    default ApplicantPageQueryResponse findApplicantsPageWithSortCriteria(String sortCriteria,
+                                                                          boolean evaluating,
+                                                                          int cursor,
+                                                                          int size,
+                                                                          String applyFormId,
+                                                                          String kind) {
+        return findApplicantsPageWithSortCriteria(sortCriteria, evaluating, cursor, null, size, applyFormId, kind);
+    }
+
+    default ApplicantPageQueryResponse searchApplicantsByKeyword(String searchKeyword,
+                                                                 String sortCriteria,
+                                                                 boolean evaluating,
+                                                                 int cursor,
+                                                                 int size,
+                                                                 String applyFormId,
+                                                                 String kind) {
+        return searchApplicantsByKeyword(searchKeyword, sortCriteria, evaluating, cursor, null, size, applyFormId, kind);
+    }
+
+    default ApplicantPageQueryResponse findApplicantsByStatus(boolean isPassed,
+                                                              int page,
+                                                              int size,
+                                                              String applyFormId,
+                                                              String kind) {
+        return findApplicantsByStatus(isPassed, page, null, size, applyFormId, kind);
+    }
 
     /**
      * 사용자의 동아리 지원내역 조회 (무한스크롤 지원)
@@ -40,4 +115,23 @@ public interface ApplicantCustomRepository {
                                                                        int size,
                                                                        String cursor,
                                                                        String sort);
+
+    /**
+     * 현재 해당 단계에 있는 지원자의 합격/불합격 인원을 한 번의 집계 쿼리로 조회
+     *
+     * @param applyFormId 지원폼 ID
+     * @param phase 전형 단계
+     * @return 합격/불합격 인원
+     */
+    ApplicantResultCountQueryResponse countResultsByPhase(String applyFormId, ApplicantPhase phase);
+
+    /**
+     * 현재 해당 단계에서 지정한 상태인 지원자만 조회
+     */
+    List<Applicant> findByPhaseStatus(String applyFormId, ApplicantPhase phase, PhaseStatus status);
+
+    /**
+     * 현재 해당 단계에서 지정한 상태인 지원자의 이메일만 조회 (결과 메일 발송용)
+     */
+    List<String> findEmailsByPhaseStatus(String applyFormId, ApplicantPhase phase, PhaseStatus status);
 }
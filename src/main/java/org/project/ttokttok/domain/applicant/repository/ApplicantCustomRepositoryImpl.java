@@ -1,19 +1,27 @@
 package org.project.ttokttok.domain.applicant.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.ComparableExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.applicant.domain.Applicant;
+import org.project.ttokttok.domain.applicant.domain.QApplicant;
 import org.project.ttokttok.domain.applicant.domain.dto.ApplicantSimpleInfoDto;
+import org.project.ttokttok.domain.applicant.domain.enums.ApplicantPhase;
 import org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus;
 import org.project.ttokttok.domain.applicant.repository.dto.UserApplicationHistoryQueryResponse;
 import org.project.ttokttok.domain.applicant.repository.dto.response.ApplicantPageQueryResponse;
+import org.project.ttokttok.domain.applicant.repository.dto.response.ApplicantResultCountQueryResponse;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -37,17 +45,22 @@ public class ApplicantCustomRepositoryImpl implements ApplicantCustomRepository
     public ApplicantPageQueryResponse findApplicantsPageWithSortCriteria(String sortCriteria,
                                                                          boolean evaluating,
                                                                          int cursor,
+                                                                         String lastId,
                                                                          int size,
                                                                          String applyFormId,
-                                                                         String kind) {
+                                                                         String kind,
+                                                                         long totalCount) {
         return getApplicantPageQueryResponse(
                 sortCriteria,
                 evaluating,
                 cursor,
+                lastId,
                 size,
                 applyFormId,
                 null,
-                kind);
+                kind,
+                null,
+                totalCount);
     }
 
     @Override
@@ -55,26 +68,35 @@ public class ApplicantCustomRepositoryImpl implements ApplicantCustomRepository
                                                                 String sortCriteria,
                                                                 boolean evaluating,
                                                                 int cursor,
+                                                                String lastId,
                                                                 int size,
                                                                 String applyFormId,
                                                                 String kind) {
-        // 검색 키워드와 조건에 맞는 지원자 조회
+        // 검색 키워드와 조건에 맞는 지원자 조회 (키워드 조합이 무한해 개수는 매번 센다)
+        long totalCount = getApplicantCount(
+                ApplicantPhaseQuery.from(kind), applyFormId, searchKeyword, evaluating, null);
+
         return getApplicantPageQueryResponse(
                 sortCriteria,
                 evaluating,
                 cursor,
+                lastId,
                 size,
                 applyFormId,
                 searchKeyword,
-                kind);
+                kind,
+                null,
+                totalCount);
     }
 
     @Override
     public ApplicantPageQueryResponse findApplicantsByStatus(boolean isPassed,
                                                              int cursor,
+                                                             String lastId,
                                                              int size,
                                                              String applyFormId,
-                                                             String kind) {
+                                                             String kind,
+                                                             long totalCount) {
 
         PhaseStatus status = isPassed ? PhaseStatus.PASS : PhaseStatus.FAIL;
 
@@ -82,60 +104,60 @@ public class ApplicantCustomRepositoryImpl implements ApplicantCustomRepository
                 null,
                 false,
                 cursor,
+                lastId,
                 size,
                 applyFormId,
                 null,
                 kind,
-                status
+                status,
+                totalCount
         );
     }
 
-    // 오버로딩된 메서드, status가 없는 경우
-    private ApplicantPageQueryResponse getApplicantPageQueryResponse(String sortCriteria,
-                                                                     boolean evaluating,
-                                                                     int cursor,
-                                                                     int size,
-                                                                     String applyFormId,
-                                                                     String searchKeyword,
-                                                                     String kind) {
-
-        return getApplicantPageQueryResponse(sortCriteria, evaluating, cursor, size,
-                applyFormId, searchKeyword, kind, null);
+    @Override
+    public long countApplicants(String applyFormId, String kind, boolean evaluating, PhaseStatus status) {
+        return getApplicantCount(ApplicantPhaseQuery.from(kind), applyFormId, null, evaluating, status);
     }
 
     // 지원자 페이지 조회를 위한 공통 메서드
     private ApplicantPageQueryResponse getApplicantPageQueryResponse(String sortCriteria,
                                                                      boolean evaluating,
                                                                      int cursor,
+                                                                     String lastId,
                                                                      int size,
                                                                      String applyFormId,
                                                                      String searchKeyword,
                                                                      String kind,
-                                                                     PhaseStatus status) {
+                                                                     PhaseStatus status,
+                                                                     long count) {
 
         ApplicantPhaseQuery phaseQuery = ApplicantPhaseQuery.from(kind);
 
-        // 총 개수 조회
-        Long count = getApplicantCount(phaseQuery, applyFormId, searchKeyword, evaluating, status);
-
         // 지원자 목록 조회
-        List<ApplicantSimpleInfoDto> applicants = phaseQuery.createBaseQuery(queryFactory)
+        JPAQuery<ApplicantSimpleInfoDto> query = phaseQuery.createBaseQuery(queryFactory)
                 .where(phaseFilters(phaseQuery, applyFormId, searchKeyword, evaluating, status))
+                .where(afterLastApplicant(sortCriteria, lastId))
                 .orderBy(
                         getSortCriteria(sortCriteria),
                         applicant.id.asc() // 기본적으로 ID로 정렬하여 일관성 유지
                 )
-                .limit(size)
-                .offset((long) size * (cursor - 1))
-                .fetch();
+                .limit(size);
+
+        // keyset 조회는 앞 페이지를 건너뛸 필요가 없다.
+        if (lastId == null) {
+            query.offset((long) size * (cursor - 1));
+        }
+
+        List<ApplicantSimpleInfoDto> applicants = query.fetch();
 
         int totalPage = (int) Math.ceil((double) count / size);
 
         return ApplicantPageQueryResponse.builder()
                 .currentPage(cursor)
                 .totalPage(totalPage)
-                .totalCount(count.intValue())
+                .totalCount((int) count)
                 .applicants(applicants)
+                .nextCursor(nextCursorOf(applicants, size))
                 .build();
     }
 
@@ -173,19 +195,108 @@ public class ApplicantCustomRepositoryImpl implements ApplicantCustomRepository
         };
     }
 
+    /**
+     * keyset 조건: (정렬 기준 값, ID) 가 직전 페이지 마지막 지원자(lastId)보다 뒤인 행.
+     * 정렬 기준 값은 lastId 지원자의 값을 서브쿼리로 읽으므로 클라이언트는 ID만 넘기면 된다.
+     */
+    private BooleanExpression afterLastApplicant(String sortCriteria, String lastId) {
+        if (lastId == null) {
+            return null;
+        }
+
+        QApplicant last = new QApplicant("lastApplicant");
+
+        return isSubmitSort(sortCriteria)
+                ? after(applicant.createdAt, last.createdAt, last, lastId)
+                : after(applicant.grade, last.grade, last, lastId);
+    }
+
+    private <T extends Comparable<?>> BooleanExpression after(ComparableExpression<T> sortKey,
+                                                              ComparableExpression<T> lastSortKey,
+                                                              QApplicant last,
+                                                              String lastId) {
+        JPQLQuery<T> lastValue = JPAExpressions
+                .select(lastSortKey)
+                .from(last)
+                .where(last.id.eq(lastId));
+
+        return sortKey.gt(lastValue)
+                .or(sortKey.eq(lastValue).and(applicant.id.gt(lastId)));
+    }
+
+    // 페이지가 꽉 찼으면 마지막 지원자 ID 를 다음 keyset 커서로 돌려준다.
+    private String nextCursorOf(List<ApplicantSimpleInfoDto> applicants, int size) {
+        return applicants.size() == size && !applicants.isEmpty()
+                ? applicants.get(applicants.size() - 1).id()
+                : null;
+    }
+
+    // 전형 마감용 집계: 합격/불합격 인원을 지원자 로딩 없이 한 번에 센다.
+    @Override
+    public ApplicantResultCountQueryResponse countResultsByPhase(String applyFormId, ApplicantPhase phase) {
+        ApplicantPhaseQuery phaseQuery = ApplicantPhaseQuery.of(phase);
+
+        NumberExpression<Long> passedCount = countIf(phaseQuery.statusEq(PhaseStatus.PASS));
+        NumberExpression<Long> failedCount = countIf(phaseQuery.statusEq(PhaseStatus.FAIL));
+
+        Tuple result = queryFactory
+                .select(passedCount, failedCount)
+                .from(applicant)
+                .where(
+                        applicant.applyForm.id.eq(applyFormId),
+                        phaseQuery.inCurrentPhase()
+                )
+                .fetchOne();
+
+        return result == null
+                ? ApplicantResultCountQueryResponse.of(0L, 0L)
+                : ApplicantResultCountQueryResponse.of(result.get(passedCount), result.get(failedCount));
+    }
+
+    @Override
+    public List<Applicant> findByPhaseStatus(String applyFormId, ApplicantPhase phase, PhaseStatus status) {
+        return queryFactory
+                .selectFrom(applicant)
+                .where(phaseStatusFilters(applyFormId, phase, status))
+                .fetch();
+    }
+
+    @Override
+    public List<String> findEmailsByPhaseStatus(String applyFormId, ApplicantPhase phase, PhaseStatus status) {
+        return queryFactory
+                .select(applicant.email)
+                .from(applicant)
+                .where(phaseStatusFilters(applyFormId, phase, status))
+                .fetch();
+    }
+
+    // Applicant.statusOf(phase) == status 와 같은 조건을 SQL 로 옮긴 필터
+    private BooleanExpression[] phaseStatusFilters(String applyFormId, ApplicantPhase phase, PhaseStatus status) {
+        ApplicantPhaseQuery phaseQuery = ApplicantPhaseQuery.of(phase);
+
+        return new BooleanExpression[]{
+                applicant.applyForm.id.eq(applyFormId),
+                phaseQuery.inCurrentPhase(),
+                phaseQuery.statusEq(status)
+        };
+    }
+
+    private NumberExpression<Long> countIf(BooleanExpression condition) {
+        return new CaseBuilder()
+                .when(condition).then(1L)
+                .otherwise(0L)
+                .sum();
+    }
+
     //FIXME: 학년순으로 제대로 정렬 안되는 이슈 해결 필요
     // 들어온 sortCriteria에 따라 정렬 조건을 반환하는 메서드
     private OrderSpecifier<?> getSortCriteria(@Nullable String sortCriteria) {
-        if (sortCriteria == null || sortCriteria.isEmpty()) {
-            return applicant.grade.asc();
-        }
+        return isSubmitSort(sortCriteria) ? applicant.createdAt.asc() : applicant.grade.asc();
+    }
 
-        switch (sortCriteria.toUpperCase()) {
-            case SUBMIT:
-                return applicant.createdAt.asc();
-            default:
-                return applicant.grade.asc();
-        }
+    // 정렬 기준은 SUBMIT(지원 순)만 따로 보고, 나머지(null, 빈 값 포함)는 모두 학년순이다.
+    private boolean isSubmitSort(@Nullable String sortCriteria) {
+        return SUBMIT.equalsIgnoreCase(sortCriteria);
     }
 
     // ---- BOOLEAN EXPRESSION METHODS ---- //
@@ -0,0 +1,57 @@
+package org.project.ttokttok.domain.applicant.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 전형 마감 시 서류 합격자를 면접 단계로 일괄 이동시키는 JDBC 리포지토리
+ *
+ * <p>지원자를 엔티티로 모두 읽어 한 명씩 면접 단계를 만들던 방식 대신,
+ * {@code INSERT ... SELECT} 와 {@code UPDATE} 두 문장으로 지원자 수와 무관하게 처리한다.
+ * 영속성 컨텍스트를 거치지 않으므로 호출 전에 같은 지원자를 엔티티로 읽어 두지 않아야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicantPhaseJdbcRepository {
+
+    // 서류 합격 + 아직 면접 단계가 없는 지원자에게 면접 단계(평가중)를 만든다.
+    private static final String INSERT_INTERVIEW_PHASES_SQL = """
+            INSERT INTO interview_phases (id, applicant_id, interview_date, status, created_at, updated_at)
+            SELECT CAST(gen_random_uuid() AS VARCHAR), a.id, ?, 'EVALUATING', ?, ?
+            FROM applicants a
+            JOIN document_phases dp ON dp.applicant_id = a.id
+            WHERE a.applyform_id = ?
+              AND a.current_phase = 'DOCUMENT'
+              AND dp.status = 'PASS'
+              AND NOT EXISTS (SELECT 1 FROM interview_phases ip WHERE ip.applicant_id = a.id)
+            """;
+
+    // 면접 단계가 생긴 서류 합격자의 현재 단계를 면접으로 바꾼다.
+    private static final String UPDATE_CURRENT_PHASE_SQL = """
+            UPDATE applicants
+            SET current_phase = 'INTERVIEW', updated_at = ?
+            WHERE applyform_id = ?
+              AND current_phase = 'DOCUMENT'
+              AND EXISTS (SELECT 1 FROM document_phases dp
+                          WHERE dp.applicant_id = applicants.id AND dp.status = 'PASS')
+              AND EXISTS (SELECT 1 FROM interview_phases ip WHERE ip.applicant_id = applicants.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 서류 합격자를 면접 단계로 이동시킨다.
+     *
+     * @return 면접 단계로 이동한 지원자 수
+     */
+    public int promoteDocumentPassersToInterview(String applyFormId, LocalDate interviewDate) {
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.update(INSERT_INTERVIEW_PHASES_SQL, interviewDate, now, now, applyFormId);
+        return jdbcTemplate.update(UPDATE_CURRENT_PHASE_SQL, now, applyFormId);
+    }
+}
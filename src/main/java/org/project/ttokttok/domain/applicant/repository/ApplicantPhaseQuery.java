@@ -9,6 +9,7 @@ import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.project.ttokttok.domain.applicant.domain.dto.ApplicantSimpleInfoDto;
+import org.project.ttokttok.domain.applicant.domain.enums.ApplicantPhase;
 import org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus;
 
 import java.time.LocalDate;
@@ -65,6 +66,11 @@ public enum ApplicantPhaseQuery {
             return status == null ? null : applicant.documentPhase.status.eq(status);
         }
 
+        @Override
+        public BooleanExpression inCurrentPhase() {
+            return applicant.currentPhase.eq(ApplicantPhase.DOCUMENT);
+        }
+
         @Override
         protected Expression<?> statusExpression() {
             return new CaseBuilder()
@@ -108,6 +114,12 @@ public enum ApplicantPhaseQuery {
             return status == null ? null : applicant.interviewPhase.status.eq(status);
         }
 
+        @Override
+        public BooleanExpression inCurrentPhase() {
+            return applicant.currentPhase.eq(ApplicantPhase.INTERVIEW)
+                    .and(applicant.applyForm.hasInterview.isTrue());
+        }
+
         @Override
         protected Expression<?> statusExpression() {
             return new CaseBuilder()
@@ -127,6 +139,14 @@ public enum ApplicantPhaseQuery {
         return INTERVIEW_KIND.equalsIgnoreCase(kind) ? INTERVIEW : DOCUMENT;
     }
 
+    /** 도메인의 전형 단계를 전략으로 변환한다. */
+    public static ApplicantPhaseQuery of(ApplicantPhase phase) {
+        return switch (phase) {
+            case DOCUMENT -> DOCUMENT;
+            case INTERVIEW -> INTERVIEW;
+        };
+    }
+
     /** 단계별 지원자 목록 조회의 기본 쿼리 (select + from + join) */
     public abstract JPAQuery<ApplicantSimpleInfoDto> createBaseQuery(JPAQueryFactory queryFactory);
 
@@ -139,6 +159,12 @@ public enum ApplicantPhaseQuery {
     /** 해당 단계의 상태 일치 조건 (status가 null이면 조건 없음) */
     public abstract BooleanExpression statusEq(PhaseStatus status);
 
+    /**
+     * 지원자가 현재 이 단계에 있는지 여부.
+     * {@code Applicant.statusOf(phase)} 가 값을 돌려주는 조건과 같다.
+     */
+    public abstract BooleanExpression inCurrentPhase();
+
     /** 평가중 필터 (evaluating이 false면 조건 없음) */
     public BooleanExpression evaluatingOnly(boolean evaluating) {
         return evaluating ? statusEq(EVALUATING) : null;
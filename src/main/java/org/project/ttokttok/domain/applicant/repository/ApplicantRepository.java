@@ -1,6 +1,8 @@
 package org.project.ttokttok.domain.applicant.repository;
 
 import org.project.ttokttok.domain.applicant.domain.Applicant;
+import org.project.ttokttok.domain.applicant.repository.dto.DocumentAnswersQueryResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,7 +12,6 @@ import java.util.List;
 import java.util.Optional;
 
 public interface ApplicantRepository extends JpaRepository<Applicant, String>, ApplicantCustomRepository {
-    List<Applicant> findByApplyFormId(String applyFormId);
 
     // FETCH JOIN을 사용하여 DocumentPhase와 Memos를 함께 조회
     @Query("SELECT a FROM Applicant a " +
@@ -20,4 +21,25 @@ public interface ApplicantRepository extends JpaRepository<Applicant, String>, A
     Optional<Applicant> findByIdWithDocumentPhase(@Param("applicantId") String applicantId);
 
     boolean existsByUserEmailAndApplyFormId(String email, String formId);
-}
\ No newline at end of file
+
+    long countByApplyFormId(String applyFormId);
+
+    // 지원자 내보내기용 id keyset 페이지 조회 (첫 페이지는 lastId = "")
+    // 엑셀 행에 필요한 서류/면접 단계를 함께 조회해 지원자별 추가 쿼리를 막는다.
+    @Query("SELECT a FROM Applicant a " +
+            "LEFT JOIN FETCH a.documentPhase " +
+            "LEFT JOIN FETCH a.interviewPhase " +
+            "WHERE a.applyForm.id = :applyFormId AND a.id > :lastId " +
+            "ORDER BY a.id")
+    List<Applicant> findExportPage(@Param("applyFormId") String applyFormId,
+                                   @Param("lastId") String lastId,
+                                   Limit limit);
+
+    // 파일 정리용 서류 단계 답변 id keyset 페이지 조회 (첫 페이지는 lastId = "")
+    // 엔티티 대신 답변만 조회해 지원자(OneToOne) 연쇄 로딩을 피한다.
+    @Query("SELECT new org.project.ttokttok.domain.applicant.repository.dto.DocumentAnswersQueryResponse(dp.id, dp.answers) " +
+            "FROM DocumentPhase dp " +
+            "WHERE dp.id > :lastId " +
+            "ORDER BY dp.id")
+    List<DocumentAnswersQueryResponse> findDocumentAnswersPage(@Param("lastId") String lastId, Limit limit);
+}
@@ -0,0 +1,15 @@
+package org.project.ttokttok.domain.applicant.repository.dto;
+
+import org.project.ttokttok.domain.applicant.domain.json.Answer;
+
+import java.util.List;
+
+/**
+ * 서류 단계 답변 페이지 조회용 Repository DTO
+ * 지원서 파일 정리(ApplicantFileGarbageCollector)가 참조 중인 파일 URL 을 모으는 데 사용합니다.
+ */
+public record DocumentAnswersQueryResponse(
+        String documentPhaseId,
+        List<Answer> answers
+) {
+}
@@ -11,7 +11,8 @@ public record ApplicantPageQueryResponse(
         int currentPage,
         int totalPage,
         int totalCount,
-        List<ApplicantSimpleInfoDto> applicants
+        List<ApplicantSimpleInfoDto> applicants,
+        String nextCursor // 다음 keyset 조회에 넘길 lastId (마지막 페이지면 null)
 ) {
     // 도메인 DTO로 변환하는 메서드 추가
     public ApplicantPageDto toDto() {
@@ -22,6 +23,7 @@ public record ApplicantPageQueryResponse(
                 .applicants(applicants.stream()
                         .map(ApplicantSimpleInfoDto::toResponse)
                         .toList())
+                .nextCursor(nextCursor)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package org.project.ttokttok.domain.applicant.repository.dto.response;
+
+/**
+ * 전형 마감 시 단계별 합격/불합격 인원 집계 결과
+ */
+public record ApplicantResultCountQueryResponse(
+        long passedCount,
+        long failedCount
+) {
+    public static ApplicantResultCountQueryResponse of(Long passedCount, Long failedCount) {
+        return new ApplicantResultCountQueryResponse(
+                passedCount != null ? passedCount : 0L,
+                failedCount != null ? failedCount : 0L
+        );
+    }
+
+    public long finalizedCount() {
+        return passedCount + failedCount;
+    }
+}
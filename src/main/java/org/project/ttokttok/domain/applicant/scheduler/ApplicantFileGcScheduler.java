@@ -0,0 +1,47 @@
+package org.project.ttokttok.domain.applicant.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.applicant.service.cleanup.ApplicantFileGarbageCollector;
+import org.project.ttokttok.domain.applicant.service.cleanup.ApplicantFileGcReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicantFileGcScheduler {
+
+    private final ApplicantFileGarbageCollector applicantFileGarbageCollector;
+
+    // 삭제는 되돌릴 수 없으므로 기본은 보고만 한다. 보고 결과를 확인한 뒤 false 로 켠다.
+    // (만료된 지원자 내보내기 파일은 참조 판정이 필요 없으므로 dry-run 이어도 삭제한다.)
+    @Value("${storage.orphan-gc.dry-run:true}")
+    private boolean dryRun;
+
+    // 평가 종료/임시 저장으로 남은 지원서 파일을 트래픽이 적은 새벽에 정리한다.
+    @Scheduled(cron = "${storage.orphan-gc.cron:0 0 5 * * *}")
+    public void collectOrphanFiles() {
+        log.info("지원서 고아 파일 정리 스케줄러 시작 (dryRun={})", dryRun);
+
+        try {
+            ApplicantFileGcReport report = applicantFileGarbageCollector.collect(dryRun);
+
+            log.info("지원서 고아 파일 정리 완료: dryRun={}, 참조={}개, 스캔={}개, 고아={}개, 삭제={}개, 만료 내보내기 삭제={}개, 소요={}ms, 처리량={}개/s",
+                    report.dryRun(), report.referencedCount(), report.scannedCount(), report.orphanCount(),
+                    report.deletedCount(), report.expiredExportCount(), report.elapsed().toMillis(),
+                    report.scannedPerSecond());
+
+            if (report.unmappedReferenceCount() > 0) {
+                log.warn("키로 바꿀 수 없는 참조 URL {}개가 있어 삭제 없이 보고만 함. 예시: {}",
+                        report.unmappedReferenceCount(), report.unmappedReferenceSamples());
+            }
+            if (!report.orphanSamples().isEmpty()) {
+                log.info("고아 파일 예시: {}", report.orphanSamples());
+            }
+        } catch (Exception e) {
+            log.error("지원서 고아 파일 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -6,8 +6,12 @@ import org.project.ttokttok.domain.applicant.controller.enums.Kind;
 import org.project.ttokttok.domain.applicant.domain.Applicant;
 import org.project.ttokttok.domain.applicant.domain.enums.ApplicantPhase;
 import org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus;
+import org.project.ttokttok.domain.applicant.event.ApplicantChangedEvent;
 import org.project.ttokttok.domain.applicant.exception.*;
+import org.project.ttokttok.domain.applicant.repository.ApplicantPhaseJdbcRepository;
+import org.project.ttokttok.domain.applicant.repository.ApplicantPhaseQuery;
 import org.project.ttokttok.domain.applicant.repository.ApplicantRepository;
+import org.project.ttokttok.domain.applicant.repository.dto.response.ApplicantResultCountQueryResponse;
 import org.project.ttokttok.domain.applicant.service.dto.request.*;
 import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantDetailServiceResponse;
 import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantFinalizeServiceResponse;
@@ -17,17 +21,25 @@ import org.project.ttokttok.domain.applyform.domain.ApplyForm;
 import org.project.ttokttok.domain.applyform.exception.ActiveApplyFormNotFoundException;
 import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
 import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
 import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.club.service.ClubPopularityStatsService;
 import org.project.ttokttok.domain.clubMember.domain.ClubMember;
+import org.project.ttokttok.domain.clubMember.repository.ClubMemberJdbcRepository;
 import org.project.ttokttok.domain.clubMember.repository.ClubMemberRepository;
-import org.project.ttokttok.infrastructure.email.service.EmailService;
+import org.project.ttokttok.domain.mail.service.MailJobService;
+import org.project.ttokttok.domain.mail.service.dto.request.MailJobMessageRequest;
+import org.project.ttokttok.domain.mail.service.dto.response.MailJobServiceResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus.FAIL;
 import static org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus.PASS;
@@ -40,10 +52,15 @@ import static org.project.ttokttok.domain.clubMember.domain.MemberRole.MEMBER;
 public class ApplicantAdminService {
 
     private final ApplicantRepository applicantRepository;
+    private final ApplicantPhaseJdbcRepository applicantPhaseJdbcRepository;
     private final ApplyFormRepository applyFormRepository;
     private final ClubRepository clubRepository;
     private final ClubMemberRepository clubMemberRepository;
-    private final EmailService emailService;
+    private final ClubMemberJdbcRepository clubMemberJdbcRepository;
+    private final MailJobService mailJobService;
+    private final ClubPopularityStatsService clubPopularityStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicantCountCache applicantCountCache;
 
     public ApplicantPageServiceResponse getApplicantPage(ApplicantPageServiceRequest request) {
         Club club = validateClubAdmin(request.username());
@@ -60,9 +77,11 @@ public class ApplicantAdminService {
                         request.sortCriteria(),
                         request.isEvaluating(),
                         request.cursor(),
+                        request.lastId(),
                         request.size(),
                         mostRecentApplyForm.getId(),
-                        request.kind()
+                        request.kind(),
+                        countApplicants(mostRecentApplyForm.getId(), request.kind(), request.isEvaluating(), null)
                 ).toDto(),
                 mostRecentApplyForm.isHasInterview());
     }
@@ -112,6 +131,7 @@ public class ApplicantAdminService {
                         request.sortCriteria(),
                         request.isEvaluating(),
                         request.cursor(),
+                        request.lastId(),
                         request.size(),
                         mostRecentApplyForm.getId(),
                         request.kind()
@@ -130,13 +150,17 @@ public class ApplicantAdminService {
             return ApplicantPageServiceResponse.toEmpty();
         }
 
+        PhaseStatus status = request.isPassed() ? PASS : FAIL;
+
         return ApplicantPageServiceResponse.of(
                 applicantRepository.findApplicantsByStatus(
                         request.isPassed(),
                         request.page(),
+                        request.lastId(),
                         request.size(),
                         mostRecentApplyForm.getId(),
-                        request.kind()
+                        request.kind(),
+                        countApplicants(mostRecentApplyForm.getId(), request.kind(), false, status)
                 ).toDto(),
                 mostRecentApplyForm.isHasInterview());
     }
@@ -152,44 +176,62 @@ public class ApplicantAdminService {
 
         ApplicantPhase phase = Kind.toApplicantPhase(request.kind());
         applicant.changeEvaluationStatus(phase, request.status());
+
+        eventPublisher.publishEvent(new ApplicantChangedEvent(applicant.getApplyForm().getId()));
     }
 
+    // 지원자 전체를 메모리에 올리지 않고, 집계 쿼리 1회 + 합격자 처리(면접 이동은 2문장)로 마감한다.
     @Transactional
     public ApplicantFinalizeServiceResponse finalizeApplicantsStatus(ApplicantFinalizationRequest request) {
         Club club = validateClubAdmin(request.username());
 
         ApplyForm currentApplyForm = findActiveApplyForm(request.clubId());
         ApplicantPhase phase = Kind.toApplicantPhase(request.kind());
-        int passedApplicantCount = processApplicants(currentApplyForm, club, phase);
-        int finalizedApplicantCount = calculateFinalizedApplicantCount(currentApplyForm.getId(), phase) + passedApplicantCount;
 
-        return ApplicantFinalizeServiceResponse.of(passedApplicantCount, finalizedApplicantCount);
+        ApplicantResultCountQueryResponse resultCount =
+                applicantRepository.countResultsByPhase(currentApplyForm.getId(), phase);
+
+        if (resultCount.passedCount() > 0) {
+            processPassedApplicants(currentApplyForm, club, phase);
+            eventPublisher.publishEvent(new ApplicantChangedEvent(currentApplyForm.getId()));
+        }
+
+        return ApplicantFinalizeServiceResponse.of(
+                (int) resultCount.passedCount(),
+                (int) resultCount.finalizedCount()
+        );
     }
 
-    // 조회 전용(쓰기 없음). 발송은 EmailService의 @Async로 트랜잭션 밖에서 처리되어
-    // SMTP I/O가 커넥션 점유 시간을 늘리지 않는다. readOnly로 lazy loading 세션만 유지한다.
-    @Transactional(readOnly = true)
-    public void sendResultMailToApplicants(SendResultMailServiceRequest request,
-                                           String username,
-                                           String clubId,
-                                           String kind) {
+    // 발송 대상을 메일 아웃박스(mail_jobs)에 적재만 하고 작업 ID 를 돌려준다.
+    // 실제 SMTP 발송은 MailDispatcher 가 트랜잭션 밖에서 재시도/속도 제한을 적용해 처리한다.
+    @Transactional
+    public String sendResultMailToApplicants(SendResultMailServiceRequest request,
+                                             String username,
+                                             String clubId,
+                                             String kind) {
         validateClubAdmin(username);
         
         ApplyForm currentApplyForm = findActiveApplyForm(clubId);
         ApplicantPhase phase = Kind.toApplicantPhase(kind);
 
-        List<String> passedEmails = filterApplicantsByStatus(currentApplyForm.getId(), phase, PASS)
-                .stream()
-                .map(Applicant::getEmail)
-                .toList();
+        List<String> passedEmails = applicantRepository.findEmailsByPhaseStatus(currentApplyForm.getId(), phase, PASS);
+        List<String> failedEmails = applicantRepository.findEmailsByPhaseStatus(currentApplyForm.getId(), phase, FAIL);
 
-        List<String> failedEmails = filterApplicantsByStatus(currentApplyForm.getId(), phase, FAIL)
-                .stream()
-                .map(Applicant::getEmail)
-                .toList();
+        return mailJobService.enqueue(username, List.of(
+                MailJobMessageRequest.of(request.pass().title(), request.pass().body(), passedEmails),
+                MailJobMessageRequest.of(request.fail().title(), request.fail().body(), failedEmails)
+        ));
+    }
+
+    public MailJobServiceResponse getResultMailJob(String username, String jobId) {
+        validateClubAdmin(username);
+        return mailJobService.getJob(username, jobId);
+    }
 
-        emailService.sendResultMail(passedEmails, request.pass());
-        emailService.sendResultMail(failedEmails, request.fail());
+    // 검색이 아닌 목록의 전체 개수는 페이지를 넘겨도 같으므로 캐시에서 읽는다. (이름 검색은 리포지토리가 매번 센다)
+    private long countApplicants(String applyFormId, String kind, boolean evaluating, PhaseStatus status) {
+        return applicantCountCache.get(applyFormId, ApplicantPhaseQuery.from(kind), status, evaluating,
+                () -> applicantRepository.countApplicants(applyFormId, kind, evaluating, status));
     }
 
     private Club validateClubAdmin(String username) {
@@ -202,61 +244,43 @@ public class ApplicantAdminService {
                 .orElseThrow(ActiveApplyFormNotFoundException::new);
     }
 
-    private int processApplicants(ApplyForm applyForm, Club club, ApplicantPhase phase) {
-        List<Applicant> passedApplicants = filterApplicantsByStatus(applyForm.getId(), phase, PASS);
-
-        if (!passedApplicants.isEmpty() && phase == ApplicantPhase.INTERVIEW) {
-            savePassedApplicantsAsClubMembers(passedApplicants, club);
-        } else if (!passedApplicants.isEmpty() && applyForm.isHasInterview()) {
-            passedApplicants.stream()
-                    .filter(applicant -> !applicant.isInInterviewPhase())
-                    .forEach(applicant ->
-                            applicant.updateToInterviewPhase(applyForm.getInterviewStartDate())
-                    );
-        } else if (!passedApplicants.isEmpty()) {
-            savePassedApplicantsAsClubMembers(passedApplicants, club);
+    private void processPassedApplicants(ApplyForm applyForm, Club club, ApplicantPhase phase) {
+        if (phase == ApplicantPhase.DOCUMENT && applyForm.isHasInterview()) {
+            applicantPhaseJdbcRepository.promoteDocumentPassersToInterview(
+                    applyForm.getId(), applyForm.getInterviewStartDate());
+            return;
         }
-        return passedApplicants.size();
-    }
 
-    private int calculateFinalizedApplicantCount(String applyFormId, ApplicantPhase phase) {
-        return (int) applicantRepository.findByApplyFormId(applyFormId)
-                .stream()
-                .filter(applicant -> applicant.statusOf(phase)
-                        .filter(status -> status == FAIL)
-                        .isPresent())
-                .count();
+        List<Applicant> passedApplicants = applicantRepository.findByPhaseStatus(applyForm.getId(), phase, PASS);
+        savePassedApplicantsAsClubMembers(passedApplicants, club);
     }
 
-    private List<Applicant> filterApplicantsByStatus(String applyFormId, ApplicantPhase phase, PhaseStatus status) {
-        return applicantRepository.findByApplyFormId(applyFormId)
-                .stream()
-                .filter(applicant -> applicant.statusOf(phase)
-                        .filter(phaseStatus -> phaseStatus == status)
-                        .isPresent())
+    // 중복 검사는 IN 조회 1회, 등록은 JDBC 배치 INSERT 로 처리한다.
+    private void savePassedApplicantsAsClubMembers(List<Applicant> passedApplicants, Club club) {
+        List<String> emails = passedApplicants.stream()
+                .map(Applicant::getEmail)
                 .toList();
-    }
 
-    private void savePassedApplicantsAsClubMembers(List<Applicant> passedApplicants, Club club) {
+        // 이미 부원인 이메일 + 이번에 등록할 이메일 (같은 이메일의 합격자가 여럿이어도 한 번만 등록)
+        Set<String> registeredEmails = new HashSet<>(
+                clubMemberRepository.findEmailsByClubIdAndEmailIn(club.getId(), emails));
 
-        List<Applicant> validApplicants = passedApplicants.stream()
+        List<ClubMember> clubMembers = passedApplicants.stream()
                 .filter(applicant -> {
-                    boolean alreadyMember = clubMemberRepository
-                            .existsByClubIdAndEmail(club.getId(), applicant.getEmail());
-                    if (alreadyMember) {
+                    if (!registeredEmails.add(applicant.getEmail())) {
                         log.warn("지원자 {}는 이미 동아리 부원으로 등록되어 있습니다.", applicant.getEmail());
                         return false;
                     }
                     return true;
                 })
-                .toList();
-
-        List<ClubMember> clubMembers = validApplicants.stream()
                 .map(passedApplicant -> convertToClubMember(passedApplicant, club))
                 .toList();
 
         if (!clubMembers.isEmpty()) {
-            clubMemberRepository.saveAll(clubMembers);
+            clubMemberJdbcRepository.batchInsert(clubMembers);
+            clubPopularityStatsService.addMemberCount(club.getId(), clubMembers.size());
+            // 부원 수가 바뀌었으므로 목록/상세 캐시 무효화
+            eventPublisher.publishEvent(new ClubListChangedEvent(club.getId()));
         }
     }
 
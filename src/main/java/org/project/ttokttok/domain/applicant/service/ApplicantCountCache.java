@@ -0,0 +1,106 @@
+package org.project.ttokttok.domain.applicant.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus;
+import org.project.ttokttok.domain.applicant.event.ApplicantChangedEvent;
+import org.project.ttokttok.domain.applicant.repository.ApplicantPhaseQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 지원자 목록의 전체 개수 로컬(Caffeine) 캐시
+ *
+ * <p>목록 페이지를 넘길 때마다 같은 조건의 count 쿼리가 반복되므로
+ * (지원폼, 전형 단계, 상태 필터, 평가중 필터) 별로 개수를 캐싱한다.
+ * 이름 검색은 키워드 조합이 무한하므로 캐싱하지 않는다.
+ * {@link ApplicantAdminService} 가 이 캐시로 개수를 읽어 목록 조회에 넘기므로 리포지토리는 캐시를 모른다.
+ *
+ * <p>값은 인스턴스 로컬에 두지만, 캐시 키에 지원폼별 Redis 버전({@code applicant:count:version:{applyFormId}})을 넣는다.
+ * {@link ApplicantChangedEvent} 가 커밋되면 버전을 올리므로, 어느 인스턴스에서 변경되었든
+ * 모든 인스턴스가 다음 조회부터 새 버전으로 다시 센다. 조회마다 Redis GET 한 번이 count 쿼리를 대신한다.
+ * Redis 를 쓸 수 없으면 캐시를 건너뛰고 DB 에서 센다.
+ */
+@Slf4j
+@Component
+public class ApplicantCountCache {
+
+    private static final String VERSION_KEY = "applicant:count:version:";
+    private static final String INITIAL_VERSION = "0";
+
+    // 버전 키가 만료되어 0 부터 다시 세어도 옛 버전의 로컬 항목이 이미 만료되어 있도록 로컬 TTL 보다 충분히 길게 둔다.
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<CountKey, Long> localCache;
+
+    public ApplicantCountCache(RedisTemplate<String, String> redisTemplate,
+                               @Value("${applicant.cache.count-ttl-seconds:60}") long ttlSeconds,
+                               @Value("${applicant.cache.count-max-size:1000}") long maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 개수를 조회해 저장한다.
+     */
+    public long get(String applyFormId,
+                    ApplicantPhaseQuery phaseQuery,
+                    PhaseStatus status,
+                    boolean evaluating,
+                    Supplier<Long> loader) {
+        String version = currentVersion(applyFormId);
+        if (version == null) {
+            return loader.get();
+        }
+
+        return localCache.get(new CountKey(applyFormId, version, phaseQuery, status, evaluating), key -> loader.get());
+    }
+
+    // 커밋된 변경만 반영되도록 커밋 이후에 무효화한다. (트랜잭션 밖 호출은 즉시 무효화)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(ApplicantChangedEvent event) {
+        String applyFormId = event.applyFormId();
+        localCache.asMap().keySet()
+                .removeIf(key -> key.applyFormId().equals(applyFormId));
+
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY + applyFormId);
+            redisTemplate.expire(VERSION_KEY + applyFormId, VERSION_TTL);
+            log.debug("지원자 개수 캐시 무효화: applyFormId={}", applyFormId);
+        } catch (Exception e) {
+            // 다른 인스턴스에는 로컬 TTL 만큼 늦게 반영된다.
+            log.warn("지원자 개수 캐시 버전 갱신 실패: applyFormId={}", applyFormId, e);
+        }
+    }
+
+    // 지원폼의 현재 개수 버전. 버전 키가 없으면 초기 버전, Redis 오류 시 null
+    private String currentVersion(String applyFormId) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY + applyFormId);
+            return version != null ? version : INITIAL_VERSION;
+        } catch (Exception e) {
+            log.warn("지원자 개수 캐시 버전 조회 실패, 캐시 없이 조회합니다: applyFormId={}", applyFormId, e);
+            return null;
+        }
+    }
+
+    private record CountKey(
+            String applyFormId,
+            String version,
+            ApplicantPhaseQuery phaseQuery,
+            PhaseStatus status,
+            boolean evaluating
+    ) {
+    }
+}
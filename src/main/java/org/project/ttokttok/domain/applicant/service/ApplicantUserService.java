@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.project.ttokttok.domain.applicant.controller.dto.request.ApplyFormRequest;
 import org.project.ttokttok.domain.applicant.domain.Applicant;
 import org.project.ttokttok.domain.applicant.domain.json.Answer;
+import org.project.ttokttok.domain.applicant.event.ApplicantChangedEvent;
 import org.project.ttokttok.domain.applicant.exception.AlreadyApplicantExistsException;
 import org.project.ttokttok.domain.applicant.repository.ApplicantRepository;
 import org.project.ttokttok.domain.applicant.repository.dto.UserApplicationHistoryQueryResponse;
@@ -19,8 +20,11 @@ import org.project.ttokttok.domain.club.service.dto.response.ClubListServiceResp
 import org.project.ttokttok.domain.temp.applicant.repository.TempApplicantRepository;
 import org.project.ttokttok.domain.user.exception.UserNotFoundException;
 import org.project.ttokttok.domain.user.repository.UserRepository;
+import org.project.ttokttok.global.util.jpa.RequestEntityManagerSuspender;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -37,30 +41,58 @@ public class ApplicantUserService {
     private final ApplyFormRepository applyFormRepository;
     private final TempApplicantRepository tempApplicantRepository;
     private final AnswerAssembler answerAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final RequestEntityManagerSuspender requestEntityManagerSuspender;
 
-    @Transactional
+    /**
+     * 지원서 제출
+     *
+     * <p>파일 업로드는 트랜잭션 밖에서 먼저 끝내고, 지원자 저장만 짧은 트랜잭션으로 처리한다.
+     * 업로드 동안 DB 커넥션을 붙잡지 않기 위함이다. 저장 트랜잭션이 롤백되면 업로드한 파일은 보상 삭제된다.
+     *
+     * <p>업로드 전 검증 조회도 요청에 묶인(OSIV) EntityManager 를 떼어 놓고 실행한다.
+     * 요청 EntityManager 로 조회하면 그 커넥션이 업로드가 끝날 때까지 반납되지 않는다.
+     */
     public String apply(String email,
                         ApplyFormRequest request,
                         List<String> questionIds,
                         List<MultipartFile> files,
                         String clubId) {
+        return requestEntityManagerSuspender.call(() -> submit(email, request, questionIds, files, clubId));
+    }
 
+    private String submit(String email,
+                          ApplyFormRequest request,
+                          List<String> questionIds,
+                          List<MultipartFile> files,
+                          String clubId) {
         // 1. 타겟 사용자 검증
         validateUserExists(email);
 
         ApplyForm form = applyFormRepository.findByClubIdAndStatus(clubId, ACTIVE)
                 .orElseThrow(ApplyFormNotFoundException::new);
 
-        // 2. 중복 지원 검증
+        // 2. 중복 지원 검증 (업로드 전에 걸러 불필요한 업로드를 막는다)
         validateApplicantExists(email, form.getId());
 
-        // 3. 답변 검증 및 조립 (파일 질문 처리 포함)
+        // 3. 답변 검증 및 조립 (파일 질문은 트랜잭션 밖에서 동시에 업로드)
         List<Answer> answers = answerAssembler.assemble(
                 new AnswerSubmission(request.answers(), questionIds, files),
                 form.getFormJson(),
                 email
         );
 
+        // 4. 지원자 저장 (서류 전형 생성)
+        return transactionOperations.execute(status -> saveApplicant(email, request, form, answers));
+    }
+
+    private String saveApplicant(String email, ApplyFormRequest request, ApplyForm form, List<Answer> answers) {
+        answerAssembler.deleteUploadedFilesOnRollback(answers);
+
+        // 업로드 동안 같은 사용자의 다른 제출이 먼저 저장됐을 수 있으므로 트랜잭션 안에서 다시 확인한다.
+        validateApplicantExists(email, form.getId());
+
         Applicant applicant = Applicant.createApplicant(
                 email,
                 request.name(),
@@ -74,15 +106,18 @@ public class ApplicantUserService {
                 form
         );
 
-        // 4. 답변 제출 (서류 전형 생성)
         applicant.submitDocument(answers);
 
         // 임시 지원폼 존재 여부 확인 후 삭제
         tempApplicantRepository.findByUserEmailAndFormId(email, form.getId())
                 .ifPresent(tempApplicantRepository::delete);
 
-        return applicantRepository.save(applicant)
+        String applicantId = applicantRepository.save(applicant)
                 .getId();
+
+        eventPublisher.publishEvent(new ApplicantChangedEvent(form.getId()));
+
+        return applicantId;
     }
 
     private void validateApplicantExists(String email, String formId) {
@@ -8,8 +8,12 @@ import org.project.ttokttok.domain.applicant.exception.ListSizeNotMatchException
 import org.project.ttokttok.domain.applicant.exception.QuestionParseFailException;
 import org.project.ttokttok.domain.applyform.domain.json.Question;
 import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.project.ttokttok.domain.applyform.domain.enums.QuestionType.FILE;
 
@@ -29,6 +33,9 @@ public class AnswerAssembler {
     /**
      * 제출된 답변을 검증한 뒤 {@link Answer} 목록으로 변환한다.
      *
+     * <p>파일 답변은 모두 동시에 업로드되므로, DB 트랜잭션을 열기 전에 호출해 업로드 동안
+     * 커넥션을 붙잡지 않도록 한다.
+     *
      * @param submission     제출된 답변 원본 데이터
      * @param questions      지원폼에 정의된 질문 목록
      * @param applicantEmail 지원자 이메일 (파일 업로드 경로에 사용)
@@ -40,26 +47,51 @@ public class AnswerAssembler {
     public List<Answer> assemble(AnswerSubmission submission, List<Question> questions, String applicantEmail) {
         validateFileConsistency(submission, questions);
 
-        return submission.answers().stream()
-                .map(answerRequest -> toAnswer(answerRequest, submission, questions, applicantEmail))
+        // 질문을 먼저 모두 확인해, 잘못된 질문 ID가 있으면 업로드 전에 실패시킨다.
+        List<Question> answeredQuestions = submission.answers().stream()
+                .map(answerRequest -> findQuestion(questions, answerRequest.questionId()))
+                .toList();
+
+        Map<String, String> fileUrls = fileAnswerUploader.uploadAll(
+                collectFiles(submission, answeredQuestions), applicantEmail);
+
+        return IntStream.range(0, answeredQuestions.size())
+                .mapToObj(i -> toAnswer(submission.answers().get(i), answeredQuestions.get(i), fileUrls))
                 .toList();
     }
 
-    private Answer toAnswer(AnswerRequest answerRequest,
-                            AnswerSubmission submission,
-                            List<Question> questions,
-                            String applicantEmail) {
+    /**
+     * 조립된 답변 중 업로드된 파일은, 현재 트랜잭션이 롤백되면 삭제되도록 등록한다.
+     * 지원서 저장 트랜잭션 안에서 호출해야 한다.
+     */
+    public void deleteUploadedFilesOnRollback(List<Answer> answers) {
+        answers.stream()
+                .filter(answer -> answer.questionType() == FILE)
+                .map(Answer::value)
+                .filter(value -> value instanceof String url && !url.isEmpty())
+                .map(String.class::cast)
+                .forEach(fileAnswerUploader::deleteOnRollback);
+    }
 
-        Question question = findQuestion(questions, answerRequest.questionId());
+    /**
+     * 파일 질문별 업로드 대상 파일을 모은다. 파일이 없는 질문은 빠진다.
+     */
+    private Map<String, MultipartFile> collectFiles(AnswerSubmission submission, List<Question> answeredQuestions) {
+        Map<String, MultipartFile> files = new LinkedHashMap<>();
+        answeredQuestions.stream()
+                .filter(question -> question.questionType() == FILE)
+                .forEach(question -> submission.findFileFor(question.questionId())
+                        .ifPresent(file -> files.putIfAbsent(question.questionId(), file)));
+        return files;
+    }
 
+    private Answer toAnswer(AnswerRequest answerRequest, Question question, Map<String, String> fileUrls) {
         if (question.questionType() != FILE) {
             return answerRequest.toAnswer(question);
         }
 
         // 파일 질문이 필수가 아니면 파일 없이 제출될 수 있으므로, 이때는 빈 값으로 처리한다.
-        String fileUrl = submission.findFileFor(answerRequest.questionId())
-                .map(file -> fileAnswerUploader.upload(file, applicantEmail))
-                .orElse("");
+        String fileUrl = fileUrls.getOrDefault(answerRequest.questionId(), "");
 
         return new AnswerRequest(answerRequest.questionId(), fileUrl).toAnswer(question);
     }
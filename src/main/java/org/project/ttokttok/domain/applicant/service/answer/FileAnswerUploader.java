@@ -1,32 +1,90 @@
 package org.project.ttokttok.domain.applicant.service.answer;
 
-import lombok.RequiredArgsConstructor;
 import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory.APPLICANT_FILE;
+
 /**
  * 지원서 파일 답변 업로드
  *
  * <p>답변 조립 과정에서 유일하게 인프라(S3)에 의존하는 부분을 이 클래스로 격리합니다.
  * 덕분에 {@link AnswerAssembler} 와 {@code ApplicantUserService} 는 저장소 구현을 알지 못합니다.
+ *
+ * <p>여러 파일은 전용 유계 스레드풀({@code fileUploadExecutor})에서 동시에 업로드하므로,
+ * 파일 N개를 올리는 지원서도 가장 느린 업로드 한 번 정도의 시간이 걸립니다.
  */
 @Component
-@RequiredArgsConstructor
 public class FileAnswerUploader {
 
-    private static final String APPLICANT_DIRECTORY_PREFIX = "applicant/";
-
     private final S3Service s3Service;
+    private final Executor uploadExecutor;
+
+    public FileAnswerUploader(S3Service s3Service,
+                              @Qualifier("fileUploadExecutor") Executor uploadExecutor) {
+        this.s3Service = s3Service;
+        this.uploadExecutor = uploadExecutor;
+    }
 
     /**
-     * 지원자별 디렉터리에 파일을 업로드하고 접근 URL을 반환한다.
+     * 지원자별 디렉터리에 파일들을 동시에 업로드하고 키별 접근 URL을 반환한다.
+     *
+     * <p>하나라도 실패하면 이미 올라간 파일은 즉시 지우고 첫 번째 실패 예외를 그대로 던진다.
+     * 아직 DB 트랜잭션이 열리기 전이므로 롤백 보상이 아닌 직접 삭제로 정리한다.
      *
-     * @param file           업로드할 파일
+     * @param files          업로드할 파일 (키는 호출자가 결과를 찾는 데 사용, 보통 질문 ID)
      * @param applicantEmail 지원자 이메일 (업로드 경로 구분에 사용)
-     * @return 업로드된 파일의 URL
+     * @return 입력과 같은 키 순서의 업로드 URL
      */
-    public String upload(MultipartFile file, String applicantEmail) {
-        return s3Service.uploadFile(file, APPLICANT_DIRECTORY_PREFIX + applicantEmail + "/");
+    public <K> Map<K, String> uploadAll(Map<K, MultipartFile> files, String applicantEmail) {
+        Map<K, CompletableFuture<String>> uploads = new LinkedHashMap<>();
+        files.forEach((key, file) -> uploads.put(key,
+                CompletableFuture.supplyAsync(() -> upload(file, applicantEmail), uploadExecutor)));
+
+        try {
+            CompletableFuture.allOf(uploads.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            // allOf 는 첫 실패에서 바로 끝나지 않고 모든 업로드가 끝난 뒤 완료되므로, 성공분을 빠짐없이 정리할 수 있다.
+            deleteSucceeded(uploads.values());
+            throw unwrap(e);
+        }
+
+        Map<K, String> urls = new LinkedHashMap<>();
+        uploads.forEach((key, upload) -> urls.put(key, upload.join()));
+        return urls;
+    }
+
+    /**
+     * 활성 트랜잭션이 롤백되면 업로드한 파일을 삭제하도록 등록한다.
+     */
+    public void deleteOnRollback(String fileUrl) {
+        s3Service.deleteFileOnRollback(fileUrl);
+    }
+
+    private String upload(MultipartFile file, String applicantEmail) {
+        return s3Service.uploadFile(file, APPLICANT_FILE.getDirectoryName() + applicantEmail + "/");
+    }
+
+    private void deleteSucceeded(Iterable<CompletableFuture<String>> uploads) {
+        for (CompletableFuture<String> upload : uploads) {
+            if (upload.isDone() && !upload.isCompletedExceptionally()) {
+                s3Service.deleteFileQuietly(upload.join());
+            }
+        }
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return e;
     }
 }
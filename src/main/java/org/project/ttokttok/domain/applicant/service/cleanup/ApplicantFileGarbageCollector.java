@@ -0,0 +1,282 @@
+package org.project.ttokttok.domain.applicant.service.cleanup;
+
+import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.applicant.repository.ApplicantRepository;
+import org.project.ttokttok.domain.applicant.repository.dto.DocumentAnswersQueryResponse;
+import org.project.ttokttok.domain.temp.applicant.controller.dto.request.TempAnswer;
+import org.project.ttokttok.domain.temp.applicant.domain.TempApplicant;
+import org.project.ttokttok.domain.temp.applicant.repository.TempApplicantRepository;
+import org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory;
+import org.project.ttokttok.infrastructure.s3.service.S3KeyUrlGenerator;
+import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.project.ttokttok.infrastructure.redis.service.ApplicantExportRedisService.APPLICANT_EXPORT_TTL;
+import static org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory.APPLICANT_EXPORT;
+import static org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory.APPLICANT_FILE;
+import static org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory.TEMP_APPLICANT_FILE;
+
+/**
+ * DB 가 더 이상 참조하지 않는 지원서 파일(고아 파일)을 S3 에서 정리한다.
+ *
+ * <p>임시 저장을 다시 하거나 지원을 마치면 이전 임시 파일이, 평가 종료로 지원자가 일괄 삭제되면
+ * 지원서 파일이 버킷에 남는다. DB 의 답변에서 참조 중인 키를 먼저 모은 뒤, 대상 디렉터리를
+ * 페이지 단위로 나열하며 참조되지 않은 객체를 DeleteObjects 한 번에 최대 1000개씩 지운다.
+ *
+ * <p>참조 URL 의 호스트가 현재 설정(CloudFront 도메인)과 달라도(이전 도메인, S3 직접 URL) 경로에서 대상 디렉터리 키를 찾아 참조로 본다.
+ * 저장소 URL 로 보이지만 키로 바꿀 수 없는 참조가 하나라도 있으면 그 파일을 지울 수 있으므로, 그 회차는 dry-run 으로 실행한다.
+ *
+ * <p>지원서 파일은 DB 트랜잭션 밖에서 먼저 업로드되므로, 커밋 전인 파일을 지우지 않도록
+ * 마지막 수정 후 유예 기간(MIN_AGE)이 지나지 않은 객체는 건너뛴다.
+ *
+ * <p>지원자 내보내기 파일(applicant-exports/)은 개인정보를 담고 있고, Redis 작업 상태가 만료되면
+ * 참조하는 곳이 없다. 참조 판정 없이 작업 보관 기간보다 오래된 객체를 지우며,
+ * 참조 매핑 오류로 잘못 지울 위험이 없으므로 dry-run 여부와 관계없이 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicantFileGarbageCollector {
+
+    static final int PAGE_SIZE = 500;
+    static final Duration MIN_AGE = Duration.ofDays(1);
+
+    private static final int REPORT_SAMPLE_SIZE = 20;
+    private static final List<S3FileDirectory> TARGET_DIRECTORIES = List.of(TEMP_APPLICANT_FILE, APPLICANT_FILE);
+    private static final List<String> STORAGE_HOST_SUFFIXES = List.of(".amazonaws.com", ".cloudfront.net");
+
+    private final ApplicantRepository applicantRepository;
+    private final TempApplicantRepository tempApplicantRepository;
+    private final S3Service s3Service;
+    private final S3KeyUrlGenerator keyUrlGenerator;
+
+    /**
+     * @param dryRun true 면 고아 파일을 찾아 보고만 하고 삭제하지 않는다
+     */
+    public ApplicantFileGcReport collect(boolean dryRun) {
+        long startedAt = System.nanoTime();
+
+        // 참조 목록을 나열보다 먼저 만든다. 그 사이 새로 참조된 파일은 유예 기간 안이라 삭제되지 않는다.
+        References references = new References();
+        collectDocumentAnswerKeys(references);
+        collectTempAnswerKeys(references);
+
+        // 키로 바꿀 수 없는 참조가 있으면 참조 중인 파일이 고아로 판정될 수 있으므로 삭제하지 않는다.
+        boolean effectiveDryRun = dryRun || references.unmappedCount > 0;
+
+        Sweep sweep = new Sweep(effectiveDryRun, references.keys, Instant.now().minus(MIN_AGE));
+        for (S3FileDirectory directory : TARGET_DIRECTORIES) {
+            s3Service.listObjects(directory.getDirectoryName(), page -> page.forEach(sweep::visit));
+        }
+        sweep.flush();
+
+        // 내보내기 파일은 작업이 만료된 뒤라면 모두 고아다.
+        Sweep exportSweep = new Sweep(false, Set.of(), Instant.now().minus(APPLICANT_EXPORT_TTL));
+        s3Service.listObjects(APPLICANT_EXPORT.getDirectoryName(), page -> page.forEach(exportSweep::visit));
+        exportSweep.flush();
+
+        return new ApplicantFileGcReport(
+                effectiveDryRun,
+                references.keys.size(),
+                references.unmappedCount,
+                references.unmappedSamples,
+                sweep.scannedCount,
+                sweep.orphanCount,
+                sweep.deletedCount,
+                sweep.orphanSamples,
+                exportSweep.deletedCount,
+                Duration.ofNanos(System.nanoTime() - startedAt)
+        );
+    }
+
+    private void collectDocumentAnswerKeys(References references) {
+        String lastId = "";
+        List<DocumentAnswersQueryResponse> page;
+        do {
+            page = applicantRepository.findDocumentAnswersPage(lastId, Limit.of(PAGE_SIZE));
+            for (DocumentAnswersQueryResponse row : page) {
+                if (row.answers() != null) {
+                    row.answers().forEach(answer -> references.collect(answer.value()));
+                }
+            }
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).documentPhaseId();
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    private void collectTempAnswerKeys(References references) {
+        String lastId = "";
+        List<TempApplicant> page;
+        do {
+            page = tempApplicantRepository.findPageAfter(lastId, Limit.of(PAGE_SIZE));
+            for (TempApplicant tempApplicant : page) {
+                // TempAnswerListConverter 가 answers 를 List<TempAnswer> 로 복원한다.
+                if (tempApplicant.getTempData() != null
+                        && tempApplicant.getTempData().get("answers") instanceof Collection<?> answers) {
+                    answers.stream()
+                            .filter(TempAnswer.class::isInstance)
+                            .forEach(answer -> references.collect(((TempAnswer) answer).value()));
+                }
+            }
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    /**
+     * DB 답변에서 참조 중인 키를 모은다.
+     *
+     * <p>파일 답변은 URL 문자열이다. 질문 유형과 무관하게 URL 로 보이는 값은 모두 살펴 보수적으로 남긴다.
+     * 현재 CloudFront 도메인이면 그대로 키로 바꾸고, 다른 호스트면 경로에서 대상 디렉터리로 시작하는 부분을 키로 본다.
+     * (path-style S3 URL 의 버킷 경로도 이렇게 건너뛴다)
+     */
+    private class References {
+
+        private final Set<String> keys = new HashSet<>();
+        private final List<String> unmappedSamples = new ArrayList<>();
+        private long unmappedCount;
+
+        private void collect(Object value) {
+            if (value instanceof String url) {
+                collectUrl(url);
+            } else if (value instanceof Collection<?> values) {
+                values.forEach(this::collect);
+            }
+        }
+
+        private void collectUrl(String url) {
+            if (url.startsWith(keyUrlGenerator.getBaseUrl() + "/")) {
+                keys.add(keyUrlGenerator.extractKeyFromUrl(url));
+                return;
+            }
+
+            int schemeEnd = url.indexOf("://");
+            if (!url.startsWith("http") || schemeEnd < 0) {
+                return;
+            }
+
+            int pathStart = url.indexOf('/', schemeEnd + 3);
+            String host = url.substring(schemeEnd + 3, pathStart < 0 ? url.length() : pathStart);
+            String path = pathStart < 0 ? "" : stripQuery(url.substring(pathStart));
+
+            for (S3FileDirectory directory : TARGET_DIRECTORIES) {
+                int keyStart = path.indexOf("/" + directory.getDirectoryName());
+                if (keyStart >= 0) {
+                    addKey(path.substring(keyStart + 1));
+                    return;
+                }
+            }
+
+            // 일반 링크 답변(포트폴리오 주소 등)은 무시하고, 저장소 호스트인데 키를 찾지 못한 URL 만 센다.
+            if (isStorageHost(host)) {
+                unmappedCount++;
+                if (unmappedSamples.size() < REPORT_SAMPLE_SIZE) {
+                    unmappedSamples.add(url);
+                }
+            }
+        }
+
+        // 인코딩된 URL(%40 등)도 있으므로 디코딩한 키도 함께 참조로 남긴다.
+        private void addKey(String key) {
+            keys.add(key);
+            try {
+                keys.add(URLDecoder.decode(key, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException ignored) {
+                // 잘못된 퍼센트 인코딩이면 원본 키만 남긴다.
+            }
+        }
+
+        private String stripQuery(String path) {
+            int end = path.length();
+            for (char delimiter : new char[]{'?', '#'}) {
+                int index = path.indexOf(delimiter);
+                if (index >= 0) {
+                    end = Math.min(end, index);
+                }
+            }
+            return path.substring(0, end);
+        }
+
+        private boolean isStorageHost(String host) {
+            String lowerHost = host.toLowerCase(Locale.ROOT);
+            return lowerHost.equals(baseHost()) || STORAGE_HOST_SUFFIXES.stream().anyMatch(lowerHost::endsWith);
+        }
+
+        private String baseHost() {
+            String baseUrl = keyUrlGenerator.getBaseUrl();
+            int schemeEnd = baseUrl.indexOf("://");
+            String host = schemeEnd < 0 ? baseUrl : baseUrl.substring(schemeEnd + 3);
+            int pathStart = host.indexOf('/');
+            return (pathStart < 0 ? host : host.substring(0, pathStart)).toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 나열한 객체를 판정하고 고아 객체를 DeleteObjects 묶음 단위로 모아 삭제한다.
+     */
+    private class Sweep {
+
+        private final boolean dryRun;
+        private final Set<String> referencedKeys;
+        private final Instant cutoff;
+
+        private final List<String> pendingKeys = new ArrayList<>();
+        private final List<String> orphanSamples = new ArrayList<>();
+        private long scannedCount;
+        private long orphanCount;
+        private long deletedCount;
+
+        private Sweep(boolean dryRun, Set<String> referencedKeys, Instant cutoff) {
+            this.dryRun = dryRun;
+            this.referencedKeys = referencedKeys;
+            this.cutoff = cutoff;
+        }
+
+        private void visit(S3Object object) {
+            scannedCount++;
+            if (referencedKeys.contains(object.key()) || isWithinGracePeriod(object)) {
+                return;
+            }
+
+            orphanCount++;
+            if (orphanSamples.size() < REPORT_SAMPLE_SIZE) {
+                orphanSamples.add(object.key());
+            }
+            if (dryRun) {
+                return;
+            }
+
+            pendingKeys.add(object.key());
+            if (pendingKeys.size() == S3Service.MAX_DELETE_KEYS) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (pendingKeys.isEmpty()) {
+                return;
+            }
+            deletedCount += s3Service.deleteObjects(List.copyOf(pendingKeys));
+            pendingKeys.clear();
+        }
+
+        // 수정 시각을 알 수 없으면 삭제하지 않는 쪽으로 판정한다.
+        private boolean isWithinGracePeriod(S3Object object) {
+            return object.lastModified() == null || object.lastModified().isAfter(cutoff);
+        }
+    }
+}
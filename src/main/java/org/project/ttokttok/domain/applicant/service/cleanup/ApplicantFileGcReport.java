@@ -0,0 +1,40 @@
+package org.project.ttokttok.domain.applicant.service.cleanup;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 지원서 파일 정리 한 회차의 결과
+ *
+ * @param dryRun          true 면 고아 파일을 찾기만 하고 삭제하지 않았다 (키로 바꿀 수 없는 참조가 있어 강제된 경우 포함)
+ * @param referencedCount DB 가 참조 중인 파일 수
+ * @param unmappedReferenceCount   저장소 URL 이지만 키로 바꾸지 못한 참조 수 (1 이상이면 삭제하지 않는다)
+ * @param unmappedReferenceSamples 보고용 키로 바꾸지 못한 참조 URL 일부
+ * @param scannedCount    나열한 S3 객체 수
+ * @param orphanCount     참조되지 않고 유예 기간이 지난 객체 수
+ * @param deletedCount    실제로 삭제한 객체 수 (dry-run 이면 0)
+ * @param orphanSamples   보고용 고아 객체 키 일부
+ * @param expiredExportCount 보관 기간이 지나 삭제한 지원자 내보내기 파일 수 (dry-run 과 무관)
+ * @param elapsed         소요 시간
+ */
+public record ApplicantFileGcReport(
+        boolean dryRun,
+        int referencedCount,
+        long unmappedReferenceCount,
+        List<String> unmappedReferenceSamples,
+        long scannedCount,
+        long orphanCount,
+        long deletedCount,
+        List<String> orphanSamples,
+        long expiredExportCount,
+        Duration elapsed
+) {
+
+    /**
+     * 초당 나열한 객체 수
+     */
+    public long scannedPerSecond() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return scannedCount * 1000 / millis;
+    }
+}
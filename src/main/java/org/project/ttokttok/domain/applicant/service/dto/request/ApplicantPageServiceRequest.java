@@ -8,6 +8,7 @@ public record ApplicantPageServiceRequest(
         String sortCriteria,
         boolean isEvaluating,
         int cursor,
+        String lastId,
         int size,
         String kind
 ) {
@@ -15,6 +16,7 @@ public record ApplicantPageServiceRequest(
                                                  String sortCriteria,
                                                  boolean isEvaluating,
                                                  int cursor,
+                                                 String lastId,
                                                  int size,
                                                  String kind) {
         return ApplicantPageServiceRequest.builder()
@@ -22,6 +24,7 @@ public record ApplicantPageServiceRequest(
                 .sortCriteria(sortCriteria)
                 .isEvaluating(isEvaluating)
                 .cursor(cursor)
+                .lastId(lastId)
                 .size(size)
                 .kind(kind)
                 .build();
@@ -9,6 +9,7 @@ public record ApplicantSearchServiceRequest(
         String sortCriteria,
         boolean isEvaluating,
         int cursor,
+        String lastId,
         int size,
         String kind
 ) {
@@ -17,6 +18,7 @@ public record ApplicantSearchServiceRequest(
                                                    String sortCriteria,
                                                    boolean isEvaluating,
                                                    int cursor,
+                                                   String lastId,
                                                    int size,
                                                    String kind
     ) {
@@ -26,6 +28,7 @@ public record ApplicantSearchServiceRequest(
                 .sortCriteria(sortCriteria)
                 .isEvaluating(isEvaluating)
                 .cursor(cursor)
+                .lastId(lastId)
                 .size(size)
                 .kind(kind)
                 .build();
@@ -7,12 +7,14 @@ public record ApplicantStatusServiceRequest(
         String username,
         boolean isPassed,
         int page,
+        String lastId,
         int size,
         String kind
 ) {
     public static ApplicantStatusServiceRequest of(String username,
                                                    boolean isPassed,
                                                    int page,
+                                                   String lastId,
                                                    int size,
                                                    String kind
     ) {
@@ -20,6 +22,7 @@ public record ApplicantStatusServiceRequest(
                 .username(username)
                 .isPassed(isPassed)
                 .page(page)
+                .lastId(lastId)
                 .size(size)
                 .kind(kind)
                 .build();
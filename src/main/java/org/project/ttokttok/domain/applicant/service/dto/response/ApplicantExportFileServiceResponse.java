@@ -0,0 +1,7 @@
+package org.project.ttokttok.domain.applicant.service.dto.response;
+
+public record ApplicantExportFileServiceResponse(
+        String fileName,
+        String fileKey
+) {
+}
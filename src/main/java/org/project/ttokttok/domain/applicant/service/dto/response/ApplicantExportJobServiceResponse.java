@@ -0,0 +1,14 @@
+package org.project.ttokttok.domain.applicant.service.dto.response;
+
+import lombok.Builder;
+import org.project.ttokttok.domain.applicant.service.export.ApplicantExportStatus;
+
+@Builder
+public record ApplicantExportJobServiceResponse(
+        String jobId,
+        ApplicantExportStatus status,
+        long processedCount,
+        long totalCount,
+        String fileName
+) {
+}
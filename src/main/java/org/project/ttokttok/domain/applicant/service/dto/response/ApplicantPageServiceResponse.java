@@ -9,7 +9,8 @@ public record ApplicantPageServiceResponse(
         Integer currentPage,
         Integer totalPage,
         Integer totalCount,
-        List<ApplicantSimpleResponse> applicants
+        List<ApplicantSimpleResponse> applicants,
+        String nextCursor
 ) {
     public static ApplicantPageServiceResponse of(ApplicantPageDto dto, boolean hasInterview) {
         return new ApplicantPageServiceResponse(
@@ -17,7 +18,8 @@ public record ApplicantPageServiceResponse(
                 dto.currentPage(),
                 dto.totalPage(),
                 dto.totalCount(),
-                dto.applicants()
+                dto.applicants(),
+                dto.nextCursor()
         );
     }
 
@@ -28,7 +30,8 @@ public record ApplicantPageServiceResponse(
                 null,
                 null,
                 null,
-                List.of()
+                List.of(),
+                null
         );
     }
 }
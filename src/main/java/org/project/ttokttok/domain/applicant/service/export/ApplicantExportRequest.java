@@ -0,0 +1,21 @@
+package org.project.ttokttok.domain.applicant.service.export;
+
+import java.util.List;
+
+/**
+ * 비동기 내보내기 작업에 넘기는 값. 워커 스레드에서 지연 로딩이 일어나지 않도록 엔티티 대신 필요한 값만 담는다.
+ *
+ * @param jobId          작업 ID
+ * @param applyFormId    내보낼 지원폼 ID
+ * @param sheetName      시트 이름
+ * @param fileName       내려받을 파일 이름
+ * @param questionTitles 지원폼 질문 제목 (답변 열 순서)
+ */
+public record ApplicantExportRequest(
+        String jobId,
+        String applyFormId,
+        String sheetName,
+        String fileName,
+        List<String> questionTitles
+) {
+}
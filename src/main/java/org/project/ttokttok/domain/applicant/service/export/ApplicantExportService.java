@@ -0,0 +1,139 @@
+package org.project.ttokttok.domain.applicant.service.export;
+
+import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.applicant.exception.ApplicantExportBusyException;
+import org.project.ttokttok.domain.applicant.exception.ApplicantExportNotFoundException;
+import org.project.ttokttok.domain.applicant.exception.ApplicantExportNotReadyException;
+import org.project.ttokttok.domain.applicant.repository.ApplicantRepository;
+import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantExportFileServiceResponse;
+import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantExportJobServiceResponse;
+import org.project.ttokttok.domain.applyform.domain.ApplyForm;
+import org.project.ttokttok.domain.applyform.domain.json.Question;
+import org.project.ttokttok.domain.applyform.exception.ApplyFormNotFoundException;
+import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
+import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.exception.NotClubAdminException;
+import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.infrastructure.redis.service.ApplicantExportRedisService;
+import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.project.ttokttok.infrastructure.redis.service.ApplicantExportRedisService.*;
+
+/**
+ * 지원자 목록 내보내기 작업 요청/조회/내려받기 서비스
+ *
+ * <p>요청 스레드는 권한 확인과 작업 등록만 하고, 파일 작성은 {@link ApplicantExportWorker} 가 별도 스레드풀에서 한다.
+ * 작업 상태는 Redis 에 있으므로 어느 인스턴스에서든 조회/내려받기 할 수 있고,
+ * 다른 관리자의 작업은 존재하지 않는 작업과 같게 응답한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicantExportService {
+
+    private static final String SHEET_NAME_SUFFIX = " 지원자 목록";
+    private static final String FILE_NAME_SUFFIX = "_지원자_목록.xlsx";
+
+    private final ClubRepository clubRepository;
+    private final ApplyFormRepository applyFormRepository;
+    private final ApplicantRepository applicantRepository;
+    private final ApplicantExportRedisService applicantExportRedisService;
+    private final ApplicantExportWorker applicantExportWorker;
+    private final S3Service s3Service;
+
+    /**
+     * 관리자 동아리의 가장 최근 지원폼에 대한 지원자 내보내기 작업을 등록한다.
+     * 모집이 끝난 뒤에도 내보낼 수 있도록 지원폼 상태는 보지 않는다.
+     */
+    public ApplicantExportJobServiceResponse submit(String username) {
+        Club club = clubRepository.findByAdminUsername(username)
+                .orElseThrow(NotClubAdminException::new);
+
+        ApplyForm applyForm = applyFormRepository.findTopByClubIdOrderByCreatedAtDesc(club.getId())
+                .orElseThrow(ApplyFormNotFoundException::new);
+
+        String jobId = UUID.randomUUID().toString();
+        String fileName = club.getName() + FILE_NAME_SUFFIX;
+        long totalCount = applicantRepository.countByApplyFormId(applyForm.getId());
+
+        applicantExportRedisService.create(jobId, Map.of(
+                STATUS, ApplicantExportStatus.PENDING.name(),
+                OWNER, username,
+                TOTAL, Long.toString(totalCount),
+                PROCESSED, "0",
+                FILE_NAME, fileName
+        ));
+
+        List<String> questionTitles = applyForm.getFormJson().stream()
+                .map(Question::title)
+                .toList();
+
+        try {
+            applicantExportWorker.export(new ApplicantExportRequest(
+                    jobId, applyForm.getId(), club.getName() + SHEET_NAME_SUFFIX, fileName, questionTitles
+            ));
+        } catch (TaskRejectedException e) {
+            applicantExportRedisService.update(jobId, Map.of(STATUS, ApplicantExportStatus.FAILED.name()));
+            throw new ApplicantExportBusyException();
+        }
+
+        return ApplicantExportJobServiceResponse.builder()
+                .jobId(jobId)
+                .status(ApplicantExportStatus.PENDING)
+                .processedCount(0)
+                .totalCount(totalCount)
+                .fileName(fileName)
+                .build();
+    }
+
+    /**
+     * 내보내기 작업 상태/진행률 조회
+     */
+    public ApplicantExportJobServiceResponse getJob(String username, String jobId) {
+        Map<String, String> job = findOwnedJob(username, jobId);
+
+        return ApplicantExportJobServiceResponse.builder()
+                .jobId(jobId)
+                .status(ApplicantExportStatus.valueOf(job.get(STATUS)))
+                .processedCount(Long.parseLong(job.getOrDefault(PROCESSED, "0")))
+                .totalCount(Long.parseLong(job.getOrDefault(TOTAL, "0")))
+                .fileName(job.get(FILE_NAME))
+                .build();
+    }
+
+    /**
+     * 완료된 내보내기 작업의 파일 정보 조회
+     */
+    public ApplicantExportFileServiceResponse getFile(String username, String jobId) {
+        Map<String, String> job = findOwnedJob(username, jobId);
+
+        if (!ApplicantExportStatus.COMPLETED.name().equals(job.get(STATUS))) {
+            throw new ApplicantExportNotReadyException();
+        }
+
+        return new ApplicantExportFileServiceResponse(job.get(FILE_NAME), job.get(FILE_KEY));
+    }
+
+    /**
+     * 내보내기 파일을 S3 에서 읽어 out 으로 그대로 전달한다.
+     */
+    public void writeFile(ApplicantExportFileServiceResponse file, OutputStream out) throws IOException {
+        try (InputStream in = s3Service.openFile(file.fileKey())) {
+            in.transferTo(out);
+        }
+    }
+
+    private Map<String, String> findOwnedJob(String username, String jobId) {
+        return applicantExportRedisService.find(jobId)
+                .filter(job -> username.equals(job.get(OWNER)))
+                .orElseThrow(ApplicantExportNotFoundException::new);
+    }
+}
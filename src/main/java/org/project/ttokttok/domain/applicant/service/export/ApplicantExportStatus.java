@@ -0,0 +1,8 @@
+package org.project.ttokttok.domain.applicant.service.export;
+
+public enum ApplicantExportStatus {
+    PENDING,    // 실행 대기
+    RUNNING,    // 파일 작성 중
+    COMPLETED,  // 업로드 완료, 내려받기 가능
+    FAILED      // 실패 (다시 요청해야 함)
+}
@@ -0,0 +1,177 @@
+package org.project.ttokttok.domain.applicant.service.export;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.applicant.domain.Applicant;
+import org.project.ttokttok.domain.applicant.domain.DocumentPhase;
+import org.project.ttokttok.domain.applicant.domain.InterviewPhase;
+import org.project.ttokttok.domain.applicant.domain.json.Answer;
+import org.project.ttokttok.domain.applicant.repository.ApplicantRepository;
+import org.project.ttokttok.global.excel.ExcelService;
+import org.project.ttokttok.infrastructure.redis.service.ApplicantExportRedisService;
+import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.project.ttokttok.infrastructure.redis.service.ApplicantExportRedisService.FILE_KEY;
+import static org.project.ttokttok.infrastructure.redis.service.ApplicantExportRedisService.STATUS;
+import static org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory.APPLICANT_EXPORT;
+
+/**
+ * 지원자 목록을 엑셀 파일로 만들어 S3 에 올리는 비동기 작업
+ *
+ * <p>지원자는 id keyset 페이지 단위로 읽는다. 페이지마다 짧은 읽기 전용 트랜잭션(리포지토리 기본)만 쓰므로
+ * 파일 작성 내내 DB 커넥션을 붙잡지 않고, 페이지 엔티티는 다음 페이지를 읽기 전에 버려져 힙 사용량이 일정하다.
+ * 진행률(처리한 지원자 수)은 페이지마다 Redis 에 누적한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicantExportWorker {
+
+    static final int PAGE_SIZE = 200;
+
+    private static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final List<String> BASE_HEADERS = List.of(
+            "이름", "학년", "전공", "나이", "학적", "성별", "이메일", "전화번호", "서류 상태", "면접 상태"
+    );
+    private static final String VALUE_DELIMITER = ", ";
+
+    private final ApplicantRepository applicantRepository;
+    private final ExcelService excelService;
+    private final S3Service s3Service;
+    private final ApplicantExportRedisService applicantExportRedisService;
+
+    @Async("applicantExportExecutor")
+    public void export(ApplicantExportRequest request) {
+        String jobId = request.jobId();
+        applicantExportRedisService.update(jobId, Map.of(STATUS, ApplicantExportStatus.RUNNING.name()));
+
+        Path file = null;
+        try {
+            file = Files.createTempFile("applicant-export-", ".xlsx");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                excelService.writeSheet(request.sheetName(), headers(request.questionTitles()), rows(request), out);
+            }
+
+            String fileKey = s3Service.uploadLocalFile(file, APPLICANT_EXPORT.getDirectoryName(),
+                    request.fileName(), CONTENT_TYPE);
+
+            applicantExportRedisService.update(jobId, Map.of(
+                    STATUS, ApplicantExportStatus.COMPLETED.name(),
+                    FILE_KEY, fileKey
+            ));
+        } catch (IOException | RuntimeException e) {
+            log.error("[ApplicantExport] 지원자 내보내기 실패. jobId={}", jobId, e);
+            applicantExportRedisService.update(jobId, Map.of(STATUS, ApplicantExportStatus.FAILED.name()));
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private List<String> headers(List<String> questionTitles) {
+        List<String> headers = new ArrayList<>(BASE_HEADERS);
+        headers.addAll(questionTitles);
+        return headers;
+    }
+
+    // 다음 행이 필요할 때 다음 페이지를 조회한다. (마지막 페이지가 PAGE_SIZE 보다 작으면 추가 조회 없음)
+    private Iterator<List<String>> rows(ApplicantExportRequest request) {
+        return Stream.iterate(
+                        fetchPage(request.applyFormId(), ""),
+                        page -> !page.isEmpty(),
+                        page -> page.size() < PAGE_SIZE
+                                ? List.<Applicant>of()
+                                : fetchPage(request.applyFormId(), page.get(page.size() - 1).getId()))
+                .peek(page -> applicantExportRedisService.addProcessed(request.jobId(), page.size()))
+                .flatMap(List::stream)
+                .map(applicant -> toRow(applicant, request.questionTitles()))
+                .iterator();
+    }
+
+    private List<Applicant> fetchPage(String applyFormId, String lastId) {
+        return applicantRepository.findExportPage(applyFormId, lastId, Limit.of(PAGE_SIZE));
+    }
+
+    private List<String> toRow(Applicant applicant, List<String> questionTitles) {
+        DocumentPhase documentPhase = applicant.getDocumentPhase();
+        InterviewPhase interviewPhase = applicant.getInterviewPhase();
+
+        List<String> row = new ArrayList<>();
+        row.add(text(applicant.getName()));
+        row.add(applicant.getGrade() == null ? "" : Integer.toString(applicant.getGrade().getGrade()));
+        row.add(text(applicant.getMajor()));
+        row.add(text(applicant.getAge()));
+        row.add(text(applicant.getStudentStatus()));
+        row.add(text(applicant.getGender()));
+        row.add(text(applicant.getEmail()));
+        row.add(text(applicant.getPhone()));
+        row.add(documentPhase == null ? "" : text(documentPhase.getStatus()));
+        row.add(interviewPhase == null ? "" : text(interviewPhase.getStatus()));
+
+        // 답변은 제출 순서로 저장되므로 질문 제목으로 열을 맞춘다.
+        Map<String, Answer> answersByTitle = answersByTitle(documentPhase);
+        for (String title : questionTitles) {
+            row.add(answerText(answersByTitle.get(title)));
+        }
+
+        return row;
+    }
+
+    private Map<String, Answer> answersByTitle(DocumentPhase documentPhase) {
+        Map<String, Answer> answers = new HashMap<>();
+        if (documentPhase == null || documentPhase.getAnswers() == null) {
+            return answers;
+        }
+
+        for (Answer answer : documentPhase.getAnswers()) {
+            answers.putIfAbsent(answer.title(), answer);
+        }
+        return answers;
+    }
+
+    // 체크박스 등 다중 선택 답변은 목록으로 저장되어 있어 한 셀에 이어 붙인다.
+    private String answerText(Answer answer) {
+        if (answer == null || answer.value() == null) {
+            return "";
+        }
+
+        if (answer.value() instanceof Collection<?> values) {
+            return values.stream()
+                    .map(this::text)
+                    .collect(Collectors.joining(VALUE_DELIMITER));
+        }
+
+        return text(answer.value());
+    }
+
+    private String text(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[ApplicantExport] 임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.project.ttokttok.domain.applyform.domain.ApplyForm;
 import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +19,7 @@ import java.util.List;
 public class ApplyFormScheduler {
 
     private final ApplyFormRepository applyFormRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "0 0 4 * * *")
     @Transactional
@@ -38,6 +41,7 @@ public class ApplyFormScheduler {
             int updatedCount = 0;
             for (ApplyForm applyForm : expiredApplyForms) {
                 applyForm.endRecruiting(); // 모집상태를 false로 변경
+                eventPublisher.publishEvent(new ClubListChangedEvent(applyForm.getClub().getId()));
                 updatedCount++;
 
                 log.debug("지원 폼 상태 변경: ID={}, 제목={}, 마감일={}",
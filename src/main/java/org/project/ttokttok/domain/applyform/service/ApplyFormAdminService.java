@@ -13,10 +13,12 @@ import org.project.ttokttok.domain.applyform.service.dto.request.ApplyFormUpdate
 import org.project.ttokttok.domain.applyform.service.dto.response.ApplyFormDetailServiceResponse;
 import org.project.ttokttok.domain.applyform.service.dto.response.BeforeApplyFormServiceResponse;
 import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
 import org.project.ttokttok.domain.club.exception.ClubNotFoundException;
 import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
 import org.project.ttokttok.domain.temp.applyform.repository.TempApplyFormRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +37,7 @@ public class ApplyFormAdminService {
     private final ApplyFormRepository applyFormRepository;
     private final ClubRepository clubRepository;
     private final TempApplyFormRepository tempApplyFormRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public String createApplyForm(ApplyFormCreateServiceRequest request) {
@@ -69,8 +72,13 @@ public class ApplyFormAdminService {
                 request.questions()
         );
 
-        return applyFormRepository.save(applyForm)
+        String applyFormId = applyFormRepository.save(applyForm)
                 .getId();
+
+        // 모집 여부, 마감일, 지원 가능 학년이 동아리 카드 목록에 노출된다.
+        eventPublisher.publishEvent(new ClubListChangedEvent(club.getId()));
+
+        return applyFormId;
     }
 
     private void validateActiveFormExists(String clubId) {
@@ -167,6 +175,8 @@ public class ApplyFormAdminService {
 
         applyFormRepository.deleteAllTempApplicantByFormId(formId);
         applyFormRepository.deleteAllApplicantByFormId(formId);
+
+        eventPublisher.publishEvent(new ClubListChangedEvent(club.getId()));
     }
 
     private Club validateClubAdmin(String username) {
@@ -4,12 +4,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.openapitools.jackson.nullable.JsonNullable;
 import org.project.ttokttok.domain.club.controller.docs.ClubAdminApiDocs;
+import org.project.ttokttok.domain.club.controller.dto.request.ConfirmUploadRequest;
+import org.project.ttokttok.domain.club.controller.dto.request.PresignedImageUploadRequest;
 import org.project.ttokttok.domain.club.controller.dto.request.UpdateClubContentRequest;
 import org.project.ttokttok.domain.club.controller.dto.response.ClubAdminDetailResponse;
+import org.project.ttokttok.domain.club.controller.dto.response.PresignedUploadResponse;
 import org.project.ttokttok.domain.club.controller.dto.response.UpdateImageResponse;
 import org.project.ttokttok.domain.club.service.ClubAdminService;
 import org.project.ttokttok.domain.club.service.dto.request.MarkdownImageUpdateRequest;
 import org.project.ttokttok.global.annotation.auth.AuthUserInfo;
+import org.project.ttokttok.infrastructure.s3.service.dto.PresignedUpload;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -65,6 +69,30 @@ public class ClubAdminApiController implements ClubAdminApiDocs {
                 .body(response);
     }
 
+    // 마크다운 이미지 직접 업로드 URL 발급
+    @PostMapping("/{clubId}/update-image/presigned-url")
+    public ResponseEntity<PresignedUploadResponse> issueMarkdownImageUpload(@AuthUserInfo String username,
+                                                                            @PathVariable String clubId,
+                                                                            @Valid @RequestBody PresignedImageUploadRequest request) {
+
+        PresignedUpload upload = clubAdminService.issueMarkdownImageUpload(username, request.toServiceRequest());
+
+        return ResponseEntity.ok()
+                .body(PresignedUploadResponse.from(upload));
+    }
+
+    // 직접 업로드한 마크다운 이미지 확인
+    @PostMapping("/{clubId}/update-image/confirm")
+    public ResponseEntity<UpdateImageResponse> confirmMarkdownImageUpload(@AuthUserInfo String username,
+                                                                          @PathVariable String clubId,
+                                                                          @Valid @RequestBody ConfirmUploadRequest request) {
+
+        String imageUrl = clubAdminService.confirmMarkdownImageUpload(username, request.key());
+
+        return ResponseEntity.ok()
+                .body(new UpdateImageResponse(imageUrl));
+    }
+
     // 모집 마감, 재시작 토글 api
     @PatchMapping("/{clubId}/toggle-recruitment")
     public ResponseEntity<Map<String, String>> toggleRecruitment(@AuthUserInfo String username,
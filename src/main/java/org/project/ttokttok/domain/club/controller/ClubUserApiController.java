@@ -10,12 +10,17 @@ import org.project.ttokttok.domain.club.controller.dto.response.FilterOptionsRes
 import org.project.ttokttok.domain.club.domain.enums.ClubCategory;
 import org.project.ttokttok.domain.club.domain.enums.ClubType;
 import org.project.ttokttok.domain.club.domain.enums.ClubUniv;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailVersion;
 import org.project.ttokttok.domain.club.service.ClubUserService;
 import org.project.ttokttok.domain.club.service.dto.response.ClubListServiceResponse;
 import org.project.ttokttok.global.annotation.auth.AuthUserInfo;
+import org.project.ttokttok.global.util.http.ConditionalGetUtil;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -36,21 +41,34 @@ public class ClubUserApiController implements ClubUserApiDocs {
      * 
      * @param username 인증된 사용자 이메일
      * @param clubId 조회할 동아리 ID
+     * @param webRequest 조건부 GET(If-None-Match) 판정용
      * @return 동아리 상세 정보 (소개, 지원 정보, 멤버 수 등, 마감 임박 여부 포함)
      */
     @Override
     @GetMapping("/{clubId}/content")
     public ResponseEntity<ClubDetailResponse> getClubIntroduction(@AuthUserInfo String username,
-                                                                  @PathVariable String clubId) {
+                                                                  @PathVariable String clubId,
+                                                                  WebRequest webRequest) {
+        // 본문을 만들기 전에 값싼 버전 조회로 ETag 를 계산해, 일치하면 상세 조회 없이 304 를 반환한다.
+        // 마감 임박 여부가 날짜에 따라 바뀌므로 오늘 날짜도 포함한다.
+        ClubDetailVersion version = clubUserService.getClubIntroductionVersion(clubId);
+        boolean bookmarked = clubUserService.isBookmarked(username, clubId);
+        String eTag = ConditionalGetUtil.weakETag(clubId, version.clubUpdatedAt(), version.memberCount(),
+                version.applyFormCount(), version.applyFormsUpdatedAt(), bookmarked, LocalDate.now());
+
+        if (webRequest.checkNotModified(eTag)) {
+            clubUserService.increaseViewCount(clubId);
+            return null;
+        }
+
         ClubDetailResponse response = ClubDetailResponse.from(
-                clubUserService.getClubIntroduction(username, clubId)
+                clubUserService.getClubIntroduction(username, clubId, version)
         );
 
-        return ResponseEntity.ok()
-                .body(response);
+        // 즐겨찾기 여부가 포함된 사용자별 응답이므로 공유 캐시(프록시)에는 저장되지 않게 private 으로 응답한다.
+        return ConditionalGetUtil.ok(response, eTag, CacheControl.noCache().cachePrivate());
     }
 
-
     /**
      * 동아리 목록 조회 API (메인화면 + 필터링 통합)
      * 메인 화면에서 동아리 목록을 필터링하여 페이징 조회합니다.
@@ -168,12 +186,12 @@ public class ClubUserApiController implements ClubUserApiDocs {
 
     /**
      * 동아리 검색 API
-     * 동아리 이름을 기준으로 검색합니다.
+     * 동아리 이름, 한줄 소개, 직접 입력 카테고리를 기준으로 검색합니다.
      * 검색 결과는 커서 기반 페이지네이션을 지원합니다.
-     * 검색 키워드가 동아리 이름에 포함되는 결과를 반환합니다.
+     * 검색 키워드가 세 항목 중 하나에 포함되는 결과를 반환합니다.
      *
-     * @param keyword 검색 키워드 (동아리 이름)
-     * @param sort 정렬 기준 (latest, member, popular)
+     * @param keyword 검색 키워드
+     * @param sort 정렬 기준 (latest, member_count, popular, relevance)
      * @param cursor 커서 기반 페이지네이션을 위한 기준 ID
      * @param size 페이지당 로드할 개수 (기본값 20)
      */
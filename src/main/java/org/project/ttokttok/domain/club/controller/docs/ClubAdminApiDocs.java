@@ -9,8 +9,11 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.project.ttokttok.domain.club.controller.dto.request.ConfirmUploadRequest;
+import org.project.ttokttok.domain.club.controller.dto.request.PresignedImageUploadRequest;
 import org.project.ttokttok.domain.club.controller.dto.request.UpdateClubContentRequest;
 import org.project.ttokttok.domain.club.controller.dto.response.ClubAdminDetailResponse;
+import org.project.ttokttok.domain.club.controller.dto.response.PresignedUploadResponse;
 import org.project.ttokttok.domain.club.controller.dto.response.UpdateImageResponse;
 import org.project.ttokttok.global.exception.dto.ErrorResponse;
 import org.springframework.http.MediaType;
@@ -203,6 +206,96 @@ public interface ClubAdminApiDocs {
             MultipartFile imageFile
     );
 
+    @Operation(
+            summary = "마크다운 이미지 직접 업로드 URL 발급",
+            description = """
+                    마크다운 이미지를 서버를 거치지 않고 저장소에 직접 올릴 수 있는 presigned PUT URL 을 발급합니다.
+                    
+                    **업로드 순서**
+                    1. 이 API 로 `uploadUrl`, `headers`, `key` 를 받습니다.
+                    2. `uploadUrl` 로 PUT 요청을 보냅니다. `headers` 의 값(Content-Type, Content-Length)을 그대로 실어야 합니다.
+                    3. 업로드가 끝나면 `key` 로 업로드 확인 API 를 호출해 이미지 URL 을 받습니다.
+                    
+                    *주의사항*
+                    - URL 은 발급 후 5분 동안만 유효합니다.
+                    - 업로드 확인은 URL 을 발급받은 관리자만, 발급 후 1시간 안에 할 수 있습니다. 확인하지 않은 파일은 이후 삭제됩니다.
+                    - 요청한 파일 형식/크기와 다르게 올리면 저장소가 업로드를 거부합니다.
+                    - 지원 형식: JPG, PNG, WEBP, GIF, HEIC (최대 20MB)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "업로드 URL 발급 성공",
+                    content = @Content(schema = @Schema(implementation = PresignedUploadResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 파일 정보 (이미지가 아님, 파일 이름 오류 등)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "해당 동아리의 관리자가 아님",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "파일 크기 초과",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<PresignedUploadResponse> issueMarkdownImageUpload(
+            @Parameter(description = "인증된 관리자 이름", hidden = true)
+            String username,
+            @Parameter(description = "동아리 ID", required = true, example = "UUID")
+            String clubId,
+            PresignedImageUploadRequest request
+    );
+
+    @Operation(
+            summary = "마크다운 이미지 직접 업로드 확인",
+            description = """
+                    직접 업로드한 이미지를 검증하고 이미지 URL 을 반환합니다.
+                    검증에 실패한 파일은 저장소에서 삭제됩니다.
+                    URL 을 발급받은 관리자가 아니거나 확인 허용 시간(1시간)이 지난 키는 잘못된 업로드 키로 거절합니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "업로드 확인 성공",
+                    content = @Content(schema = @Schema(implementation = UpdateImageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 업로드 키(발급받지 않은 키, 만료된 키 포함) 또는 파일",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "해당 동아리의 관리자가 아님",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "아직 업로드되지 않은 파일",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "415",
+                    description = "지원하지 않는 파일 형식",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    ResponseEntity<UpdateImageResponse> confirmMarkdownImageUpload(
+            @Parameter(description = "인증된 관리자 이름", hidden = true)
+            String username,
+            @Parameter(description = "동아리 ID", required = true, example = "UUID")
+            String clubId,
+            ConfirmUploadRequest request
+    );
+
     @Operation(
             summary = "관리자 동아리 소개 조회",
             description = """
@@ -16,6 +16,7 @@ import org.project.ttokttok.domain.club.controller.dto.response.FilterOptionsRes
 import org.project.ttokttok.domain.club.domain.enums.ClubUniv;
 import org.project.ttokttok.global.exception.dto.ErrorResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -69,7 +70,10 @@ public interface ClubUserApiDocs {
                     required = true,
                     example = "UUID"
             )
-            String clubId
+            String clubId,
+
+            @Parameter(hidden = true)
+            WebRequest webRequest
     );
 
     /**
@@ -96,6 +100,7 @@ public interface ClubUserApiDocs {
                     **무한스크롤**:
                     - 첫 요청: cursor 없이 요청
                     - 다음 요청: 응답의 nextCursor 값을 사용
+                    - nextCursor 는 정렬 기준별로 인코딩된 값이므로 가공하지 말고 같은 sort 와 함께 그대로 전달
                     """
     )
     @ApiResponses(
@@ -195,6 +200,7 @@ public interface ClubUserApiDocs {
                     **무한스크롤**:
                     - 첫 요청: cursor 없이 요청
                     - 다음 요청: 응답의 nextCursor 값을 사용
+                    - nextCursor 는 정렬 기준별로 인코딩된 값이므로 가공하지 말고 같은 sort 와 함께 그대로 전달
                     """
     )
     @ApiResponses(
@@ -264,17 +270,19 @@ public interface ClubUserApiDocs {
     @Operation(
             summary = "동아리 검색",
             description = """
-                    동아리 이름을 기준으로 검색합니다.
-                    검색 키워드가 동아리 이름에 포함되는 결과를 반환합니다.
+                    동아리 이름, 한줄 소개, 직접 입력 카테고리를 기준으로 검색합니다.
+                    검색 키워드가 세 항목 중 하나에 포함되는 결과를 반환합니다.
                     
                     **정렬 옵션**:
                     - `latest`: 최신등록순 (기본값)
                     - `popular`: 인기도순
                     - `member_count`: 멤버많은순
+                    - `relevance`: 관련도순 (이름 완전 일치 > 이름 접두 일치 > 이름 포함 > 카테고리 포함 > 한줄 소개 포함)
                     
                     **무한스크롤**:
                     - 첫 요청: cursor 없이 요청
                     - 다음 요청: 응답의 nextCursor 값을 사용
+                    - nextCursor 는 정렬 기준별로 인코딩된 값이므로 가공하지 말고 같은 sort 와 함께 그대로 전달
                     """
     )
     @ApiResponses(
@@ -293,16 +301,16 @@ public interface ClubUserApiDocs {
     )
     ResponseEntity<ClubListResponse> searchClubs(
             @Parameter(
-                    description = "검색 키워드 (동아리 이름)",
+                    description = "검색 키워드 (동아리 이름, 한줄 소개, 직접 입력 카테고리)",
                     required = true,
                     example = "밴드"
             )
             String keyword,
 
             @Parameter(
-                    description = "정렬 (latest: 최신등록순, popular: 인기도순, member_count: 멤버많은순)",
+                    description = "정렬 (latest: 최신등록순, popular: 인기도순, member_count: 멤버많은순, relevance: 관련도순)",
                     example = "latest",
-                    schema = @Schema(allowableValues = {"latest", "popular", "member_count"})
+                    schema = @Schema(allowableValues = {"latest", "popular", "member_count", "relevance"})
             )
             String sort,
 
@@ -0,0 +1,12 @@
+package org.project.ttokttok.domain.club.controller.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "직접 업로드 완료 확인 요청 데이터")
+public record ConfirmUploadRequest(
+        @Schema(description = "업로드 URL 발급 시 받은 객체 키", example = "uploads/introduction-images/uuid_intro.png")
+        @NotBlank(message = "업로드 키가 비어있습니다.")
+        String key
+) {
+}
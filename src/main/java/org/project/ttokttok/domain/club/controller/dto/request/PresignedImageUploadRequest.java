@@ -0,0 +1,25 @@
+package org.project.ttokttok.domain.club.controller.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.project.ttokttok.domain.club.service.dto.request.PresignedImageUploadServiceRequest;
+
+@Schema(description = "이미지 직접 업로드 URL 발급 요청 데이터")
+public record PresignedImageUploadRequest(
+        @Schema(description = "업로드할 파일 이름", example = "intro.png")
+        @NotBlank(message = "파일 이름이 비어있습니다.")
+        String fileName,
+
+        @Schema(description = "파일 MIME 타입", example = "image/png")
+        @NotBlank(message = "파일 형식이 비어있습니다.")
+        String contentType,
+
+        @Schema(description = "파일 크기 (byte)", example = "524288")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        long size
+) {
+    public PresignedImageUploadServiceRequest toServiceRequest() {
+        return new PresignedImageUploadServiceRequest(fileName, contentType, size);
+    }
+}
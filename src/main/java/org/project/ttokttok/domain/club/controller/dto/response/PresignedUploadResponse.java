@@ -0,0 +1,22 @@
+package org.project.ttokttok.domain.club.controller.dto.response;
+
+import org.project.ttokttok.infrastructure.s3.service.dto.PresignedUpload;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record PresignedUploadResponse(
+        String key,
+        String uploadUrl,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+    public static PresignedUploadResponse from(PresignedUpload upload) {
+        return new PresignedUploadResponse(
+                upload.key(),
+                upload.uploadUrl(),
+                upload.headers(),
+                upload.expiresAt()
+        );
+    }
+}
@@ -54,9 +54,16 @@ public class Club extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
-    @Column(name = "view_count", nullable = false)
+    // 카운터 컬럼은 원자적 UPDATE 로만 바뀐다. 엔티티 변경 감지가 오래된 값으로 덮어쓰지 않도록 updatable = false.
+    @Column(name = "view_count", nullable = false, updatable = false)
     private long viewCount = 0L;
 
+    @Column(name = "member_count", nullable = false, updatable = false)
+    private long memberCount = 0L;
+
+    @Column(name = "favorite_count", nullable = false, updatable = false)
+    private long favoriteCount = 0L;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "admin_id", nullable = false)
     private Admin admin;
@@ -0,0 +1,41 @@
+package org.project.ttokttok.domain.club.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 동아리 인기도 점수 프로젝션 (club_popularity_stats)
+ *
+ * <p>카운터(멤버/즐겨찾기/조회수)는 clubs 에만 있고, 여기에는 가중치를 반영한 점수만 동아리당 한 행으로 둔다.
+ * 인기순 정렬은 목록/검색/인기 동아리 조회 모두 이 점수를 읽으므로 순위가 서로 어긋나지 않는다.
+ * 값은 카운터를 바꾸는 코드 경로에서 {@code ClubPopularityStatsService} 를 통해 원자적 UPDATE 로만 증분 갱신한다.
+ */
+@Entity
+@Getter
+@Table(name = "club_popularity_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClubPopularityStats {
+
+    @Id
+    @Column(name = "club_id", length = 36, updatable = false)
+    private String clubId;
+
+    // 가중치가 반영된 인기도 점수, (score DESC, club_id DESC) 인덱스로 정렬된다.
+    @Column(nullable = false)
+    private double score;
+
+    private ClubPopularityStats(String clubId) {
+        this.clubId = clubId;
+        this.score = 0.0;
+    }
+
+    // 신규 동아리 생성 시 빈 집계 행
+    public static ClubPopularityStats createEmpty(String clubId) {
+        return new ClubPopularityStats(clubId);
+    }
+}
@@ -22,7 +22,10 @@ public enum ClubSortType {
     MEMBER_COUNT("member_count"),
 
     /** 최신 등록순 — 알 수 없는 값이 들어왔을 때의 기본값이기도 하다. */
-    LATEST("latest");
+    LATEST("latest"),
+
+    /** 검색 관련도순 — 검색 전용이며, 검색어가 없는 목록 조회에서는 {@link #LATEST} 와 같게 정렬한다. */
+    RELEVANCE("relevance");
 
     private final String key;
 
@@ -45,4 +48,15 @@ public enum ClubSortType {
                 .findFirst()
                 .orElse(LATEST);
     }
+
+    /**
+     * 검색어 없는 목록 조회의 정렬 기준. 관련도순은 검색 전용이므로 {@link #LATEST} 로 대체한다.
+     *
+     * @param value 정렬 키 문자열 (null 허용)
+     * @return 목록 조회에 적용할 정렬 기준
+     */
+    public static ClubSortType forList(String value) {
+        ClubSortType sortType = from(value);
+        return sortType == RELEVANCE ? LATEST : sortType;
+    }
 }
@@ -0,0 +1,12 @@
+package org.project.ttokttok.domain.club.event;
+
+/**
+ * 동아리 카드 목록/상세에 보이는 정보(소개, 모집 상태, 지원폼, 멤버 수 등)가 바뀌었음을 알리는 이벤트
+ * 커밋 후 동아리 목록 캐시와 상세 캐시를 무효화하는 데 사용됩니다.
+ *
+ * @param clubId 변경된 동아리 ID
+ */
+public record ClubListChangedEvent(
+        String clubId
+) {
+}
@@ -14,7 +14,7 @@ import java.util.List;
 
 public interface ClubCustomRepository {
     // queryDsl 사용을 위한 인터페이스
-    ClubDetailQueryResponse getClubIntroduction(String clubId, String email);
+    ClubDetailQueryResponse getClubIntroduction(String clubId);
 
     // 무한스크롤을 위한 메서드
     List<ClubCardQueryResponse> getClubList(
@@ -25,19 +25,17 @@ public interface ClubCustomRepository {
             List<ApplicableGrade> grades,
             int size,
             String cursor,
-            String sort,
-            String userEmail
+            String sort
     );
 
     // 복합 점수 기반 인기 동아리 조회 - 페이지네이션 제거
-    List<ClubCardQueryResponse> getAllPopularClubs(String userEmail, double minScore);
+    List<ClubCardQueryResponse> getAllPopularClubs(double minScore);
 
     // 인기 동아리 조회 - 필터링 및 페이지네이션
     List<ClubCardQueryResponse> getPopularClubsWithFilters(
             int size,
             String cursor,
             String sort,
-            String userEmail,
             double minScore
     );
 
@@ -46,8 +44,7 @@ public interface ClubCustomRepository {
             @Param("keyword") String keyword,
             @Param("size") int size,
             @Param("cursor") String cursor,
-            @Param("sort") String sort,
-            @Param("userEmail") String userEmail
+            @Param("sort") String sort
     );
 
     long countByKeyword(String keyword);
@@ -1,16 +1,18 @@
 package org.project.ttokttok.domain.club.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.EnumPath;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.project.ttokttok.domain.applyform.domain.ApplyForm;
 import org.project.ttokttok.domain.applyform.domain.enums.ApplicableGrade;
 import org.project.ttokttok.domain.applyform.domain.enums.ApplyFormStatus;
 import org.project.ttokttok.domain.club.domain.enums.ClubCategory;
@@ -18,18 +20,25 @@ import org.project.ttokttok.domain.club.domain.enums.ClubSortType;
 import org.project.ttokttok.domain.club.domain.enums.ClubType;
 import org.project.ttokttok.domain.club.domain.enums.ClubUniv;
 import org.project.ttokttok.domain.club.repository.dto.ClubCardQueryResponse;
+import org.project.ttokttok.domain.club.repository.dto.ClubCursor;
 import org.project.ttokttok.domain.club.repository.dto.ClubDetailAdminQueryResponse;
 import org.project.ttokttok.domain.club.repository.dto.ClubDetailQueryResponse;
 import org.springframework.stereotype.Repository;
 
-import java.util.HashSet;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.project.ttokttok.domain.applyform.domain.QApplyForm.applyForm;
 import static org.project.ttokttok.domain.applyform.domain.enums.ApplyFormStatus.ACTIVE;
 import static org.project.ttokttok.domain.club.domain.QClub.club;
-import static org.project.ttokttok.domain.clubMember.domain.QClubMember.clubMember;
-import static org.project.ttokttok.domain.favorite.domain.QFavorite.favorite;
+import static org.project.ttokttok.domain.club.domain.QClubPopularityStats.clubPopularityStats;
 
 @Repository
 @RequiredArgsConstructor
@@ -38,14 +47,16 @@ public class ClubCustomRepositoryImpl implements ClubCustomRepository {
     private final JPAQueryFactory queryFactory;
     private final EntityManager entityManager;
 
+    // 지원폼의 지원 가능 학년(ElementCollection) 조인 별칭
+    private static final EnumPath<ApplicableGrade> applicableGrade =
+            Expressions.enumPath(ApplicableGrade.class, "applicableGrade");
+
+    // 멤버 수는 clubs 카운터 컬럼, 인기도 점수는 club_popularity_stats 에 미리 계산되어 있다.
+    // 매 요청 club_members / user_favorites 전체를 GROUP BY 하지 않는다.
+    // 점수 행이 아직 없는 동아리도 빠지지 않도록 목록/검색(selectClubCard)과 같이 clubs 기준 LEFT JOIN 에 점수 0 으로 본다.
+    // 즐겨찾기 여부는 사용자와 무관한 결과를 공유할 수 있도록 서비스에서 덮어씌운다. (bookmarked 는 항상 false)
     private static final String POPULAR_CLUB_BASE_SQL = """
-            WITH mc AS (
-                SELECT club_id, COUNT(*) as cnt FROM club_members GROUP BY club_id
-            ),
-            fc AS (
-                SELECT club_id, COUNT(*) as cnt FROM user_favorites GROUP BY club_id
-            ),
-            af_active AS (
+            WITH af_active AS (
                 SELECT club_id, 
                        MAX(CASE WHEN is_recruiting = true THEN 1 ELSE 0 END) as is_recruiting,
                        MAX(apply_end_date) as apply_end_date
@@ -53,24 +64,16 @@ public class ClubCustomRepositoryImpl implements ClubCustomRepository {
                 WHERE status = 'ACTIVE'
                 GROUP BY club_id
             ),
-            uf_user AS (
-                SELECT f.club_id, 1 as bookmarked 
-                FROM user_favorites f
-                JOIN users u ON f.user_id = u.id
-                WHERE u.email = :userEmail
-            ),
             scored_clubs AS (
                 SELECT c.id, c.name, c.club_type, c.club_category, c.custom_category, c.summary, c.profile_img, c.view_count, c.created_at,
-                       COALESCE(mc.cnt, 0) as member_count,
-                       (COALESCE(mc.cnt, 0) * 0.7 + COALESCE(fc.cnt, 0) * 2.5 + c.view_count * 0.7) AS score,
+                       c.member_count,
+                       COALESCE(s.score, 0) as score,
                        COALESCE(af_active.is_recruiting, 0) = 1 as recruiting,
-                       COALESCE(uf_user.bookmarked, 0) = 1 as bookmarked,
+                       false as bookmarked,
                        af_active.apply_end_date as apply_deadline
                 FROM clubs c
-                LEFT JOIN mc ON c.id = mc.club_id
-                LEFT JOIN fc ON c.id = fc.club_id
+                LEFT JOIN club_popularity_stats s ON s.club_id = c.id
                 LEFT JOIN af_active ON c.id = af_active.club_id
-                LEFT JOIN uf_user ON c.id = uf_user.club_id
             )
             SELECT id, name, club_type, club_category, custom_category, summary, profile_img,
                    member_count, recruiting, bookmarked, apply_deadline, score
@@ -79,50 +82,33 @@ public class ClubCustomRepositoryImpl implements ClubCustomRepository {
             """;
 
     @Override
-    public ClubDetailQueryResponse getClubIntroduction(String clubId, String email) {
-        var clubResult = queryFactory
-                .select(
-                        club.name,
-                        club.clubType,
-                        club.clubCategory,
-                        club.customCategory,
-                        isFavorite(clubId, email),
-                        club.summary,
-                        club.profileImageUrl,
-                        getClubMemberCount(clubId),
-                        club.content
-                )
-                .from(club)
-                .where(club.id.eq(clubId))
-                .fetchOne();
+    public ClubDetailQueryResponse getClubIntroduction(String clubId) {
+        List<Tuple> rows = fetchWithActiveApplyForm(clubId,
+                club.name, club.clubType, club.clubCategory, club.customCategory,
+                club.summary, club.profileImageUrl, club.memberCount, club.content);
 
-        if (clubResult == null) {
+        if (rows.isEmpty()) {
             return null;
         }
 
-        ApplyForm activeForm = queryFactory
-                .selectFrom(applyForm)
-                .leftJoin(applyForm.grades).fetchJoin()
-                .where(applyForm.club.id.eq(clubId)
-                        .and(applyForm.status.eq(ACTIVE))
-                        .and(applyForm.isRecruiting.eq(true)))
-                .fetchOne();
+        Tuple clubResult = rows.get(0);
+        ActiveApplyForm activeForm = ActiveApplyForm.from(rows);
 
         return new ClubDetailQueryResponse(
-                clubResult.get(0, String.class),
-                clubResult.get(1, ClubType.class),
-                clubResult.get(2, ClubCategory.class),
-                clubResult.get(3, String.class),
-                Boolean.TRUE.equals(clubResult.get(4, Boolean.class)),
-                activeForm != null && activeForm.isRecruiting(),
-                clubResult.get(5, String.class),
-                clubResult.get(6, String.class),
-                clubResult.get(7, Integer.class) != null ? clubResult.get(7, Integer.class) : 0,
-                activeForm != null ? activeForm.getApplyStartDate() : null,
-                activeForm != null ? activeForm.getApplyEndDate() : null,
-                activeForm != null ? activeForm.getGrades() : new HashSet<>(),
-                activeForm != null ? activeForm.getMaxApplyCount() : 0,
-                clubResult.get(8, String.class)
+                clubResult.get(club.name),
+                clubResult.get(club.clubType),
+                clubResult.get(club.clubCategory),
+                clubResult.get(club.customCategory),
+                false,
+                activeForm.exists(),
+                clubResult.get(club.summary),
+                clubResult.get(club.profileImageUrl),
+                toInt(clubResult.get(club.memberCount)),
+                activeForm.applyStartDate(),
+                activeForm.applyEndDate(),
+                activeForm.grades(),
+                activeForm.maxApplyCount(),
+                clubResult.get(club.content)
         );
     }
 
@@ -135,20 +121,21 @@ public class ClubCustomRepositoryImpl implements ClubCustomRepository {
             List<ApplicableGrade> grades,
             int size,
             String cursor,
-            String sort,
-            String userEmail) {
+            String sort) {
 
-        JPAQuery<ClubCardQueryResponse> query = selectClubCard(userEmail)
+        ClubSortType sortType = ClubSortType.forList(sort);
+        NumberExpression<Double> popularityScore = getPopularityScoreExpression();
+        JPAQuery<ClubCardQueryResponse> query = selectClubCard(popularityScore)
                 .where(
                         categoryEq(category),
                         typeEq(type),
                         clubUnivEq(clubUniv),
                         recruitingEq(recruiting),
                         gradesEq(grades),
-                        cursorCondition(cursor)
+                        cursorCondition(cursor, sortType, popularityScore)
                 );
 
-        applySorting(query, sort);
+        applySorting(query, sortType, popularityScore);
         query.limit(size + 1);
 
         return query.fetch();
@@ -156,11 +143,10 @@ public class ClubCustomRepositoryImpl implements ClubCustomRepository {
 
     @Override
     @SuppressWarnings("unchecked")
-    public List<ClubCardQueryResponse> getAllPopularClubs(String userEmail, double minScore) {
+    public List<ClubCardQueryResponse> getAllPopularClubs(double minScore) {
         String sql = POPULAR_CLUB_BASE_SQL + " ORDER BY score DESC, id DESC ";
 
         var query = entityManager.createNativeQuery(sql);
-        query.setParameter("userEmail", userEmail);
         query.setParameter("minScore", minScore);
 
         return mapToClubCardQueryResponse(query.getResultList());
@@ -172,15 +158,17 @@ public class ClubCustomRepositoryImpl implements ClubCustomRepository {
             int size,
             String cursor,
             String sort,
-            String userEmail,
             double minScore) {
 
+        ClubSortType sortType = ClubSortType.forList(sort);
+        ClubCursor clubCursor = cursor != null ? ClubCursor.decode(sortType, cursor) : null;
+
         StringBuilder sqlBuilder = new StringBuilder(POPULAR_CLUB_BASE_SQL);
-        if (cursor != null) {
-            sqlBuilder.append(" AND id < :cursor ");
+        if (clubCursor != null) {
+            sqlBuilder.append(nativeCursorCondition(sortType, clubCursor));
         }
 
-        switch (ClubSortType.from(sort)) {
+        switch (sortType) {
             case POPULAR -> sqlBuilder.append(" ORDER BY score DESC, id DESC ");
             case MEMBER_COUNT -> sqlBuilder.append(" ORDER BY member_count DESC, id DESC ");
             case LATEST -> sqlBuilder.append(" ORDER BY id DESC, created_at DESC ");
@@ -189,26 +177,34 @@ public class ClubCustomRepositoryImpl implements ClubCustomRepository {
         sqlBuilder.append(" LIMIT :limit ");
 
         var query = entityManager.createNativeQuery(sqlBuilder.toString());
-        query.setParameter("userEmail", userEmail);
         query.setParameter("minScore", minScore);
         query.setParameter("limit", size + 1);
-        if (cursor != null) {
-            query.setParameter("cursor", cursor);
+        if (clubCursor != null) {
+            query.setParameter("cursorId", clubCursor.id());
+            if (clubCursor.hasSortKey() && sortType != ClubSortType.LATEST) {
+                query.setParameter("cursorKey", sortType == ClubSortType.POPULAR
+                        ? clubCursor.doubleKey()
+                        : clubCursor.longKey());
+            }
         }
 
         return mapToClubCardQueryResponse(query.getResultList());
     }
 
     @Override
-    public List<ClubCardQueryResponse> searchByKeyword(String keyword, int size, String cursor, String sort,
-                                                       String userEmail) {
-        JPAQuery<ClubCardQueryResponse> query = selectClubCard(userEmail)
+    public List<ClubCardQueryResponse> searchByKeyword(String keyword, int size, String cursor, String sort) {
+        ClubSortType sortType = ClubSortType.from(sort);
+        NumberExpression<Double> sortScore = sortType == ClubSortType.RELEVANCE
+                ? getRelevanceScoreExpression(keyword)
+                : getPopularityScoreExpression();
+
+        JPAQuery<ClubCardQueryResponse> query = selectClubCard(sortScore)
                 .where(
-                        club.name.containsIgnoreCase(keyword),
-                        cursorCondition(cursor)
+                        keywordMatches(keyword),
+                        cursorCondition(cursor, sortType, sortScore)
                 );
 
-        applySorting(query, sort);
+        applySorting(query, sortType, sortScore);
         query.limit(size + 1);
 
         return query.fetch();
@@ -219,115 +215,191 @@ public class ClubCustomRepositoryImpl implements ClubCustomRepository {
         return queryFactory
                 .select(club.count())
                 .from(club)
-                .where(club.name.containsIgnoreCase(keyword))
+                .where(keywordMatches(keyword))
                 .fetchOne();
     }
 
     @Override
     public ClubDetailAdminQueryResponse getAdminClubIntro(String clubId) {
-        var clubResult = queryFactory
-                .select(
-                        club.name, club.clubType, club.clubCategory, club.customCategory,
-                        club.summary, club.profileImageUrl, getClubMemberCount(clubId),
-                        club.clubUniv, club.content
-                )
-                .from(club)
-                .where(club.id.eq(clubId))
-                .fetchOne();
+        List<Tuple> rows = fetchWithActiveApplyForm(clubId,
+                club.name, club.clubType, club.clubCategory, club.customCategory,
+                club.summary, club.profileImageUrl, club.memberCount, club.clubUniv, club.content);
 
-        if (clubResult == null) {
+        if (rows.isEmpty()) {
             return null;
         }
 
-        ApplyForm activeForm = queryFactory
-                .selectFrom(applyForm)
-                .leftJoin(applyForm.grades).fetchJoin()
-                .where(applyForm.club.id.eq(clubId)
-                        .and(applyForm.status.eq(ACTIVE))
-                        .and(applyForm.isRecruiting.eq(true)))
-                .fetchOne();
+        Tuple clubResult = rows.get(0);
+        ActiveApplyForm activeForm = ActiveApplyForm.from(rows);
 
         return new ClubDetailAdminQueryResponse(
-                clubResult.get(0, String.class), clubResult.get(1, ClubType.class),
-                clubResult.get(2, ClubCategory.class), clubResult.get(3, String.class),
-                activeForm != null && activeForm.isRecruiting(), clubResult.get(4, String.class),
-                clubResult.get(5, String.class),
-                clubResult.get(6, Integer.class) != null ? clubResult.get(6, Integer.class) : 0,
-                clubResult.get(7, ClubUniv.class), activeForm != null ? activeForm.getApplyStartDate() : null,
-                activeForm != null ? activeForm.getApplyEndDate() : null,
-                activeForm != null ? activeForm.getGrades() : new HashSet<>(),
-                activeForm != null ? activeForm.getMaxApplyCount() : 0,
-                clubResult.get(8, String.class)
+                clubResult.get(club.name), clubResult.get(club.clubType),
+                clubResult.get(club.clubCategory), clubResult.get(club.customCategory),
+                activeForm.exists(), clubResult.get(club.summary),
+                clubResult.get(club.profileImageUrl),
+                toInt(clubResult.get(club.memberCount)),
+                clubResult.get(club.clubUniv), activeForm.applyStartDate(),
+                activeForm.applyEndDate(),
+                activeForm.grades(),
+                activeForm.maxApplyCount(),
+                clubResult.get(club.content)
         );
     }
 
     // --- Private Helper Methods ---
 
+    /**
+     * 동아리 컬럼과 모집 중인 활성 지원폼, 지원 가능 학년을 한 번의 쿼리로 조회합니다.
+     * 학년(ElementCollection)은 조인된 행으로 펼쳐지므로 지원폼이 있으면 학년 수만큼 행이 나옵니다.
+     * 학년은 EnumSet 으로 모아 인스턴스와 무관하게 같은 순서로 응답(및 ETag)이 만들어지게 합니다.
+     */
+    private List<Tuple> fetchWithActiveApplyForm(String clubId, Expression<?>... clubColumns) {
+        Expression<?>[] columns = Stream.concat(Arrays.stream(clubColumns), Stream.of(
+                applyForm.id, applyForm.applyStartDate, applyForm.applyEndDate, applyForm.maxApplyCount,
+                applicableGrade
+        )).toArray(Expression<?>[]::new);
+
+        return queryFactory
+                .select(columns)
+                .from(club)
+                .leftJoin(applyForm).on(applyForm.club.id.eq(club.id)
+                        .and(applyForm.status.eq(ACTIVE))
+                        .and(applyForm.isRecruiting.eq(true)))
+                .leftJoin(applyForm.grades, applicableGrade)
+                .where(club.id.eq(clubId))
+                .fetch();
+    }
+
+    private int toInt(Long value) {
+        return value != null ? value.intValue() : 0;
+    }
+
+    /**
+     * {@link #fetchWithActiveApplyForm} 결과 행에서 모은 활성 지원폼 정보
+     * (활성 지원폼이 여러 개면 첫 행의 지원폼 기준)
+     */
+    private record ActiveApplyForm(
+            boolean exists,
+            LocalDate applyStartDate,
+            LocalDate applyEndDate,
+            Set<ApplicableGrade> grades,
+            int maxApplyCount
+    ) {
+
+        static ActiveApplyForm from(List<Tuple> rows) {
+            String applyFormId = rows.get(0).get(applyForm.id);
+            if (applyFormId == null) {
+                return new ActiveApplyForm(false, null, null, Set.of(), 0);
+            }
+
+            Tuple first = rows.get(0);
+            Set<ApplicableGrade> grades = rows.stream()
+                    .filter(row -> applyFormId.equals(row.get(applyForm.id)))
+                    .map(row -> row.get(applicableGrade))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(ApplicableGrade.class)));
+            Integer maxApplyCount = first.get(applyForm.maxApplyCount);
+
+            return new ActiveApplyForm(true, first.get(applyForm.applyStartDate), first.get(applyForm.applyEndDate),
+                    Collections.unmodifiableSet(grades), maxApplyCount != null ? maxApplyCount : 0);
+        }
+    }
+
     private List<ClubCardQueryResponse> mapToClubCardQueryResponse(List<Object[]> results) {
         return results.stream().map(row -> new ClubCardQueryResponse(
                 (String) row[0], (String) row[1], ClubType.valueOf((String) row[2]),
                 ClubCategory.valueOf((String) row[3]), (String) row[4], (String) row[5],
                 (String) row[6], ((Number) row[7]).intValue(), (Boolean) row[8],
-                (Boolean) row[9], row[10] != null ? ((java.sql.Date) row[10]).toLocalDate() : null
+                (Boolean) row[9], row[10] != null ? ((java.sql.Date) row[10]).toLocalDate() : null,
+                ((Number) row[11]).doubleValue()
         )).toList();
     }
 
     /**
-     * ClubCardQueryResponse를 반환하기 위한 기본 Select 및 Join 구성을 생성합니다.
+     * native SQL 경로의 keyset 조건. ORDER BY (정렬 키 DESC, id DESC) 와 같은 순서로 이어서 읽는다.
+     * 정렬 키 상한(<=)을 먼저 걸어 인덱스 범위 스캔이 가능하게 한다.
      */
-    private JPAQuery<ClubCardQueryResponse> selectClubCard(String userEmail) {
-        JPQLQuery<Long> memberCountSubQuery = JPAExpressions
-                .select(clubMember.count())
-                .from(clubMember)
-                .where(clubMember.club.id.eq(club.id));
+    private String nativeCursorCondition(ClubSortType sortType, ClubCursor clubCursor) {
+        if (!clubCursor.hasSortKey() || sortType == ClubSortType.LATEST) {
+            return " AND id < :cursorId ";
+        }
 
-        BooleanExpression isBookmarked = (userEmail != null) ? favorite.id.isNotNull() : Expressions.asBoolean(false);
+        String sortColumn = sortType == ClubSortType.POPULAR ? "score" : "member_count";
+        return " AND " + sortColumn + " <= :cursorKey"
+                + " AND (" + sortColumn + " < :cursorKey OR id < :cursorId) ";
+    }
 
-        var query = queryFactory
+    /**
+     * ClubCardQueryResponse를 반환하기 위한 기본 Select 및 Join 구성을 생성합니다.
+     * 즐겨찾기 조인 없이 모든 사용자에게 같은 결과를 반환합니다. (즐겨찾기 여부는 서비스에서 표시)
+     *
+     * @param sortScore 커서 생성용으로 함께 조회할 정렬 점수 (인기도 또는 검색 관련도)
+     */
+    private JPAQuery<ClubCardQueryResponse> selectClubCard(NumberExpression<Double> sortScore) {
+        return queryFactory
                 .select(Projections.constructor(ClubCardQueryResponse.class,
                         club.id, club.name, club.clubType, club.clubCategory, club.customCategory,
                         club.summary, club.profileImageUrl,
-                        Expressions.numberTemplate(Integer.class, "({0})", memberCountSubQuery),
+                        club.memberCount.intValue(),
                         applyForm.isRecruiting.coalesce(false),
-                        isBookmarked,
-                        applyForm.applyEndDate
+                        Expressions.asBoolean(false),
+                        applyForm.applyEndDate,
+                        sortScore
                 ))
                 .from(club)
+                .leftJoin(clubPopularityStats).on(clubPopularityStats.clubId.eq(club.id))
                 .leftJoin(applyForm).on(applyForm.club.id.eq(club.id).and(applyForm.status.eq(ACTIVE)));
+    }
 
-        if (userEmail != null) {
-            query.leftJoin(favorite).on(favorite.club.id.eq(club.id).and(favorite.user.email.eq(userEmail)));
-        }
+    /**
+     * 인기도 점수를 반환합니다. 인기 동아리 조회와 같은 club_popularity_stats.score 를 읽어 순위가 어긋나지 않게 합니다.
+     * (점수 행이 아직 없는 동아리는 0점)
+     */
+    private NumberExpression<Double> getPopularityScoreExpression() {
+        return clubPopularityStats.score.coalesce(0.0);
+    }
 
-        return query;
+    /**
+     * 검색 관련도 점수 계산식을 반환합니다.
+     * 이름 일치(완전 > 접두 > 부분) 를 가장 크게, 그다음 직접 입력 카테고리, 한줄 소개 순으로 가중합니다.
+     * DB 함수(similarity 등) 없이 CASE 식만 사용하므로 PostgreSQL 과 H2 에서 같은 순위가 나옵니다.
+     */
+    private NumberExpression<Double> getRelevanceScoreExpression(String keyword) {
+        String lowerKeyword = keyword.toLowerCase();
+
+        NumberExpression<Double> nameScore = new CaseBuilder()
+                .when(club.name.lower().eq(lowerKeyword)).then(8.0)
+                .when(club.name.startsWithIgnoreCase(keyword)).then(6.0)
+                .when(club.name.containsIgnoreCase(keyword)).then(4.0)
+                .otherwise(0.0);
+        NumberExpression<Double> customCategoryScore = new CaseBuilder()
+                .when(club.customCategory.containsIgnoreCase(keyword)).then(2.0)
+                .otherwise(0.0);
+        NumberExpression<Double> summaryScore = new CaseBuilder()
+                .when(club.summary.containsIgnoreCase(keyword)).then(1.0)
+                .otherwise(0.0);
+
+        return nameScore.add(customCategoryScore).add(summaryScore);
     }
 
     /**
-     * 인기도 점수 계산식을 반환합니다.
+     * 검색 조건. 이름, 한줄 소개, 직접 입력 카테고리 중 하나라도 검색어를 포함하면 일치합니다.
+     * 각 lower(컬럼) 에 trigram GIN 인덱스가 있어 PostgreSQL 에서는 BitmapOr 로 인덱스 검색합니다. (V28)
      */
-    private NumberExpression<Double> getPopularityScoreExpression() {
-        JPQLQuery<Long> memberCountSubQuery = JPAExpressions.select(clubMember.count()).from(clubMember)
-                .where(clubMember.club.id.eq(club.id));
-        JPQLQuery<Long> favoriteCountSubQuery = JPAExpressions.select(favorite.count()).from(favorite)
-                .where(favorite.club.id.eq(club.id));
-
-        return Expressions.numberTemplate(Double.class,
-                "({0}) * 0.7 + ({1}) * 2.5 + ({2}) * 0.7",
-                memberCountSubQuery, favoriteCountSubQuery, club.viewCount);
+    private BooleanExpression keywordMatches(String keyword) {
+        return club.name.containsIgnoreCase(keyword)
+                .or(club.summary.containsIgnoreCase(keyword))
+                .or(club.customCategory.containsIgnoreCase(keyword));
     }
 
     /**
      * 정렬 조건에 따른 OrderBy 절을 적용합니다.
      */
-    private void applySorting(JPAQuery<ClubCardQueryResponse> query, String sort) {
-        switch (ClubSortType.from(sort)) {
-            case POPULAR -> query.orderBy(getPopularityScoreExpression().desc(), club.id.desc());
-            case MEMBER_COUNT -> {
-                JPQLQuery<Long> memberCountSubQuery = JPAExpressions.select(clubMember.count()).from(clubMember)
-                        .where(clubMember.club.id.eq(club.id));
-                query.orderBy(Expressions.numberTemplate(Long.class, "({0})", memberCountSubQuery).desc(),
-                        club.id.desc());
-            }
+    private void applySorting(JPAQuery<ClubCardQueryResponse> query, ClubSortType sortType,
+                              NumberExpression<Double> sortScore) {
+        switch (sortType) {
+            case POPULAR, RELEVANCE -> query.orderBy(sortScore.desc(), club.id.desc());
+            case MEMBER_COUNT -> query.orderBy(club.memberCount.desc(), club.id.desc());
             case LATEST -> query.orderBy(club.id.desc(), club.createdAt.desc());
         }
     }
@@ -363,20 +435,31 @@ public class ClubCustomRepositoryImpl implements ClubCustomRepository {
                         .and(applyForm.grades.any().in(grades))).exists();
     }
 
-    private BooleanExpression cursorCondition(String cursor) {
-        return cursor != null ? club.id.lt(cursor) : null;
-    }
+    /**
+     * 정렬 기준에 맞는 keyset 조건을 반환합니다. ORDER BY (정렬 키 DESC, id DESC) 와 같은 순서로 이어서 읽습니다.
+     * 정렬 키 상한(loe)을 먼저 걸어 인덱스 범위 스캔이 가능하게 합니다.
+     */
+    private BooleanExpression cursorCondition(String cursor, ClubSortType sortType,
+                                              NumberExpression<Double> sortScore) {
+        if (cursor == null) {
+            return null;
+        }
 
-    private BooleanExpression isFavorite(String clubId, String email) {
-        if (email == null) {
-            return Expressions.asBoolean(false);
+        ClubCursor clubCursor = ClubCursor.decode(sortType, cursor);
+        if (!clubCursor.hasSortKey()) {
+            return club.id.lt(clubCursor.id());
         }
-        return JPAExpressions.selectOne().from(favorite)
-                .where(favorite.user.email.eq(email).and(favorite.club.id.eq(clubId))).exists();
+
+        return switch (sortType) {
+            case POPULAR, RELEVANCE -> seek(sortScore, clubCursor.doubleKey(), clubCursor.id());
+            case MEMBER_COUNT -> seek(club.memberCount, clubCursor.longKey(), clubCursor.id());
+            case LATEST -> club.id.lt(clubCursor.id());
+        };
     }
 
-    private JPQLQuery<Integer> getClubMemberCount(String clubId) {
-        return JPAExpressions.select(clubMember.count().coalesce(0L).intValue()).from(clubMember)
-                .where(clubMember.club.id.eq(clubId));
+    private <T extends Number & Comparable<?>> BooleanExpression seek(NumberExpression<T> sortKey, T cursorKey,
+                                                                      String cursorId) {
+        return sortKey.loe(cursorKey)
+                .and(sortKey.lt(cursorKey).or(club.id.lt(cursorId)));
     }
 }
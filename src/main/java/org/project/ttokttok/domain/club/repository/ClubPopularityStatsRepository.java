@@ -0,0 +1,51 @@
+package org.project.ttokttok.domain.club.repository;
+
+import org.project.ttokttok.domain.club.domain.ClubPopularityStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ClubPopularityStatsRepository extends JpaRepository<ClubPopularityStats, String> {
+
+    // clubs 카운터 컬럼으로 계산한 인기도 점수 (별칭 c)
+    String SCORE_FROM_CLUB_SQL = """
+            c.member_count * :memberWeight + c.favorite_count * :favoriteWeight + c.view_count * :viewWeight
+            """;
+
+    // clubs 카운터로 점수 행을 계산해 채우는 INSERT ... SELECT
+    String INSERT_FROM_CLUB_SQL = "INSERT INTO club_popularity_stats (club_id, score) "
+            + "SELECT c.id, " + SCORE_FROM_CLUB_SQL + "FROM clubs c ";
+
+    // 증분 갱신: 카운터 변경과 같은 트랜잭션에서 점수만 원자적으로 올린다.
+    @Modifying
+    @Query("UPDATE ClubPopularityStats s SET s.score = s.score + :scoreDelta WHERE s.clubId = :clubId")
+    int addScore(@Param("clubId") String clubId, @Param("scoreDelta") double scoreDelta);
+
+    // 가중치 설정 변경/누적 오차 보정: clubs 카운터로 점수를 제자리에서 다시 계산한다.
+    @Modifying
+    @Query(value = "UPDATE club_popularity_stats s SET score = " + SCORE_FROM_CLUB_SQL
+            + "FROM clubs c WHERE c.id = s.club_id",
+            nativeQuery = true)
+    int recalculateScores(@Param("memberWeight") double memberWeight,
+                          @Param("favoriteWeight") double favoriteWeight,
+                          @Param("viewWeight") double viewWeight);
+
+    // 점수 행이 없는 동아리 한 곳을 clubs 카운터로 채운다.
+    // 동시에 다른 트랜잭션이 같은 행을 채웠다면 PK 충돌 대신 계산한 값으로 덮어쓴다.
+    @Modifying
+    @Query(value = INSERT_FROM_CLUB_SQL + "WHERE c.id = :clubId "
+            + "ON CONFLICT (club_id) DO UPDATE SET score = EXCLUDED.score",
+            nativeQuery = true)
+    int insertFromClub(@Param("clubId") String clubId,
+                       @Param("memberWeight") double memberWeight,
+                       @Param("favoriteWeight") double favoriteWeight,
+                       @Param("viewWeight") double viewWeight);
+
+    // 점수 행이 없는 동아리만 채운다. (그 사이 채워진 행은 건너뜀)
+    @Modifying
+    @Query(value = INSERT_FROM_CLUB_SQL + "ON CONFLICT (club_id) DO NOTHING", nativeQuery = true)
+    int insertMissingFromClubs(@Param("memberWeight") double memberWeight,
+                               @Param("favoriteWeight") double favoriteWeight,
+                               @Param("viewWeight") double viewWeight);
+}
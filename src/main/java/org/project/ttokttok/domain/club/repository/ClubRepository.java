@@ -1,6 +1,7 @@
 package org.project.ttokttok.domain.club.repository;
 
 import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,8 +15,29 @@ public interface ClubRepository extends JpaRepository<Club, String>, ClubCustomR
 
     Optional<Club> findByName(String clubName);
 
-    // 조회수 원자적 증가 (동시 상세 조회 시 read-modify-write 경쟁으로 인한 조회수 유실 방지)
+    // 동아리 상세 버전 (조건부 GET 용). 존재하지 않는 동아리는 빈 값
+    @Query("SELECT new org.project.ttokttok.domain.club.repository.dto.ClubDetailVersion(" +
+            "c.updatedAt, c.memberCount, COUNT(af), MAX(af.updatedAt)) " +
+            "FROM Club c LEFT JOIN ApplyForm af ON af.club = c " +
+            "WHERE c.id = :clubId GROUP BY c.id, c.updatedAt, c.memberCount")
+    Optional<ClubDetailVersion> findDetailVersion(@Param("clubId") String clubId);
+
+    // 멤버 수 증감 (추가: 양수, 삭제: 음수)
+    @Modifying
+    @Query("UPDATE Club c SET c.memberCount = c.memberCount + :delta WHERE c.id = :clubId")
+    int addMemberCount(@Param("clubId") String clubId, @Param("delta") long delta);
+
+    // 즐겨찾기 수 증감 (추가: 양수, 해제: 음수)
+    @Modifying
+    @Query("UPDATE Club c SET c.favoriteCount = c.favoriteCount + :delta WHERE c.id = :clubId")
+    int addFavoriteCount(@Param("clubId") String clubId, @Param("delta") long delta);
+
+    // 원본 테이블 기준으로 카운터 컬럼 재동기화 (정합성 보정용)
     @Modifying
-    @Query("UPDATE Club c SET c.viewCount = c.viewCount + 1 WHERE c.id = :clubId")
-    int increaseViewCount(@Param("clubId") String clubId);
+    @Query(value = """
+            UPDATE clubs c
+            SET member_count   = (SELECT COUNT(*) FROM club_members m WHERE m.club_id = c.id),
+                favorite_count = (SELECT COUNT(*) FROM user_favorites f WHERE f.club_id = c.id)
+            """, nativeQuery = true)
+    int syncCountersFromSource();
 }
@@ -0,0 +1,63 @@
+package org.project.ttokttok.domain.club.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버퍼링된 동아리 조회수 증가분을 JDBC 배치 UPDATE 로 반영하는 리포지토리
+ *
+ * <p>ID 오름차순으로 갱신해 여러 인스턴스가 동시에 flush 해도 행 락 획득 순서가 같아 교착이 생기지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubViewCountJdbcRepository {
+
+    private static final String INCREASE_CLUB_VIEW_COUNT_SQL =
+            "UPDATE clubs SET view_count = view_count + ? WHERE id = ?";
+
+    private static final String INCREASE_STATS_SCORE_SQL =
+            "UPDATE club_popularity_stats SET score = score + ? WHERE club_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void increaseClubViewCounts(Map<String, Long> deltas) {
+        List<Object[]> args = sortedById(deltas).stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(INCREASE_CLUB_VIEW_COUNT_SQL, args);
+    }
+
+    /**
+     * 조회수 증가분만큼 인기도 점수를 올린다. (조회수 카운터는 clubs.view_count 에만 있다)
+     *
+     * @return 점수 행이 없어 갱신되지 않은 동아리 ID 목록
+     */
+    public List<String> increaseStatsScores(Map<String, Long> deltas, double viewWeight) {
+        List<Map.Entry<String, Long>> entries = sortedById(deltas);
+        List<Object[]> args = entries.stream()
+                .map(entry -> new Object[]{entry.getValue() * viewWeight, entry.getKey()})
+                .toList();
+
+        int[] updatedRows = jdbcTemplate.batchUpdate(INCREASE_STATS_SCORE_SQL, args);
+
+        List<String> missingClubIds = new ArrayList<>();
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == 0) {
+                missingClubIds.add(entries.get(i).getKey());
+            }
+        }
+        return missingClubIds;
+    }
+
+    private List<Map.Entry<String, Long>> sortedById(Map<String, Long> deltas) {
+        return deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+    }
+}
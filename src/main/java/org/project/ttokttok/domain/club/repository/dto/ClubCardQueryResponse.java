@@ -16,6 +16,15 @@ public record ClubCardQueryResponse(
         int clubMemberCount,
         boolean recruiting,
         boolean bookmarked,
-        LocalDate applyDeadLine  // applyDeadLine -> applyEndDate로 변경
+        LocalDate applyDeadLine,  // applyDeadLine -> applyEndDate로 변경
+        double sortScore          // 인기도 점수 (관련도순 검색에서는 관련도 점수), 커서(ClubCursor) 생성용
 ) {
+
+    // 캐싱된 비로그인 결과에 사용자별 즐겨찾기 여부를 덮어씌울 때 사용
+    public ClubCardQueryResponse withBookmarked(boolean bookmarked) {
+        return new ClubCardQueryResponse(
+                id, name, clubType, clubCategory, customCategory, summary, profileImageUrl,
+                clubMemberCount, recruiting, bookmarked, applyDeadLine, sortScore
+        );
+    }
 }
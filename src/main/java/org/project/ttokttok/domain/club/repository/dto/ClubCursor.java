@@ -0,0 +1,79 @@
+package org.project.ttokttok.domain.club.repository.dto;
+
+import org.project.ttokttok.domain.club.domain.enums.ClubSortType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 동아리 목록 무한스크롤 커서 (keyset 페이지네이션)
+ *
+ * <p>ORDER BY 가 (정렬 키 DESC, id DESC) 이므로 커서도 마지막 행의 (정렬 키, id) 쌍을 담아야
+ * 깊은 페이지에서도 행이 빠지거나 중복되지 않고, 매 페이지가 인덱스 범위 스캔 한 번으로 끝난다.
+ * <ul>
+ *   <li>{@link ClubSortType#LATEST} — 정렬 키가 id 자체이므로 기존처럼 id 문자열을 그대로 쓴다.</li>
+ *   <li>{@link ClubSortType#POPULAR}, {@link ClubSortType#MEMBER_COUNT}, {@link ClubSortType#RELEVANCE}
+ *   — "정렬 키|id" 를 Base64URL 로 인코딩한다.</li>
+ * </ul>
+ * 디코딩할 수 없는 값(배포 전에 발급된 id 커서 등)은 id 만 있는 커서로 취급해 기존 동작을 유지한다.
+ *
+ * @param sortKey 정렬 키 (LATEST 이거나 레거시 커서면 null)
+ * @param id      마지막 행의 동아리 ID
+ */
+public record ClubCursor(
+        String sortKey,
+        String id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static ClubCursor of(ClubSortType sortType, ClubCardQueryResponse last) {
+        return switch (sortType) {
+            case POPULAR, RELEVANCE -> new ClubCursor(Double.toString(last.sortScore()), last.id());
+            case MEMBER_COUNT -> new ClubCursor(Integer.toString(last.clubMemberCount()), last.id());
+            case LATEST -> new ClubCursor(null, last.id());
+        };
+    }
+
+    public static ClubCursor decode(ClubSortType sortType, String cursor) {
+        if (sortType == ClubSortType.LATEST) {
+            return new ClubCursor(null, cursor);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.indexOf(DELIMITER);
+            if (delimiterIndex <= 0) {
+                return new ClubCursor(null, cursor);
+            }
+
+            String sortKey = decoded.substring(0, delimiterIndex);
+            Double.parseDouble(sortKey); // 숫자가 아니면 레거시 커서로 취급
+            return new ClubCursor(sortKey, decoded.substring(delimiterIndex + 1));
+        } catch (IllegalArgumentException e) {
+            return new ClubCursor(null, cursor);
+        }
+    }
+
+    public String encode() {
+        if (sortKey == null) {
+            return id;
+        }
+
+        String raw = sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean hasSortKey() {
+        return sortKey != null;
+    }
+
+    public double doubleKey() {
+        return Double.parseDouble(sortKey);
+    }
+
+    // 다른 정렬에서 발급된 소수 키가 들어와도 예외 없이 처리되도록 double 로 파싱한다.
+    public long longKey() {
+        return (long) Double.parseDouble(sortKey);
+    }
+}
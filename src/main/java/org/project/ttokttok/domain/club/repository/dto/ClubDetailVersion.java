@@ -0,0 +1,20 @@
+package org.project.ttokttok.domain.club.repository.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동아리 상세(소개) 응답의 버전. 상세 본문을 읽지 않고 조건부 GET 을 판정하는 데 쓴다.
+ * 동아리 행과 지원폼들의 수정 시각, 부원 수(벌크 UPDATE 라 updatedAt 이 바뀌지 않음)가 같으면 본문도 같다고 본다.
+ *
+ * @param clubUpdatedAt       동아리의 updatedAt
+ * @param memberCount         동아리 부원 수
+ * @param applyFormCount      동아리 지원폼 수 (삭제 감지용)
+ * @param applyFormsUpdatedAt 지원폼들의 최대 updatedAt (지원폼이 없으면 null)
+ */
+public record ClubDetailVersion(
+        LocalDateTime clubUpdatedAt,
+        Long memberCount,
+        Long applyFormCount,
+        LocalDateTime applyFormsUpdatedAt
+) {
+}
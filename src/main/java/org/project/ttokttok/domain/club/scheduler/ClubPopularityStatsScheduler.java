@@ -0,0 +1,27 @@
+package org.project.ttokttok.domain.club.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.club.service.ClubPopularityStatsService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubPopularityStatsScheduler {
+
+    private final ClubPopularityStatsService clubPopularityStatsService;
+
+    // 증분 갱신 경로 밖의 변경(운영 DB 직접 수정, cascade 삭제 등)으로 생긴 오차를 새벽에 보정한다.
+    @Scheduled(cron = "0 30 4 * * *")
+    public void rebuildPopularityStats() {
+        log.info("동아리 인기도 집계 재생성 스케줄러 시작");
+
+        try {
+            clubPopularityStatsService.rebuildAll();
+        } catch (Exception e) {
+            log.error("동아리 인기도 집계 재생성 중 오류 발생", e);
+        }
+    }
+}
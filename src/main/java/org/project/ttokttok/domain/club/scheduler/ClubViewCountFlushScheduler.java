@@ -0,0 +1,42 @@
+package org.project.ttokttok.domain.club.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.club.service.ClubViewCountService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubViewCountFlushScheduler {
+
+    private final ClubViewCountService clubViewCountService;
+
+    // 버퍼링된 조회수를 주기적으로 DB 에 반영한다. 장애 시 유실 범위는 한 주기 분량이다.
+    @Scheduled(fixedDelayString = "${view-count.flush-delay-ms:5000}")
+    public void flushViewCounts() {
+        Map<String, Long> deltas = clubViewCountService.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            clubViewCountService.flush(deltas);
+            log.debug("동아리 조회수 반영 완료: {}개 동아리", deltas.size());
+        } catch (Exception e) {
+            // 커밋 실패까지 포함해 되돌리기 위해 트랜잭션 밖(스케줄러)에서 복구한다.
+            clubViewCountService.restore(deltas);
+            log.error("동아리 조회수 반영 중 오류 발생, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    // 정상 종료 시 남은 증가분을 반영한다.
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
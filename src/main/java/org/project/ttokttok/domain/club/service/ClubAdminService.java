@@ -15,18 +15,23 @@ import org.project.ttokttok.domain.applyform.domain.enums.ApplicableGrade;
 import org.project.ttokttok.domain.applyform.exception.ApplyFormNotFoundException;
 import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
 import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
 import org.project.ttokttok.domain.club.exception.ClubNotFoundException;
 import org.project.ttokttok.domain.club.exception.FileIsNotImageException;
 import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
 import org.project.ttokttok.domain.club.service.dto.request.ClubContentUpdateServiceRequest;
 import org.project.ttokttok.domain.club.service.dto.request.MarkdownImageUpdateRequest;
+import org.project.ttokttok.domain.club.service.dto.request.PresignedImageUploadServiceRequest;
 import org.project.ttokttok.domain.club.service.dto.response.ClubDetailAdminServiceResponse;
 import org.project.ttokttok.domain.notification.fcm.repository.FCMTokenRepository;
 import org.project.ttokttok.infrastructure.firebase.service.FCMService;
 import org.project.ttokttok.infrastructure.firebase.service.dto.FCMRequest;
+import org.project.ttokttok.infrastructure.s3.service.S3PresignedUploadService;
 import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.project.ttokttok.infrastructure.s3.service.dto.PresignedUpload;
 import org.project.ttokttok.infrastructure.s3.support.AllowedFileTypes;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -41,8 +46,11 @@ public class ClubAdminService {
     private final FCMTokenRepository fcmTokenRepository;
 
     private final S3Service s3Service;
+    private final S3PresignedUploadService presignedUploadService;
     private final FCMService fcmService;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public void updateContent(String username,
                               String clubId,
@@ -59,6 +67,8 @@ public class ClubAdminService {
             updateFormSafety(request, club);
             club.updateFrom(request.toClubPatchRequest());
         }
+
+        eventPublisher.publishEvent(new ClubListChangedEvent(club.getId()));
     }
 
     @Transactional
@@ -72,6 +82,35 @@ public class ClubAdminService {
         return s3Service.uploadFile(file, INTRODUCTION_IMAGE.getDirectoryName());
     }
 
+    /**
+     * 마크다운 이미지 직접 업로드 URL 발급
+     * 이미지 바이트가 서버를 거치지 않도록 presigned PUT URL 만 내려준다.
+     */
+    public PresignedUpload issueMarkdownImageUpload(String username, PresignedImageUploadServiceRequest request) {
+        validateClubAdmin(username);
+
+        validateImage(request.contentType());
+
+        return presignedUploadService.issueUpload(
+                username,
+                INTRODUCTION_IMAGE.getDirectoryName(),
+                request.fileName(),
+                request.contentType(),
+                request.size(),
+                AllowedFileTypes.IMAGES
+        );
+    }
+
+    /**
+     * 직접 업로드된 마크다운 이미지를 검증하고 이미지 URL 을 반환한다.
+     */
+    public String confirmMarkdownImageUpload(String username, String key) {
+        validateClubAdmin(username);
+
+        return presignedUploadService.confirmUpload(
+                username, INTRODUCTION_IMAGE.getDirectoryName(), key, AllowedFileTypes.IMAGES);
+    }
+
     @Transactional
     public void toggleRecruitment(String username, String clubId) {
         Club club = validateClubAdmin(username);
@@ -98,6 +137,8 @@ public class ClubAdminService {
                 sendRecruitmentNotification(latestForm, club);
             }
         }
+
+        eventPublisher.publishEvent(new ClubListChangedEvent(club.getId()));
     }
 
     public ClubDetailAdminServiceResponse getClubContent(String clubId) {
@@ -0,0 +1,76 @@
+package org.project.ttokttok.domain.club.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailQueryResponse;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 동아리 상세(소개) 조회 결과의 로컬(Caffeine) 캐시
+ *
+ * <p>상세 조회 결과는 사용자와 무관하므로(즐겨찾기 여부는 {@code ClubUserService} 에서 표시) 동아리 ID 별로 공유한다.
+ * 소개/모집 상태/지원폼/멤버 변경은 {@link ClubListChangedEvent} 로 커밋 후 해당 동아리만 무효화한다.
+ *
+ * <p>항목은 적재할 때의 {@link ClubDetailVersion} 과 함께 저장하고, 요청의 버전과 다르면 다시 조회한다.
+ * 다른 인스턴스에서 발생한 변경도 버전으로 감지되므로, 새 버전의 ETag 에 옛 본문이 실려 나가지 않는다.
+ */
+@Slf4j
+@Service
+public class ClubDetailCacheService {
+
+    private final Cache<String, VersionedDetail> localCache;
+
+    public ClubDetailCacheService(@Value("${club.cache.detail-ttl-seconds:30}") long ttlSeconds,
+                                  @Value("${club.cache.detail-max-size:1000}") long maxSize) {
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 캐시에 없거나 저장된 버전이 요청 버전과 다르면 loader 로 조회해 저장한다. 존재하지 않는 동아리(null)는 캐싱하지 않는다.
+     *
+     * @param clubId  동아리 ID
+     * @param version 요청 시점의 동아리 상세 버전
+     * @param loader  캐시 미스 시 DB 조회
+     * @return 동아리 상세 정보, 없으면 null
+     */
+    public ClubDetailQueryResponse get(String clubId, ClubDetailVersion version, Supplier<ClubDetailQueryResponse> loader) {
+        VersionedDetail cached = localCache.getIfPresent(clubId);
+        if (cached != null && cached.version().equals(version)) {
+            return cached.detail();
+        }
+
+        VersionedDetail loaded = localCache.asMap().compute(clubId, (key, current) ->
+                current != null && current.version().equals(version) ? current : load(version, loader));
+        return loaded == null ? null : loaded.detail();
+    }
+
+    // 커밋된 변경만 반영되도록 커밋 이후에 무효화한다. (트랜잭션 밖 호출은 즉시 무효화)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(ClubListChangedEvent event) {
+        localCache.invalidate(event.clubId());
+        log.debug("동아리 상세 캐시 무효화: clubId={}", event.clubId());
+    }
+
+    private VersionedDetail load(ClubDetailVersion version, Supplier<ClubDetailQueryResponse> loader) {
+        ClubDetailQueryResponse detail = loader.get();
+        return detail == null ? null : new VersionedDetail(version, detail);
+    }
+
+    private record VersionedDetail(
+            ClubDetailVersion version,
+            ClubDetailQueryResponse detail
+    ) {
+    }
+}
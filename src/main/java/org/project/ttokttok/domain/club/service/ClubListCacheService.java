@@ -0,0 +1,130 @@
+package org.project.ttokttok.domain.club.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.applyform.domain.enums.ApplicableGrade;
+import org.project.ttokttok.domain.club.domain.enums.ClubCategory;
+import org.project.ttokttok.domain.club.domain.enums.ClubSortType;
+import org.project.ttokttok.domain.club.domain.enums.ClubType;
+import org.project.ttokttok.domain.club.domain.enums.ClubUniv;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
+import org.project.ttokttok.domain.club.repository.dto.ClubCardQueryResponse;
+import org.project.ttokttok.infrastructure.redis.service.ClubListRedisCacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 비로그인 동아리 목록/인기 동아리 조회 결과의 2단계 캐시 (L1: Caffeine, L2: Redis)
+ *
+ * <p>목록 쿼리는 즐겨찾기 조인 없이 사용자와 무관한 결과를 반환하므로 모든 사용자가 같은 캐시를 공유하고,
+ * 로그인 사용자는 캐시 결과에 즐겨찾기 여부만 덮어씌운다. ({@code FavoriteClubIdsService})
+ * 동아리 소개/모집 상태/멤버 변경은 {@link ClubListChangedEvent} 로 커밋 후 무효화하고,
+ * 인기 점수처럼 자주 바뀌는 값은 짧은 TTL 로 갱신한다.
+ *
+ * <p>L1 은 인스턴스 로컬이라 다른 인스턴스에서 발생한 무효화는 L1 TTL 만큼 늦게 반영된다.
+ */
+@Slf4j
+@Service
+public class ClubListCacheService {
+
+    private static final TypeReference<List<ClubCardQueryResponse>> CLUB_CARDS_TYPE = new TypeReference<>() {
+    };
+
+    private final ClubListRedisCacheService redisCacheService;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<String, List<ClubCardQueryResponse>> localCache;
+
+    public ClubListCacheService(ClubListRedisCacheService redisCacheService,
+                                ObjectMapper objectMapper,
+                                @Value("${club.cache.local-ttl-seconds:5}") long localTtlSeconds,
+                                @Value("${club.cache.redis-ttl-seconds:30}") long redisTtlSeconds,
+                                @Value("${club.cache.local-max-size:1000}") long localMaxSize) {
+        this.redisCacheService = redisCacheService;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .maximumSize(localMaxSize)
+                .build();
+    }
+
+    /**
+     * L1 -> L2 -> loader 순으로 조회하고, 상위 단계에 결과를 채운다.
+     *
+     * @param key    캐시 키 ({@link #listKey}, {@link #popularKey}, {@link #allPopularKey})
+     * @param loader 캐시 미스 시 DB 조회
+     * @return 비로그인 기준 동아리 카드 목록
+     */
+    public List<ClubCardQueryResponse> get(String key, Supplier<List<ClubCardQueryResponse>> loader) {
+        return localCache.get(key, k -> readRedis(k).orElseGet(() -> {
+            List<ClubCardQueryResponse> loaded = List.copyOf(loader.get());
+            writeRedis(k, loaded);
+            return loaded;
+        }));
+    }
+
+    // 커밋된 변경만 반영되도록 커밋 이후에 무효화한다. (트랜잭션 밖 호출은 즉시 무효화)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evictAll(ClubListChangedEvent event) {
+        localCache.invalidateAll();
+        redisCacheService.evictAll();
+        log.debug("동아리 목록 캐시 무효화: clubId={}", event.clubId());
+    }
+
+    public static String listKey(ClubCategory category, ClubType type, ClubUniv clubUniv, Boolean recruiting,
+                                 List<ApplicableGrade> grades, String sort, String cursor, int size) {
+        String gradeKey = grades == null ? "" : grades.stream()
+                .map(Enum::name)
+                .sorted()
+                .distinct()
+                .collect(Collectors.joining(","));
+
+        return String.join(":", "list", String.valueOf(category), String.valueOf(type),
+                String.valueOf(clubUniv), String.valueOf(recruiting), gradeKey,
+                ClubSortType.forList(sort).getKey(), String.valueOf(cursor), String.valueOf(size));
+    }
+
+    public static String popularKey(String sort, String cursor, int size, double minScore) {
+        return String.join(":", "popular", ClubSortType.forList(sort).getKey(),
+                String.valueOf(cursor), String.valueOf(size), String.valueOf(minScore));
+    }
+
+    public static String allPopularKey(double minScore) {
+        return String.join(":", "popular-all", String.valueOf(minScore));
+    }
+
+    private Optional<List<ClubCardQueryResponse>> readRedis(String key) {
+        Optional<String> json = redisCacheService.get(key);
+        if (json.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(json.get(), CLUB_CARDS_TYPE));
+        } catch (JsonProcessingException e) {
+            log.warn("동아리 목록 캐시 역직렬화 실패, DB 에서 조회합니다. key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeRedis(String key, List<ClubCardQueryResponse> value) {
+        try {
+            redisCacheService.put(key, objectMapper.writeValueAsString(value), redisTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("동아리 목록 캐시 직렬화 실패. key={}", key, e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.project.ttokttok.domain.club.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.club.domain.ClubPopularityStats;
+import org.project.ttokttok.domain.club.repository.ClubPopularityStatsRepository;
+import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.club.repository.ClubViewCountJdbcRepository;
+import org.project.ttokttok.global.config.ClubPopularityConfig;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 동아리 인기도 점수(club_popularity_stats) 갱신 서비스
+ * 멤버/즐겨찾기/조회수를 변경하는 서비스가 같은 트랜잭션 안에서 호출해 카운터와 점수를 함께 증분 갱신합니다.
+ * 카운터는 clubs(member_count, favorite_count, view_count) 에만 있고, 점수는 그 카운터로 계산한 파생값입니다.
+ * 점수 가중치는 {@link ClubPopularityConfig} 를 따릅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClubPopularityStatsService {
+
+    private final ClubPopularityStatsRepository statsRepository;
+    private final ClubRepository clubRepository;
+    private final ClubViewCountJdbcRepository viewCountJdbcRepository;
+    private final ClubPopularityConfig popularityConfig;
+
+    /**
+     * 신규 동아리의 빈 점수 행 생성
+     *
+     * @param clubId 동아리 ID
+     */
+    @Transactional
+    public void initialize(String clubId) {
+        statsRepository.save(ClubPopularityStats.createEmpty(clubId));
+    }
+
+    /**
+     * 멤버 수 증감 (추가: 양수, 삭제: 음수)
+     *
+     * @param clubId 동아리 ID
+     * @param delta  증감량
+     */
+    @Transactional
+    public void addMemberCount(String clubId, long delta) {
+        clubRepository.addMemberCount(clubId, delta);
+
+        double scoreDelta = delta * popularityConfig.getWeight().getMembers();
+        fillIfMissing(clubId, statsRepository.addScore(clubId, scoreDelta));
+    }
+
+    /**
+     * 즐겨찾기 수 증감 (추가: 양수, 해제: 음수)
+     *
+     * @param clubId 동아리 ID
+     * @param delta  증감량
+     */
+    @Transactional
+    public void addFavoriteCount(String clubId, long delta) {
+        clubRepository.addFavoriteCount(clubId, delta);
+
+        double scoreDelta = delta * popularityConfig.getWeight().getFavorites();
+        fillIfMissing(clubId, statsRepository.addScore(clubId, scoreDelta));
+    }
+
+    /**
+     * 버퍼링된 조회수 증가분의 점수 반영
+     * {@link ClubViewCountService} 의 flush 에서 clubs.view_count 를 올린 뒤 같은 트랜잭션에서 호출됩니다.
+     *
+     * @param deltas 동아리 ID별 조회수 증가량
+     */
+    @Transactional
+    public void addViewCounts(Map<String, Long> deltas) {
+        double viewWeight = popularityConfig.getWeight().getViews();
+
+        viewCountJdbcRepository.increaseStatsScores(deltas, viewWeight)
+                .forEach(this::insertFromClub);
+    }
+
+    /**
+     * clubs 카운터로 점수만 다시 계산
+     * 가중치 설정 변경이 재기동 후 바로 반영되도록 애플리케이션 시작 시 실행합니다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void recalculateScores() {
+        ClubPopularityConfig.Weight weight = popularityConfig.getWeight();
+        int updated = statsRepository.recalculateScores(
+                weight.getMembers(), weight.getFavorites(), weight.getViews());
+
+        log.info("동아리 인기도 점수 재계산 완료: {}개", updated);
+    }
+
+    /**
+     * 원본 테이블에서 카운터 컬럼을 재동기화하고 점수를 다시 계산 (누적 오차 보정용)
+     * 행을 지우고 다시 넣지 않고 제자리에서 갱신하므로, 진행 중인 증분 갱신이 빈 테이블을 만나 행을 새로 넣다
+     * PK 가 충돌하는 일이 없습니다.
+     */
+    @Transactional
+    public void rebuildAll() {
+        ClubPopularityConfig.Weight weight = popularityConfig.getWeight();
+
+        clubRepository.syncCountersFromSource();
+        int updated = statsRepository.recalculateScores(
+                weight.getMembers(), weight.getFavorites(), weight.getViews());
+        int inserted = statsRepository.insertMissingFromClubs(
+                weight.getMembers(), weight.getFavorites(), weight.getViews());
+
+        log.info("동아리 인기도 집계 재계산 완료: 갱신 {}개, 추가 {}개", updated, inserted);
+    }
+
+    // 점수 행이 없는 동아리(마이그레이션 이후 누락 등)는 clubs 카운터로 계산해 채운다.
+    private void fillIfMissing(String clubId, int updatedRows) {
+        if (updatedRows == 0) {
+            insertFromClub(clubId);
+        }
+    }
+
+    // 같은 트랜잭션이라 방금 올린 카운터도 점수 계산에 포함된다.
+    private void insertFromClub(String clubId) {
+        ClubPopularityConfig.Weight weight = popularityConfig.getWeight();
+        statsRepository.insertFromClub(clubId, weight.getMembers(), weight.getFavorites(), weight.getViews());
+    }
+}
@@ -4,15 +4,19 @@ import lombok.RequiredArgsConstructor;
 import org.project.ttokttok.domain.applyform.domain.ApplyDeadlinePolicy;
 import org.project.ttokttok.domain.applyform.domain.enums.ApplicableGrade;
 import org.project.ttokttok.domain.club.domain.enums.ClubCategory;
+import org.project.ttokttok.domain.club.domain.enums.ClubSortType;
 import org.project.ttokttok.domain.club.domain.enums.ClubType;
 import org.project.ttokttok.domain.club.domain.enums.ClubUniv;
 import org.project.ttokttok.domain.club.exception.ClubNotFoundException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
 import org.project.ttokttok.domain.club.repository.dto.ClubCardQueryResponse;
+import org.project.ttokttok.domain.club.repository.dto.ClubCursor;
 import org.project.ttokttok.domain.club.repository.dto.ClubDetailQueryResponse;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailVersion;
 import org.project.ttokttok.domain.club.service.dto.response.ClubCardServiceResponse;
 import org.project.ttokttok.domain.club.service.dto.response.ClubDetailServiceResponse;
 import org.project.ttokttok.domain.club.service.dto.response.ClubListServiceResponse;
+import org.project.ttokttok.domain.favorite.service.FavoriteClubIdsService;
 import org.project.ttokttok.global.config.ClubPopularityConfig;
 import org.project.ttokttok.infrastructure.s3.service.S3Service;
 import org.springframework.security.core.Authentication;
@@ -21,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * 동아리 서비스 클래스
@@ -33,33 +38,70 @@ public class ClubUserService {
     // 소개글 조회
     private final ClubRepository clubRepository;
     private final S3Service s3Service;
+    private final ClubViewCountService clubViewCountService;
 
     // 동아리 인기글 조회
     private final ClubPopularityConfig popularityConfig;
 
+    // 비로그인 목록/상세 캐시 + 즐겨찾기 여부 덮어쓰기
+    private final ClubListCacheService clubListCacheService;
+    private final ClubDetailCacheService clubDetailCacheService;
+    private final FavoriteClubIdsService favoriteClubIdsService;
+
+    /**
+     * 동아리 상세 정보 버전 조회
+     * 상세 본문을 읽기 전에 조건부 GET(If-None-Match) 을 판정하기 위한 값싼 조회입니다.
+     *
+     * @param clubId 동아리 ID
+     * @return 동아리 상세 버전
+     * @throws ClubNotFoundException 동아리를 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public ClubDetailVersion getClubIntroductionVersion(String clubId) {
+        return clubRepository.findDetailVersion(clubId)
+                .orElseThrow(ClubNotFoundException::new);
+    }
+
+    /**
+     * 사용자의 동아리 즐겨찾기 여부 (상세 응답의 ETag 구성용)
+     */
+    public boolean isBookmarked(String username, String clubId) {
+        return favoriteClubIdsService.getFavoriteClubIds(username).contains(clubId);
+    }
+
+    /**
+     * 상세 본문 없이 조회수만 기록합니다. (조건부 GET 이 304 로 끝난 조회)
+     */
+    public void increaseViewCount(String clubId) {
+        clubViewCountService.increase(clubId);
+    }
+
     /**
      * 동아리 상세 정보 조회
      * 특정 동아리의 상세 정보를 조회합니다.
      * 
      * @param username 사용자 이메일
      * @param clubId 동아리 ID
+     * @param version {@link #getClubIntroductionVersion} 로 조회한 버전 (캐시된 본문이 이 버전일 때만 재사용)
      * @return 동아리 상세 정보
      * @throws ClubNotFoundException 동아리를 찾을 수 없는 경우
      */
-    @Transactional
-    public ClubDetailServiceResponse getClubIntroduction(String username, String clubId) {
-        // 상세 조회를 먼저 하고 조회수 증가를 마지막에 둔다.
-        // PostgreSQL 은 UPDATE 가 잡은 행 배타 락을 문장 종료가 아니라 커밋까지 유지한다.
-        // 증가를 앞에 두면 뒤따르는 상세 조회 쿼리가 모두 락 구간에 들어가 처리량이 절반이 된다
-        // (실측: RPS 601 -> 327). 부수적으로, 존재하지 않는 동아리 판정을 조회 결과로 직접 할 수 있다.
-        ClubDetailQueryResponse detail = clubRepository.getClubIntroduction(clubId, username);
+    @Transactional(readOnly = true)
+    public ClubDetailServiceResponse getClubIntroduction(String username, String clubId, ClubDetailVersion version) {
+        // PostgreSQL 은 UPDATE 가 잡은 행 배타 락을 커밋까지 유지해, 조회 트랜잭션 안의 조회수 UPDATE 가
+        // 처리량을 절반으로 떨어뜨렸다 (실측: RPS 601 -> 327).
+        // 증가분은 메모리 버퍼에만 기록하고 ClubViewCountFlushScheduler 가 배치 UPDATE 로 반영하므로
+        // 상세 조회는 락 없는 읽기 전용 트랜잭션이 된다. 존재하지 않는 동아리는 버퍼에 기록하지 않는다.
+        // 상세 정보는 사용자와 무관하므로 동아리별로 캐싱하고, 즐겨찾기 여부만 요청마다 계산한다.
+        ClubDetailQueryResponse detail = clubDetailCacheService.get(clubId, version,
+                () -> clubRepository.getClubIntroduction(clubId));
         if (detail == null) {
             throw new ClubNotFoundException();
         }
 
-        clubRepository.increaseViewCount(clubId);
+        clubViewCountService.increase(clubId);
 
-        return ClubDetailServiceResponse.from(detail);
+        return ClubDetailServiceResponse.from(detail, isBookmarked(username, clubId));
     }
 
     /**
@@ -86,8 +128,12 @@ public class ClubUserService {
             String sort,
             String userEmail) {
 
-        List<ClubCardQueryResponse> results = clubRepository.getClubList(
-                category, type, clubUniv, recruiting, grades, size, cursor, sort, userEmail
+        String cacheKey = ClubListCacheService.listKey(category, type, clubUniv, recruiting, grades, sort, cursor, size);
+        List<ClubCardQueryResponse> results = withBookmarks(
+                clubListCacheService.get(cacheKey, () -> clubRepository.getClubList(
+                        category, type, clubUniv, recruiting, grades, size, cursor, sort
+                )),
+                userEmail
         );
 
         // hasNext 확인을 위해 size+1로 조회했으므로
@@ -97,10 +143,7 @@ public class ClubUserService {
         }
 
         // 다음 커서 생성
-        String nextCursor = null;
-        if (hasNext && !results.isEmpty()) {
-            nextCursor = results.get(results.size() - 1).id();
-        }
+        String nextCursor = nextCursor(results, hasNext, ClubSortType.forList(sort));
 
         List<ClubCardServiceResponse> clubs = results.stream()
                 .map(this::toServiceResponse)
@@ -109,6 +152,41 @@ public class ClubUserService {
         return new ClubListServiceResponse(clubs, clubs.size(), 0L, hasNext, nextCursor);
     }
 
+    /**
+     * 사용자와 무관한 조회 결과(캐시 포함)에 사용자의 즐겨찾기 여부를 덮어씌움
+     *
+     * @param results 비로그인 기준 조회 결과
+     * @param userEmail 사용자 이메일 (비로그인이면 null)
+     * @return 즐겨찾기 여부가 반영된 결과
+     * */
+    private List<ClubCardQueryResponse> withBookmarks(List<ClubCardQueryResponse> results, String userEmail) {
+        if (userEmail == null || results.isEmpty()) {
+            return results;
+        }
+
+        Set<String> favoriteClubIds = favoriteClubIdsService.getFavoriteClubIds(userEmail);
+
+        return results.stream()
+                .map(result -> result.withBookmarked(favoriteClubIds.contains(result.id())))
+                .toList();
+    }
+
+    /**
+     * 마지막 행의 (정렬 키, id) 로 다음 페이지 커서 생성
+     *
+     * @param results 현재 페이지 결과 (size 만큼 잘린 상태)
+     * @param hasNext 다음 페이지 존재 여부
+     * @param sortType 정렬 기준
+     * @return 다음 페이지 커서, 없으면 null
+     * */
+    private String nextCursor(List<ClubCardQueryResponse> results, boolean hasNext, ClubSortType sortType) {
+        if (!hasNext || results.isEmpty()) {
+            return null;
+        }
+
+        return ClubCursor.of(sortType, results.get(results.size() - 1)).encode();
+    }
+
     /**
      * ClubCardQueryResponse 를 ClubCardServiceResponse 로 변환
      *
@@ -141,8 +219,11 @@ public class ClubUserService {
      * */
     public ClubListServiceResponse getAllPopularClubs(String userEmail) {
 
-        List<ClubCardQueryResponse> results = clubRepository.getAllPopularClubs(
-                userEmail, popularityConfig.getMinScore()
+        double minScore = popularityConfig.getMinScore();
+        List<ClubCardQueryResponse> results = withBookmarks(
+                clubListCacheService.get(ClubListCacheService.allPopularKey(minScore),
+                        () -> clubRepository.getAllPopularClubs(minScore)),
+                userEmail
         );
 
         List<ClubCardServiceResponse> clubs = results.stream()
@@ -169,8 +250,11 @@ public class ClubUserService {
             String userEmail) {
 
         // 새로운 복합 인기도 기준 메서드 적용
-        List<ClubCardQueryResponse> results = clubRepository.getPopularClubsWithFilters(
-                size, cursor, sort, userEmail, popularityConfig.getMinScore()
+        double minScore = popularityConfig.getMinScore();
+        List<ClubCardQueryResponse> results = withBookmarks(
+                clubListCacheService.get(ClubListCacheService.popularKey(sort, cursor, size, minScore),
+                        () -> clubRepository.getPopularClubsWithFilters(size, cursor, sort, minScore)),
+                userEmail
         );
 
         // hasNext 확인을 위해 size+1로 조회했으므로
@@ -180,10 +264,7 @@ public class ClubUserService {
         }
 
         // 다음 커서 생성
-        String nextCursor = null;
-        if (hasNext && !results.isEmpty()) {
-            nextCursor = results.get(results.size() - 1).id();
-        }
+        String nextCursor = nextCursor(results, hasNext, ClubSortType.forList(sort));
 
         List<ClubCardServiceResponse> clubs = results.stream()
                 .map(this::toServiceResponse)
@@ -196,20 +277,26 @@ public class ClubUserService {
      * 동아리 검색 서비스 로직
      *
      * @param keyword 검색어
-     * @param sort 정렬 기준 (latest, member, popular)
+     * @param sort 정렬 기준 (latest, member_count, popular, relevance)
      * @param cursor 커서 기반 페이징용 기준 값
      * @param size 한 페이지당 개수
      */
     public ClubListServiceResponse searchClubs(String keyword, String sort, String cursor, int size, String userEmail) {
 
-        // 1. 전체 카운트 조회
-        long totalCount = clubRepository.countByKeyword(keyword);
-
-        // 2. 실제 데이터 조회 (무한 스크롤)
-        List<ClubCardQueryResponse> queryResults = clubRepository.searchByKeyword(keyword, size, cursor, sort, userEmail);
+        // 1. 실제 데이터 조회 (무한 스크롤)
+        List<ClubCardQueryResponse> queryResults = withBookmarks(
+                clubRepository.searchByKeyword(keyword, size, cursor, sort),
+                userEmail
+        );
 
-        // 3. hasNext 계산
+        // 2. hasNext 계산
         boolean hasNext = queryResults.size() > size;
+
+        // 3. 전체 카운트 조회 (첫 페이지에 결과가 모두 담기면 개수를 그대로 쓰고 COUNT 쿼리를 생략)
+        long totalCount = (cursor == null && !hasNext)
+                ? queryResults.size()
+                : clubRepository.countByKeyword(keyword);
+
         if (hasNext) {
             queryResults = queryResults.subList(0, size); // Remove extra item
         }
@@ -220,10 +307,7 @@ public class ClubUserService {
                 .toList();
 
         // 5. 다음 커서 생성
-        String nextCursor = null;
-        if (hasNext && !results.isEmpty()) {
-            nextCursor = results.get(results.size() - 1).id();
-        }
+        String nextCursor = nextCursor(queryResults, hasNext, ClubSortType.from(sort));
 
         // 6. 최종 응답 생성
         return new ClubListServiceResponse(results, results.size(), totalCount, hasNext, nextCursor);
@@ -0,0 +1,66 @@
+package org.project.ttokttok.domain.club.service;
+
+import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.club.repository.ClubViewCountJdbcRepository;
+import org.project.ttokttok.global.util.counter.ViewCountBuffer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 동아리 조회수 write-behind 서비스
+ * 상세 조회 요청은 메모리 버퍼에만 증가분을 기록하고, 스케줄러가 주기적으로 배치 UPDATE 로 반영합니다.
+ * 상세 조회 트랜잭션이 clubs 행 배타 락을 잡지 않으므로 조회 경로가 읽기 전용이 됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClubViewCountService {
+
+    private final ClubViewCountJdbcRepository viewCountJdbcRepository;
+    private final ClubPopularityStatsService clubPopularityStatsService;
+
+    private final ViewCountBuffer buffer = new ViewCountBuffer();
+
+    /**
+     * 조회수 증가 기록 (DB 반영은 flush 시점)
+     *
+     * @param clubId 동아리 ID
+     */
+    public void increase(String clubId) {
+        buffer.increment(clubId);
+    }
+
+    /**
+     * 반영 대기 중인 증가분을 꺼낸다.
+     *
+     * @return 동아리 ID별 조회수 증가량
+     */
+    public Map<String, Long> drain() {
+        return buffer.drain();
+    }
+
+    /**
+     * 꺼낸 증가분을 clubs.view_count 와 인기도 집계에 한 트랜잭션으로 반영
+     *
+     * @param deltas 동아리 ID별 조회수 증가량
+     */
+    @Transactional
+    public void flush(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        viewCountJdbcRepository.increaseClubViewCounts(deltas);
+        clubPopularityStatsService.addViewCounts(deltas);
+    }
+
+    /**
+     * 반영에 실패한 증가분을 버퍼로 되돌려 다음 flush 에서 재시도한다.
+     *
+     * @param deltas 동아리 ID별 조회수 증가량
+     */
+    public void restore(Map<String, Long> deltas) {
+        buffer.restore(deltas);
+    }
+}
@@ -0,0 +1,8 @@
+package org.project.ttokttok.domain.club.service.dto.request;
+
+public record PresignedImageUploadServiceRequest(
+        String fileName,
+        String contentType,
+        long size
+) {
+}
@@ -31,6 +31,11 @@ public record ClubDetailServiceResponse(
         String content // 동아리 소개 내용
 ) {
     public static ClubDetailServiceResponse from(ClubDetailQueryResponse response) {
+        return from(response, response.bookmarked());
+    }
+
+    // 즐겨찾기 여부는 조회 쿼리가 아닌 사용자별 즐겨찾기 ID 집합에서 채운다.
+    public static ClubDetailServiceResponse from(ClubDetailQueryResponse response, boolean bookmarked) {
         boolean isDeadlineImminent = ApplyDeadlinePolicy.isImminent(response.applyDeadLine());
 
         return ClubDetailServiceResponse.builder()
@@ -38,7 +43,7 @@ public record ClubDetailServiceResponse(
                 .clubType(response.clubType())
                 .clubCategory(response.clubCategory())
                 .customCategory(response.customCategory())
-                .bookmarked(response.bookmarked())
+                .bookmarked(bookmarked)
                 .recruiting(response.recruiting())
                 .isDeadlineImminent(isDeadlineImminent)
                 .summary(response.summary())
@@ -22,6 +22,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -99,9 +100,10 @@ public class ClubMemberApiController implements ClubMemberDocs {
     }
 
     @GetMapping("/{clubId}/download")
-    public ResponseEntity<byte[]> downloadMembersExcel(@AuthUserInfo String username,
-                                                       @PathVariable String clubId) {
+    public ResponseEntity<StreamingResponseBody> downloadMembersExcel(@AuthUserInfo String username,
+                                                                      @PathVariable String clubId) {
 
+        // 권한 검증은 요청 스레드에서 먼저 끝내 실패 시 일반 오류 응답이 나가게 한다.
         ExcelServiceResponse response = clubMemberService.downloadMembersAsExcel(clubId, username);
 
         String fileName = URLEncoder.encode(response.clubName() + "_부원_목록.xlsx", StandardCharsets.UTF_8)
@@ -111,7 +113,8 @@ public class ClubMemberApiController implements ClubMemberDocs {
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
                 .contentType(MediaType.parseMediaType(
                         "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(response.excelData());
+                // 파일 전체를 메모리에 만들지 않고 작성하는 대로 응답 스트림에 쓴다.
+                .body(out -> clubMemberService.writeMembersExcel(response, out));
     }
 
     @GetMapping("/{clubId}/search")
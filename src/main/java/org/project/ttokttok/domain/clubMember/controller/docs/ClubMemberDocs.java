@@ -18,6 +18,7 @@ import org.project.ttokttok.domain.clubMember.controller.enums.ClubRole;
 import org.project.ttokttok.global.annotation.auth.AuthUserInfo;
 import org.project.ttokttok.global.exception.dto.ErrorResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -252,6 +253,7 @@ public interface ClubMemberDocs {
                     - 해당 동아리의 관리자만 다운로드 가능합니다.
                     - 개인정보가 포함되므로 신중하게 관리해야 합니다.
                     - 파일명: "{동아리명}_부원_목록.xlsx"
+                    - 파일은 작성되는 대로 스트리밍 전송되므로 Content-Length 헤더가 없습니다.
                     """
     )
     @ApiResponses(value = {
@@ -284,7 +286,7 @@ public interface ClubMemberDocs {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    ResponseEntity<byte[]> downloadMembersExcel(
+    ResponseEntity<StreamingResponseBody> downloadMembersExcel(
             @Parameter(description = "인증된 관리자 이름", hidden = true)
             String username,
             @Parameter(description = "동아리 ID", required = true, example = "UUID")
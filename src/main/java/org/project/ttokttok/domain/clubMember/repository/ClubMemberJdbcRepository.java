@@ -0,0 +1,49 @@
+package org.project.ttokttok.domain.clubMember.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.clubMember.domain.ClubMember;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 동아리 부원을 JDBC 배치 INSERT 로 일괄 등록하는 리포지토리
+ *
+ * <p>{@code ClubMember} 는 UUID 생성 전략을 쓰므로 {@code saveAll} 이 한 행씩 INSERT 된다.
+ * 합격자 일괄 등록처럼 건수가 많은 경로는 ID 를 애플리케이션에서 만들고 배치로 보낸다.
+ * 인자로 받은 엔티티는 값 전달용으로만 쓰이며 영속화되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubMemberJdbcRepository {
+
+    static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_CLUB_MEMBER_SQL =
+            "INSERT INTO club_members (id, club_id, role, grade, major, member_name, email, phone_number, gender, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<ClubMember> clubMembers) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_CLUB_MEMBER_SQL, clubMembers, BATCH_SIZE, (ps, member) -> {
+            ps.setString(1, UUID.randomUUID().toString());
+            ps.setString(2, member.getClub().getId());
+            ps.setString(3, member.getRole().name());
+            ps.setString(4, member.getGrade().name());
+            ps.setString(5, member.getMajor());
+            ps.setString(6, member.getMemberName());
+            ps.setString(7, member.getEmail());
+            ps.setString(8, member.getPhoneNumber());
+            ps.setString(9, member.getGender().name());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+}
@@ -1,25 +1,47 @@
 package org.project.ttokttok.domain.clubMember.repository;
 
+import jakarta.persistence.QueryHint;
 import org.project.ttokttok.domain.clubMember.domain.ClubMember;
 import org.project.ttokttok.domain.clubMember.domain.MemberRole;
 import org.project.ttokttok.domain.clubMember.service.dto.response.ClubMemberInExcelResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ClubMemberRepository extends JpaRepository<ClubMember, String>, ClubMemberCustomRepository {
     @Query("SELECT cm FROM ClubMember cm WHERE cm.club.id = :clubId AND cm.role = :role")
     Optional<ClubMember> findByClubIdAndRole(String clubId, MemberRole role);
 
+    // 엑셀 다운로드용 커서 조회. 전체 목록을 List 로 올리지 않고 fetch size 단위로 받아온다.
+    // 반환된 Stream 은 트랜잭션 안에서 소비한 뒤 닫아야 한다. (PostgreSQL 은 트랜잭션 안에서만 커서로 읽는다)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
     @Query("SELECT new org.project.ttokttok.domain.clubMember.service.dto.response." +
             "ClubMemberInExcelResponse(cm.grade, cm.memberName, cm.major, cm.role) " +
-           "FROM ClubMember cm WHERE cm.club.id = :clubId")
-    List<ClubMemberInExcelResponse> findByClubId(String clubId);
+            "FROM ClubMember cm WHERE cm.club.id = :clubId")
+    Stream<ClubMemberInExcelResponse> streamByClubId(String clubId);
 
     @Query("SELECT cm FROM ClubMember cm WHERE cm.club.id = :clubId AND cm.memberName LIKE %:keyword%")
     List<ClubMember> findByClubIdAndKeyword(String clubId, String keyword);
 
+    // 관리자가 검증된 동아리의 부원만 조회한다. (다른 동아리 부원 ID 로 수정/삭제하지 못하게)
+    @Query("SELECT cm FROM ClubMember cm WHERE cm.id = :memberId AND cm.club.id = :clubId")
+    Optional<ClubMember> findByIdAndClubId(String memberId, String clubId);
+
     boolean existsByClubIdAndEmail(String clubId, String email);
+
+    // 합격자 부원 등록 시 중복 검사를 한 번에 처리한다. (이미 부원인 이메일만 반환)
+    @Query("SELECT cm.email FROM ClubMember cm WHERE cm.club.id = :clubId AND cm.email IN :emails")
+    Set<String> findEmailsByClubIdAndEmailIn(String clubId, Collection<String> emails);
 }
@@ -2,12 +2,15 @@ package org.project.ttokttok.domain.clubMember.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.project.ttokttok.domain.applicant.domain.enums.Gender;
 import org.project.ttokttok.domain.applicant.domain.enums.Grade;
 import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
 import org.project.ttokttok.domain.club.exception.ClubNotFoundException;
 import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.club.service.ClubPopularityStatsService;
 import org.project.ttokttok.domain.clubMember.domain.ClubMember;
 import org.project.ttokttok.domain.clubMember.domain.MemberRole;
 import org.project.ttokttok.domain.clubMember.exception.AlreadyClubMemberException;
@@ -19,11 +22,15 @@ import org.project.ttokttok.domain.clubMember.repository.dto.ClubMemberPageQuery
 import org.project.ttokttok.domain.clubMember.service.dto.request.*;
 import org.project.ttokttok.domain.clubMember.service.dto.response.*;
 import org.project.ttokttok.global.excel.ExcelService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.project.ttokttok.domain.clubMember.domain.MemberRole.*;
 
@@ -35,6 +42,9 @@ public class ClubMemberService {
     private final ClubMemberRepository clubMemberRepository;
     private final ClubRepository clubRepository;
     private final ExcelService excelService;
+    private final ClubPopularityStatsService clubPopularityStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
 
     // 상명대 이메일 접미사
     private static final String EMAIL_SUFFIX = "@sangmyung.kr";
@@ -54,7 +64,7 @@ public class ClubMemberService {
     public void changeRole(String username, ChangeRoleServiceRequest request) {
         validateClubAndAdmin(request.clubId(), username);
 
-        ClubMember member = findClubMemberById(request.memberId());
+        ClubMember member = findClubMember(request.clubId(), request.memberId());
 
         validateRoleChange(request.clubId(), request.newRole(), member.getId());
         member.changeRole(request.newRole());
@@ -64,22 +74,39 @@ public class ClubMemberService {
     public void deleteMember(String username, DeleteMemberServiceRequest request) {
         validateClubAndAdmin(request.clubId(), username);
 
-        ClubMember member = findClubMemberById(request.memberId());
+        ClubMember member = findClubMember(request.clubId(), request.memberId());
 
         clubMemberRepository.delete(member);
+        clubPopularityStatsService.addMemberCount(request.clubId(), -1);
+        eventPublisher.publishEvent(new ClubListChangedEvent(request.clubId()));
     }
 
+    // 엑셀 다운로드 권한 검증. 파일 작성은 응답 스트림이 열린 뒤 writeMembersExcel 에서 한다.
     @Transactional(readOnly = true)
     public ExcelServiceResponse downloadMembersAsExcel(String clubId, String username) {
         Club club = validateClubAndAdmin(clubId, username);
 
-        List<ClubMemberInExcelResponse> targetClubMembers =
-                clubMemberRepository.findByClubId(clubId);
+        return new ExcelServiceResponse(club.getId(), club.getName());
+    }
 
-        return new ExcelServiceResponse(
-                club.getName(),
-                createMemberExcel(club.getName(), targetClubMembers)
-        );
+    // 부원 목록을 DB 커서로 읽어 엑셀 워크북을 채운 뒤 out 으로 내보낸다.
+    // 커서는 트랜잭션 안에서만 열려 있으므로 채우기까지만 트랜잭션으로 묶고,
+    // 클라이언트 속도에 좌우되는 응답 스트림 쓰기는 트랜잭션(커넥션)을 반납한 뒤에 한다.
+    public void writeMembersExcel(ExcelServiceResponse target, OutputStream out) {
+        SXSSFWorkbook workbook = transactionOperations.execute(status -> fillMembersExcel(target));
+
+        try {
+            excelService.write(workbook, out);
+        } catch (IOException e) {
+            log.error("[ClubMember] 액셀 파일 생성에 실패", e);
+            throw new ExcelFileCreateFailException();
+        }
+    }
+
+    private SXSSFWorkbook fillMembersExcel(ExcelServiceResponse target) {
+        try (Stream<ClubMemberInExcelResponse> members = clubMemberRepository.streamByClubId(target.clubId())) {
+            return excelService.fillMemberExcel(target.clubName(), members);
+        }
     }
 
     // 동아리 부원 검색 기능
@@ -165,28 +192,17 @@ public class ClubMemberService {
                 phoneNumber,
                 gender);
 
-        return clubMemberRepository.save(clubMember);
+        ClubMember saved = clubMemberRepository.save(clubMember);
+        clubPopularityStatsService.addMemberCount(club.getId(), 1);
+        eventPublisher.publishEvent(new ClubListChangedEvent(club.getId()));
+
+        return saved;
     }
 
     private String getTargetEmail(Long studentNum) {
         return String.join("", studentNum.toString(), EMAIL_SUFFIX);
     }
 
-    private byte[] createMemberExcel(String clubName, List<ClubMemberInExcelResponse> target) {
-        try {
-            // 엑셀 파일 생성 로직
-            return excelService.createMemberExcel(
-                    clubRepository.findByName(clubName)
-                            .orElseThrow(ClubNotFoundException::new)
-                            .getName(),
-                    target
-            );
-        } catch (IOException e) {
-            log.error("[ClubMember] 액셀 파일 생성에 실패", e);
-            throw new ExcelFileCreateFailException();
-        }
-    }
-
     // 관리자 검증
     private Club validateClubAndAdmin(String clubId, String username) {
         Club club = validateClubExists(clubId);
@@ -201,8 +217,9 @@ public class ClubMemberService {
     }
 
     // 동아리 부원 존재 여부 검증
-    private ClubMember findClubMemberById(String memberId) {
-        return clubMemberRepository.findById(memberId)
+    // 요청한 동아리에 속하지 않은 부원은 존재하지 않는 부원으로 취급한다.
+    private ClubMember findClubMember(String clubId, String memberId) {
+        return clubMemberRepository.findByIdAndClubId(memberId, clubId)
                 .orElseThrow(ClubMemberNotFoundException::new);
     }
 
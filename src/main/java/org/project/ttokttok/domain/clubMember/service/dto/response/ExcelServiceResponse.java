@@ -1,7 +1,7 @@
 package org.project.ttokttok.domain.clubMember.service.dto.response;
 
 public record ExcelServiceResponse(
-        String clubName,
-        byte[] excelData
+        String clubId,
+        String clubName
 ) {
 }
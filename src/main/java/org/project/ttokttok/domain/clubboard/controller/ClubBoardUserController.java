@@ -5,8 +5,12 @@ import org.project.ttokttok.domain.clubboard.controller.docs.ClubBoardUserDocs;
 import org.project.ttokttok.domain.clubboard.controller.dto.response.ClubBoardDetailResponse;
 import org.project.ttokttok.domain.clubboard.controller.dto.response.ClubBoardListResponse;
 import org.project.ttokttok.domain.clubboard.service.ClubBoardUserService;
+import org.project.ttokttok.global.util.http.ConditionalGetUtil;
+import org.project.ttokttok.global.util.http.ContentVersion;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 동아리 게시판 조회 API 컨트롤러
@@ -27,18 +31,29 @@ public class ClubBoardUserController implements ClubBoardUserDocs {
      * @param clubId 동아리 ID
      * @param size 조회할 개수 (기본값: 20)
      * @param cursor 커서 (첫 요청시 생략)
-     * @return 게시판 목록과 페이징 정보
+     * @param webRequest 조건부 GET 헤더(If-None-Match) 확인용
+     * @return 게시판 목록과 페이징 정보 (변경이 없으면 304)
      */
     @Override
     @GetMapping
     public ResponseEntity<ClubBoardListResponse> getBoardList(
             @PathVariable String clubId,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) String cursor
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
     ) {
+        // 게시글 수/최대 수정 시각만 먼저 조회해, 변경이 없으면 목록 조회 없이 304 를 반환한다.
+        // 삭제는 최대 수정 시각을 앞으로 옮기지 않으므로 Last-Modified(If-Modified-Since) 로는 판정하지 않는다.
+        ContentVersion version = clubBoardUserService.getBoardListVersion(clubId);
+        String eTag = ConditionalGetUtil.weakETag(version.count(), version.lastModifiedAt(), size, cursor);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         ClubBoardListResponse response = clubBoardUserService.getBoardList(clubId, size, cursor);
 
-        return ResponseEntity.ok(response);
+        return ConditionalGetUtil.ok(response, eTag, CacheControl.noCache());
     }
 
     /**
@@ -47,7 +62,7 @@ public class ClubBoardUserController implements ClubBoardUserDocs {
      *
      * @param clubId 동아리 ID
      * @param boardId 게시글 ID
-     * @return 게시글 상세 정보
+     * @return 게시글 상세 정보 (If-None-Match 가 일치하면 304)
      */
     @Override
     @GetMapping("/{boardId}")
@@ -57,6 +72,6 @@ public class ClubBoardUserController implements ClubBoardUserDocs {
     ) {
         ClubBoardDetailResponse response = clubBoardUserService.getBoardDetail(clubId, boardId);
 
-        return ResponseEntity.ok(response);
+        return ConditionalGetUtil.ok(response, ConditionalGetUtil.weakETag(response), CacheControl.noCache());
     }
 }
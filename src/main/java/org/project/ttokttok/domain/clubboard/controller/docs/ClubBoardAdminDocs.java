@@ -38,6 +38,7 @@ public interface ClubBoardAdminDocs {
                     - 내용은 생략하거나 null로 보낼 수 있으며, 이 경우 빈 내용으로 저장됩니다.
                     - 썸네일은 JPG, PNG, WEBP, GIF, HEIC 형식만 지원됩니다. (최대 20MB)
                     - 업로드된 썸네일은 S3(board-images/)에 저장되며 목록 조회 응답의 thumbnailUrl로 내려갑니다.
+                    - 피드용 축소본(256px/1080px)은 저장 후 비동기로 생성되어 thumbnailSmallUrl/thumbnailLargeUrl로 내려갑니다.
                     """
     )
     @RequestBody(
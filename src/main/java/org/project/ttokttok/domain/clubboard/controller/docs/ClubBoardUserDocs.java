@@ -11,6 +11,7 @@ import org.project.ttokttok.domain.clubboard.controller.dto.response.ClubBoardDe
 import org.project.ttokttok.domain.clubboard.controller.dto.response.ClubBoardListResponse;
 import org.project.ttokttok.global.exception.dto.ErrorResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "[사용자] 동아리 게시판 조회", description = "사용자가 동아리 게시판을 조회하는 API")
 public interface ClubBoardUserDocs {
@@ -26,6 +27,7 @@ public interface ClubBoardUserDocs {
                     **응답 필드 (항목당)**:
                     - `boardId`: 게시글 ID (상세 조회에 사용)
                     - `thumbnailUrl`: 대표(썸네일) 이미지 URL — 썸네일 도입 이전의 레거시 게시글은 null
+                    - `thumbnailSmallUrl`, `thumbnailLargeUrl`: 가로 256px / 1080px JPEG 변형 URL — 변형 생성 전이거나 서버에서 변환할 수 없는 형식(WEBP, HEIC)이면 null이며, 이때는 `thumbnailUrl`을 사용하세요
                     - `createdAt`: 작성 시각
                     - `nextCursor`: 다음 페이지 요청 시 cursor 파라미터로 전달
                     """
@@ -48,7 +50,9 @@ public interface ClubBoardUserDocs {
             @Parameter(description = "조회할 개수 (기본 20개, 1~50 범위로 보정)", example = "20")
             int size,
             @Parameter(description = "무한스크롤 커서 (첫 요청시 생략)")
-            String cursor
+            String cursor,
+            @Parameter(hidden = true)
+            WebRequest webRequest
     );
 
     @Operation(
@@ -18,8 +18,10 @@ public record ClubBoardListResponse(
      */
     public record ClubBoardSummary(
             String boardId,
-            String thumbnailUrl,    // 대표(썸네일) 이미지 URL. 레거시 게시글은 null
-            LocalDateTime createdAt // 프론트에서 "19시간 전" 형식으로 변환
+            String thumbnailUrl,      // 대표(썸네일) 이미지 URL. 레거시 게시글은 null
+            String thumbnailSmallUrl, // 256px 변형 URL. 변형 생성 전이면 null (thumbnailUrl 사용)
+            String thumbnailLargeUrl, // 1080px 변형 URL. 변형 생성 전이면 null (thumbnailUrl 사용)
+            LocalDateTime createdAt   // 프론트에서 "19시간 전" 형식으로 변환
     ) {}
 
     /**
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.clubboard.domain.enums.ThumbnailVariantStatus;
 import org.project.ttokttok.global.entity.BaseTimeEntity;
 
 import java.util.UUID;
@@ -37,6 +38,11 @@ public class ClubBoard extends BaseTimeEntity {
     @Column(name = "thumbnail_url", length = 512)
     private String thumbnailUrl;
 
+    // 대표 이미지의 리사이즈 변형(ImageVariant) 생성 상태. 커밋 후 비동기로 채워진다.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "thumbnail_variant_status", nullable = false, length = 20)
+    private ThumbnailVariantStatus thumbnailVariantStatus = ThumbnailVariantStatus.PENDING;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "club_id", nullable = false, updatable = false)
     private Club club;
@@ -62,6 +68,35 @@ public class ClubBoard extends BaseTimeEntity {
     public void updateThumbnailUrl(String thumbnailUrl) {
         validateThumbnailUrl(thumbnailUrl);
         this.thumbnailUrl = thumbnailUrl;
+        this.thumbnailVariantStatus = ThumbnailVariantStatus.PENDING;
+    }
+
+    public boolean isThumbnailVariantsReady() {
+        return thumbnailVariantStatus == ThumbnailVariantStatus.READY;
+    }
+
+    /**
+     * 변형 생성이 끝난 대표 이미지가 아직 현재 이미지일 때만 완료로 표시한다.
+     * 생성 중에 썸네일이 교체되었다면 false 를 돌려주고, 호출자는 늦게 만들어진 변형을 정리한다.
+     */
+    public boolean markThumbnailVariantsReady(String thumbnailUrl) {
+        return completeThumbnailVariants(thumbnailUrl, ThumbnailVariantStatus.READY);
+    }
+
+    /**
+     * 디코딩할 수 없는 대표 이미지라 변형을 만들지 않았음을 표시한다. 재시도 스윕 대상에서 빠지고 목록은 원본 URL 을 쓴다.
+     * 생성 중에 썸네일이 교체되었다면 새 이미지의 상태를 건드리지 않도록 false 를 돌려준다.
+     */
+    public boolean markThumbnailVariantsSkipped(String thumbnailUrl) {
+        return completeThumbnailVariants(thumbnailUrl, ThumbnailVariantStatus.SKIPPED);
+    }
+
+    private boolean completeThumbnailVariants(String thumbnailUrl, ThumbnailVariantStatus status) {
+        if (!thumbnailUrl.equals(this.thumbnailUrl)) {
+            return false;
+        }
+        this.thumbnailVariantStatus = status;
+        return true;
     }
 
     // ------- 정적 메서드 -------
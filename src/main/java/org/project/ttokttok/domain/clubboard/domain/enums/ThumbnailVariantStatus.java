@@ -0,0 +1,7 @@
+package org.project.ttokttok.domain.clubboard.domain.enums;
+
+public enum ThumbnailVariantStatus {
+    PENDING, // 생성 전 (재시도 스윕 대상)
+    READY, // 생성 완료
+    SKIPPED // 디코딩할 수 없는 형식이라 건너뜀 (재시도하지 않음)
+}
@@ -0,0 +1,14 @@
+package org.project.ttokttok.domain.clubboard.event;
+
+/**
+ * 게시글 대표 이미지가 새로 저장(게시글 생성, 썸네일 교체)되었음을 알리는 이벤트
+ * 커밋 후 피드용 리사이즈 변형을 생성하는 데 사용됩니다.
+ *
+ * @param boardId      게시글 ID
+ * @param thumbnailUrl 새로 저장된 대표 이미지 URL
+ */
+public record ClubBoardThumbnailChangedEvent(
+        String boardId,
+        String thumbnailUrl
+) {
+}
@@ -1,10 +1,14 @@
 package org.project.ttokttok.domain.clubboard.repository;
 
 import org.project.ttokttok.domain.clubboard.domain.ClubBoard;
+import org.project.ttokttok.global.util.http.ContentVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ClubBoardRepository extends JpaRepository<ClubBoard, String>, ClubBoardCustomRepository {
@@ -14,4 +18,23 @@ public interface ClubBoardRepository extends JpaRepository<ClubBoard, String>, C
      */
     @Query("select b from ClubBoard b join fetch b.club where b.id = :boardId and b.club.id = :clubId")
     Optional<ClubBoard> findByIdAndClubIdWithClub(@Param("boardId") String boardId, @Param("clubId") String clubId);
+
+    /**
+     * 특정 동아리 게시판 목록의 버전(게시글 수, 최대 updatedAt)을 조회합니다. (목록 조건부 GET 용)
+     */
+    @Query("select new org.project.ttokttok.global.util.http.ContentVersion(count(b), max(b.updatedAt)) "
+            + "from ClubBoard b where b.club.id = :clubId")
+    ContentVersion findContentVersionByClubId(@Param("clubId") String clubId);
+
+    /**
+     * 대표 이미지가 있지만 리사이즈 변형이 아직 생성 전(PENDING)인 게시글을 오래된 순으로 조회합니다. (변형 재시도 스윕용)
+     */
+    @Query("select b from ClubBoard b "
+            + "where b.thumbnailVariantStatus = org.project.ttokttok.domain.clubboard.domain.enums.ThumbnailVariantStatus.PENDING "
+            + "and b.thumbnailUrl is not null "
+            + "and b.updatedAt between :from and :to "
+            + "order by b.updatedAt")
+    List<ClubBoard> findThumbnailVariantsPending(@Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to,
+                                                 Limit limit);
 }
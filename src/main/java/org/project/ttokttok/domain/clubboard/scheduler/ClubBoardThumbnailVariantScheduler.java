@@ -0,0 +1,59 @@
+package org.project.ttokttok.domain.clubboard.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.clubboard.event.ClubBoardThumbnailChangedEvent;
+import org.project.ttokttok.domain.clubboard.service.ClubBoardAdminService;
+import org.project.ttokttok.domain.clubboard.service.ClubBoardThumbnailVariantWorker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubBoardThumbnailVariantScheduler {
+
+    private final ClubBoardAdminService clubBoardAdminService;
+    private final ClubBoardThumbnailVariantWorker clubBoardThumbnailVariantWorker;
+
+    // 이 시간보다 오래 완료 표시가 없으면 작업이 거절/유실된 것으로 보고 다시 넣는다.
+    @Value("${clubboard.thumbnail-variant.retry-after-minutes:10}")
+    private long retryAfterMinutes;
+
+    // 이 시간이 지나도 끝나지 않은 게시글(S3 오류가 계속되는 경우 등)은 더 이상 재시도하지 않는다. 목록은 원본 URL 로 내려간다.
+    // 디코딩할 수 없는 이미지는 워커가 건너뜀으로 기록하므로 여기까지 오지 않는다.
+    @Value("${clubboard.thumbnail-variant.give-up-after-hours:24}")
+    private long giveUpAfterHours;
+
+    @Value("${clubboard.thumbnail-variant.retry-batch-size:50}")
+    private int batchSize;
+
+    // 스레드풀 포화로 버려진 변형 생성 작업을 주기적으로 다시 넣는다.
+    @Scheduled(fixedDelayString = "${clubboard.thumbnail-variant.retry-delay-ms:600000}")
+    public void retryPendingVariants() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<ClubBoardThumbnailChangedEvent> targets = clubBoardAdminService.findThumbnailVariantRetryTargets(
+                    now.minusHours(giveUpAfterHours), now.minusMinutes(retryAfterMinutes), batchSize);
+
+            int enqueued = 0;
+            for (ClubBoardThumbnailChangedEvent target : targets) {
+                // 아직 포화 상태면 나머지는 다음 주기에 다시 시도한다.
+                if (!clubBoardThumbnailVariantWorker.enqueue(target.boardId(), target.thumbnailUrl())) {
+                    break;
+                }
+                enqueued++;
+            }
+
+            if (!targets.isEmpty()) {
+                log.info("게시글 썸네일 변형 재시도: 대상={}개, 재등록={}개", targets.size(), enqueued);
+            }
+        } catch (Exception e) {
+            log.error("게시글 썸네일 변형 재시도 중 오류 발생", e);
+        }
+    }
+}
@@ -6,18 +6,25 @@ import org.project.ttokttok.domain.club.exception.FileIsNotImageException;
 import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
 import org.project.ttokttok.domain.clubboard.domain.ClubBoard;
+import org.project.ttokttok.domain.clubboard.event.ClubBoardThumbnailChangedEvent;
 import org.project.ttokttok.domain.clubboard.exception.ClubAdminNameNotMatchException;
 import org.project.ttokttok.domain.clubboard.exception.ClubBoardNotFoundException;
 import org.project.ttokttok.domain.clubboard.repository.ClubBoardRepository;
 import org.project.ttokttok.domain.clubboard.service.dto.request.ClubBoardUpdateServiceRequest;
 import org.project.ttokttok.domain.clubboard.service.dto.request.CreateBoardServiceRequest;
 import org.project.ttokttok.domain.clubboard.service.dto.request.DeleteBoardServiceRequest;
+import org.project.ttokttok.infrastructure.image.service.ImageVariantService;
 import org.project.ttokttok.infrastructure.s3.service.S3Service;
 import org.project.ttokttok.infrastructure.s3.support.AllowedFileTypes;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory.BOARD_IMAGE;
 
 @Service
@@ -27,6 +34,8 @@ public class ClubBoardAdminService {
     private final ClubRepository clubRepository;
     private final ClubBoardRepository clubBoardRepository;
     private final S3Service s3Service;
+    private final ImageVariantService imageVariantService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 게시글 생성 (썸네일 이미지 필수)
     @Transactional
@@ -41,8 +50,13 @@ public class ClubBoardAdminService {
 
         ClubBoard clubBoard = ClubBoard.create(request.title(), request.content(), thumbnailUrl, club);
 
-        return clubBoardRepository.save(clubBoard)
+        String boardId = clubBoardRepository.save(clubBoard)
                 .getId();
+
+        // 피드용 리사이즈 변형은 커밋 이후 비동기로 생성한다.
+        eventPublisher.publishEvent(new ClubBoardThumbnailChangedEvent(boardId, thumbnailUrl));
+
+        return boardId;
     }
 
     // 게시글 수정 로직 (썸네일 교체 지원)
@@ -74,9 +88,49 @@ public class ClubBoardAdminService {
         // 커밋이 확정된 뒤에만 S3 파일을 삭제한다 — 롤백 시 DB가 참조하는 파일이 유실되지 않는다.
         if (thumbnailUrl != null) {
             s3Service.deleteFileAfterCommit(thumbnailUrl);
+            imageVariantService.deleteVariantsAfterCommit(thumbnailUrl);
         }
     }
 
+    /**
+     * 대표 이미지 변형 생성이 끝났음을 기록한다. (ClubBoardThumbnailVariantWorker 에서 호출)
+     *
+     * @return 게시글이 남아 있고 대표 이미지가 그대로라 완료로 기록했으면 true
+     */
+    @Transactional
+    public boolean markThumbnailVariantsReady(String boardId, String thumbnailUrl) {
+        return clubBoardRepository.findById(boardId)
+                .map(clubBoard -> clubBoard.markThumbnailVariantsReady(thumbnailUrl))
+                .orElse(false);
+    }
+
+    /**
+     * 대표 이미지가 디코딩할 수 없는 형식이라 변형을 건너뛰었음을 기록한다. (ClubBoardThumbnailVariantWorker 에서 호출)
+     *
+     * @return 게시글이 남아 있고 대표 이미지가 그대로라 건너뜀으로 기록했으면 true
+     */
+    @Transactional
+    public boolean markThumbnailVariantsSkipped(String boardId, String thumbnailUrl) {
+        return clubBoardRepository.findById(boardId)
+                .map(clubBoard -> clubBoard.markThumbnailVariantsSkipped(thumbnailUrl))
+                .orElse(false);
+    }
+
+    /**
+     * 변형 생성이 끝나지 않은 게시글을 재시도 대상으로 조회한다. (ClubBoardThumbnailVariantScheduler 에서 호출)
+     *
+     * <p>수정 시각이 {@code from} ~ {@code to} 사이인 게시글만 본다. 디코딩할 수 없는 이미지는 건너뜀으로 기록되어
+     * 대상에서 빠지고, 하한은 S3 오류처럼 계속 실패하는 게시글을 무한히 다시 넣지 않기 위한 것이다.
+     */
+    @Transactional(readOnly = true)
+    public List<ClubBoardThumbnailChangedEvent> findThumbnailVariantRetryTargets(LocalDateTime from,
+                                                                                 LocalDateTime to,
+                                                                                 int limit) {
+        return clubBoardRepository.findThumbnailVariantsPending(from, to, Limit.of(limit)).stream()
+                .map(clubBoard -> new ClubBoardThumbnailChangedEvent(clubBoard.getId(), clubBoard.getThumbnailUrl()))
+                .toList();
+    }
+
     private void replaceThumbnail(ClubBoard clubBoard, MultipartFile thumbnail) {
         validateImage(thumbnail);
 
@@ -86,10 +140,12 @@ public class ClubBoardAdminService {
         s3Service.deleteFileOnRollback(newThumbnailUrl);
 
         clubBoard.updateThumbnailUrl(newThumbnailUrl);
+        eventPublisher.publishEvent(new ClubBoardThumbnailChangedEvent(clubBoard.getId(), newThumbnailUrl));
 
         // 기존 파일은 커밋이 확정된 뒤에만 삭제한다 (롤백 시 구 파일 보존).
         if (oldThumbnailUrl != null) {
             s3Service.deleteFileAfterCommit(oldThumbnailUrl);
+            imageVariantService.deleteVariantsAfterCommit(oldThumbnailUrl);
         }
     }
 
@@ -0,0 +1,76 @@
+package org.project.ttokttok.domain.clubboard.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.clubboard.event.ClubBoardThumbnailChangedEvent;
+import org.project.ttokttok.infrastructure.image.service.ImageVariantService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 게시글 대표 이미지의 피드용 리사이즈 변형을 만드는 비동기 작업
+ *
+ * <p>업로드 요청은 원본 저장까지만 기다리고, 디코딩/리사이즈는 커밋 이후 전용 스레드풀({@code imageVariantExecutor})에서 수행한다.
+ * 변형 생성에 실패해도 게시글은 완료 표시 없이 남아 목록에서 원본 URL 로 내려가므로, 실패는 로그만 남긴다.
+ * 디코딩할 수 없는 형식(WebP/HEIC 등)은 재시도해도 결과가 같으므로 건너뜀으로 기록해 재시도 대상에서 뺀다.
+ *
+ * <p>스레드풀이 포화되어 제출이 거절되면 게시글 ID 를 로그로 남기고 넘어간다.
+ * 완료 표시가 없는 게시글은 {@code ClubBoardThumbnailVariantScheduler} 가 주기적으로 다시 넣는다.
+ */
+@Slf4j
+@Component
+public class ClubBoardThumbnailVariantWorker {
+
+    private final ImageVariantService imageVariantService;
+    private final ClubBoardAdminService clubBoardAdminService;
+    private final Executor imageVariantExecutor;
+
+    public ClubBoardThumbnailVariantWorker(ImageVariantService imageVariantService,
+                                           ClubBoardAdminService clubBoardAdminService,
+                                           @Qualifier("imageVariantExecutor") Executor imageVariantExecutor) {
+        this.imageVariantService = imageVariantService;
+        this.clubBoardAdminService = clubBoardAdminService;
+        this.imageVariantExecutor = imageVariantExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onThumbnailChanged(ClubBoardThumbnailChangedEvent event) {
+        enqueue(event.boardId(), event.thumbnailUrl());
+    }
+
+    /**
+     * 변형 생성 작업을 전용 스레드풀에 넣는다.
+     *
+     * @return 스레드풀이 포화되어 거절되었으면 false
+     */
+    public boolean enqueue(String boardId, String thumbnailUrl) {
+        try {
+            imageVariantExecutor.execute(() -> createVariants(boardId, thumbnailUrl));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("[ClubBoardThumbnailVariant] 스레드풀 포화로 변형 생성 작업이 거절됨. 재시도 스윕 대상. boardId={}", boardId);
+            return false;
+        }
+    }
+
+    void createVariants(String boardId, String thumbnailUrl) {
+        try {
+            if (!imageVariantService.createVariants(thumbnailUrl)) {
+                clubBoardAdminService.markThumbnailVariantsSkipped(boardId, thumbnailUrl);
+                return;
+            }
+
+            // 생성 중에 게시글이 삭제되었거나 썸네일이 교체되었으면 늦게 만든 변형을 정리한다.
+            if (!clubBoardAdminService.markThumbnailVariantsReady(boardId, thumbnailUrl)) {
+                imageVariantService.deleteVariantsQuietly(thumbnailUrl);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ClubBoardThumbnailVariant] 썸네일 변형 생성 실패. boardId={}", boardId, e);
+            imageVariantService.deleteVariantsQuietly(thumbnailUrl);
+        }
+    }
+}
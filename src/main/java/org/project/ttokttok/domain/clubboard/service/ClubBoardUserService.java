@@ -9,6 +9,9 @@ import org.project.ttokttok.domain.clubboard.controller.dto.response.ClubBoardLi
 import org.project.ttokttok.domain.clubboard.domain.ClubBoard;
 import org.project.ttokttok.domain.clubboard.exception.ClubBoardNotFoundException;
 import org.project.ttokttok.domain.clubboard.repository.ClubBoardRepository;
+import org.project.ttokttok.global.util.http.ContentVersion;
+import org.project.ttokttok.infrastructure.image.enums.ImageVariant;
+import org.project.ttokttok.infrastructure.image.service.ImageVariantService;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -23,6 +26,7 @@ public class ClubBoardUserService {
 
     private final ClubBoardRepository clubBoardRepository;
     private final ClubRepository clubRepository;
+    private final ImageVariantService imageVariantService;
 
     /**
      * 동아리 게시판 목록을 커서 기반으로 조회합니다. (인스타그램식 썸네일 피드)
@@ -63,6 +67,22 @@ public class ClubBoardUserService {
         return ClubBoardListResponse.of(summaries, hasNext, nextCursor);
     }
 
+    /**
+     * 동아리 게시판 목록의 버전을 조회합니다.
+     * 목록 본문을 조회하기 전에 If-None-Match 를 비교하는 데 사용합니다.
+     *
+     * @param clubId 동아리 ID
+     * @return 게시글 수와 마지막 수정 시각
+     */
+    public ContentVersion getBoardListVersion(String clubId) {
+        // 목록 조회와 같은 404 응답을 유지한다
+        if (!clubRepository.existsById(clubId)) {
+            throw new ClubNotFoundException();
+        }
+
+        return clubBoardRepository.findContentVersionByClubId(clubId);
+    }
+
     /**
      * 동아리 게시판 게시글을 단건 상세 조회합니다.
      *
@@ -87,12 +107,22 @@ public class ClubBoardUserService {
 
     /**
      * ClubBoard 엔티티를 피드용 ClubBoardSummary DTO로 변환합니다.
+     * 리사이즈 변형은 생성이 끝난 게시글에만 내려줍니다.
      */
     private ClubBoardSummary toClubBoardSummary(ClubBoard board) {
         return new ClubBoardSummary(
                 board.getId(),
                 board.getThumbnailUrl(),
+                variantUrl(board, ImageVariant.SMALL),
+                variantUrl(board, ImageVariant.LARGE),
                 board.getCreatedAt()
         );
     }
+
+    private String variantUrl(ClubBoard board, ImageVariant variant) {
+        if (!board.isThumbnailVariantsReady()) {
+            return null;
+        }
+        return imageVariantService.getVariantUrl(board.getThumbnailUrl(), variant);
+    }
 }
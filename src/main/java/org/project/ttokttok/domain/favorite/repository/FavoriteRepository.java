@@ -2,6 +2,7 @@ package org.project.ttokttok.domain.favorite.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.project.ttokttok.domain.favorite.domain.Favorite;
 import org.project.ttokttok.domain.favorite.repository.dto.ClubFavoriteCountQueryDto;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -26,6 +27,12 @@ public interface FavoriteRepository extends JpaRepository<Favorite, String>, Fav
            "ORDER BY f.createdAt DESC")
     List<Favorite> findAllByUserEmailWithClub(@Param("userEmail") String userEmail);
     
+    /**
+     * 사용자가 즐겨찾기한 동아리 ID 목록 조회 (캐싱된 동아리 목록에 즐겨찾기 여부를 덮어씌울 때 사용)
+     */
+    @Query("SELECT f.club.id FROM Favorite f WHERE f.user.email = :userEmail")
+    Set<String> findClubIdsByUserEmail(@Param("userEmail") String userEmail);
+
     /**
      * 사용자와 동아리 조합으로 즐겨찾기 존재 여부 확인
      */
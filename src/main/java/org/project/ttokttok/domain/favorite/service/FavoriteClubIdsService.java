@@ -0,0 +1,66 @@
+package org.project.ttokttok.domain.favorite.service;
+
+import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.favorite.repository.FavoriteRepository;
+import org.project.ttokttok.infrastructure.redis.service.FavoriteClubIdsRedisService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+
+/**
+ * 사용자별 즐겨찾기 동아리 ID 집합 조회/갱신 서비스
+ *
+ * 동아리 카드/상세 쿼리는 user_favorites 조인 없이 모든 사용자에게 같은 결과를 반환하고,
+ * 즐겨찾기 여부는 이 집합으로 메모리에서 표시합니다. 집합은 Redis 에 캐싱하고
+ * {@link FavoriteService#toggleFavorite} 가 커밋된 뒤에 무효화합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FavoriteClubIdsService {
+
+    private final FavoriteRepository favoriteRepository;
+    private final FavoriteClubIdsRedisService favoriteClubIdsRedisService;
+
+    /**
+     * 사용자가 즐겨찾기한 동아리 ID 집합 조회
+     *
+     * @param userEmail 사용자 이메일 (비로그인이면 null)
+     * @return 즐겨찾기한 동아리 ID 집합 (비로그인이면 빈 집합)
+     */
+    public Set<String> getFavoriteClubIds(String userEmail) {
+        if (userEmail == null) {
+            return Set.of();
+        }
+
+        return favoriteClubIdsRedisService.get(userEmail).orElseGet(() -> {
+            // DB 조회 전에 버전을 읽어, 조회 도중 즐겨찾기가 바뀌면 이전 스냅샷을 저장하지 않게 한다.
+            String version = favoriteClubIdsRedisService.currentVersion(userEmail);
+            Set<String> clubIds = favoriteRepository.findClubIdsByUserEmail(userEmail);
+            favoriteClubIdsRedisService.save(userEmail, version, clubIds);
+            return clubIds;
+        });
+    }
+
+    /**
+     * 즐겨찾기 추가/해제 후 사용자의 캐시를 무효화 (롤백된 변경이 캐시에 남지 않도록 커밋 후 무효화)
+     */
+    public void evictAfterCommit(String userEmail) {
+        afterCommit(() -> favoriteClubIdsRedisService.evict(userEmail));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
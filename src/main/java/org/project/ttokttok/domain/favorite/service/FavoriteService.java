@@ -15,6 +15,7 @@ import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
 import org.project.ttokttok.domain.club.domain.Club;
 import org.project.ttokttok.domain.club.exception.ClubNotFoundException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.club.service.ClubPopularityStatsService;
 import org.project.ttokttok.domain.club.service.dto.response.ClubCardServiceResponse;
 import org.project.ttokttok.domain.favorite.domain.Favorite;
 import org.project.ttokttok.domain.favorite.repository.FavoriteRepository;
@@ -42,6 +43,8 @@ public class FavoriteService {
     private final UserRepository userRepository;
     private final ApplyFormRepository applyFormRepository;
     private final PopularityCalculator popularityCalculator;
+    private final ClubPopularityStatsService clubPopularityStatsService;
+    private final FavoriteClubIdsService favoriteClubIdsService;
 
     /**
      * 즐겨찾기 토글 (추가/제거) 이미 즐겨찾기가 되어 있으면 제거하고, 없으면 추가합니다.
@@ -59,12 +62,16 @@ public class FavoriteService {
 
         if (existingFavorite.isPresent()) {
             favoriteRepository.delete(existingFavorite.get());
+            clubPopularityStatsService.addFavoriteCount(request.clubId(), -1);
+            favoriteClubIdsService.evictAfterCommit(request.userEmail());
             return FavoriteToggleServiceResponse.of(request.clubId(), false);
         }
 
         Favorite favorite = Favorite.create(user, club);
 
         favoriteRepository.save(favorite);
+        clubPopularityStatsService.addFavoriteCount(request.clubId(), 1);
+        favoriteClubIdsService.evictAfterCommit(request.userEmail());
 
         return FavoriteToggleServiceResponse.of(request.clubId(), true);
     }
@@ -0,0 +1,48 @@
+package org.project.ttokttok.domain.mail.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.project.ttokttok.global.entity.BaseTimeEntity;
+
+import java.util.UUID;
+
+/**
+ * 메일 발송 작업
+ *
+ * <p>관리자 요청 1건에 해당한다. 실제 발송 단위는 수신자별 {@link MailJobRecipient} 이며,
+ * 작업은 진행률 조회와 소유자 확인에만 쓰인다.
+ */
+@Entity
+@Getter
+@Table(name = "mail_jobs")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailJob extends BaseTimeEntity {
+
+    @PrePersist
+    private void generateId() {
+        if (this.id == null) {
+            this.id = UUID.randomUUID().toString();
+        }
+    }
+
+    @Id
+    @Column(length = 36, updatable = false, unique = true)
+    private String id;
+
+    @Column(name = "owner_username", nullable = false, updatable = false)
+    private String ownerUsername;
+
+    private MailJob(String ownerUsername) {
+        this.ownerUsername = ownerUsername;
+    }
+
+    public static MailJob create(String ownerUsername) {
+        return new MailJob(ownerUsername);
+    }
+
+    public boolean isOwnedBy(String username) {
+        return ownerUsername.equals(username);
+    }
+}
@@ -0,0 +1,52 @@
+package org.project.ttokttok.domain.mail.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.project.ttokttok.global.entity.BaseTimeEntity;
+
+import java.util.UUID;
+
+/**
+ * 발송 작업에 포함된 메일 본문
+ *
+ * <p>합격/불합격 안내처럼 같은 제목과 본문을 여러 수신자에게 보내므로,
+ * 본문은 한 번만 저장하고 수신자 행이 참조한다.
+ */
+@Entity
+@Getter
+@Table(name = "mail_job_messages")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailJobMessage extends BaseTimeEntity {
+
+    @PrePersist
+    private void generateId() {
+        if (this.id == null) {
+            this.id = UUID.randomUUID().toString();
+        }
+    }
+
+    @Id
+    @Column(length = 36, updatable = false, unique = true)
+    private String id;
+
+    @Column(name = "job_id", length = 36, nullable = false, updatable = false)
+    private String jobId;
+
+    @Column(nullable = false, updatable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false, updatable = false)
+    private String body;
+
+    private MailJobMessage(String jobId, String subject, String body) {
+        this.jobId = jobId;
+        this.subject = subject;
+        this.body = body;
+    }
+
+    public static MailJobMessage of(String jobId, String subject, String body) {
+        return new MailJobMessage(jobId, subject, body);
+    }
+}
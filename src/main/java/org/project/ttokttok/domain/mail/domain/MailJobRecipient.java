@@ -0,0 +1,99 @@
+package org.project.ttokttok.domain.mail.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus;
+import org.project.ttokttok.global.entity.BaseTimeEntity;
+
+import java.time.LocalDateTime;
+
+import static org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus.*;
+
+/**
+ * 수신자별 메일 발송 상태 (아웃박스 행)
+ *
+ * <p>적재는 {@code MailJobRecipientJdbcRepository} 의 배치 INSERT 로 하고,
+ * 워커의 상태 전이만 엔티티 변경 감지로 처리한다.
+ */
+@Entity
+@Getter
+@Table(name = "mail_job_recipients")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailJobRecipient extends BaseTimeEntity {
+
+    static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @Column(length = 36, updatable = false, unique = true)
+    private String id;
+
+    @Column(name = "job_id", length = 36, nullable = false, updatable = false)
+    private String jobId;
+
+    @Column(name = "message_id", length = 36, nullable = false, updatable = false)
+    private String messageId;
+
+    @Column(nullable = false, updatable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailRecipientStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    // 테스트 픽스처용. 운영 적재 경로는 JDBC 배치 INSERT 를 쓴다.
+    @Builder
+    private MailJobRecipient(String id, String jobId, String messageId, String email,
+                             MailRecipientStatus status, int attemptCount, LocalDateTime nextAttemptAt) {
+        this.id = id;
+        this.jobId = jobId;
+        this.messageId = messageId;
+        this.email = email;
+        this.status = status;
+        this.attemptCount = attemptCount;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 워커가 발송을 위해 가져간다. 임대 시간(leaseUntil)이 지나도 완료 처리가 없으면 다시 가져갈 수 있다.
+    public void startSending(LocalDateTime leaseUntil) {
+        this.status = SENDING;
+        this.attemptCount++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent() {
+        this.status = SENT;
+        this.lastError = null;
+    }
+
+    // 최대 시도 횟수에 도달하면 실패로 확정하고, 아니면 retryAt 이후 다시 발송 대상이 된다.
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = truncate(error);
+
+        if (attemptCount >= maxAttempts) {
+            this.status = FAILED;
+            return;
+        }
+
+        this.status = PENDING;
+        this.nextAttemptAt = retryAt;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
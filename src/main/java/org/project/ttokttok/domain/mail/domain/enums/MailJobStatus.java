@@ -0,0 +1,6 @@
+package org.project.ttokttok.domain.mail.domain.enums;
+
+public enum MailJobStatus {
+    IN_PROGRESS,  // 발송 대기/발송 중인 수신자가 남아 있음
+    COMPLETED     // 모든 수신자의 발송이 끝남 (성공 또는 실패 확정)
+}
@@ -0,0 +1,8 @@
+package org.project.ttokttok.domain.mail.domain.enums;
+
+public enum MailRecipientStatus {
+    PENDING,  // 발송 대기 (재시도 대기 포함)
+    SENDING,  // 워커가 가져가 발송 중 (임대 시간이 지나면 다시 가져갈 수 있음)
+    SENT,     // 발송 완료
+    FAILED    // 최대 재시도 초과 또는 잘못된 주소로 발송 포기
+}
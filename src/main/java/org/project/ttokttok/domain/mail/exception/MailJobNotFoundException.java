@@ -0,0 +1,11 @@
+package org.project.ttokttok.domain.mail.exception;
+
+import org.project.ttokttok.global.exception.ErrorMessage;
+import org.project.ttokttok.global.exception.exception.CustomException;
+
+public class MailJobNotFoundException extends CustomException {
+
+    public MailJobNotFoundException() {
+        super(ErrorMessage.MAIL_JOB_NOT_FOUND);
+    }
+}
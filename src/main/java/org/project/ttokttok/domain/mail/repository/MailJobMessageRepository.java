@@ -0,0 +1,7 @@
+package org.project.ttokttok.domain.mail.repository;
+
+import org.project.ttokttok.domain.mail.domain.MailJobMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MailJobMessageRepository extends JpaRepository<MailJobMessage, String> {
+}
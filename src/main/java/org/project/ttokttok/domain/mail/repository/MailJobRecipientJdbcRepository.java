@@ -0,0 +1,46 @@
+package org.project.ttokttok.domain.mail.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 메일 수신자 아웃박스 행을 JDBC 배치 INSERT 로 적재하는 리포지토리
+ *
+ * <p>결과 메일은 지원자 수만큼 행이 생기므로, 엔티티를 한 건씩 저장하지 않고 배치로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MailJobRecipientJdbcRepository {
+
+    static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_RECIPIENT_SQL =
+            "INSERT INTO mail_job_recipients (id, job_id, message_id, email, status, attempt_count, next_attempt_at, last_error, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(String jobId, String messageId, List<String> emails,
+                            MailRecipientStatus status, String lastError) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_RECIPIENT_SQL, emails, BATCH_SIZE, (ps, email) -> {
+            ps.setString(1, UUID.randomUUID().toString());
+            ps.setString(2, jobId);
+            ps.setString(3, messageId);
+            ps.setString(4, email);
+            ps.setString(5, status.name());
+            ps.setTimestamp(6, now);
+            ps.setString(7, lastError);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+}
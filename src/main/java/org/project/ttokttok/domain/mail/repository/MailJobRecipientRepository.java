@@ -0,0 +1,36 @@
+package org.project.ttokttok.domain.mail.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.project.ttokttok.domain.mail.domain.MailJobRecipient;
+import org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus;
+import org.project.ttokttok.domain.mail.repository.dto.MailRecipientStatusCount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_LOCK_TIMEOUT;
+
+public interface MailJobRecipientRepository extends JpaRepository<MailJobRecipient, String> {
+
+    // 발송 시각이 된 수신자를 행 잠금과 함께 가져온다.
+    // 잠금 타임아웃 -2 는 SKIP LOCKED 로, 여러 인스턴스의 워커가 같은 행을 중복으로 가져가지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT r FROM MailJobRecipient r " +
+            "WHERE r.status IN :statuses AND r.nextAttemptAt <= :now " +
+            "ORDER BY r.nextAttemptAt")
+    List<MailJobRecipient> findDueForUpdate(Collection<MailRecipientStatus> statuses,
+                                            LocalDateTime now,
+                                            Limit limit);
+
+    @Query("SELECT new org.project.ttokttok.domain.mail.repository.dto.MailRecipientStatusCount(r.status, COUNT(r)) " +
+            "FROM MailJobRecipient r WHERE r.jobId = :jobId GROUP BY r.status")
+    List<MailRecipientStatusCount> countByJobIdGroupByStatus(String jobId);
+}
@@ -0,0 +1,23 @@
+package org.project.ttokttok.domain.mail.repository;
+
+import org.project.ttokttok.domain.mail.domain.MailJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface MailJobRepository extends JpaRepository<MailJob, String> {
+
+    // cutoff 이전에 발송이 끝난(대기/발송 중 수신자가 없고 마지막 변경이 cutoff 이전인) 작업을 limit 건까지 삭제한다.
+    // 본문과 수신자 행은 ON DELETE CASCADE 로 함께 지워진다.
+    @Modifying
+    @Query(value = "DELETE FROM mail_jobs WHERE id IN (" +
+            "SELECT j.id FROM mail_jobs j " +
+            "WHERE j.created_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM mail_job_recipients r " +
+            "WHERE r.job_id = j.id AND (r.status IN ('PENDING', 'SENDING') OR r.updated_at >= :cutoff)) " +
+            "LIMIT :limit)", nativeQuery = true)
+    int deleteCompletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,12 @@
+package org.project.ttokttok.domain.mail.repository.dto;
+
+import org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus;
+
+/**
+ * 발송 작업의 상태별 수신자 수 집계용 Repository DTO
+ */
+public record MailRecipientStatusCount(
+        MailRecipientStatus status,
+        long count
+) {
+}
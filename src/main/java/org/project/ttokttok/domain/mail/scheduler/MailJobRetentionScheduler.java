@@ -0,0 +1,47 @@
+package org.project.ttokttok.domain.mail.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.mail.service.MailJobService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailJobRetentionScheduler {
+
+    private final MailJobService mailJobService;
+
+    // 발송이 끝난 작업(수신자 이메일 포함)을 보관하는 기간
+    @Value("${email.outbox.retention-days:30}")
+    private long retentionDays;
+
+    // 한 트랜잭션에서 지우는 작업 수. 긴 잠금을 피하려고 나눠 지운다.
+    @Value("${email.outbox.retention-batch-size:500}")
+    private int batchSize;
+
+    // 보관 기간이 지난 발송 완료 작업을 트래픽이 적은 새벽에 삭제한다.
+    @Scheduled(cron = "${email.outbox.retention-cron:0 30 4 * * *}")
+    public void purgeCompletedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+        try {
+            int totalDeleted = 0;
+            int deleted;
+            do {
+                deleted = mailJobService.purgeCompletedJobs(cutoff, batchSize);
+                totalDeleted += deleted;
+            } while (deleted == batchSize);
+
+            if (totalDeleted > 0) {
+                log.info("발송 완료 메일 작업 정리 완료: 기준={}, 삭제={}건", cutoff, totalDeleted);
+            }
+        } catch (Exception e) {
+            log.error("발송 완료 메일 작업 정리 중 오류 발생", e);
+        }
+    }
+}
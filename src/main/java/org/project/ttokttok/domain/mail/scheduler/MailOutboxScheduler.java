@@ -0,0 +1,19 @@
+package org.project.ttokttok.domain.mail.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.mail.service.MailDispatcher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MailOutboxScheduler {
+
+    private final MailDispatcher mailDispatcher;
+
+    // 발송 대기 중인 메일을 주기적으로 깨워 보낸다. 이미 발송 루프가 돌고 있으면 아무 일도 하지 않는다.
+    @Scheduled(fixedDelayString = "${email.outbox.poll-delay-ms:2000}")
+    public void dispatchPendingMails() {
+        mailDispatcher.dispatch();
+    }
+}
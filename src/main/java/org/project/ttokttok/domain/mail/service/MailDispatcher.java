@@ -0,0 +1,85 @@
+package org.project.ttokttok.domain.mail.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.mail.service.dto.response.MailDelivery;
+import org.project.ttokttok.infrastructure.email.dto.EmailRequest;
+import org.project.ttokttok.infrastructure.email.service.EmailService;
+import org.project.ttokttok.infrastructure.email.service.MailRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메일 아웃박스 발송 워커
+ *
+ * <p>아웃박스에서 {@code messagesPerConnection} 건씩 가져와 SMTP 연결 하나로 묶어 보내고,
+ * 결과를 아웃박스에 반영하는 일을 가져올 행이 없을 때까지 반복한다.
+ * 발송 속도는 {@link MailRateLimiter} 로 인스턴스당 초당 건수를 넘지 않게 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailDispatcher {
+
+    private final MailOutbox mailOutbox;
+    private final EmailService emailService;
+    private final MailRateLimiter mailRateLimiter;
+
+    // 인스턴스 안에서는 발송 루프를 하나만 돌려 속도 제한이 의미를 갖게 한다.
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${email.bulk.messages-per-connection:20}")
+    private int messagesPerConnection;
+
+    // 스케줄러 스레드를 막지 않도록 mailExecutor 에서 실행한다.
+    @Async("mailExecutor")
+    public void dispatch() {
+        drain();
+    }
+
+    public void drain() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            List<MailDelivery> batch;
+            while (!(batch = mailOutbox.claim(messagesPerConnection)).isEmpty()) {
+                Map<String, String> failures = send(batch);
+                mailOutbox.complete(batch, failures);
+                log.info("메일 아웃박스 발송 - 성공: {}건, 실패: {}건", batch.size() - failures.size(), failures.size());
+            }
+        } catch (InterruptedException e) {
+            // 가져간 행은 임대 시간이 지나면 다시 발송 대상이 된다.
+            Thread.currentThread().interrupt();
+            log.warn("메일 아웃박스 발송이 중단되었습니다.");
+        } catch (Exception e) {
+            log.error("메일 아웃박스 발송 중 오류 발생, 다음 주기에 재시도합니다.", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Map<String, String> send(List<MailDelivery> batch) throws InterruptedException {
+        mailRateLimiter.acquire(batch.size());
+
+        // 본문 템플릿은 메일 종류(messageId)마다 한 번만 렌더링하고, 수신자별로는 받는 사람만 바꾼다.
+        Map<String, EmailRequest> renderedByMessageId = new HashMap<>();
+        List<EmailRequest> requests = batch.stream()
+                .map(delivery -> renderedByMessageId.computeIfAbsent(delivery.messageId(),
+                                messageId -> EmailRequest.createResultEmail(delivery.email(), delivery.subject(), delivery.body()))
+                        .withRecipient(delivery.email()))
+                .toList();
+
+        Map<String, String> failures = new HashMap<>();
+        emailService.sendBatch(requests)
+                .forEach((index, error) -> failures.put(batch.get(index).recipientId(), error));
+        return failures;
+    }
+}
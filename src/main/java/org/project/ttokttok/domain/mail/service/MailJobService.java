@@ -0,0 +1,124 @@
+package org.project.ttokttok.domain.mail.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.mail.domain.MailJob;
+import org.project.ttokttok.domain.mail.domain.MailJobMessage;
+import org.project.ttokttok.domain.mail.domain.enums.MailJobStatus;
+import org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus;
+import org.project.ttokttok.domain.mail.exception.MailJobNotFoundException;
+import org.project.ttokttok.domain.mail.repository.MailJobMessageRepository;
+import org.project.ttokttok.domain.mail.repository.MailJobRecipientJdbcRepository;
+import org.project.ttokttok.domain.mail.repository.MailJobRecipientRepository;
+import org.project.ttokttok.domain.mail.repository.MailJobRepository;
+import org.project.ttokttok.domain.mail.repository.dto.MailRecipientStatusCount;
+import org.project.ttokttok.domain.mail.service.dto.request.MailJobMessageRequest;
+import org.project.ttokttok.domain.mail.service.dto.response.MailJobServiceResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus.*;
+
+/**
+ * 메일 발송 작업 등록과 진행률 조회
+ *
+ * <p>등록은 아웃박스 행을 적재하는 것까지만 하고 바로 반환한다.
+ * 실제 발송은 {@link MailDispatcher} 가 주기적으로 가져가 처리하므로,
+ * 요청 트랜잭션이 SMTP I/O 를 기다리지 않고 서버가 재시작되어도 발송이 이어진다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailJobService {
+
+    static final String INVALID_EMAIL_ERROR = "유효하지 않은 이메일 주소";
+
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+    private final MailJobRepository mailJobRepository;
+    private final MailJobMessageRepository mailJobMessageRepository;
+    private final MailJobRecipientRepository mailJobRecipientRepository;
+    private final MailJobRecipientJdbcRepository mailJobRecipientJdbcRepository;
+
+    // 잘못된 주소는 발송하지 않고 FAILED 로 적재해 진행률의 실패 건수에 포함한다.
+    @Transactional
+    public String enqueue(String ownerUsername, List<MailJobMessageRequest> requests) {
+        MailJob job = mailJobRepository.save(MailJob.create(ownerUsername));
+
+        for (MailJobMessageRequest request : requests) {
+            // 수신자 행은 JDBC 로 바로 INSERT 되므로, 참조하는 작업/본문 행을 먼저 flush 한다.
+            MailJobMessage message = mailJobMessageRepository.saveAndFlush(
+                    MailJobMessage.of(job.getId(), request.subject(), request.body()));
+
+            List<String> validEmails = new ArrayList<>();
+            List<String> invalidEmails = new ArrayList<>();
+            for (String email : request.emails()) {
+                if (isValidEmail(email)) {
+                    validEmails.add(email);
+                } else {
+                    invalidEmails.add(email == null ? "" : email);
+                }
+            }
+
+            mailJobRecipientJdbcRepository.batchInsert(job.getId(), message.getId(), validEmails, PENDING, null);
+            mailJobRecipientJdbcRepository.batchInsert(job.getId(), message.getId(), invalidEmails, FAILED, INVALID_EMAIL_ERROR);
+
+            if (!invalidEmails.isEmpty()) {
+                log.warn("유효하지 않은 이메일 주소 {}건 제외 - jobId: {}", invalidEmails.size(), job.getId());
+            }
+        }
+
+        log.info("메일 발송 작업 등록 - jobId: {}", job.getId());
+        return job.getId();
+    }
+
+    @Transactional(readOnly = true)
+    public MailJobServiceResponse getJob(String username, String jobId) {
+        MailJob job = mailJobRepository.findById(jobId)
+                .filter(found -> found.isOwnedBy(username))
+                .orElseThrow(MailJobNotFoundException::new);
+
+        Map<MailRecipientStatus, Long> counts = new EnumMap<>(MailRecipientStatus.class);
+        for (MailRecipientStatusCount count : mailJobRecipientRepository.countByJobIdGroupByStatus(job.getId())) {
+            counts.put(count.status(), count.count());
+        }
+
+        long sent = counts.getOrDefault(SENT, 0L);
+        long failed = counts.getOrDefault(FAILED, 0L);
+        long pending = counts.getOrDefault(PENDING, 0L) + counts.getOrDefault(SENDING, 0L);
+
+        return MailJobServiceResponse.builder()
+                .jobId(job.getId())
+                .status(pending == 0 ? MailJobStatus.COMPLETED : MailJobStatus.IN_PROGRESS)
+                .totalCount(sent + failed + pending)
+                .sentCount(sent)
+                .failedCount(failed)
+                .pendingCount(pending)
+                .build();
+    }
+
+    /**
+     * 발송이 끝난 지 cutoff 가 지난 작업을 수신자(지원자 이메일)와 함께 최대 limit 건 삭제한다.
+     *
+     * @return 삭제한 작업 수 (limit 보다 작으면 더 지울 작업이 없다)
+     */
+    @Transactional
+    public int purgeCompletedJobs(LocalDateTime cutoff, int limit) {
+        return mailJobRepository.deleteCompletedBefore(cutoff, limit);
+    }
+
+    private boolean isValidEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return false;
+        }
+        return EMAIL_PATTERN.matcher(email).matches();
+    }
+}
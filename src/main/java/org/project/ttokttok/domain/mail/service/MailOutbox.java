@@ -0,0 +1,96 @@
+package org.project.ttokttok.domain.mail.service;
+
+import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.mail.domain.MailJobMessage;
+import org.project.ttokttok.domain.mail.domain.MailJobRecipient;
+import org.project.ttokttok.domain.mail.repository.MailJobMessageRepository;
+import org.project.ttokttok.domain.mail.repository.MailJobRecipientRepository;
+import org.project.ttokttok.domain.mail.service.dto.response.MailDelivery;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus.PENDING;
+import static org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus.SENDING;
+
+/**
+ * 메일 아웃박스의 가져가기/완료 처리
+ *
+ * <p>가져가기와 완료 처리는 각각 짧은 트랜잭션으로 끝나고, 그 사이의 SMTP 발송은 트랜잭션 밖에서 한다.
+ * 발송 도중 서버가 죽으면 SENDING 행은 임대 시간(LEASE)이 지난 뒤 다시 가져가므로,
+ * 드물게 같은 메일이 두 번 갈 수 있지만 유실되지는 않는다. (at-least-once)
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutbox {
+
+    static final int MAX_ATTEMPTS = 5;
+    static final Duration LEASE = Duration.ofMinutes(5);
+    static final Duration INITIAL_BACKOFF = Duration.ofMinutes(1);
+    static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final MailJobRecipientRepository mailJobRecipientRepository;
+    private final MailJobMessageRepository mailJobMessageRepository;
+
+    @Transactional
+    public List<MailDelivery> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailJobRecipient> recipients = mailJobRecipientRepository.findDueForUpdate(
+                List.of(PENDING, SENDING), now, Limit.of(limit));
+
+        if (recipients.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, MailJobMessage> messages = mailJobMessageRepository.findAllById(
+                        recipients.stream().map(MailJobRecipient::getMessageId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(MailJobMessage::getId, Function.identity()));
+
+        LocalDateTime leaseUntil = now.plus(LEASE);
+
+        return recipients.stream()
+                .map(recipient -> {
+                    recipient.startSending(leaseUntil);
+                    MailJobMessage message = messages.get(recipient.getMessageId());
+                    return new MailDelivery(recipient.getId(), message.getId(), recipient.getEmail(),
+                            message.getSubject(), message.getBody());
+                })
+                .toList();
+    }
+
+    // failures: 발송에 실패한 수신자 ID -> 오류 메시지. 나머지는 발송 완료로 처리한다.
+    @Transactional
+    public void complete(List<MailDelivery> deliveries, Map<String, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailJobRecipient> recipients = mailJobRecipientRepository.findAllById(
+                deliveries.stream().map(MailDelivery::recipientId).toList());
+
+        for (MailJobRecipient recipient : recipients) {
+            if (recipient.getStatus() != SENDING) {
+                continue;
+            }
+
+            if (failures.containsKey(recipient.getId())) {
+                recipient.markFailed(failures.get(recipient.getId()),
+                        now.plus(backoff(recipient.getAttemptCount())), MAX_ATTEMPTS);
+            } else {
+                recipient.markSent();
+            }
+        }
+    }
+
+    // 1분, 2분, 4분 ... 으로 늘리되 1시간을 넘기지 않는다.
+    static Duration backoff(int attemptCount) {
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 30);
+        Duration delay = INITIAL_BACKOFF.multipliedBy(1L << exponent);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
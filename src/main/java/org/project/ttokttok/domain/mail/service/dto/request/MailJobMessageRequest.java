@@ -0,0 +1,16 @@
+package org.project.ttokttok.domain.mail.service.dto.request;
+
+import java.util.List;
+
+/**
+ * 발송 작업에 담을 메일 한 종류와 그 수신자 목록
+ */
+public record MailJobMessageRequest(
+        String subject,
+        String body,
+        List<String> emails
+) {
+    public static MailJobMessageRequest of(String subject, String body, List<String> emails) {
+        return new MailJobMessageRequest(subject, body, emails);
+    }
+}
@@ -0,0 +1,15 @@
+package org.project.ttokttok.domain.mail.service.dto.response;
+
+/**
+ * 워커가 가져간 발송 1건
+ *
+ * <p>엔티티 대신 값만 넘겨, SMTP 발송 동안 영속성 컨텍스트나 DB 커넥션을 붙잡지 않는다.
+ */
+public record MailDelivery(
+        String recipientId,
+        String messageId,
+        String email,
+        String subject,
+        String body
+) {
+}
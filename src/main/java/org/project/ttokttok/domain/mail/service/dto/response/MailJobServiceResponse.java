@@ -0,0 +1,15 @@
+package org.project.ttokttok.domain.mail.service.dto.response;
+
+import lombok.Builder;
+import org.project.ttokttok.domain.mail.domain.enums.MailJobStatus;
+
+@Builder
+public record MailJobServiceResponse(
+        String jobId,
+        MailJobStatus status,
+        long totalCount,
+        long sentCount,
+        long failedCount,
+        long pendingCount
+) {
+}
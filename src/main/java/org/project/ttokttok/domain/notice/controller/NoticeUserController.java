@@ -4,13 +4,18 @@ import lombok.RequiredArgsConstructor;
 import org.project.ttokttok.domain.notice.controller.docs.NoticeUserDocs;
 import org.project.ttokttok.domain.notice.controller.dto.response.NoticeDetailResponse;
 import org.project.ttokttok.domain.notice.controller.dto.response.NoticeListResponse;
+import org.project.ttokttok.domain.notice.repository.dto.NoticeDetailVersion;
+import org.project.ttokttok.domain.notice.repository.dto.NoticeListVersion;
 import org.project.ttokttok.domain.notice.service.NoticeUserService;
+import org.project.ttokttok.global.util.http.ConditionalGetUtil;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 공지사항 조회 API 컨트롤러
@@ -27,13 +32,34 @@ public class NoticeUserController implements NoticeUserDocs {
     public ResponseEntity<NoticeListResponse> getNotices(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String keyword
+            @RequestParam(required = false) String keyword,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(noticeUserService.getNotices(page, size, keyword));
+        // 공지 전체의 건수/최대 수정 시각/조회수 합계가 같으면 목록 조회 없이 304 를 반환한다.
+        // 조회수 반영은 updatedAt 을 바꾸지 않으므로 Last-Modified(If-Modified-Since) 로는 판정하지 않는다.
+        NoticeListVersion version = noticeUserService.getNoticesVersion();
+        String eTag = ConditionalGetUtil.weakETag(version.count(), version.lastModifiedAt(), version.totalViewCount(),
+                page, size, keyword);
+
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ConditionalGetUtil.ok(noticeUserService.getNotices(page, size, keyword), eTag, CacheControl.noCache());
     }
 
     @GetMapping("/{noticeId}")
-    public ResponseEntity<NoticeDetailResponse> getNoticeDetail(@PathVariable String noticeId) {
-        return ResponseEntity.ok(noticeUserService.getNoticeDetail(noticeId));
+    public ResponseEntity<NoticeDetailResponse> getNoticeDetail(@PathVariable String noticeId, WebRequest webRequest) {
+        // 수정 시각과 DB 에 반영된 조회수만 먼저 조회해, 변경이 없으면 상세 조회 없이 304 를 반환한다.
+        // 버퍼에만 쌓인 조회수는 ETag 에서 제외한다. (조회할 때마다 바뀌어 재검증이 항상 실패하므로)
+        NoticeDetailVersion version = noticeUserService.getNoticeDetailVersion(noticeId);
+        String eTag = ConditionalGetUtil.weakETag(noticeId, version.updatedAt(), version.viewCount());
+
+        if (webRequest.checkNotModified(eTag)) {
+            noticeUserService.increaseViewCount(noticeId);
+            return null;
+        }
+
+        return ConditionalGetUtil.ok(noticeUserService.getNoticeDetail(noticeId), eTag, CacheControl.noCache());
     }
 }
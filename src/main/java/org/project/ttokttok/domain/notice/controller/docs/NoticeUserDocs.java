@@ -11,6 +11,7 @@ import org.project.ttokttok.domain.notice.controller.dto.response.NoticeDetailRe
 import org.project.ttokttok.domain.notice.controller.dto.response.NoticeListResponse;
 import org.project.ttokttok.global.exception.dto.ErrorResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "[공용] 공지사항 조회 API", description = "누구나(비로그인 포함) 서비스 공지사항을 조회하는 API 입니다.")
 public interface NoticeUserDocs {
@@ -33,7 +34,8 @@ public interface NoticeUserDocs {
     ResponseEntity<NoticeListResponse> getNotices(
             @Parameter(description = "페이지 번호 (기본값 1)") int page,
             @Parameter(description = "페이지당 개수 (기본값 10)") int size,
-            @Parameter(description = "제목 검색어 (선택)") String keyword
+            @Parameter(description = "제목 검색어 (선택)") String keyword,
+            @Parameter(hidden = true) WebRequest webRequest
     );
 
     @Operation(
@@ -55,6 +57,7 @@ public interface NoticeUserDocs {
             )
     })
     ResponseEntity<NoticeDetailResponse> getNoticeDetail(
-            @Parameter(description = "공지사항 ID", required = true) String noticeId
+            @Parameter(description = "공지사항 ID", required = true) String noticeId,
+            @Parameter(hidden = true) WebRequest webRequest
     );
 }
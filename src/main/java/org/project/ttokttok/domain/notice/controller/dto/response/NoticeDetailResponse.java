@@ -13,13 +13,18 @@ public record NoticeDetailResponse(
         int viewCount
 ) {
     public static NoticeDetailResponse from(Notice notice) {
+        return of(notice, notice.getViewCount());
+    }
+
+    // 버퍼링되어 아직 DB 에 반영되지 않은 조회수를 포함해 응답할 때 사용
+    public static NoticeDetailResponse of(Notice notice, int viewCount) {
         return new NoticeDetailResponse(
                 notice.getId(),
                 notice.getTitle(),
                 notice.getContent(),
                 notice.getCreatedBy(),
                 notice.getCreatedAt(),
-                notice.getViewCount()
+                viewCount
         );
     }
 }
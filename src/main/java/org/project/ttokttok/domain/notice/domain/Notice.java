@@ -40,7 +40,8 @@ public class Notice extends BaseTimeEntity {
     @Column(name = "created_by", nullable = false, updatable = false)
     private String createdBy;
 
-    @Column(nullable = false)
+    // 조회수는 NoticeViewCountJdbcRepository 의 원자적 UPDATE 로만 바뀐다. 변경 감지가 오래된 값으로 덮어쓰지 않도록 updatable = false.
+    @Column(nullable = false, updatable = false)
     private int viewCount;
 
     @Builder
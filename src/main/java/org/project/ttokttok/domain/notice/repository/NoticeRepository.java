@@ -1,15 +1,23 @@
 package org.project.ttokttok.domain.notice.repository;
 
 import org.project.ttokttok.domain.notice.domain.Notice;
+import org.project.ttokttok.domain.notice.repository.dto.NoticeDetailVersion;
+import org.project.ttokttok.domain.notice.repository.dto.NoticeListVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
+
 public interface NoticeRepository extends JpaRepository<Notice, String>, NoticeCustomRepository {
 
-    // 조회수 원자적 증가 (동시 상세 조회 시 read-modify-write 경쟁으로 인한 조회수 유실 방지)
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Notice n SET n.viewCount = n.viewCount + 1 WHERE n.id = :noticeId")
-    int increaseViewCount(@Param("noticeId") String noticeId);
+    // 공지사항 목록 버전 (조건부 GET 용). 조회수 반영은 updated_at 을 바꾸지 않으므로 조회수 합계를 함께 본다.
+    @Query("SELECT new org.project.ttokttok.domain.notice.repository.dto.NoticeListVersion(" +
+            "COUNT(n), MAX(n.updatedAt), COALESCE(SUM(n.viewCount), 0)) FROM Notice n")
+    NoticeListVersion findListVersion();
+
+    // 공지사항 상세 버전 (조건부 GET 용)
+    @Query("SELECT new org.project.ttokttok.domain.notice.repository.dto.NoticeDetailVersion(n.updatedAt, n.viewCount) " +
+            "FROM Notice n WHERE n.id = :noticeId")
+    Optional<NoticeDetailVersion> findDetailVersion(@Param("noticeId") String noticeId);
 }
@@ -0,0 +1,31 @@
+package org.project.ttokttok.domain.notice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버퍼링된 공지사항 조회수 증가분을 JDBC 배치 UPDATE 로 반영하는 리포지토리
+ * (ID 오름차순 갱신으로 인스턴스 간 락 획득 순서를 맞춘다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoticeViewCountJdbcRepository {
+
+    private static final String INCREASE_VIEW_COUNT_SQL =
+            "UPDATE notices SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void increaseViewCounts(Map<String, Long> deltas) {
+        List<Object[]> args = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, args);
+    }
+}
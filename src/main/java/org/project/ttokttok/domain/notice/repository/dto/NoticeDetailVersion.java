@@ -0,0 +1,16 @@
+package org.project.ttokttok.domain.notice.repository.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 상세 응답의 버전. 상세 본문을 읽지 않고 조건부 GET 을 판정하는 데 쓴다.
+ * 조회수는 DB 에 반영된 값만 포함하므로, 버퍼에만 쌓인 증가분은 다음 반영 전까지 ETag 를 바꾸지 않는다.
+ *
+ * @param updatedAt 공지의 updatedAt
+ * @param viewCount DB 에 반영된 조회수
+ */
+public record NoticeDetailVersion(
+        LocalDateTime updatedAt,
+        Integer viewCount
+) {
+}
@@ -0,0 +1,18 @@
+package org.project.ttokttok.domain.notice.repository.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 목록 응답의 버전. 목록 본문을 읽지 않고 조건부 GET 을 판정하는 데 쓴다.
+ * 조회수 반영(배치 UPDATE)은 updatedAt 을 바꾸지 않으므로, 조회수 합계를 따로 포함해 목록의 조회수 변화도 감지한다.
+ *
+ * @param count          공지 수
+ * @param lastModifiedAt 공지들의 최대 updatedAt (공지가 없으면 null)
+ * @param totalViewCount 공지들의 조회수 합계
+ */
+public record NoticeListVersion(
+        Long count,
+        LocalDateTime lastModifiedAt,
+        Long totalViewCount
+) {
+}
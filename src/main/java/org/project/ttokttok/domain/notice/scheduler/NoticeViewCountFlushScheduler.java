@@ -0,0 +1,39 @@
+package org.project.ttokttok.domain.notice.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.domain.notice.service.NoticeViewCountService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeViewCountFlushScheduler {
+
+    private final NoticeViewCountService noticeViewCountService;
+
+    @Scheduled(fixedDelayString = "${view-count.flush-delay-ms:5000}")
+    public void flushViewCounts() {
+        Map<String, Long> deltas = noticeViewCountService.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            noticeViewCountService.flush(deltas);
+            log.debug("공지사항 조회수 반영 완료: {}개 공지", deltas.size());
+        } catch (Exception e) {
+            noticeViewCountService.restore(deltas);
+            log.error("공지사항 조회수 반영 중 오류 발생, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
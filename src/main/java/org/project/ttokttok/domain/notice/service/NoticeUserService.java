@@ -7,6 +7,8 @@ import org.project.ttokttok.domain.notice.controller.dto.response.NoticeListResp
 import org.project.ttokttok.domain.notice.domain.Notice;
 import org.project.ttokttok.domain.notice.exception.NoticeNotFoundException;
 import org.project.ttokttok.domain.notice.repository.NoticeRepository;
+import org.project.ttokttok.domain.notice.repository.dto.NoticeDetailVersion;
+import org.project.ttokttok.domain.notice.repository.dto.NoticeListVersion;
 import org.project.ttokttok.domain.notice.repository.dto.NoticePageQueryResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,7 @@ public class NoticeUserService {
     private static final int MAX_PAGE_SIZE = 100;
 
     private final NoticeRepository noticeRepository;
+    private final NoticeViewCountService noticeViewCountService;
 
     // 공지사항 목록 조회 (페이지 번호 기반 + 제목 검색, 비로그인 공개)
     @Transactional(readOnly = true)
@@ -41,17 +44,35 @@ public class NoticeUserService {
         return NoticeListResponse.of(safePage, totalPage, (int) queryResponse.totalCount(), summaries);
     }
 
-    // 공지사항 상세 조회 (조회 시 조회수 원자적 증가, 비로그인 공개)
-    @Transactional
-    public NoticeDetailResponse getNoticeDetail(String noticeId) {
-        int updated = noticeRepository.increaseViewCount(noticeId);
-        if (updated == 0) {
-            throw new NoticeNotFoundException();
-        }
+    // 공지사항 목록 버전 조회 (목록 본문을 조회하기 전에 If-None-Match 비교용)
+    @Transactional(readOnly = true)
+    public NoticeListVersion getNoticesVersion() {
+        return noticeRepository.findListVersion();
+    }
+
+    // 공지사항 상세 버전 조회 (상세 본문을 조회하기 전에 If-None-Match 비교용)
+    @Transactional(readOnly = true)
+    public NoticeDetailVersion getNoticeDetailVersion(String noticeId) {
+        return noticeRepository.findDetailVersion(noticeId)
+                .orElseThrow(NoticeNotFoundException::new);
+    }
+
+    // 상세 본문 없이 조회수만 기록 (조건부 GET 이 304 로 끝난 조회)
+    public void increaseViewCount(String noticeId) {
+        noticeViewCountService.increase(noticeId);
+    }
 
+    // 공지사항 상세 조회 (비로그인 공개)
+    // 조회수는 버퍼에 기록 후 NoticeViewCountFlushScheduler 가 배치 반영하므로 락 없는 읽기 전용 조회가 된다.
+    // 응답 조회수에는 아직 반영되지 않은 이 인스턴스의 증가분을 더해 방금 조회한 것이 보이도록 한다.
+    @Transactional(readOnly = true)
+    public NoticeDetailResponse getNoticeDetail(String noticeId) {
         Notice notice = noticeRepository.findById(noticeId)
                 .orElseThrow(NoticeNotFoundException::new);
 
-        return NoticeDetailResponse.from(notice);
+        noticeViewCountService.increase(noticeId);
+        int viewCount = notice.getViewCount() + (int) noticeViewCountService.pendingCount(noticeId);
+
+        return NoticeDetailResponse.of(notice, viewCount);
     }
 }
@@ -0,0 +1,46 @@
+package org.project.ttokttok.domain.notice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.project.ttokttok.domain.notice.repository.NoticeViewCountJdbcRepository;
+import org.project.ttokttok.global.util.counter.ViewCountBuffer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 공지사항 조회수 write-behind 서비스 (동아리 조회수와 동일한 방식)
+ */
+@Service
+@RequiredArgsConstructor
+public class NoticeViewCountService {
+
+    private final NoticeViewCountJdbcRepository viewCountJdbcRepository;
+
+    private final ViewCountBuffer buffer = new ViewCountBuffer();
+
+    public void increase(String noticeId) {
+        buffer.increment(noticeId);
+    }
+
+    public long pendingCount(String noticeId) {
+        return buffer.pendingCount(noticeId);
+    }
+
+    public Map<String, Long> drain() {
+        return buffer.drain();
+    }
+
+    @Transactional
+    public void flush(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        viewCountJdbcRepository.increaseViewCounts(deltas);
+    }
+
+    public void restore(Map<String, Long> deltas) {
+        buffer.restore(deltas);
+    }
+}
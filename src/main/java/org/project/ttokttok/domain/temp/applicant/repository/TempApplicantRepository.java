@@ -1,7 +1,10 @@
 package org.project.ttokttok.domain.temp.applicant.repository;
 
 import org.project.ttokttok.domain.temp.applicant.domain.TempApplicant;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +12,8 @@ import java.util.Optional;
 
 public interface TempApplicantRepository extends JpaRepository<TempApplicant, String> {
     Optional<TempApplicant> findByUserEmailAndFormId(String userEmail, String formId);
+
+    // 파일 정리용 id keyset 페이지 조회 (첫 페이지는 lastId = "")
+    @Query("SELECT t FROM TempApplicant t WHERE t.id > :lastId ORDER BY t.id")
+    List<TempApplicant> findPageAfter(@Param("lastId") String lastId, Limit limit);
 }
@@ -15,6 +15,8 @@ import org.project.ttokttok.infrastructure.s3.service.S3Service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory.TEMP_APPLICANT_FILE;
+
 @Service
 @RequiredArgsConstructor
 public class TempApplicantService {
@@ -92,7 +94,7 @@ public class TempApplicantService {
 
                 // 파일 저장 및 업로드 처리
                 String uploadedUrl = s3Service.uploadFile(request.files().get(i),
-                        "temp-applicants/" + request.email() + "/");
+                        TEMP_APPLICANT_FILE.getDirectoryName() + request.email() + "/");
                 tempAnswer.add(new TempAnswer(fileTypeQuestionId, uploadedUrl));
             }
         }
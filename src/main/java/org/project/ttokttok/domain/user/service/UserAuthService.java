@@ -1,13 +1,10 @@
 package org.project.ttokttok.domain.user.service;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.ttokttok.domain.user.domain.EmailVerification;
 import org.project.ttokttok.domain.user.domain.User;
 import org.project.ttokttok.domain.user.exception.OAuthOnlyAccountException;
-import org.project.ttokttok.domain.user.repository.EmailVerificationRepository;
 import org.project.ttokttok.domain.user.repository.UserRepository;
 import org.project.ttokttok.domain.user.service.dto.request.LoginServiceRequest;
 import org.project.ttokttok.domain.user.service.dto.request.ResetPasswordServiceRequest;
@@ -20,12 +17,14 @@ import org.project.ttokttok.global.auth.jwt.dto.response.TokenResponse;
 import org.project.ttokttok.global.auth.jwt.exception.InvalidRefreshTokenException;
 import org.project.ttokttok.global.auth.jwt.service.TokenProvider;
 import org.project.ttokttok.infrastructure.email.service.EmailService;
+import org.project.ttokttok.infrastructure.redis.service.EmailVerificationRedisService;
+import org.project.ttokttok.infrastructure.redis.service.EmailVerificationRedisService.VerifyResult;
 import org.project.ttokttok.infrastructure.redis.service.RefreshTokenRedisService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.UUID;
 
@@ -38,7 +37,7 @@ import static org.project.ttokttok.global.entity.Role.ROLE_USER;
 public class UserAuthService {
 
     private final UserRepository userRepository;
-    private final EmailVerificationRepository emailVerificationRepository;
+    private final EmailVerificationRedisService emailVerificationRedisService;
     private final EmailService emailService;
     private final TokenProvider tokenProvider;
     private final PasswordEncoder passwordEncoder;
@@ -47,53 +46,47 @@ public class UserAuthService {
     /**
      * 1. 이메일 인증코드 전송
      *
-     * 상명대학교 이메일 형식을 검증하고, 기존 미인증 코드를 만료 처리한 후 새로운 인증코드를 생성하여 발송합니다.
+     * 상명대학교 이메일 형식을 검증하고, 새로운 인증코드를 생성하여 발송합니다.
+     * 인증코드는 Redis 에 저장되며 이전에 발급한 코드는 덮어써져 무효가 됩니다. (DB 를 사용하지 않음)
      *
      * @param email 인증코드를 발송할 이메일 주소 (상명대학교 이메일만 허용)
      * @throws IllegalArgumentException 상명대학교 이메일이 아닌 경우
      * */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void sendVerificationCode(String email) {
         // 1-1. 상명대 이메일 형식 검증
         if (!emailService.isValidSangmyungEmail(email)) {
             throw new IllegalArgumentException("상명대학교 이메일만 사용 가능합니다.");
         }
 
-        // 1-2. 기존 미인증 코드를 만료 처리
-        emailVerificationRepository.expireAllPendingVerifications(email);
-
-        // 1-3. 새 인증코드 생성 및 발송
+        // 1-2. 새 인증코드 생성 및 발송
         String code = emailService.sendVerificationCode(email);
 
-        // 1-4. DB 에 인증 정보 저장
-        EmailVerification verification = EmailVerification.builder()
-                .email(email)
-                .code(code)
-                .expiresAt(LocalDateTime.now().plusMinutes(5))
-                .build();
-
-        emailVerificationRepository.save(verification);
+        // 1-3. Redis 에 인증코드 저장 (기존 코드 대체)
+        emailVerificationRedisService.issue(email, code);
         log.info("인증코드 발송 및 저장 완료 : {}", email);
     }
 
     /**
      * 2. 이메일 인증코드 검증 - 이메일 인증코드를 검증합니다.
      *
+     * 틀린 코드를 여러 번 입력하면 코드가 폐기되어 다시 발급받아야 합니다.
+     *
      * @param email 검증할 이메일 주소
      * @param code 검증할 인증코드
      * @return 인증 성공 시 true
-     * @throws IllegalArgumentException 올바르지 않은 인증코드이거나 만료된 경우
+     * @throws IllegalArgumentException 올바르지 않은 인증코드이거나 만료된 경우, 시도 횟수를 초과한 경우
      * */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean verifyEmail(String email, String code) {
-        EmailVerification verification = emailVerificationRepository
-                .findByEmailAndCodeAndIsVerifiedFalse(email, code)
-                .orElseThrow(() -> new IllegalArgumentException("올바르지 않은 인증코드입니다."));
+        VerifyResult result = emailVerificationRedisService.verify(email, code);
 
-        if (verification.isExpired()) {
-            throw new IllegalArgumentException("인증코드가 만료되었습니다.");
+        switch (result) {
+            case EXPIRED -> throw new IllegalArgumentException("인증코드가 만료되었습니다.");
+            case MISMATCH -> throw new IllegalArgumentException("올바르지 않은 인증코드입니다.");
+            case TOO_MANY_ATTEMPTS -> throw new IllegalArgumentException("인증 시도 횟수를 초과했습니다. 인증코드를 다시 요청해주세요.");
+            case VERIFIED -> log.info("이메일 인증 완료 : {}", email);
         }
-
-        verification.markAsVerified();
-        log.info("이메일 인증 완료 : {}", email);
         return true;
     }
 
@@ -117,8 +110,8 @@ public class UserAuthService {
             throw new IllegalArgumentException("이미 가입된 이메일입니다.");
         }
 
-        // 3-3. 이메일 인증 확인
-        if (!emailVerificationRepository.existsByEmailAndIsVerifiedTrue(request.email())) {
+        // 3-3. 이메일 인증 확인 (인증 완료 표시는 한 번만 사용 가능)
+        if (!emailVerificationRedisService.consumeVerified(request.email())) {
             throw new IllegalArgumentException("이메일 인증이 완료되지 않았습니다.");
         }
 
@@ -213,11 +206,12 @@ public class UserAuthService {
     /**
      * 6. 비밀번호 재설정용 인증코드 발송합니다.
      *
-     * 사용자 존재 여부를 확인하고, 기존 미인증 코드를 만료 처리한 후 새로운 인증코드를 생성하여 발송합니다.
+     * 사용자 존재 여부를 확인하고, 새로운 인증코드를 생성하여 발송합니다. (이전 코드는 무효)
      *
      * @param email 비밀번호 재설정 코드를 발송할 이메일 주소
      * @throws IllegalArgumentException 존재하지 않는 사용자인 경우
      * */
+    @Transactional(readOnly = true)
     public void sendPasswordResetCode(String email) {
         // 사용자 존재 확인
         User user = userRepository.findByEmail(email)
@@ -228,20 +222,11 @@ public class UserAuthService {
             throw new OAuthOnlyAccountException();
         }
 
-        // 기존 미인증 코드들 만료 처리
-        emailVerificationRepository.expireAllPendingVerifications(email);
-
         // 새 인증코드 생성 및 발송
         String code = emailService.sendPasswordResetCode(email);
 
-        // DB에 인증 정보 저장
-        EmailVerification verification = EmailVerification.builder()
-                .email(email)
-                .code(code)
-                .expiresAt(LocalDateTime.now().plusMinutes(5))
-                .build();
-
-        emailVerificationRepository.save(verification);
+        // Redis 에 인증코드 저장 (기존 코드 대체)
+        emailVerificationRedisService.issue(email, code);
         log.info("비밀번호 재설정 코드 발송 완료: {}", email);
     }
 
@@ -286,9 +271,7 @@ public class UserAuthService {
 
     // JWT 토큰에서 Claims 추출
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(tokenProvider.getKey())
-                .build()
+        return tokenProvider.getParser()
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -309,8 +292,9 @@ public class UserAuthService {
         }
     }
 
+    // 같은 코드로 인증을 마친 경우에만 통과하며, 인증 완료 표시는 한 번만 사용된다.
     private void checkVerificationCode(String email, String code) {
-        if (!emailVerificationRepository.existsByEmailAndCodeAndIsVerifiedTrue(email, code)) {
+        if (!emailVerificationRedisService.consumeVerified(email, code)) {
             throw new IllegalArgumentException("인증 코드 성공 여부가 존재하지 않습니다.");
         }
     }
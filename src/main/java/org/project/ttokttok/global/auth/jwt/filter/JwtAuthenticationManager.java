@@ -1,12 +1,7 @@
 package org.project.ttokttok.global.auth.jwt.filter;
 
-import lombok.RequiredArgsConstructor;
-import org.project.ttokttok.domain.admin.exception.AdminNotFoundException;
-import org.project.ttokttok.domain.admin.repository.AdminRepository;
-import org.project.ttokttok.domain.superadmin.exception.SuperAdminNotFoundException;
-import org.project.ttokttok.domain.superadmin.repository.SuperAdminRepository;
-import org.project.ttokttok.domain.user.repository.UserRepository;
 import org.project.ttokttok.global.auth.jwt.exception.InvalidRoleException;
+import org.project.ttokttok.global.auth.jwt.principal.AuthPrincipal;
 import org.project.ttokttok.global.entity.Role;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -17,32 +12,28 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationManager {
 
     // jwt의 인증 권한을 반환해주는 클래스
-
-    private final UserRepository userRepository;
-    private final AdminRepository adminRepository;
-    private final SuperAdminRepository superAdminRepository;
-
-    private final String ROLE_USER = "ROLE_USER";
-    private final String ROLE_ADMIN = "ROLE_ADMIN";
-    private final String ROLE_SUPER_ADMIN = "ROLE_SUPER_ADMIN";
+    // 토큰은 필터에서 서명/만료/블랙리스트 검증을 마쳤으므로, 클레임만으로 principal 을 만든다. (DB 조회 없음)
 
     public Authentication getAuthentication(String email, String role) {
-        Object principal = switch (role) {
-            case ROLE_USER -> userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            case ROLE_ADMIN -> adminRepository.findByUsername(email)
-                    .orElseThrow(AdminNotFoundException::new);
-            case ROLE_SUPER_ADMIN -> superAdminRepository.findByUsername(email)
-                    .orElseThrow(SuperAdminNotFoundException::new);
-            default -> throw new InvalidRoleException();
-        };
+        AuthPrincipal principal = AuthPrincipal.of(email, toRole(role));
 
         // 최종적으로 인증 권한을 반환하게 된다.
-        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(principal.role().name()));
         return new UsernamePasswordAuthenticationToken(principal, null, authorities);
     }
+
+    private Role toRole(String role) {
+        if (role == null) {
+            throw new InvalidRoleException();
+        }
+
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRoleException();
+        }
+    }
 }
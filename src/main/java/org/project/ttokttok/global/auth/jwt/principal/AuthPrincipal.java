@@ -0,0 +1,26 @@
+package org.project.ttokttok.global.auth.jwt.principal;
+
+import org.project.ttokttok.global.entity.Role;
+
+import java.security.Principal;
+
+/**
+ * 액세스 토큰 클레임으로 만든 인증 주체
+ *
+ * <p>서명과 만료가 검증된 토큰의 subject, role 만 담는다.
+ * 요청마다 회원 엔티티를 조회하지 않기 위한 가벼운 principal 이다.
+ */
+public record AuthPrincipal(
+        String username,
+        Role role
+) implements Principal {
+
+    public static AuthPrincipal of(String username, Role role) {
+        return new AuthPrincipal(username, role);
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -1,5 +1,8 @@
 package org.project.ttokttok.global.auth.jwt.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -14,9 +17,14 @@ import org.project.ttokttok.infrastructure.redis.service.RefreshTokenRedisServic
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.project.ttokttok.global.auth.jwt.TokenExpiry.ACCESS_TOKEN_EXPIRY_TIME;
 
@@ -31,13 +39,28 @@ public class TokenProvider {
 
     // JWT 암호화 / 복호화에 사용
     private final Key key;
+    // 파서는 불변 객체라 스레드 간 공유가 가능하므로 한 번만 생성한다.
+    private final JwtParser parser;
     private final RefreshTokenRedisService refreshTokenRedisService;
 
-    public TokenProvider(@Value("${jwt.secret}") String secret, RefreshTokenRedisService refreshTokenRedisService) {
+    // 검증을 통과한 액세스 토큰의 클레임 (키: 토큰의 SHA-256, 토큰 만료 시각까지 보관)
+    // 필터, 인자 리졸버가 같은 요청에서 여러 번 토큰을 읽어도 서명 검증은 한 번만 한다.
+    private final Cache<String, Claims> verifiedClaims;
+
+    public TokenProvider(@Value("${jwt.secret}") String secret,
+                         @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+                         RefreshTokenRedisService refreshTokenRedisService) {
         // 시크릿값 base64 디코딩
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
         this.refreshTokenRedisService = refreshTokenRedisService;
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
 
     // 토큰 검증
@@ -54,21 +77,25 @@ public class TokenProvider {
             return false;
         }
 
+        // 이미 검증된 토큰이면 서명 검증을 생략한다. (블랙리스트는 위에서 매번 확인)
+        String cacheKey = hash(token);
+        if (verifiedClaims.getIfPresent(cacheKey) != null) {
+            return true;
+        }
+
         try {
-            Jws<Claims> jws = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            Claims claims = parser.parseClaimsJws(token).getBody();
 
             // 유효한 이슈어인지 검증
-            isValidIssuer(jws.getBody().getIssuer());
+            isValidIssuer(claims.getIssuer());
 
             // 용도가 지정된 토큰(예: 온보딩 토큰)은 액세스 토큰으로 사용 불가
-            if (jws.getBody().get("token_type") != null) {
+            if (claims.get("token_type") != null) {
                 log.warn("액세스 토큰이 아닌 용도의 토큰입니다.");
                 return false;
             }
 
+            verifiedClaims.put(cacheKey, claims);
             return true;
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("잘못된 JWT 토큰 입니다.", e);
@@ -102,9 +129,11 @@ public class TokenProvider {
 
     // 토큰에서 사용자 정보 추출
     public UserProfileResponse getUserProfile(String token) {
+        Claims claims = getClaims(token);
+
         return UserProfileResponse.builder()
-                .username(getUsernameFromToken(token))
-                .role(getRoleFromToken(token))
+                .username(claims.getSubject())
+                .role(claims.get("role", String.class))
                 .build();
     }
 
@@ -122,16 +151,16 @@ public class TokenProvider {
         return getClaims(token).getSubject();
     }
 
-    // 토큰에서 사용자 역할 추출
-    private String getRoleFromToken(String token) {
-        return getClaims(token).get("role", String.class);
-    }
-
     // JWT 서명 키 반환
     public Key getKey() {
         return this.key;
     }
 
+    // 서명 키가 설정된 공용 파서 반환
+    public JwtParser getParser() {
+        return this.parser;
+    }
+
     // 유효한 이슈어(발급자)인지 검증
     private void isValidIssuer(String issuer) {
         if (!issuer.equals(this.issuer))
@@ -158,12 +187,48 @@ public class TokenProvider {
         return UUID.randomUUID().toString();
     }
 
-    // 클레임 추출 - jwt 복호화
+    // 클레임 추출 - 검증된 토큰은 캐시에서, 그 외에는 jwt 복호화
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims cached = verifiedClaims.getIfPresent(hash(token));
+        if (cached != null) {
+            return cached;
+        }
+
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // 원문 토큰을 메모리에 키로 남기지 않도록 해시값을 캐시 키로 사용
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 캐시 항목은 토큰의 만료 시각(exp)에 함께 만료된다.
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0L;
+            }
+
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
\ No newline at end of file
@@ -33,4 +33,66 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 지원자 내보내기 전용 유계 스레드풀.
+     *
+     * <p>내보내기는 지원자 전체를 페이지 단위로 읽어 파일을 만드는 긴 작업이라, 동시에 여러 개가 돌면
+     * DB 커넥션과 디스크 임시 파일을 오래 점유한다. 동시 실행은 2개로 제한하고,
+     * 대기열까지 가득 차면 AbortPolicy 로 거절해 호출자가 "잠시 후 재시도" 응답을 주도록 한다.
+     * (요청 스레드가 직접 실행하는 CallerRunsPolicy 는 비동기 작업으로 분리한 의미가 없어진다)
+     */
+    @Bean("applicantExportExecutor")
+    public Executor applicantExportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("applicant-export-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 지원서 파일 업로드 전용 유계 스레드풀.
+     *
+     * <p>지원서 한 건의 파일 답변들을 동시에 S3 로 올린다. 업로드는 네트워크 I/O 대기 작업이라
+     * 코어 수보다 넉넉하게 잡되, 동시 제출이 몰려도 S3 연결 풀을 넘지 않도록 상한을 둔다.
+     *
+     * <p>포화 시 CallerRunsPolicy로 요청 스레드가 직접 업로드한다. 순차 업로드로 느려질 뿐 제출은 실패하지 않는다.
+     */
+    @Bean("fileUploadExecutor")
+    public Executor fileUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("file-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 리사이즈 변형 생성 전용 유계 스레드풀.
+     *
+     * <p>디코딩/리사이즈는 CPU 와 힙(원본 픽셀 버퍼)을 많이 쓰므로 동시 실행을 2개로 제한해
+     * 요청 처리 스레드의 CPU 를 빼앗지 않게 한다.
+     *
+     * <p>포화 시 기본 AbortPolicy 로 제출을 거절한다. 제출하는 쪽(ClubBoardThumbnailVariantWorker)이
+     * 거절을 잡아 게시글 ID 를 로그로 남기고, 주기 스윕(ClubBoardThumbnailVariantScheduler)이 다시 넣는다.
+     * 커밋 직후 요청 스레드가 무거운 리사이즈를 떠안는 것(CallerRunsPolicy)은 피한다.
+     */
+    @Bean("imageVariantExecutor")
+    public Executor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
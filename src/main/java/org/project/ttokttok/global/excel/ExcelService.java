@@ -2,53 +2,85 @@ package org.project.ttokttok.global.excel;
 
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.project.ttokttok.domain.clubMember.service.dto.response.ClubMemberInExcelResponse;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class ExcelService {
 
-    // 부원 목록 엑셀 파일 생성
-    // TODO: 메모리 이슈 시 SXSSFWorkbook 사용 고려
-    public byte[] createMemberExcel(String clubName, List<ClubMemberInExcelResponse> members)
+    // 메모리에 유지할 행 수. 이보다 오래된 행은 임시 파일로 내려가므로 부원 수와 무관하게 힙 사용량이 일정하다.
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    private static final List<String> MEMBER_HEADERS = List.of("학년", "이름", "전공", "역할");
+
+    // 부원 목록으로 엑셀 워크북을 채운다.
+    // 부원 목록은 DB 커서에서 한 행씩 받아 바로 시트에 쓰므로, 반환 시점에 커서는 모두 소비된 상태다.
+    // 완성된 워크북은 write 로 내보내야 임시 파일이 정리된다.
+    public SXSSFWorkbook fillMemberExcel(String clubName, Stream<ClubMemberInExcelResponse> members) {
+        Iterator<List<String>> rows = members
+                .map(dto -> List.of(
+                        Integer.toString(dto.grade().getGrade()),
+                        dto.name(),
+                        dto.major(),
+                        dto.role().getMemberRoleName()))
+                .iterator();
+
+        return fillSheet(clubName + " 부원 목록", MEMBER_HEADERS, rows);
+    }
+
+    // 헤더 + 문자열 행으로 구성된 단일 시트 엑셀 파일을 스트림으로 작성
+    // 행은 Iterator 에서 하나씩 꺼내 쓰므로, 호출자는 페이지/커서 단위로 데이터를 공급할 수 있다.
+    public void writeSheet(String sheetName, List<String> headers, Iterator<List<String>> rows, OutputStream out)
             throws IOException {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        write(fillSheet(sheetName, headers, rows), out);
+    }
 
-            Sheet sheet = workbook.createSheet(clubName + " 부원 목록");
+    // 헤더 + 문자열 행으로 단일 시트 워크북을 채운다. 메모리에는 최근 행만 남고 나머지는 임시 파일로 내려간다.
+    public SXSSFWorkbook fillSheet(String sheetName, List<String> headers, Iterator<List<String>> rows) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        // 임시 파일 크기를 줄이기 위해 압축 (디스크 I/O 보다 CPU 가 여유 있음)
+        workbook.setCompressTempFiles(true);
 
-            createHeader(sheet);
-            insertMemberData(sheet, members);
+        try {
+            // 시트 이름은 31자 제한과 금지 문자가 있어 동아리 이름에 따라 생성이 실패할 수 있다.
+            Sheet sheet = workbook.createSheet(WorkbookUtil.createSafeSheetName(sheetName));
 
-            workbook.write(out);
-            return out.toByteArray();
+            writeRow(sheet, 0, headers);
+
+            int rowIndex = 1;
+            while (rows.hasNext()) {
+                writeRow(sheet, rowIndex++, rows.next());
+            }
+
+            return workbook;
+        } catch (RuntimeException e) {
+            workbook.dispose();
+            throw e;
         }
     }
 
-    // 엑셀 헤더 생성
-    private void createHeader(Sheet sheet) {
-        Row headerRow = sheet.createRow(0);
-        headerRow.createCell(0).setCellValue("학년");
-        headerRow.createCell(1).setCellValue("이름");
-        headerRow.createCell(2).setCellValue("전공");
-        headerRow.createCell(3).setCellValue("역할");
+    // 채워진 워크북을 out 으로 내보내고 임시 파일을 정리한다.
+    public void write(SXSSFWorkbook workbook, OutputStream out) throws IOException {
+        try (workbook) {
+            workbook.write(out);
+        } finally {
+            // close() 만으로는 행을 내려둔 임시 파일이 지워지지 않는다.
+            workbook.dispose();
+        }
     }
 
-    // 부원 데이터 삽입
-    private void insertMemberData(Sheet sheet, List<ClubMemberInExcelResponse> members) {
-        for (int i = 0; i < members.size(); i++) {
-            ClubMemberInExcelResponse dto = members.get(i);
-            Row row = sheet.createRow(i + 1);
-            row.createCell(0).setCellValue(Integer.toString(dto.grade().getGrade()));
-            row.createCell(1).setCellValue(dto.name());
-            row.createCell(2).setCellValue(dto.major());
-            row.createCell(3).setCellValue(dto.role().getMemberRoleName());
+    private void writeRow(Sheet sheet, int rowIndex, List<String> values) {
+        Row row = sheet.createRow(rowIndex);
+        for (int i = 0; i < values.size(); i++) {
+            row.createCell(i).setCellValue(values.get(i));
         }
     }
-}
\ No newline at end of file
+}
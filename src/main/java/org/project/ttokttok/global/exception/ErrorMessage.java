@@ -62,6 +62,12 @@ public enum ErrorMessage {
     NO_INTERVIEW_PHASE("인터뷰 단계가 존재하지 않습니다.", HttpStatus.BAD_REQUEST),
     ALREADY_APPLICANT_EXISTS("이미 지원한 동아리입니다.", HttpStatus.CONFLICT),
     QUESTION_PARSE_FAIL("질문을 받아오는데 실패했습니다.", HttpStatus.BAD_REQUEST),
+    APPLICANT_EXPORT_NOT_FOUND("지원자 내보내기 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    APPLICANT_EXPORT_NOT_READY("지원자 내보내기 파일이 아직 준비되지 않았습니다.", HttpStatus.CONFLICT),
+    APPLICANT_EXPORT_BUSY("진행 중인 지원자 내보내기 작업이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
+    // 메일 발송 에러 메시지
+    MAIL_JOB_NOT_FOUND("메일 발송 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 
     // 메모 에러 메시지
     MEMO_NOT_FOUND("메모를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -84,6 +90,8 @@ public enum ErrorMessage {
     S3_ZIP_FILE_COUNT_LIMIT("압축 파일 내 파일 개수가 너무 많습니다. (최대 50개)", HttpStatus.BAD_REQUEST),
     S3_ZIP_UNCOMPRESSED_SIZE_LIMIT("압축 해제 시 허용 용량을 초과합니다. (최대 100MB)", HttpStatus.PAYLOAD_TOO_LARGE),
     S3_ZIP_INTERNAL_FILE_TYPE_ERROR("압축 파일 내 허용되지 않는 파일 형식이 포함되어 있습니다.", HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+    S3_UPLOADED_FILE_NOT_FOUND("업로드된 파일을 찾을 수 없습니다. 업로드를 완료한 뒤 다시 시도해주세요.", HttpStatus.NOT_FOUND),
+    S3_INVALID_UPLOAD_KEY("잘못된 업로드 키입니다.", HttpStatus.BAD_REQUEST),
 
     // FCM 에러 메시지
     FCM_FIELD_BLANK("FCM 토큰에 저장할 필드가 비어 있습니다.", HttpStatus.BAD_REQUEST),
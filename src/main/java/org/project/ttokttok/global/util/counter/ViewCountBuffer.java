@@ -0,0 +1,50 @@
+package org.project.ttokttok.global.util.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 write-behind 버퍼
+ *
+ * <p>상세 조회마다 UPDATE 로 행 배타 락을 잡는 대신, 증가분을 ID별 {@link LongAdder} 에 모아 두었다가
+ * 스케줄러가 주기적으로 꺼내(drain) 배치 UPDATE 한 번으로 반영한다.
+ * LongAdder 는 셀 스트라이핑으로 같은 ID 에 대한 동시 증가도 CAS 경합 없이 처리한다.
+ *
+ * <p>카운터는 제거하지 않고 {@link LongAdder#sumThenReset()} 으로 비운다.
+ * 맵에서 제거하는 방식은 제거 직후 들어온 증가분이 버려진 카운터에 쌓여 유실될 수 있다.
+ */
+public class ViewCountBuffer {
+
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void increment(String id) {
+        counters.computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분 (이 인스턴스 기준)
+    public long pendingCount(String id) {
+        LongAdder counter = counters.get(id);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    // 누적된 증가분을 꺼내고 0으로 되돌린다. 증가분이 없는 ID 는 제외한다.
+    public Map<String, Long> drain() {
+        Map<String, Long> deltas = new HashMap<>();
+
+        counters.forEach((id, counter) -> {
+            long delta = counter.sumThenReset();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            }
+        });
+
+        return deltas;
+    }
+
+    // 반영에 실패한 증가분을 다음 flush 로 넘긴다.
+    public void restore(Map<String, Long> deltas) {
+        deltas.forEach((id, delta) -> counters.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+    }
+}
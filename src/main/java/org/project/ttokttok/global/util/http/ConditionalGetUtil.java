@@ -0,0 +1,64 @@
+package org.project.ttokttok.global.util.http;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 조건부 GET(If-None-Match) 응답 유틸
+ *
+ * <p>ETag 는 응답 본문 바이트가 아니라 버전 값(엔티티 updatedAt, 건수, 요청 파라미터 등)이나 응답 DTO 값으로 만든다.
+ * 인스턴스마다 같은 값이 나와야 하므로 hashCode 대신 SHA-256 을 쓰고,
+ * 조회수처럼 매번 바뀌지만 본문 의미에 영향이 없는 값은 제외하므로 약한(W/) ETag 로 발급한다.
+ * 최대 수정 시각은 삭제나 조회수 반영으로 앞으로 움직이지 않으므로 Last-Modified 는 발급하지 않고 ETag 로만 판정한다.
+ *
+ * <p>Spring Security 는 Cache-Control 이 없는 응답에 no-store 를 붙여 클라이언트가 응답을 저장하지 못하게 하므로,
+ * 조건부 GET 응답에는 no-cache(저장은 하되 매번 재검증)를 명시한다.
+ */
+public final class ConditionalGetUtil {
+
+    private static final String DELIMITER = "\u0000";
+    // 128bit 면 한 리소스의 버전 충돌 가능성은 무시할 수 있다.
+    private static final int ETAG_BYTES = 16;
+
+    private ConditionalGetUtil() {
+    }
+
+    /**
+     * 주어진 값들로 약한 ETag 를 생성한다.
+     *
+     * @param parts 버전을 구성하는 값 (null 허용, record 는 toString 기준)
+     * @return {@code W/"<hex>"} 형식의 ETag
+     */
+    public static String weakETag(Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            source.append(part).append(DELIMITER);
+        }
+
+        byte[] digest = sha256(source.toString());
+        return "W/\"" + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + "\"";
+    }
+
+    /**
+     * ETag 를 붙인 200 응답. 요청의 If-None-Match 가 일치하면 Spring 이 본문 직렬화 없이 304 로 바꾼다.
+     */
+    public static <T> ResponseEntity<T> ok(T body, String eTag, CacheControl cacheControl) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+
+    private static byte[] sha256(String source) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
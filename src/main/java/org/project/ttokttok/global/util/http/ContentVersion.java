@@ -0,0 +1,16 @@
+package org.project.ttokttok.global.util.http;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 응답의 버전. 건수와 마지막 수정 시각이 같으면 목록 내용도 같다고 본다.
+ * (수정은 updatedAt 으로, 삭제는 건수로 감지한다)
+ *
+ * @param count          대상 행 수
+ * @param lastModifiedAt 대상 행의 최대 updatedAt (행이 없으면 null)
+ */
+public record ContentVersion(
+        Long count,
+        LocalDateTime lastModifiedAt
+) {
+}
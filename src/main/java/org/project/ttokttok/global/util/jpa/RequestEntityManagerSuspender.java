@@ -0,0 +1,42 @@
+package org.project.ttokttok.global.util.jpa;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청에 묶인 EntityManager(Open Session In View) 를 잠시 떼어 놓고 작업을 실행한다.
+ *
+ * <p>OSIV 가 켜져 있으면 요청 스레드의 EntityManager 가 처음 조회할 때 얻은 DB 커넥션을 요청이 끝날 때까지 붙잡는다.
+ * (Spring 의 Hibernate 설정은 커넥션을 얻은 뒤 세션이 닫힐 때까지 유지한다)
+ * 조회 뒤에 외부 I/O(S3 업로드 등)가 긴 요청은 그동안 커넥션 풀을 점유하게 되므로,
+ * 작업 동안 요청 EntityManager 의 바인딩을 풀어 두면 리포지토리 호출과 트랜잭션은 각자 짧게 EntityManager 를 열고 닫아
+ * 커넥션을 곧바로 반납한다. 작업이 끝나면 원래 EntityManager 를 다시 묶는다.
+ *
+ * <p>작업이 돌려준 엔티티는 준영속 상태이므로 지연 로딩 연관관계는 작업 안에서만 접근한다.
+ * 이미 트랜잭션 안이면 떼어 낼 수 없으므로 그대로 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestEntityManagerSuspender {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public <T> T call(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        Object requestEntityManager = TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+        try {
+            return work.get();
+        } finally {
+            if (requestEntityManager != null) {
+                TransactionSynchronizationManager.bindResource(entityManagerFactory, requestEntityManager);
+            }
+        }
+    }
+}
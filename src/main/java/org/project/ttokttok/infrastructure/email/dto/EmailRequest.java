@@ -2,10 +2,45 @@ package org.project.ttokttok.infrastructure.email.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.project.ttokttok.infrastructure.email.template.MailTemplate;
+
+import java.util.Map;
 
 @Getter
 @Builder
 public class EmailRequest {
+
+    // 본문 템플릿은 클래스 로딩 시 한 번만 파싱해 두고 발송마다 재사용한다.
+    private static final MailTemplate VERIFICATION_TEMPLATE = MailTemplate.compile("""
+            <div style='font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;'>
+                <h2>똑똑 이메일 인증</h2>
+                <p>아래 인증코드를 입력해주세요:</p>
+                <div style='background: #f5f5f5; padding: 20px; text-align: center; font-size: 24px; font-weight: bold;'>
+                    {{code}}
+                </div>
+                <p>인증코드는 5분간 유효합니다.</p>
+            </div>
+            """);
+
+    private static final MailTemplate PASSWORD_RESET_TEMPLATE = MailTemplate.compile("""
+            <div style='font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;'>
+                <h2>똑똑 비밀번호 재설정</h2>
+                <p>아래 인증코드를 입력해주세요:</p>
+                <div style='background: #f5f5f5; padding: 20px; text-align: center; font-size: 24px; font-weight: bold;'>
+                    {{code}}
+                </div>
+                <p>인증코드는 5분간 유효합니다.</p>
+            </div>
+            """);
+
+    private static final MailTemplate RESULT_TEMPLATE = MailTemplate.compile("""
+            <div style='font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;'>
+                <h2>동아리 지원 결과 안내</h2>
+                <p>{{{body}}}</p>
+                <p>자세한 사항은 동아리 관리자에게 문의해주세요.</p>
+            </div>
+            """);
+
     private final String to;           // 받는 사람
     private final String subject;      // 제목
     private final String content;      // 내용
@@ -41,39 +76,26 @@ public class EmailRequest {
                 .build();
     }
 
+    // 제목/본문은 그대로 두고 받는 사람만 바꾼다. 같은 내용을 여러 명에게 보낼 때 본문을 다시 렌더링하지 않는다.
+    public EmailRequest withRecipient(String email) {
+        return EmailRequest.builder()
+                .to(email)
+                .subject(subject)
+                .content(content)
+                .isHtml(isHtml)
+                .build();
+    }
+
     private static String createVerificationContent(String code) {
-        return String.format("""
-            <div style='font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;'>
-                <h2>똑똑 이메일 인증</h2>
-                <p>아래 인증코드를 입력해주세요:</p>
-                <div style='background: #f5f5f5; padding: 20px; text-align: center; font-size: 24px; font-weight: bold;'>
-                    %s
-                </div>
-                <p>인증코드는 5분간 유효합니다.</p>
-            </div>
-            """, code);
+        return VERIFICATION_TEMPLATE.render(Map.of("code", code));
     }
 
     private static String createPasswordResetContent(String code) {
-        return String.format("""
-            <div style='font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;'>
-                <h2>똑똑 비밀번호 재설정</h2>
-                <p>아래 인증코드를 입력해주세요:</p>
-                <div style='background: #f5f5f5; padding: 20px; text-align: center; font-size: 24px; font-weight: bold;'>
-                    %s
-                </div>
-                <p>인증코드는 5분간 유효합니다.</p>
-            </div>
-            """, code);
+        return PASSWORD_RESET_TEMPLATE.render(Map.of("code", code));
     }
 
+    // 결과 본문은 관리자가 작성한 내용을 그대로 넣는다.
     private static String createResultContent(String resultBody) {
-        return String.format("""
-            <div style='font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;'>
-                <h2>동아리 지원 결과 안내</h2>
-                <p>%s</p>
-                <p>자세한 사항은 동아리 관리자에게 문의해주세요.</p>
-            </div>
-            """, resultBody);
+        return RESULT_TEMPLATE.render(Map.of("body", resultBody));
     }
-}
\ No newline at end of file
+}
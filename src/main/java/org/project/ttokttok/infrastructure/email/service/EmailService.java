@@ -2,20 +2,27 @@ package org.project.ttokttok.infrastructure.email.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.ttokttok.domain.applicant.controller.dto.request.MailFormatRequest;
 import org.project.ttokttok.infrastructure.email.dto.EmailRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -34,20 +41,12 @@ public class EmailService {
     private String replyTo;
     private static final String CHARACTERS = "0123456789";
     private static final SecureRandom random = new SecureRandom();
-    private static final String EMAIL_REGEX = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+    private static final String MESSAGE_ID_HEADER = "Message-ID";
 
     // 이메일 발송
     public void sendEmail(EmailRequest emailRequest) {
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromAddress, fromName); // 발신자 주소와 이름 설정
-            helper.setReplyTo(replyTo);
-            helper.setTo(emailRequest.getTo());
-            helper.setSubject(emailRequest.getSubject());
-            helper.setText(emailRequest.getContent(), emailRequest.isHtml());
-
+            MimeMessage message = createMessage(emailRequest);
             mailSender.send(message);
             log.info("이메일 발송 성공: {}", emailRequest.getTo());
 
@@ -105,49 +104,107 @@ public class EmailService {
     }
 
     /**
-     * 동아리 지원 결과 안내 이메일 벌크 발송.
+     * 여러 통의 메일을 SMTP 연결 하나로 발송한다.
      *
-     * <p>메서드 전체를 {@code mailExecutor} 풀에서 비동기 실행한다. 호출부
-     * ({@code ApplicantAdminService})는 다른 빈이므로 Spring AOP 프록시가 적용되어
-     * {@code @Async}가 정상 동작한다(과거 self-invocation + protected 조합은 프록시를
-     * 우회해 동기 실행됐음). 덕분에 느린 SMTP I/O가 호출자의 트랜잭션 스레드를 막지 않아
-     * DB 커넥션이 조기에 반납된다.
+     * <p>{@code JavaMailSender#send(MimeMessage...)} 는 한 번 연결해 모든 메시지를 보낸 뒤 연결을 닫으므로,
+     * 메일마다 연결/인증을 반복하지 않는다. 일부만 실패해도 나머지는 발송되며,
+     * 실패한 메일의 인덱스와 오류 메시지를 돌려준다. (빈 맵이면 전부 성공)
      *
-     * <p>인자는 이미 구체화된 {@code List<String>}이라 비동기 스레드로 넘겨도
-     * 지연 로딩(영속성 컨텍스트) 이슈가 없다.
+     * <p>제목/본문이 같은 메일은 MIME 골격(헤더 + 인코딩된 본문)을 한 번만 만들어 두고,
+     * 수신자마다 골격을 복원해 받는 사람 헤더만 채운다.
      */
-    @Async("mailExecutor")
-    public void sendResultMail(List<String> emails, MailFormatRequest request) {
-        int successCount = 0;
-        int failureCount = 0;
-
-        for (String email : emails) {
-            if (!isValidEmail(email)) {
-                log.warn("유효하지 않은 이메일 주소: {}", email);
-                failureCount++;
-                continue;
+    public Map<Integer, String> sendBatch(List<EmailRequest> emailRequests) {
+        Map<Integer, String> failures = new HashMap<>();
+        Map<MessageKey, byte[]> skeletons = new HashMap<>();
+        List<MimeMessage> messages = new ArrayList<>();
+        List<Integer> messageIndexes = new ArrayList<>();
+
+        for (int i = 0; i < emailRequests.size(); i++) {
+            EmailRequest emailRequest = emailRequests.get(i);
+            try {
+                MessageKey key = MessageKey.from(emailRequest);
+                byte[] skeleton = skeletons.get(key);
+                if (skeleton == null) {
+                    skeleton = createSkeleton(emailRequest);
+                    skeletons.put(key, skeleton);
+                }
+
+                messages.add(createMessage(skeleton, emailRequest.getTo()));
+                messageIndexes.add(i);
+            } catch (MessagingException | IOException | MailException e) {
+                log.error("이메일 메시지 생성 실패: {} - {}", emailRequest.getTo(), e.getMessage());
+                failures.put(i, e.getMessage());
             }
+        }
 
-            try {
-                EmailRequest emailRequest = EmailRequest.createResultEmail(email, request.title(), request.body());
-                sendEmail(emailRequest);
-                successCount++;
-                log.info("지원 결과 안내 이메일 발송 완료: {}", email);
-            } catch (Exception e) {
-                failureCount++;
-                log.error("이메일 발송 실패: {} - {}", email, e.getMessage());
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // 연결 실패 시에도 모든 메시지가 담겨 오지만, 비어 있으면 전부 실패로 본다.
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (int i = 0; i < messages.size(); i++) {
+                if (failedMessages.isEmpty()) {
+                    failures.put(messageIndexes.get(i), e.getMessage());
+                } else if (failedMessages.containsKey(messages.get(i))) {
+                    failures.put(messageIndexes.get(i), failedMessages.get(messages.get(i)).getMessage());
+                }
+            }
+        } catch (MailException e) {
+            for (Integer index : messageIndexes) {
+                failures.put(index, e.getMessage());
             }
         }
 
-        log.info("지원 결과 안내 이메일 발송 완료 - 성공: {}건, 실패: {}건", successCount, failureCount);
+        if (!failures.isEmpty()) {
+            log.warn("이메일 일괄 발송 중 일부 실패 - 전체: {}건, 실패: {}건", emailRequests.size(), failures.size());
+        }
+        return failures;
     }
 
-    // 순수 이메일 주소 검증 메서드
-    private boolean isValidEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            return false;
+    private MimeMessage createMessage(EmailRequest emailRequest) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = prepareMessage(message, emailRequest);
+        helper.setTo(emailRequest.getTo());
+        return message;
+    }
+
+    private MimeMessage createMessage(byte[] skeleton, String to) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage(new ByteArrayInputStream(skeleton));
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(to));
+        return message;
+    }
+
+    // 받는 사람을 뺀 메시지를 직렬화한다. 발송 시 메시지마다 새 Message-ID 가 붙도록 골격에서는 지운다.
+    private byte[] createSkeleton(EmailRequest emailRequest) throws MessagingException, IOException {
+        MimeMessage message = mailSender.createMimeMessage();
+        prepareMessage(message, emailRequest);
+        message.saveChanges();
+        message.removeHeader(MESSAGE_ID_HEADER);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        message.writeTo(out);
+        return out.toByteArray();
+    }
+
+    private MimeMessageHelper prepareMessage(MimeMessage message, EmailRequest emailRequest)
+            throws MessagingException, UnsupportedEncodingException {
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(fromAddress, fromName); // 발신자 주소와 이름 설정
+        helper.setReplyTo(replyTo);
+        helper.setSubject(emailRequest.getSubject());
+        helper.setText(emailRequest.getContent(), emailRequest.isHtml());
+        return helper;
+    }
+
+    private record MessageKey(String subject, String content, boolean html) {
+
+        private static MessageKey from(EmailRequest emailRequest) {
+            return new MessageKey(emailRequest.getSubject(), emailRequest.getContent(), emailRequest.isHtml());
         }
-        // 간단한 이메일 형식 검증
-        return email.matches(EMAIL_REGEX);
     }
 }
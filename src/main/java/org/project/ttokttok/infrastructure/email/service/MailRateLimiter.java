@@ -0,0 +1,78 @@
+package org.project.ttokttok.infrastructure.email.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 메일 발송 속도 제한 (토큰 버킷)
+ *
+ * <p>초당 {@code ratePerSecond} 개씩 토큰이 차고 최대 {@code burst} 개까지 쌓인다.
+ * 토큰이 모자라면 빚을 지고(음수) 그만큼 기다리므로, 여러 건을 한 번에 요청해도
+ * 평균 발송 속도는 설정값을 넘지 않는다. SMTP 제공자의 발송 한도를 지키기 위한 것으로
+ * 인스턴스마다 따로 계산한다.
+ */
+@Component
+public class MailRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double ratePerSecond;
+    private final double burst;
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    @Autowired
+    public MailRateLimiter(@Value("${email.bulk.rate-per-second:5}") double ratePerSecond,
+                           @Value("${email.bulk.burst:10}") int burst) {
+        this(ratePerSecond, burst, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    MailRateLimiter(double ratePerSecond, int burst, LongSupplier nanoClock, Sleeper sleeper) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("메일 발송 속도 제한 값은 0보다 커야 합니다.");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    // permits 개를 보낼 수 있을 때까지 기다린다.
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            sleeper.sleep(waitNanos);
+        }
+    }
+
+    // 토큰을 먼저 차감하고 기다려야 할 시간을 돌려준다. 대기는 락 밖에서 한다.
+    synchronized long reserve(int permits) {
+        refill();
+        tokens -= permits;
+
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-tokens / ratePerSecond * NANOS_PER_SECOND);
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * ratePerSecond / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
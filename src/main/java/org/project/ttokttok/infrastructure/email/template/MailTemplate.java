@@ -0,0 +1,90 @@
+package org.project.ttokttok.infrastructure.email.template;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 파싱해 두는 메일 본문 템플릿
+ *
+ * <p>{@code {{name}}} 은 HTML 이스케이프해서, {@code {{{name}}}} 은 그대로 치환한다.
+ * 값이 없는 변수는 빈 문자열이 된다. 템플릿은 {@link #compile(String)} 에서 한 번만
+ * 고정 문자열/변수 조각으로 나눠 두므로, 렌더링할 때는 조각을 이어 붙이기만 한다.
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final String RAW_OPEN = "{{{";
+    private static final String RAW_CLOSE = "}}}";
+
+    private final List<Segment> segments;
+    private final int literalLength;
+
+    private MailTemplate(List<Segment> segments) {
+        this.segments = List.copyOf(segments);
+        this.literalLength = segments.stream()
+                .filter(segment -> segment instanceof Literal)
+                .mapToInt(segment -> ((Literal) segment).text().length())
+                .sum();
+    }
+
+    public static MailTemplate compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                segments.add(new Literal(source.substring(position)));
+                break;
+            }
+            if (open > position) {
+                segments.add(new Literal(source.substring(position, open)));
+            }
+
+            boolean raw = source.startsWith(RAW_OPEN, open);
+            String closeToken = raw ? RAW_CLOSE : CLOSE;
+            int nameStart = open + (raw ? RAW_OPEN.length() : OPEN.length());
+            int close = source.indexOf(closeToken, nameStart);
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 템플릿 변수가 있습니다: " + source.substring(open));
+            }
+
+            segments.add(new Variable(source.substring(nameStart, close).trim(), !raw));
+            position = close + closeToken.length();
+        }
+
+        return new MailTemplate(segments);
+    }
+
+    public String render(Map<String, String> variables) {
+        StringBuilder builder = new StringBuilder(literalLength + 64);
+
+        for (Segment segment : segments) {
+            if (segment instanceof Literal literal) {
+                builder.append(literal.text());
+                continue;
+            }
+
+            Variable variable = (Variable) segment;
+            String value = variables.get(variable.name());
+            if (value != null) {
+                builder.append(variable.escape() ? HtmlUtils.htmlEscape(value) : value);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private sealed interface Segment permits Literal, Variable {
+    }
+
+    private record Literal(String text) implements Segment {
+    }
+
+    private record Variable(String name, boolean escape) implements Segment {
+    }
+}
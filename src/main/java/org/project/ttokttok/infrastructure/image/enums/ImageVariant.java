@@ -0,0 +1,13 @@
+package org.project.ttokttok.infrastructure.image.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    SMALL(256),  // 피드 그리드 썸네일
+    LARGE(1080); // 모바일 전체 폭 표시
+
+    final int width;
+}
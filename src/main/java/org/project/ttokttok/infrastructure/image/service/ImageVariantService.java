@@ -0,0 +1,101 @@
+package org.project.ttokttok.infrastructure.image.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.infrastructure.image.enums.ImageVariant;
+import org.project.ttokttok.infrastructure.s3.service.S3KeyUrlGenerator;
+import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+/**
+ * 업로드된 이미지의 리사이즈 변형(ImageVariant)을 만들어 S3 에 저장한다.
+ *
+ * <p>변형 키는 원본 키에서 결정적으로 만들어지므로(S3KeyUrlGenerator#generateVariantKey),
+ * DB 에는 원본 URL 과 생성 완료 여부만 두고 변형 URL 은 조회 시 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    private static final String VARIANT_EXTENSION = "jpg";
+
+    // 디코딩 후 픽셀 버퍼가 힙을 과도하게 점유하지 않도록 원본 해상도 상한을 둔다 (약 40MP, RGB 기준 160MB)
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
+    private final S3Service s3Service;
+    private final S3KeyUrlGenerator keyUrlGenerator;
+
+    /**
+     * 원본을 한 번 내려받아 모든 변형을 만들어 올린다.
+     *
+     * @return 변형을 만들었으면 true, 서버에서 디코딩할 수 없는 형식이라 건너뛰었으면 false
+     */
+    public boolean createVariants(String imageUrl) {
+        String key = keyUrlGenerator.extractKeyFromUrl(imageUrl);
+
+        Optional<BufferedImage> original;
+        try (InputStream in = s3Service.openFile(key)) {
+            original = ImageResizer.decode(in, MAX_SOURCE_PIXELS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (original.isEmpty()) {
+            log.info("[ImageVariant] 디코딩할 수 없는 이미지라 변형 생성을 건너뜁니다. key={}", key);
+            return false;
+        }
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            s3Service.uploadGeneratedFile(variantKey(key, variant),
+                    encode(ImageResizer.resize(original.get(), variant.getWidth())),
+                    ImageResizer.CONTENT_TYPE);
+        }
+        return true;
+    }
+
+    public String getVariantUrl(String imageUrl, ImageVariant variant) {
+        return keyUrlGenerator.createUrl(variantKey(keyUrlGenerator.extractKeyFromUrl(imageUrl), variant));
+    }
+
+    /**
+     * 원본 삭제와 함께 변형도 커밋 이후에 삭제한다. 변형이 없는 키여도 S3 삭제는 성공하므로 생성 여부와 무관하게 호출한다.
+     */
+    public void deleteVariantsAfterCommit(String imageUrl) {
+        // 버킷 밖의 레거시 URL 은 변형 키를 계산할 수 없고 변형도 없다.
+        if (!isStoredImage(imageUrl)) {
+            return;
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            s3Service.deleteFileAfterCommit(getVariantUrl(imageUrl, variant));
+        }
+    }
+
+    public void deleteVariantsQuietly(String imageUrl) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            s3Service.deleteFileQuietly(getVariantUrl(imageUrl, variant));
+        }
+    }
+
+    private boolean isStoredImage(String imageUrl) {
+        return imageUrl.startsWith(keyUrlGenerator.getBaseUrl() + "/");
+    }
+
+    private String variantKey(String originalKey, ImageVariant variant) {
+        return keyUrlGenerator.generateVariantKey(originalKey, variant.getWidth(), VARIANT_EXTENSION);
+    }
+
+    private byte[] encode(BufferedImage image) {
+        try {
+            return ImageResizer.encodeJpeg(image);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
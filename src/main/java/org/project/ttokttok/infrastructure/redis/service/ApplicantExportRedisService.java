@@ -0,0 +1,61 @@
+package org.project.ttokttok.infrastructure.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 지원자 내보내기 작업의 상태/진행률을 Redis Hash 로 보관하는 서비스
+ *
+ * 작업은 별도 스레드에서 실행되고 상태 조회는 다른 인스턴스로 들어올 수 있으므로 인스턴스 메모리가 아닌 Redis 에 둔다.
+ * 작업 상태는 내려받기가 끝나면 필요 없으므로 TTL 로 자동 정리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicantExportRedisService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 내보내기 작업 키 접두사
+    private static final String APPLICANT_EXPORT_KEY = "applicant:export:";
+    // 작업 상태 보관 기간 (만료 후에는 내보내기 파일을 참조하는 곳이 없어 S3 파일도 정리 대상이 된다)
+    public static final Duration APPLICANT_EXPORT_TTL = Duration.ofDays(1);
+
+    // 작업 Hash 필드
+    public static final String STATUS = "status";
+    public static final String OWNER = "owner";
+    public static final String TOTAL = "total";
+    public static final String PROCESSED = "processed";
+    public static final String FILE_NAME = "fileName";
+    public static final String FILE_KEY = "fileKey";
+
+    public void create(String jobId, Map<String, String> fields) {
+        String key = APPLICANT_EXPORT_KEY + jobId;
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, APPLICANT_EXPORT_TTL);
+    }
+
+    public void update(String jobId, Map<String, String> fields) {
+        redisTemplate.opsForHash().putAll(APPLICANT_EXPORT_KEY + jobId, fields);
+    }
+
+    public void addProcessed(String jobId, long delta) {
+        redisTemplate.opsForHash().increment(APPLICANT_EXPORT_KEY + jobId, PROCESSED, delta);
+    }
+
+    public Optional<Map<String, String>> find(String jobId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(APPLICANT_EXPORT_KEY + jobId);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        entries.forEach((field, value) -> fields.put(field.toString(), value.toString()));
+        return Optional.of(fields);
+    }
+}
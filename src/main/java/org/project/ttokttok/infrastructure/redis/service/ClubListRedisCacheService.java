@@ -0,0 +1,62 @@
+package org.project.ttokttok.infrastructure.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 비로그인 동아리 목록/인기 동아리 응답의 L2(Redis) 캐시
+ *
+ * 직렬화된 응답(JSON)을 짧은 TTL 로 저장한다. 저장한 키는 인덱스 Set 에 함께 기록해
+ * 무효화 시 KEYS/SCAN 없이 해당 키들만 지운다.
+ * 캐시는 부가 기능이므로 Redis 장애는 예외를 던지지 않고 캐시 미스로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClubListRedisCacheService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 캐시 키 접두사
+    private static final String CLUB_LIST_CACHE_KEY = "cache:clubs:";
+    // 저장된 캐시 키 인덱스
+    private static final String CLUB_LIST_CACHE_INDEX_KEY = "cache:clubs-index";
+
+    public Optional<String> get(String key) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(CLUB_LIST_CACHE_KEY + key));
+        } catch (RuntimeException e) {
+            log.warn("동아리 목록 Redis 캐시 조회 실패, DB 에서 조회합니다. key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, String value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(CLUB_LIST_CACHE_KEY + key, value, ttl);
+            redisTemplate.opsForSet().add(CLUB_LIST_CACHE_INDEX_KEY, CLUB_LIST_CACHE_KEY + key);
+            redisTemplate.expire(CLUB_LIST_CACHE_INDEX_KEY, ttl);
+        } catch (RuntimeException e) {
+            log.warn("동아리 목록 Redis 캐시 저장 실패. key={}", key, e);
+        }
+    }
+
+    // 인덱스에 기록된 캐시 키를 모두 삭제한다.
+    public void evictAll() {
+        try {
+            Set<String> keys = redisTemplate.opsForSet().members(CLUB_LIST_CACHE_INDEX_KEY);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+            redisTemplate.delete(CLUB_LIST_CACHE_INDEX_KEY);
+        } catch (RuntimeException e) {
+            log.warn("동아리 목록 Redis 캐시 무효화 실패, TTL 만료 후 갱신됩니다.", e);
+        }
+    }
+}
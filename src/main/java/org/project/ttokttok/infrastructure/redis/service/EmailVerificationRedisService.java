@@ -0,0 +1,148 @@
+package org.project.ttokttok.infrastructure.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 이메일 인증코드를 Redis 에 보관하는 서비스
+ *
+ * 이메일마다 인증코드 키(코드 + 틀린 횟수) 하나와 인증 완료 표시 키 하나를 TTL 과 함께 둔다.
+ * 코드 확인, 틀린 횟수 증가, 완료 표시 사용은 Lua 스크립트로 원자적으로 처리하여
+ * 동시 요청에서도 한 번 발급한 코드는 한 번만 인증되고, 완료 표시는 한 번만 사용된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailVerificationRedisService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 인증코드 키 접두사 (hash: code, attempts)
+    private static final String CODE_KEY = "email-verification:code:";
+    // 인증 완료 표시 키 접두사 (value: 인증에 사용한 코드)
+    private static final String VERIFIED_KEY = "email-verification:verified:";
+
+    // 인증코드 유효 시간
+    public static final Duration CODE_TTL = Duration.ofMinutes(5);
+    // 인증 완료 후 회원가입/비밀번호 재설정까지 허용하는 시간
+    public static final Duration VERIFIED_TTL = Duration.ofMinutes(30);
+    // 틀린 코드 입력 허용 횟수. 넘으면 코드를 폐기해 무차별 대입을 막는다.
+    static final int MAX_ATTEMPTS = 5;
+
+    // 새 코드를 발급하면 이전 코드, 틀린 횟수, 이전 인증 완료 표시를 모두 초기화한다.
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1], KEYS[2])
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local code = redis.call('HGET', KEYS[1], 'code')
+            if not code then
+                return -1
+            end
+            if code == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[3])
+                return 1
+            end
+            local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+            if attempts >= tonumber(ARGV[2]) then
+                redis.call('DEL', KEYS[1])
+                return -2
+            end
+            return 0
+            """, Long.class);
+
+    // ARGV[1] 이 빈 문자열이면 코드와 무관하게 완료 표시만 확인한다.
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            local code = redis.call('GET', KEYS[1])
+            if not code then
+                return 0
+            end
+            if ARGV[1] ~= '' and code ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    public enum VerifyResult {
+        VERIFIED,           // 인증 성공
+        MISMATCH,           // 코드 불일치 (남은 시도 횟수 있음)
+        EXPIRED,            // 발급된 코드가 없거나 만료됨
+        TOO_MANY_ATTEMPTS   // 틀린 횟수 초과로 코드 폐기
+    }
+
+    /**
+     * 새 인증코드를 저장한다.
+     *
+     * @param email 인증 대상 이메일
+     * @param code  발송한 인증코드
+     */
+    public void issue(String email, String code) {
+        redisTemplate.execute(ISSUE_SCRIPT, List.of(CODE_KEY + email, VERIFIED_KEY + email),
+                code, String.valueOf(CODE_TTL.toMillis()));
+    }
+
+    /**
+     * 인증코드를 확인한다. 일치하면 코드를 지우고 인증 완료 표시를 남긴다.
+     *
+     * @param email 인증 대상 이메일
+     * @param code  사용자가 입력한 인증코드
+     * @return 확인 결과
+     */
+    public VerifyResult verify(String email, String code) {
+        Long result = redisTemplate.execute(VERIFY_SCRIPT, List.of(CODE_KEY + email, VERIFIED_KEY + email),
+                code, String.valueOf(MAX_ATTEMPTS), String.valueOf(VERIFIED_TTL.toMillis()));
+
+        if (result == null || result == -1L) {
+            return VerifyResult.EXPIRED;
+        }
+        if (result == 1L) {
+            return VerifyResult.VERIFIED;
+        }
+        if (result == -2L) {
+            log.warn("인증코드 시도 횟수 초과로 코드 폐기: {}", email);
+            return VerifyResult.TOO_MANY_ATTEMPTS;
+        }
+        return VerifyResult.MISMATCH;
+    }
+
+    /**
+     * 인증 완료 표시를 사용한다. (회원가입용, 한 번만 성공)
+     *
+     * @param email 인증 대상 이메일
+     * @return 인증 완료 표시가 있었으면 true
+     */
+    public boolean consumeVerified(String email) {
+        return consume(email, "");
+    }
+
+    /**
+     * 인증에 사용한 코드와 함께 인증 완료 표시를 사용한다. (비밀번호 재설정용, 한 번만 성공)
+     *
+     * @param email 인증 대상 이메일
+     * @param code  인증에 사용한 코드
+     * @return 같은 코드로 인증 완료된 표시가 있었으면 true
+     */
+    public boolean consumeVerified(String email, String code) {
+        if (code == null || code.isEmpty()) {
+            return false;
+        }
+        return consume(email, code);
+    }
+
+    private boolean consume(String email, String code) {
+        Long result = redisTemplate.execute(CONSUME_SCRIPT, List.of(VERIFIED_KEY + email), code);
+        return result != null && result == 1L;
+    }
+}
@@ -0,0 +1,131 @@
+package org.project.ttokttok.infrastructure.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 즐겨찾기 동아리 ID 집합을 Redis Set 으로 보관하는 서비스
+ *
+ * Redis Set 은 비어 있을 수 없으므로 적재 완료 표시(LOADED_MARKER)를 함께 넣어
+ * "즐겨찾기 없음"과 "캐시 없음"을 구분한다. 표시가 없는 Set 은 캐시 미스로 본다.
+ *
+ * 즐겨찾기가 바뀌면 집합을 고치지 않고 버전을 올린 뒤 키를 지운다. 적재는 DB 조회 전에 읽은 버전이
+ * 그대로일 때만 Lua 스크립트로 원자적으로 저장하므로, 조회와 변경이 겹쳐도 변경 이전의 스냅샷이 남지 않는다.
+ * 캐시는 부가 기능이므로 Redis 장애는 예외를 던지지 않고 캐시 미스로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FavoriteClubIdsRedisService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 즐겨찾기 동아리 ID 집합 키 접두사
+    private static final String FAVORITE_CLUB_IDS_KEY = "favorite:clubs:";
+    // 즐겨찾기 변경 버전 키 접두사
+    private static final String FAVORITE_CLUB_IDS_VERSION_KEY = "favorite:clubs:version:";
+    // 적재 완료 표시 (동아리 ID 는 UUID 라 겹치지 않는다)
+    private static final String LOADED_MARKER = "#loaded";
+    // 버전 키가 없을 때의 버전 (SAVE_SCRIPT 의 기본값과 같아야 한다)
+    private static final String INITIAL_VERSION = "0";
+    // 비활성 사용자의 키가 남지 않도록 하는 TTL
+    private static final Duration FAVORITE_CLUB_IDS_TTL = Duration.ofDays(1);
+
+    // 읽어 둔 버전이 그대로일 때만 집합을 통째로 교체한다. ARGV: 버전, TTL(ms), 적재 표시, 동아리 ID...
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2]) or '0'
+            if version ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 버전을 올려 진행 중인 적재를 무효화하고 집합을 지운다.
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    public Optional<Set<String>> get(String userEmail) {
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(FAVORITE_CLUB_IDS_KEY + userEmail);
+            if (members == null || !members.contains(LOADED_MARKER)) {
+                return Optional.empty();
+            }
+
+            Set<String> clubIds = new HashSet<>(members);
+            clubIds.remove(LOADED_MARKER);
+            return Optional.of(clubIds);
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 동아리 ID Redis 조회 실패, DB 에서 조회합니다. user={}", userEmail, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB 조회 전에 읽어 두는 현재 버전 ({@link #save} 에 그대로 넘긴다)
+     *
+     * @return 현재 버전, Redis 장애 시 null (저장을 건너뛴다)
+     */
+    public String currentVersion(String userEmail) {
+        try {
+            String version = redisTemplate.opsForValue().get(FAVORITE_CLUB_IDS_VERSION_KEY + userEmail);
+            return version != null ? version : INITIAL_VERSION;
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 동아리 ID 버전 조회 실패. user={}", userEmail, e);
+            return null;
+        }
+    }
+
+    /**
+     * 버전이 그대로일 때만 집합을 저장한다. 그 사이 즐겨찾기가 바뀌었으면 저장하지 않는다.
+     */
+    public void save(String userEmail, String version, Set<String> clubIds) {
+        if (version == null) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(clubIds.size() + 3);
+        args.add(version);
+        args.add(String.valueOf(FAVORITE_CLUB_IDS_TTL.toMillis()));
+        args.add(LOADED_MARKER);
+        args.addAll(clubIds);
+
+        try {
+            redisTemplate.execute(SAVE_SCRIPT,
+                    List.of(FAVORITE_CLUB_IDS_KEY + userEmail, FAVORITE_CLUB_IDS_VERSION_KEY + userEmail),
+                    args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 동아리 ID Redis 저장 실패. user={}", userEmail, e);
+        }
+    }
+
+    /**
+     * 즐겨찾기 변경 후 캐시를 무효화한다. 다음 조회에서 DB 기준으로 다시 적재된다.
+     */
+    public void evict(String userEmail) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT,
+                    List.of(FAVORITE_CLUB_IDS_KEY + userEmail, FAVORITE_CLUB_IDS_VERSION_KEY + userEmail),
+                    String.valueOf(FAVORITE_CLUB_IDS_TTL.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 동아리 ID Redis 캐시 삭제 실패. user={}", userEmail, e);
+        }
+    }
+}
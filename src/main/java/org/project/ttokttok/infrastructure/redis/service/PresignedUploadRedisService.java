@@ -0,0 +1,38 @@
+package org.project.ttokttok.infrastructure.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 직접 업로드(presigned PUT)로 발급한 키와 발급받은 사용자를 묶어 두는 Redis 서비스
+ *
+ * 업로드 확인은 키를 발급받은 사용자만 할 수 있도록, 발급 시 소유자를 기록하고 확인 시 대조한다.
+ * TTL 은 업로드 확인 허용 시간과 같게 두어 확인되지 않은 키는 자동으로 정리된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PresignedUploadRedisService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 발급한 업로드 키의 소유자 키 접두사
+    private static final String UPLOAD_OWNER_KEY = "upload:owner:";
+
+    public void bindOwner(String uploadKey, String owner, Duration ttl) {
+        redisTemplate.opsForValue().set(UPLOAD_OWNER_KEY + uploadKey, owner, ttl);
+    }
+
+    /**
+     * @return 해당 키를 이 사용자에게 발급했고 아직 확인 허용 시간이 지나지 않았으면 true
+     */
+    public boolean isOwner(String uploadKey, String owner) {
+        return owner != null && owner.equals(redisTemplate.opsForValue().get(UPLOAD_OWNER_KEY + uploadKey));
+    }
+
+    public void release(String uploadKey) {
+        redisTemplate.delete(UPLOAD_OWNER_KEY + uploadKey);
+    }
+}
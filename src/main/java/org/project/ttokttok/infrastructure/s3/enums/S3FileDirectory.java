@@ -9,7 +9,11 @@ public enum S3FileDirectory {
     PROFILE_IMAGE("profile-images/"),
     BOARD_FILE("board-files/"),
     BOARD_IMAGE("board-images/"),
-    INTRODUCTION_IMAGE("introduction-images/");
+    INTRODUCTION_IMAGE("introduction-images/"),
+    APPLICANT_FILE("applicant/"),                // 지원서 파일 답변 ({prefix}{지원자 이메일}/)
+    TEMP_APPLICANT_FILE("temp-applicants/"),     // 임시 저장 지원서 파일 답변 ({prefix}{지원자 이메일}/)
+    APPLICANT_EXPORT("applicant-exports/"), // 지원자 내보내기 파일 (공개 URL 없이 API 로만 내려받는다)
+    UPLOAD_STAGING("uploads/");             // 확인 전 직접 업로드 파일 ({prefix}{대상 디렉터리}, 확인 시 대상 디렉터리로 옮긴다)
 
     final String directoryName;
 }
@@ -0,0 +1,10 @@
+package org.project.ttokttok.infrastructure.s3.exception;
+
+import org.project.ttokttok.global.exception.ErrorMessage;
+import org.project.ttokttok.global.exception.exception.CustomException;
+
+public class InvalidUploadKeyException extends CustomException {
+    public InvalidUploadKeyException() {
+        super(ErrorMessage.S3_INVALID_UPLOAD_KEY);
+    }
+}
@@ -0,0 +1,10 @@
+package org.project.ttokttok.infrastructure.s3.exception;
+
+import org.project.ttokttok.global.exception.ErrorMessage;
+import org.project.ttokttok.global.exception.exception.CustomException;
+
+public class S3UploadedFileNotFoundException extends CustomException {
+    public S3UploadedFileNotFoundException() {
+        super(ErrorMessage.S3_UPLOADED_FILE_NOT_FOUND);
+    }
+}
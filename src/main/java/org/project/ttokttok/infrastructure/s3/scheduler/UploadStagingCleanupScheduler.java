@@ -0,0 +1,28 @@
+package org.project.ttokttok.infrastructure.s3.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.infrastructure.s3.service.S3PresignedUploadService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadStagingCleanupScheduler {
+
+    private final S3PresignedUploadService presignedUploadService;
+
+    // 발급만 받고 확인하지 않은 직접 업로드 파일을 정리한다.
+    @Scheduled(cron = "${storage.upload-staging-cleanup.cron:0 30 * * * *}")
+    public void deleteExpiredStagingUploads() {
+        try {
+            int deletedCount = presignedUploadService.deleteExpiredStagingUploads();
+            if (deletedCount > 0) {
+                log.info("확인되지 않은 직접 업로드 파일 정리 완료: 삭제={}개", deletedCount);
+            }
+        } catch (Exception e) {
+            log.error("확인되지 않은 직접 업로드 파일 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.project.ttokttok.infrastructure.s3.service;
 
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -21,6 +22,15 @@ public interface ContentValidatable {
 
     void validateFileName(String fileName);
 
+    /** ZIP 등 내부 검증({@link #validateArchive})이 필요한 아카이브 형식인지 여부 */
+    boolean isArchive(String contentType);
+
     /** ZIP 등 아카이브 파일의 내부를 스트리밍 검증한다. 일반 파일은 아무 동작도 하지 않는다. */
     void validateArchive(MultipartFile content);
+
+    /**
+     * 저장소에 이미 올라간 객체처럼 MultipartFile 이 아닌 파일의 아카이브 검증.
+     * 스트림은 아카이브 형식일 때만 연다.
+     */
+    void validateArchive(String contentType, InputStreamSource content);
 }
@@ -4,6 +4,7 @@ import org.project.ttokttok.infrastructure.s3.exception.S3FileMaxSizeOverExcepti
 import org.project.ttokttok.infrastructure.s3.exception.UnsupportedFileTypeException;
 import org.project.ttokttok.infrastructure.s3.support.AllowedFileTypes;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
@@ -59,10 +60,19 @@ public class ContentValidator implements ContentValidatable {
         validateChars(fileName);
     }
 
+    @Override
+    public boolean isArchive(String contentType) {
+        return isZip(contentType);
+    }
+
     @Override
     public void validateArchive(MultipartFile content) {
+        validateArchive(content.getContentType(), content);
+    }
+
+    @Override
+    public void validateArchive(String contentType, InputStreamSource content) {
         // ZIP 파일인 경우에만 내부를 스트리밍 검증한다. (값싼 검증을 모두 통과한 뒤 수행)
-        String contentType = content.getContentType();
         if (isZip(contentType)) {
             zipContentValidator.validateZip(content, AllowedFileTypes.EXTENSIONS);
         }
@@ -15,6 +15,8 @@ public class S3KeyUrlGenerator {
 
     private static final String UNDERSCORE = "_";
     private static final String SLASH = "/";
+    private static final String DOT = ".";
+    private static final String VARIANT_DIRECTORY = "variants/w";
 
     /**
      * S3 키를 생성합니다.
@@ -24,6 +26,21 @@ public class S3KeyUrlGenerator {
         return dirName + UUID.randomUUID() + UNDERSCORE + fileName;
     }
 
+    /**
+     * 원본 키로부터 리사이즈 변형 키를 만듭니다. 같은 원본/너비는 항상 같은 키가 됩니다.
+     * 형식: {dirName}variants/w{width}/{uuid}_{fileName 확장자 제외}.{extension}
+     */
+    public String generateVariantKey(String originalKey, int width, String extension) {
+        int nameStart = originalKey.lastIndexOf(SLASH) + 1;
+        String dirName = originalKey.substring(0, nameStart);
+        String fileName = originalKey.substring(nameStart);
+
+        int extensionStart = fileName.lastIndexOf(DOT);
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+
+        return dirName + VARIANT_DIRECTORY + width + SLASH + baseName + DOT + extension;
+    }
+
     /**
      * S3 키로부터 CloudFront URL을 생성합니다.
      */
@@ -0,0 +1,140 @@
+package org.project.ttokttok.infrastructure.s3.service;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쓰는 대로 S3 multipart upload 파트로 올리는 출력 스트림.
+ *
+ * <p>버퍼가 파트 크기만큼 차면 그때 multipart upload 를 시작해 파트를 올린다. 파트 크기에 못 미치는 작은 파일은
+ * multipart 를 시작하지 않고 {@link #complete()} 에서 PutObject 한 번으로 올린다.
+ * 검증 실패 등으로 업로드를 버릴 때는 {@link #abort()} 로 올라간 파트를 정리한다.
+ */
+@Slf4j
+class S3MultipartUploadStream extends OutputStream {
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String key;
+    private final String contentType;
+    private final int partSize;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final List<CompletedPart> parts = new ArrayList<>();
+    private String uploadId;
+
+    S3MultipartUploadStream(S3Client s3Client, String bucketName, String key, String contentType, int partSize) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.contentType = contentType;
+        this.partSize = partSize;
+    }
+
+    @Override
+    public void write(int b) {
+        buffer.write(b);
+        uploadPartIfFull();
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        buffer.write(bytes, offset, length);
+        uploadPartIfFull();
+    }
+
+    /**
+     * 남은 버퍼를 올리고 업로드를 완료한다.
+     */
+    void complete() {
+        if (uploadId == null) {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(contentType)
+                            .build(),
+                    RequestBody.fromBytes(buffer.toByteArray()));
+            return;
+        }
+
+        if (buffer.size() > 0) {
+            uploadPart();
+        }
+
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+    }
+
+    /**
+     * 진행 중인 multipart upload 를 취소한다. 시작 전이면 아무것도 올라가지 않았으므로 할 일이 없다.
+     * 원래 실패를 가리지 않도록 취소 실패는 로그만 남긴다.
+     */
+    void abort() {
+        if (uploadId == null) {
+            return;
+        }
+
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            log.warn("S3 multipart upload 취소 실패 (best-effort): {}", key, e);
+        }
+    }
+
+    private void uploadPartIfFull() {
+        if (buffer.size() < partSize) {
+            return;
+        }
+
+        if (uploadId == null) {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(contentType)
+                            .build())
+                    .uploadId();
+        }
+
+        uploadPart();
+    }
+
+    private void uploadPart() {
+        int partNumber = parts.size() + 1;
+        byte[] part = buffer.toByteArray();
+        buffer.reset();
+
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) part.length)
+                                .build(),
+                        RequestBody.fromBytes(part))
+                .eTag();
+
+        parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+    }
+}
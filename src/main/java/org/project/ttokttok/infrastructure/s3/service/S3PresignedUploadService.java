@@ -0,0 +1,237 @@
+package org.project.ttokttok.infrastructure.s3.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.ttokttok.infrastructure.redis.service.PresignedUploadRedisService;
+import org.project.ttokttok.infrastructure.s3.exception.InvalidUploadKeyException;
+import org.project.ttokttok.infrastructure.s3.exception.S3UploadedFileNotFoundException;
+import org.project.ttokttok.infrastructure.s3.exception.UnsupportedFileTypeException;
+import org.project.ttokttok.infrastructure.s3.service.dto.PresignedUpload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory.UPLOAD_STAGING;
+
+/**
+ * 클라이언트 직접 업로드(presigned PUT) 발급과 업로드 확인
+ *
+ * <p>파일 바이트가 애플리케이션 서버를 거치지 않도록, 서버는 Content-Type 과 Content-Length 를 서명에 묶은
+ * URL 만 발급한다. 클라이언트가 올린 뒤 {@link #confirmUpload} 로 저장된 객체를 다시 검증하며,
+ * 검증에 실패한 객체는 바로 삭제한다.
+ *
+ * <p>발급 키는 대상 디렉터리가 아닌 스테이징 경로({@code uploads/{대상 디렉터리}})에 두고, 발급받은 사용자를
+ * Redis 에 묶어 둔다. 확인은 그 사용자만 할 수 있고, 통과한 객체만 대상 디렉터리로 옮긴다.
+ * 확인되지 않은 스테이징 객체는 {@link #deleteExpiredStagingUploads} 가 확인 허용 시간이 지난 뒤 지운다.
+ *
+ * <p>검증 규칙은 multipart 업로드({@link S3Service#uploadFile})와 같은 {@link ContentValidatable} 을 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3PresignedUploadService {
+
+    private static final String HOST_HEADER = "host";
+    private static final String HEADER_VALUE_DELIMITER = ",";
+
+    // S3KeyUrlGenerator 키 형식({dirName}{uuid}_{fileName})에서 "{uuid}_" 길이
+    private static final int KEY_UUID_PREFIX_LENGTH = 37;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final ContentValidatable validator;
+    private final S3KeyUrlGenerator keyUrlGenerator;
+    private final PresignedUploadRedisService presignedUploadRedisService;
+    private final S3Service s3Service;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${cloud.aws.s3.presigned-upload-expiration:5m}")
+    private Duration expiration;
+
+    // 발급 후 업로드 확인까지 허용하는 시간. 지나면 소유자 기록이 사라지고 스테이징 객체는 정리 대상이 된다.
+    @Value("${cloud.aws.s3.presigned-upload-confirm-window:1h}")
+    private Duration confirmWindow;
+
+    /**
+     * 업로드할 파일 정보를 검증하고 presigned PUT URL 을 발급한다.
+     * 서명에 Content-Type 과 Content-Length 가 포함되므로, 다른 형식이나 크기로는 업로드할 수 없다.
+     *
+     * @param owner        발급받는 사용자 (확인 시 같은 사용자인지 대조한다)
+     * @param allowedTypes 이 업로드 용도에서 허용하는 MIME 타입 (예: 이미지 전용이면 {@code AllowedFileTypes.IMAGES})
+     */
+    public PresignedUpload issueUpload(String owner,
+                                       String dirName,
+                                       String fileName,
+                                       String contentType,
+                                       long size,
+                                       Set<String> allowedTypes) {
+        validateNotEmpty(size);
+        validator.validateSize(size);
+        validateType(contentType, allowedTypes);
+        validator.validateFileName(fileName);
+
+        String key = keyUrlGenerator.generateKey(stagingDirectory(dirName), fileName);
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(expiration)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(size)
+                        .build())
+                .build());
+
+        presignedUploadRedisService.bindOwner(key, owner, confirmWindow);
+
+        return new PresignedUpload(key, presigned.url().toString(), uploadHeaders(presigned), presigned.expiration());
+    }
+
+    /**
+     * 클라이언트가 올린 객체를 검증하고 대상 디렉터리로 옮긴 뒤 접근 URL 을 반환한다.
+     * 값싼 메타데이터 검증부터 수행하고, ZIP 이면 마지막에 객체를 스트리밍으로 읽어 내부를 검증한다.
+     *
+     * @throws InvalidUploadKeyException       키가 해당 디렉터리에서 발급된 형식이 아니거나, 이 사용자에게 발급한 키가 아닌 경우
+     * @throws S3UploadedFileNotFoundException 아직 업로드되지 않은 경우
+     */
+    public String confirmUpload(String owner, String dirName, String key, Set<String> allowedTypes) {
+        String stagingDirName = stagingDirectory(dirName);
+        validateKey(stagingDirName, key);
+        validateOwner(key, owner);
+
+        HeadObjectResponse object = headObject(key);
+
+        try {
+            validateNotEmpty(object.contentLength());
+            validator.validateSize(object.contentLength());
+            validateType(object.contentType(), allowedTypes);
+            validator.validateFileName(key.substring(stagingDirName.length() + KEY_UUID_PREFIX_LENGTH));
+            validator.validateArchive(object.contentType(), () -> s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build()));
+        } catch (RuntimeException e) {
+            deleteQuietly(key);
+            presignedUploadRedisService.release(key);
+            throw e;
+        }
+
+        String targetKey = dirName + key.substring(stagingDirName.length());
+        s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucketName)
+                .sourceKey(key)
+                .destinationBucket(bucketName)
+                .destinationKey(targetKey)
+                .build());
+        deleteQuietly(key);
+        presignedUploadRedisService.release(key);
+
+        return keyUrlGenerator.createUrl(targetKey);
+    }
+
+    /**
+     * 확인 허용 시간이 지난 스테이징 객체(발급만 받고 확인하지 않은 업로드)를 삭제하고 삭제한 개수를 반환한다.
+     * 이 시점에는 소유자 기록도 만료되어 더 이상 확인할 수 없는 객체들이다.
+     */
+    public int deleteExpiredStagingUploads() {
+        Instant cutoff = Instant.now().minus(confirmWindow);
+        AtomicInteger deletedCount = new AtomicInteger();
+
+        s3Service.listObjects(UPLOAD_STAGING.getDirectoryName(), page -> deletedCount.addAndGet(
+                s3Service.deleteObjects(page.stream()
+                        .filter(object -> object.lastModified() != null && object.lastModified().isBefore(cutoff))
+                        .map(S3Object::key)
+                        .toList())));
+
+        return deletedCount.get();
+    }
+
+    private String stagingDirectory(String dirName) {
+        return UPLOAD_STAGING.getDirectoryName() + dirName;
+    }
+
+    private void validateNotEmpty(Long size) {
+        if (size == null || size <= 0) {
+            throw new IllegalArgumentException("파일이 비어있거나 존재하지 않습니다.");
+        }
+    }
+
+    private void validateType(String contentType, Set<String> allowedTypes) {
+        validator.validateType(contentType);
+        if (!allowedTypes.contains(contentType)) {
+            throw new UnsupportedFileTypeException();
+        }
+    }
+
+    private void validateKey(String dirName, String key) {
+        if (key == null
+                || !key.startsWith(dirName)
+                || key.length() <= dirName.length() + KEY_UUID_PREFIX_LENGTH
+                || key.contains("..")) {
+            throw new InvalidUploadKeyException();
+        }
+    }
+
+    private void validateOwner(String key, String owner) {
+        if (!presignedUploadRedisService.isOwner(key, owner)) {
+            throw new InvalidUploadKeyException();
+        }
+    }
+
+    private HeadObjectResponse headObject(String key) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new S3UploadedFileNotFoundException();
+            }
+            throw e;
+        }
+    }
+
+    private Map<String, String> uploadHeaders(PresignedPutObjectRequest presigned) {
+        // Host 는 HTTP 클라이언트가 URL 에서 채우므로 내려주지 않는다.
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!HOST_HEADER.equalsIgnoreCase(name)) {
+                headers.put(name, String.join(HEADER_VALUE_DELIMITER, values));
+            }
+        });
+        return headers;
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (SdkException e) {
+            log.warn("스테이징 업로드 삭제 실패 (best-effort, 정리 스케줄러가 다시 지운다): {}", key, e);
+        }
+    }
+}
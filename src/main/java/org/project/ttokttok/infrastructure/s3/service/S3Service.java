@@ -7,12 +7,19 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -23,14 +30,26 @@ public class S3Service {
     private final ContentValidatable validator;
     private final S3KeyUrlGenerator keyUrlGenerator;
 
+    // DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+    public static final int MAX_DELETE_KEYS = 1000;
+
+    // S3 multipart upload 의 최소 파트 크기(마지막 파트 제외). 이보다 작은 아카이브는 PutObject 한 번으로 올린다.
+    private static final int ARCHIVE_PART_SIZE = 5 * 1024 * 1024;
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
     public String uploadFile(MultipartFile file, String dirName) {
-        validateFile(file);
+        validateMetadata(file);
 
         String key = keyUrlGenerator.generateKey(dirName, file.getOriginalFilename());
 
+        // 아카이브는 내부 검증과 업로드를 한 번의 스트림 읽기로 처리한다.
+        if (validator.isArchive(file.getContentType())) {
+            uploadArchive(file, key);
+            return keyUrlGenerator.createUrl(key);
+        }
+
         try {
             s3Client.putObject(
                     PutObjectRequest.builder()
@@ -46,6 +65,84 @@ public class S3Service {
         }
     }
 
+    /**
+     * 검증기가 ZIP 을 읽는 바이트를 그대로 업로드 파트로 흘려보내, 원본을 한 번만 읽는다.
+     * 검증에 실패하면 진행 중인 multipart upload 를 취소하므로 검증되지 않은 파일은 남지 않는다.
+     */
+    private void uploadArchive(MultipartFile file, String key) {
+        S3MultipartUploadStream upload = new S3MultipartUploadStream(
+                s3Client, bucketName, key, file.getContentType(), ARCHIVE_PART_SIZE);
+
+        try (InputStream source = file.getInputStream()) {
+            InputStream tee = new TeeInputStream(source, upload);
+
+            // 검증기가 스트림을 닫아도 남은 바이트를 마저 올릴 수 있도록 닫기는 막는다.
+            validator.validateArchive(file.getContentType(), () -> StreamUtils.nonClosing(tee));
+
+            // ZIP 중앙 디렉터리처럼 검증기가 읽지 않고 끝낸 나머지 바이트를 올린다.
+            tee.transferTo(OutputStream.nullOutputStream());
+
+            upload.complete();
+        } catch (IOException | SdkException e) {
+            upload.abort();
+            throw new S3FileUploadException();
+        } catch (RuntimeException e) {
+            upload.abort();
+            throw e;
+        }
+    }
+
+    /**
+     * 서버에서 생성한 로컬 파일을 업로드하고 S3 키를 반환한다.
+     * 사용자 업로드가 아니므로 파일 검증을 거치지 않으며, 공개 URL 대신 키로만 다시 조회한다.
+     */
+    public String uploadLocalFile(Path file, String dirName, String fileName, String contentType) {
+        String key = keyUrlGenerator.generateKey(dirName, fileName);
+
+        try {
+            s3Client.putObject(
+                    PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(contentType)
+                            .build(),
+                    RequestBody.fromFile(file)
+            );
+            return key;
+        } catch (SdkException e) {
+            throw new S3FileUploadException();
+        }
+    }
+
+    /**
+     * 서버에서 생성한 바이트(예: 이미지 리사이즈 변형)를 지정한 키로 업로드한다.
+     * 같은 키로 다시 올리면 덮어쓰므로 재시도해도 안전하다.
+     */
+    public void uploadGeneratedFile(String key, byte[] content, String contentType) {
+        try {
+            s3Client.putObject(
+                    PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(contentType)
+                            .build(),
+                    RequestBody.fromBytes(content)
+            );
+        } catch (SdkException e) {
+            throw new S3FileUploadException();
+        }
+    }
+
+    /**
+     * S3 키로 파일을 스트림으로 연다. 호출자가 스트림을 닫아야 한다.
+     */
+    public InputStream openFile(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
     public void deleteFile(String cloudFrontUrl) {
         String key = keyUrlGenerator.extractKeyFromUrl(cloudFrontUrl);
         s3Client.deleteObject(DeleteObjectRequest.builder()
@@ -54,6 +151,55 @@ public class S3Service {
                 .build());
     }
 
+    /**
+     * prefix 아래 객체를 continuation token 으로 한 페이지(최대 1000개)씩 나열해 pageConsumer 에 넘긴다.
+     * 전체 목록을 메모리에 모으지 않으므로 객체 수와 무관하게 한 페이지 분량만 유지한다.
+     */
+    public void listObjects(String prefix, Consumer<List<S3Object>> pageConsumer) {
+        String continuationToken = null;
+        do {
+            ListObjectsV2Response response = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucketName)
+                    .prefix(prefix)
+                    .continuationToken(continuationToken)
+                    .build());
+
+            pageConsumer.accept(response.contents());
+            continuationToken = Boolean.TRUE.equals(response.isTruncated())
+                    ? response.nextContinuationToken()
+                    : null;
+        } while (continuationToken != null);
+    }
+
+    /**
+     * 키 목록을 DeleteObjects 한 번으로 삭제하고 실제로 삭제된 개수를 반환한다.
+     * 키별 실패는 응답의 errors 로 돌아오므로 로그만 남기고 나머지는 삭제된 것으로 센다.
+     */
+    public int deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        if (keys.size() > MAX_DELETE_KEYS) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 객체는 최대 " + MAX_DELETE_KEYS + "개입니다.");
+        }
+
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder()
+                        .objects(objects)
+                        .quiet(true)
+                        .build())
+                .build());
+
+        response.errors().forEach(error ->
+                log.warn("S3 객체 삭제 실패: key={}, code={}, message={}", error.key(), error.code(), error.message()));
+        return keys.size() - response.errors().size();
+    }
+
     /**
      * 활성 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 파일을 삭제한다.
      * 커밋 실패로 롤백되면 파일을 삭제하지 않으므로, DB가 여전히 참조하는 파일이 유실되지 않는다.
@@ -90,7 +236,11 @@ public class S3Service {
         }
     }
 
-    private void deleteFileQuietly(String cloudFrontUrl) {
+    /**
+     * 파일을 즉시 삭제하고, 실패하면 로그만 남긴다(best-effort).
+     * 트랜잭션과 무관한 정리(예: 트랜잭션 시작 전 업로드 실패 시 성공분 정리)에 사용한다.
+     */
+    public void deleteFileQuietly(String cloudFrontUrl) {
         try {
             deleteFile(cloudFrontUrl);
         } catch (RuntimeException e) {
@@ -98,12 +248,11 @@ public class S3Service {
         }
     }
 
-    private void validateFile(MultipartFile file) {
-        // 값싼 검증부터 수행하여 fail-fast. 무거운 ZIP 스트리밍 검증(validateArchive)은 마지막.
+    private void validateMetadata(MultipartFile file) {
+        // 값싼 검증부터 수행하여 fail-fast. 무거운 ZIP 스트리밍 검증은 업로드와 함께 수행한다(uploadArchive).
         validator.validateNotEmpty(file);
         validator.validateSize(file.getSize());
         validator.validateType(file.getContentType());
         validator.validateFileName(file.getOriginalFilename());
-        validator.validateArchive(file);
     }
 }
@@ -0,0 +1,63 @@
+package org.project.ttokttok.infrastructure.s3.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 읽은 바이트를 그대로 다른 출력으로도 흘려보내는 입력 스트림.
+ *
+ * <p>한 번의 읽기로 검증(읽는 쪽)과 업로드(sink)를 함께 처리하기 위해 사용한다.
+ * skip 도 실제로 읽어서 sink 로 넘기므로, 원본의 모든 바이트가 빠짐없이 한 번씩 sink 에 기록된다.
+ * 닫아도 sink 는 닫지 않는다.
+ */
+class TeeInputStream extends FilterInputStream {
+
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    private final OutputStream sink;
+
+    TeeInputStream(InputStream source, OutputStream sink) {
+        super(source);
+        this.sink = sink;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            sink.write(b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            sink.write(buffer, offset, read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[SKIP_BUFFER_SIZE];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        // reset 으로 되돌아가 다시 읽으면 같은 바이트가 sink 에 두 번 기록되므로 지원하지 않는다.
+        return false;
+    }
+}
@@ -3,8 +3,8 @@ package org.project.ttokttok.infrastructure.s3.service;
 import lombok.extern.slf4j.Slf4j;
 import org.project.ttokttok.global.exception.ErrorMessage;
 import org.project.ttokttok.global.exception.exception.CustomException;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.Set;
@@ -32,7 +32,12 @@ public class ZipContentValidator {
         this.maxUncompressedSize = maxUncompressedSize;
     }
 
-    public void validateZip(MultipartFile file, Set<String> allowedExtensions) {
+    /**
+     * ZIP 내부를 스트리밍으로 검증한다.
+     *
+     * @param file 업로드 요청의 {@code MultipartFile} 또는 저장소에 올라간 객체처럼 스트림으로 열 수 있는 파일
+     */
+    public void validateZip(InputStreamSource file, Set<String> allowedExtensions) {
         int fileCount = 0;
         long totalUncompressedSize = 0;
 
@@ -0,0 +1,20 @@
+package org.project.ttokttok.infrastructure.s3.service.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 저장소에 직접 올릴 때 쓰는 presigned PUT 정보
+ *
+ * @param key       업로드될 객체 키 (업로드 후 확인 요청에 그대로 전달)
+ * @param uploadUrl 서명된 PUT URL
+ * @param headers   PUT 요청에 그대로 실어야 하는 서명 헤더 (Content-Type, Content-Length)
+ * @param expiresAt URL 만료 시각
+ */
+public record PresignedUpload(
+        String key,
+        String uploadUrl,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,20 @@
+-- 인기 동아리 조회용 점수 프로젝션 테이블
+-- 조회마다 club_members / user_favorites 전체를 GROUP BY 하던 CTE 집계를 대체한다.
+-- 멤버/즐겨찾기/조회수 변경 경로에서 애플리케이션이 점수를 증분 갱신한다.
+CREATE TABLE club_popularity_stats
+(
+    club_id VARCHAR(36)      NOT NULL PRIMARY KEY,
+    score   DOUBLE PRECISION NOT NULL DEFAULT 0,
+    CONSTRAINT fk_club_popularity_stats_club FOREIGN KEY (club_id) REFERENCES clubs (id) ON DELETE CASCADE
+);
+
+-- 인기순 정렬(score DESC, id DESC) + LIMIT 를 인덱스 범위 스캔으로 처리
+CREATE INDEX idx_club_popularity_stats_score_club_id ON club_popularity_stats (score DESC, club_id DESC);
+
+-- 기존 동아리 백필 (기본 가중치 0.7 / 2.5 / 0.7, 설정값과 다르면 앱 시작 시 점수가 재계산된다)
+INSERT INTO club_popularity_stats (club_id, score)
+SELECT c.id,
+       (SELECT COUNT(*) FROM club_members m WHERE m.club_id = c.id) * 0.7
+           + (SELECT COUNT(*) FROM user_favorites f WHERE f.club_id = c.id) * 2.5
+           + c.view_count * 0.7
+FROM clubs c;
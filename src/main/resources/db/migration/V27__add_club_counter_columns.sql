@@ -0,0 +1,14 @@
+-- 동아리 카드 목록의 멤버/즐겨찾기 수 비정규화 컬럼
+-- 행마다 club_members / user_favorites 를 COUNT 하던 상관 서브쿼리(SELECT 절, ORDER BY 절)를 대체한다.
+-- 값은 멤버/즐겨찾기 변경 경로에서 애플리케이션이 같은 트랜잭션으로 증분 갱신한다.
+ALTER TABLE clubs
+    ADD COLUMN member_count   BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN favorite_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 동아리 백필
+UPDATE clubs c
+SET member_count   = (SELECT COUNT(*) FROM club_members m WHERE m.club_id = c.id),
+    favorite_count = (SELECT COUNT(*) FROM user_favorites f WHERE f.club_id = c.id);
+
+-- 멤버순 정렬(member_count DESC, id DESC) + LIMIT 를 인덱스 순서로 처리
+CREATE INDEX idx_clubs_member_count_id ON clubs (member_count DESC, id DESC);
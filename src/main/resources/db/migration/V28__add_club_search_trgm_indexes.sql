@@ -0,0 +1,9 @@
+-- 동아리 키워드 검색용 trigram GIN 인덱스
+-- 검색 조건은 lower(컬럼) LIKE '%검색어%' 형태라 B-tree 인덱스를 탈 수 없어 매 검색마다 clubs 를 전체 스캔했다.
+-- 같은 식(lower(...))에 gin_trgm_ops 인덱스를 만들어 부분 일치 검색을 인덱스로 거른다.
+-- 한글은 DB LC_CTYPE 이 UTF-8 로케일이어야 trigram 으로 추출되며, 2글자 이하 검색어는 trigram 이 없어 인덱스로 거르지 못한다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_clubs_name_trgm ON clubs USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_clubs_summary_trgm ON clubs USING gin (lower(summary) gin_trgm_ops);
+CREATE INDEX idx_clubs_custom_category_trgm ON clubs USING gin (lower(custom_category) gin_trgm_ops);
@@ -0,0 +1,28 @@
+-- 관리자 지원자 조회/지원/부원 등록/즐겨찾기/지원폼 조회의 핫 쿼리용 보조 인덱스
+-- 각 인덱스 위에 대응하는 리포지토리 쿼리를 적어 두었다. 실행 계획 검증은 HotQueryIndexPlanTest 를 참고한다.
+
+-- ApplicantCustomRepositoryImpl 목록/개수 조회 (WHERE applyform_id = ? ORDER BY grade, id) + lastId keyset
+CREATE INDEX idx_applicants_applyform_id_grade_id ON applicants (applyform_id, grade, id);
+
+-- ApplicantCustomRepositoryImpl SUBMIT 정렬 (WHERE applyform_id = ? ORDER BY created_at, id) + lastId keyset
+CREATE INDEX idx_applicants_applyform_id_created_at_id ON applicants (applyform_id, created_at, id);
+
+-- ApplicantRepository.existsByUserEmailAndApplyFormId (지원서 제출마다 실행), 사용자 지원내역 조회 (WHERE user_email = ?)
+CREATE INDEX idx_applicants_user_email_applyform_id ON applicants (user_email, applyform_id);
+
+-- ApplicantPhaseQuery 단계 조인(applicant_id) + 상태 필터(status)
+CREATE INDEX idx_document_phases_applicant_id_status ON document_phases (applicant_id, status);
+CREATE INDEX idx_interview_phases_applicant_id_status ON interview_phases (applicant_id, status);
+
+-- ClubMemberRepository.existsByClubIdAndEmail, findEmailsByClubIdAndEmailIn (합격자 부원 등록 중복 검사)
+-- club_id 단독 조회(부원 목록/엑셀)도 선두 컬럼으로 처리한다.
+CREATE INDEX idx_club_members_club_id_email ON club_members (club_id, email);
+
+-- FavoriteRepository.findByUserEmailAndClubId, existsByUserEmailAndClubId, findClubIdsByUserEmail (users 조인 후 user_id 로 조회)
+CREATE INDEX idx_user_favorites_user_id_club_id ON user_favorites (user_id, club_id);
+
+-- FavoriteRepository.countByClubId, countClubFavoritesForEach
+CREATE INDEX idx_user_favorites_club_id ON user_favorites (club_id);
+
+-- ApplyFormRepository.findByClubIdAndStatus, existsByClubIdAndStatus, findTopByClubIdAndStatusOrderByCreatedAtDesc
+CREATE INDEX idx_applyforms_club_id_status_created_at ON applyforms (club_id, status, created_at DESC);
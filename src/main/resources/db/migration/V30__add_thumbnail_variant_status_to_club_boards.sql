@@ -0,0 +1,4 @@
+-- 게시판 피드 썸네일 리사이즈 변형(256px/1080px) 생성 상태
+-- PENDING: 생성 전(레거시 게시글 포함), READY: 생성 완료, SKIPPED: 서버에서 디코딩할 수 없는 형식이라 건너뜀
+-- 변형은 커밋 이후 비동기로 만들어지므로 READY 가 아니면 원본 URL 을 내려주고, 재시도 스윕은 PENDING 만 다시 넣는다.
+ALTER TABLE club_boards ADD COLUMN thumbnail_variant_status VARCHAR(20) NOT NULL DEFAULT 'PENDING';
@@ -0,0 +1,48 @@
+-- 지원 결과 메일 발송 아웃박스
+-- 발송 요청은 트랜잭션 안에서 수신자 단위로 적재하고, 워커가 주기적으로 꺼내 SMTP 로 보낸다.
+-- 서버가 재시작되어도 PENDING/SENDING 행은 남아 있으므로 다음 주기에 이어서 발송된다.
+
+-- 발송 작업 (관리자 요청 1건)
+CREATE TABLE mail_jobs
+(
+    id             VARCHAR(36)  NOT NULL PRIMARY KEY,
+    owner_username VARCHAR(255) NOT NULL,
+    created_at     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 작업에 포함된 메일 본문 (합격/불합격처럼 같은 내용을 여러 수신자에게 보낸다)
+CREATE TABLE mail_job_messages
+(
+    id         VARCHAR(36)  NOT NULL PRIMARY KEY,
+    job_id     VARCHAR(36)  NOT NULL REFERENCES mail_jobs (id) ON DELETE CASCADE,
+    subject    VARCHAR(255) NOT NULL,
+    body       TEXT         NOT NULL,
+    created_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 수신자별 발송 상태
+CREATE TABLE mail_job_recipients
+(
+    id              VARCHAR(36)  NOT NULL PRIMARY KEY,
+    job_id          VARCHAR(36)  NOT NULL REFERENCES mail_jobs (id) ON DELETE CASCADE,
+    message_id      VARCHAR(36)  NOT NULL REFERENCES mail_job_messages (id) ON DELETE CASCADE,
+    email           VARCHAR(255) NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempt_count   INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error      VARCHAR(500),
+    created_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_mail_job_recipient_status
+        CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED'))
+);
+
+-- 워커의 발송 대상 조회 (status IN ('PENDING', 'SENDING') AND next_attempt_at <= now)
+CREATE INDEX idx_mail_job_recipients_status_next_attempt
+    ON mail_job_recipients (status, next_attempt_at);
+
+-- 작업별 진행률 집계
+CREATE INDEX idx_mail_job_recipients_job_status
+    ON mail_job_recipients (job_id, status);
@@ -0,0 +1,3 @@
+-- 이메일 인증코드는 Redis(TTL) 로 옮겨 더 이상 DB 에 저장하지 않는다.
+-- 남아 있는 행은 5분짜리 인증코드뿐이라 이관 없이 삭제한다.
+DROP TABLE IF EXISTS email_verification;
@@ -37,6 +37,7 @@ import org.project.ttokttok.domain.admin.service.dto.response.ReissueServiceResp
 import org.project.ttokttok.domain.club.domain.Club;
 import org.project.ttokttok.domain.club.domain.enums.ClubUniv;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.club.service.ClubPopularityStatsService;
 import org.project.ttokttok.global.auth.jwt.dto.request.TokenRequest;
 import org.project.ttokttok.global.auth.jwt.dto.response.TokenResponse;
 import org.project.ttokttok.global.auth.jwt.exception.InvalidRefreshTokenException;
@@ -65,6 +66,9 @@ class AdminAuthServiceTest {
     @Mock
     private RefreshTokenRedisService refreshTokenRedisService;
 
+    @Mock
+    private ClubPopularityStatsService clubPopularityStatsService;
+
     @InjectMocks
     private AdminAuthService adminAuthService;
 
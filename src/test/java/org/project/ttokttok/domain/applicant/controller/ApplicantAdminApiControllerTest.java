@@ -14,6 +14,8 @@ import org.project.ttokttok.domain.applicant.service.dto.request.StatusUpdateSer
 import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantDetailServiceResponse;
 import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantFinalizeServiceResponse;
 import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantPageServiceResponse;
+import org.project.ttokttok.domain.mail.domain.enums.MailJobStatus;
+import org.project.ttokttok.domain.mail.service.dto.response.MailJobServiceResponse;
 import org.project.ttokttok.global.annotationresolver.auth.AuthUserInfoResolver;
 import org.project.ttokttok.global.auth.jwt.service.TokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -151,11 +153,11 @@ class ApplicantAdminApiControllerTest {
 
     @Test
     @WithMockUser
-    @DisplayName("지원자에게 결과 메일 전송 API를 호출하면 200과 완료 메시지를 반환한다")
+    @DisplayName("지원자에게 결과 메일 전송 API를 호출하면 202와 발송 작업 ID를 반환한다")
     void sendEmailToApplicants() throws Exception {
         mockAuthUser("admin@sangmyung.kr");
-        doNothing().when(applicantAdminService)
-                .sendResultMailToApplicants(any(), any(), any(), any());
+        given(applicantAdminService.sendResultMailToApplicants(any(), any(), any(), any()))
+                .willReturn("job-1");
 
         String body = "{\"pass\":{\"title\":\"합격 안내\",\"body\":\"축하합니다\"},"
                 + "\"fail\":{\"title\":\"불합격 안내\",\"body\":\"감사합니다\"}}";
@@ -164,7 +166,30 @@ class ApplicantAdminApiControllerTest {
                         .param("kind", "DOCUMENT")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message").value("이메일 발송이 요청되었습니다."))
+                .andExpect(jsonPath("$.jobId").value("job-1"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("결과 메일 발송 진행 상태 조회 API를 호출하면 200과 진행률을 반환한다")
+    void getSendEmailJob() throws Exception {
+        mockAuthUser("admin@sangmyung.kr");
+        given(applicantAdminService.getResultMailJob("admin@sangmyung.kr", "job-1"))
+                .willReturn(MailJobServiceResponse.builder()
+                        .jobId("job-1")
+                        .status(MailJobStatus.IN_PROGRESS)
+                        .totalCount(10)
+                        .sentCount(7)
+                        .failedCount(1)
+                        .pendingCount(2)
+                        .build());
+
+        mockMvc.perform(get("/api/admin/applies/{clubId}/send-email/{jobId}", "club-1", "job-1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.message").value("이메일 전송이 완료되었습니다."));
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.sentCount").value(7))
+                .andExpect(jsonPath("$.pendingCount").value(2));
     }
 }
@@ -9,10 +9,13 @@ import org.project.ttokttok.domain.admin.domain.Admin;
 import org.project.ttokttok.domain.admin.repository.AdminRepository;
 import org.project.ttokttok.domain.applicant.domain.Applicant;
 import org.project.ttokttok.domain.applicant.domain.dto.ApplicantSimpleInfoDto;
+import org.project.ttokttok.domain.applicant.domain.enums.ApplicantPhase;
 import org.project.ttokttok.domain.applicant.domain.enums.Gender;
 import org.project.ttokttok.domain.applicant.domain.enums.Grade;
+import org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus;
 import org.project.ttokttok.domain.applicant.domain.enums.StudentStatus;
 import org.project.ttokttok.domain.applicant.repository.dto.response.ApplicantPageQueryResponse;
+import org.project.ttokttok.domain.applicant.repository.dto.response.ApplicantResultCountQueryResponse;
 import org.project.ttokttok.domain.applyform.domain.ApplyForm;
 import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
 import org.project.ttokttok.domain.club.domain.Club;
@@ -491,6 +494,153 @@ class ApplicantCustomRepositoryImplTest implements RepositoryTestSupport {
         }
     }
 
+    @Nested
+    @DisplayName("lastId 기반 keyset 페이지 조회")
+    class KeysetPagination {
+
+        private List<String> idsOf(ApplicantPageQueryResponse response) {
+            return response.applicants().stream()
+                    .map(ApplicantSimpleInfoDto::id)
+                    .toList();
+        }
+
+        @Test
+        @DisplayName("nextCursor 로 이어 읽은 페이지는 OFFSET 으로 읽은 다음 페이지와 같다")
+        void keysetPageMatchesOffsetPage() {
+            givenDocumentApplicant("A", Grade.SECOND_GRADE);
+            givenDocumentApplicant("B", Grade.FIRST_GRADE);
+            givenDocumentApplicant("C", Grade.FIRST_GRADE);
+            givenDocumentApplicant("D", Grade.THIRD_GRADE);
+            givenDocumentApplicant("E", Grade.FIRST_GRADE);
+            flushAndClear();
+
+            ApplicantPageQueryResponse firstPage = applicantRepository.findApplicantsPageWithSortCriteria(
+                    null, false, 1, 2, form.getId(), DOCUMENT_KIND);
+            ApplicantPageQueryResponse offsetPage = applicantRepository.findApplicantsPageWithSortCriteria(
+                    null, false, 2, 2, form.getId(), DOCUMENT_KIND);
+            ApplicantPageQueryResponse keysetPage = applicantRepository.findApplicantsPageWithSortCriteria(
+                    null, false, 2, firstPage.nextCursor(), 2, form.getId(), DOCUMENT_KIND);
+
+            assertThat(firstPage.nextCursor()).isEqualTo(idsOf(firstPage).get(1));
+            assertThat(idsOf(keysetPage)).isEqualTo(idsOf(offsetPage));
+            assertThat(keysetPage.totalCount()).isEqualTo(5);
+            assertThat(keysetPage.currentPage()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("SUBMIT 정렬에서도 직전 마지막 지원자 이후부터 이어서 조회한다")
+        void keysetFollowsSubmitOrder() {
+            givenDocumentApplicant("첫번째", Grade.FOURTH_GRADE);
+            sleepBriefly();
+            givenDocumentApplicant("두번째", Grade.FIRST_GRADE);
+            sleepBriefly();
+            givenDocumentApplicant("세번째", Grade.SECOND_GRADE);
+            flushAndClear();
+
+            ApplicantPageQueryResponse firstPage = applicantRepository.findApplicantsPageWithSortCriteria(
+                    SUBMIT_SORT, false, 1, 1, form.getId(), DOCUMENT_KIND);
+            ApplicantPageQueryResponse secondPage = applicantRepository.findApplicantsPageWithSortCriteria(
+                    SUBMIT_SORT, false, 2, firstPage.nextCursor(), 2, form.getId(), DOCUMENT_KIND);
+
+            assertThat(namesOf(firstPage)).containsExactly("첫번째");
+            assertThat(namesOf(secondPage)).containsExactly("두번째", "세번째");
+        }
+
+        @Test
+        @DisplayName("페이지가 다 차지 않으면 nextCursor 는 null 이다")
+        void lastPageHasNoNextCursor() {
+            givenDocumentApplicant("A", Grade.FIRST_GRADE);
+            flushAndClear();
+
+            ApplicantPageQueryResponse response = applicantRepository.findApplicantsPageWithSortCriteria(
+                    null, false, 1, 2, form.getId(), DOCUMENT_KIND);
+
+            assertThat(response.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("합격/불합격 조회도 lastId 로 이어서 조회한다")
+        void keysetWorksWithStatusFilter() {
+            givenDocumentApplicant("합격1", Grade.FIRST_GRADE).passDocumentEvaluation();
+            givenDocumentApplicant("합격2", Grade.SECOND_GRADE).passDocumentEvaluation();
+            givenDocumentApplicant("불합격", Grade.FIRST_GRADE).failDocumentEvaluation();
+            flushAndClear();
+
+            ApplicantPageQueryResponse firstPage = applicantRepository.findApplicantsByStatus(
+                    true, 1, 1, form.getId(), DOCUMENT_KIND);
+            ApplicantPageQueryResponse secondPage = applicantRepository.findApplicantsByStatus(
+                    true, 2, firstPage.nextCursor(), 1, form.getId(), DOCUMENT_KIND);
+
+            assertThat(namesOf(firstPage)).containsExactly("합격1");
+            assertThat(namesOf(secondPage)).containsExactly("합격2");
+            assertThat(secondPage.totalCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("전형 마감용 단계별 조회")
+    class PhaseResultQueries {
+
+        @Test
+        @DisplayName("현재 서류 단계에 있는 지원자만 합격/불합격 인원으로 집계한다")
+        void countResultsByPhase_document() {
+            givenDocumentApplicant("서류합격", Grade.FIRST_GRADE).passDocumentEvaluation();
+            givenDocumentApplicant("서류불합격", Grade.FIRST_GRADE).failDocumentEvaluation();
+            givenDocumentApplicant("평가중", Grade.FIRST_GRADE);
+            givenInterviewApplicant("면접진출", Grade.FIRST_GRADE);
+            flushAndClear();
+
+            ApplicantResultCountQueryResponse result =
+                    applicantRepository.countResultsByPhase(form.getId(), ApplicantPhase.DOCUMENT);
+
+            // 면접 단계로 넘어간 지원자는 서류 PASS 여도 서류 집계에서 빠진다 (Applicant.statusOf 기준)
+            assertThat(result.passedCount()).isEqualTo(1);
+            assertThat(result.failedCount()).isEqualTo(1);
+            assertThat(result.finalizedCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("면접 단계 집계는 면접 전형 상태를 기준으로 센다")
+        void countResultsByPhase_interview() {
+            givenInterviewApplicant("면접합격", Grade.FIRST_GRADE).passInterview();
+            givenInterviewApplicant("면접평가중", Grade.FIRST_GRADE);
+            givenDocumentApplicant("서류합격", Grade.FIRST_GRADE).passDocumentEvaluation();
+            flushAndClear();
+
+            ApplicantResultCountQueryResponse result =
+                    applicantRepository.countResultsByPhase(form.getId(), ApplicantPhase.INTERVIEW);
+
+            assertThat(result.passedCount()).isEqualTo(1);
+            assertThat(result.failedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("지원자가 없으면 0으로 집계한다")
+        void countResultsByPhase_empty() {
+            ApplicantResultCountQueryResponse result =
+                    applicantRepository.countResultsByPhase(form.getId(), ApplicantPhase.DOCUMENT);
+
+            assertThat(result.finalizedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("단계와 상태가 모두 일치하는 지원자와 이메일만 조회한다")
+        void findByPhaseStatus_filtersByPhaseAndStatus() {
+            givenDocumentApplicant("서류합격", Grade.FIRST_GRADE).passDocumentEvaluation();
+            givenDocumentApplicant("서류불합격", Grade.FIRST_GRADE).failDocumentEvaluation();
+            givenInterviewApplicant("면접진출", Grade.FIRST_GRADE);
+            flushAndClear();
+
+            List<Applicant> passed = applicantRepository.findByPhaseStatus(
+                    form.getId(), ApplicantPhase.DOCUMENT, PhaseStatus.PASS);
+            List<String> failedEmails = applicantRepository.findEmailsByPhaseStatus(
+                    form.getId(), ApplicantPhase.DOCUMENT, PhaseStatus.FAIL);
+
+            assertThat(passed).extracting(Applicant::getName).containsExactly("서류합격");
+            assertThat(failedEmails).containsExactly("서류불합격@test.com");
+        }
+    }
+
     @Nested
     @DisplayName("kind 문자열 해석")
     class KindInterpretation {
@@ -0,0 +1,201 @@
+package org.project.ttokttok.domain.applicant.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.ttokttok.domain.admin.domain.Admin;
+import org.project.ttokttok.domain.admin.repository.AdminRepository;
+import org.project.ttokttok.domain.applicant.domain.Applicant;
+import org.project.ttokttok.domain.applicant.domain.enums.ApplicantPhase;
+import org.project.ttokttok.domain.applicant.domain.enums.Gender;
+import org.project.ttokttok.domain.applicant.domain.enums.Grade;
+import org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus;
+import org.project.ttokttok.domain.applicant.domain.enums.StudentStatus;
+import org.project.ttokttok.domain.applyform.domain.ApplyForm;
+import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
+import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.domain.enums.ClubUniv;
+import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.support.RepositoryTestSupport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ApplicantPhaseJdbcRepository} 의 INSERT ... SELECT / UPDATE SQL 을 실제 DB 에 실행해 검증한다.
+ *
+ * <p>서비스 테스트는 이 리포지토리를 목으로 대체하므로 SQL 의 조건(서류 합격, 면접 단계 없음, 같은 지원폼)은
+ * 여기서만 확인된다. 전형 마감은 재실행될 수 있으므로 두 번째 실행이 아무것도 바꾸지 않는지도 함께 본다.
+ */
+@DisplayName("ApplicantPhaseJdbcRepository - 서류 합격자 면접 단계 일괄 이동")
+class ApplicantPhaseJdbcRepositoryTest implements RepositoryTestSupport {
+
+    private static final LocalDate INTERVIEW_DATE = LocalDate.now().plusDays(10);
+    private static final LocalDate EXISTING_INTERVIEW_DATE = LocalDate.now().plusDays(3);
+
+    @Autowired
+    private ApplicantPhaseJdbcRepository applicantPhaseJdbcRepository;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Autowired
+    private ApplyFormRepository applyFormRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    private ApplyForm form;
+    private ApplyForm otherForm;
+
+    private Applicant passed;
+    private Applicant failed;
+    private Applicant interviewed;
+    private Applicant otherFormPassed;
+
+    @BeforeEach
+    void setUp() {
+        Admin admin = adminRepository.save(
+                Admin.adminJoin("phaseadmin", "password123!", "phase-admin@sangmyung.kr"));
+
+        Club club = clubRepository.save(Club.builder()
+                .admin(admin)
+                .clubName("면접 이동 테스트 동아리")
+                .clubUniv(ClubUniv.ENGINEERING)
+                .build());
+
+        form = applyFormRepository.save(createForm(club, "모집 공고"));
+        otherForm = applyFormRepository.save(createForm(club, "다른 모집 공고"));
+
+        passed = givenDocumentApplicant("서류합격자", form);
+        passed.passDocumentEvaluation();
+
+        failed = givenDocumentApplicant("서류불합격자", form);
+        failed.failDocumentEvaluation();
+
+        interviewed = givenDocumentApplicant("면접진행자", form);
+        interviewed.passDocumentEvaluation();
+        interviewed.updateToInterviewPhase(EXISTING_INTERVIEW_DATE);
+
+        otherFormPassed = givenDocumentApplicant("다른공고합격자", otherForm);
+        otherFormPassed.passDocumentEvaluation();
+
+        // JDBC 문장은 영속성 컨텍스트를 거치지 않으므로 시드를 먼저 DB 에 반영한다.
+        em.flush();
+        em.clear();
+    }
+
+    private ApplyForm createForm(Club club, String title) {
+        return ApplyForm.builder()
+                .club(club)
+                .hasInterview(true)
+                .applyStartDate(LocalDate.now().minusDays(7))
+                .applyEndDate(LocalDate.now().plusDays(7))
+                .maxApplyCount(100)
+                .title(title)
+                .subTitle("부제")
+                .formJson(List.of())
+                .build();
+    }
+
+    private Applicant givenDocumentApplicant(String name, ApplyForm applyForm) {
+        Applicant applicant = Applicant.createApplicant(
+                name + "@sangmyung.kr", name, 22, "컴퓨터공학과",
+                name + "@test.com", "010-0000-0000",
+                StudentStatus.ENROLLED, Grade.SECOND_GRADE, Gender.MALE, applyForm);
+
+        applicant.submitDocument(List.of());
+
+        return applicantRepository.save(applicant);
+    }
+
+    private Applicant reload(Applicant applicant) {
+        return em.find(Applicant.class, applicant.getId());
+    }
+
+    private int interviewPhaseCount(Applicant applicant) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM interview_phases WHERE applicant_id = ?", Integer.class, applicant.getId());
+    }
+
+    @Test
+    @DisplayName("서류 합격자에게만 평가중 면접 단계를 만들고 현재 단계를 면접으로 바꾼다")
+    void promotesOnlyDocumentPassers() {
+        // when
+        int promoted = applicantPhaseJdbcRepository.promoteDocumentPassersToInterview(form.getId(), INTERVIEW_DATE);
+        em.clear();
+
+        // then
+        assertThat(promoted).isEqualTo(1);
+
+        Applicant passedAfter = reload(passed);
+        assertThat(passedAfter.getCurrentPhase()).isEqualTo(ApplicantPhase.INTERVIEW);
+        assertThat(passedAfter.getInterviewPhase().getStatus()).isEqualTo(PhaseStatus.EVALUATING);
+        assertThat(passedAfter.getInterviewPhase().getInterviewDate()).isEqualTo(INTERVIEW_DATE);
+        assertThat(passedAfter.getInterviewPhase().getId()).isNotBlank();
+
+        Applicant failedAfter = reload(failed);
+        assertThat(failedAfter.getCurrentPhase()).isEqualTo(ApplicantPhase.DOCUMENT);
+        assertThat(interviewPhaseCount(failed)).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 면접 단계에 있는 지원자의 면접 단계는 새로 만들거나 덮어쓰지 않는다")
+    void keepsExistingInterviewPhase() {
+        // when
+        applicantPhaseJdbcRepository.promoteDocumentPassersToInterview(form.getId(), INTERVIEW_DATE);
+        em.clear();
+
+        // then
+        assertThat(interviewPhaseCount(interviewed)).isEqualTo(1);
+
+        Applicant interviewedAfter = reload(interviewed);
+        assertThat(interviewedAfter.getCurrentPhase()).isEqualTo(ApplicantPhase.INTERVIEW);
+        assertThat(interviewedAfter.getInterviewPhase().getInterviewDate()).isEqualTo(EXISTING_INTERVIEW_DATE);
+    }
+
+    @Test
+    @DisplayName("다른 지원폼의 서류 합격자는 건드리지 않는다")
+    void ignoresOtherApplyForms() {
+        // when
+        applicantPhaseJdbcRepository.promoteDocumentPassersToInterview(form.getId(), INTERVIEW_DATE);
+        em.clear();
+
+        // then
+        assertThat(reload(otherFormPassed).getCurrentPhase()).isEqualTo(ApplicantPhase.DOCUMENT);
+        assertThat(interviewPhaseCount(otherFormPassed)).isZero();
+    }
+
+    @Test
+    @DisplayName("두 번째 실행은 면접 단계를 중복 생성하지 않고 아무 지원자도 이동시키지 않는다")
+    void secondRunIsIdempotent() {
+        // given
+        applicantPhaseJdbcRepository.promoteDocumentPassersToInterview(form.getId(), INTERVIEW_DATE);
+
+        // when
+        int promotedAgain = applicantPhaseJdbcRepository.promoteDocumentPassersToInterview(
+                form.getId(), INTERVIEW_DATE.plusDays(1));
+        em.clear();
+
+        // then
+        assertThat(promotedAgain).isZero();
+        assertThat(interviewPhaseCount(passed)).isEqualTo(1);
+        assertThat(interviewPhaseCount(interviewed)).isEqualTo(1);
+        assertThat(interviewPhaseCount(failed)).isZero();
+        assertThat(reload(passed).getInterviewPhase().getInterviewDate()).isEqualTo(INTERVIEW_DATE);
+    }
+}
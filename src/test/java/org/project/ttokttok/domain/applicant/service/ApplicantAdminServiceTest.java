@@ -16,10 +16,14 @@ import org.project.ttokttok.domain.applicant.domain.enums.Grade;
 import org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus;
 import org.project.ttokttok.domain.applicant.domain.enums.StudentStatus;
 import org.project.ttokttok.domain.applicant.domain.json.Answer;
+import org.project.ttokttok.domain.applicant.event.ApplicantChangedEvent;
 import org.project.ttokttok.domain.applicant.exception.ApplicantNotFoundException;
 import org.project.ttokttok.domain.applicant.exception.UnAuthorizedApplicantAccessException;
+import org.project.ttokttok.domain.applicant.repository.ApplicantPhaseJdbcRepository;
+import org.project.ttokttok.domain.applicant.repository.ApplicantPhaseQuery;
 import org.project.ttokttok.domain.applicant.repository.ApplicantRepository;
 import org.project.ttokttok.domain.applicant.repository.dto.response.ApplicantPageQueryResponse;
+import org.project.ttokttok.domain.applicant.repository.dto.response.ApplicantResultCountQueryResponse;
 import org.project.ttokttok.domain.applicant.service.dto.request.ApplicantFinalizationRequest;
 import org.project.ttokttok.domain.applicant.service.dto.request.ApplicantPageServiceRequest;
 import org.project.ttokttok.domain.applicant.service.dto.request.ApplicantSearchServiceRequest;
@@ -32,22 +36,35 @@ import org.project.ttokttok.domain.applyform.domain.ApplyForm;
 import org.project.ttokttok.domain.applyform.exception.ActiveApplyFormNotFoundException;
 import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
 import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
 import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.club.service.ClubPopularityStatsService;
+import org.project.ttokttok.domain.clubMember.repository.ClubMemberJdbcRepository;
 import org.project.ttokttok.domain.clubMember.repository.ClubMemberRepository;
-import org.project.ttokttok.infrastructure.email.service.EmailService;
+import org.project.ttokttok.domain.mail.domain.enums.MailJobStatus;
+import org.project.ttokttok.domain.mail.service.MailJobService;
+import org.project.ttokttok.domain.mail.service.dto.request.MailJobMessageRequest;
+import org.project.ttokttok.domain.mail.service.dto.response.MailJobServiceResponse;
+
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -64,6 +81,9 @@ class ApplicantAdminServiceTest {
     @Mock
     private ApplicantRepository applicantRepository;
 
+    @Mock
+    private ApplicantPhaseJdbcRepository applicantPhaseJdbcRepository;
+
     @Mock
     private ApplyFormRepository applyFormRepository;
 
@@ -74,7 +94,19 @@ class ApplicantAdminServiceTest {
     private ClubMemberRepository clubMemberRepository;
 
     @Mock
-    private EmailService emailService;
+    private ClubMemberJdbcRepository clubMemberJdbcRepository;
+
+    @Mock
+    private MailJobService mailJobService;
+
+    @Mock
+    private ClubPopularityStatsService clubPopularityStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ApplicantCountCache applicantCountCache;
 
     private static final String USERNAME = "adminUser";
     private static final String CLUB_ID = "club-1";
@@ -90,7 +122,7 @@ class ApplicantAdminServiceTest {
         void getApplicantPage_success() {
             // given
             ApplicantPageServiceRequest request = ApplicantPageServiceRequest.of(
-                    USERNAME, "GRADE", false, 1, 7, "DOCUMENT");
+                    USERNAME, "GRADE", false, 1, null, 7, "DOCUMENT");
 
             Club club = mock(Club.class);
             given(club.getId()).willReturn(CLUB_ID);
@@ -108,8 +140,10 @@ class ApplicantAdminServiceTest {
                     .totalCount(0)
                     .applicants(List.of())
                     .build();
+            given(applicantCountCache.get(eq(APPLY_FORM_ID), eq(ApplicantPhaseQuery.DOCUMENT), isNull(), eq(false), any()))
+                    .willReturn(0L);
             given(applicantRepository.findApplicantsPageWithSortCriteria(
-                    "GRADE", false, 1, 7, APPLY_FORM_ID, "DOCUMENT"))
+                    "GRADE", false, 1, null, 7, APPLY_FORM_ID, "DOCUMENT", 0L))
                     .willReturn(queryResponse);
 
             // when
@@ -122,12 +156,48 @@ class ApplicantAdminServiceTest {
             assertThat(response.applicants()).isEmpty();
         }
 
+        @Test
+        @DisplayName("캐시에 개수가 없으면 리포지토리로 세어 목록 조회에 넘긴다")
+        void getApplicantPage_countsThroughCache() {
+            // given
+            ApplicantPageServiceRequest request = ApplicantPageServiceRequest.of(
+                    USERNAME, "GRADE", true, 2, null, 7, "INTERVIEW");
+
+            Club club = mock(Club.class);
+            given(club.getId()).willReturn(CLUB_ID);
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(club));
+
+            ApplyForm applyForm = mock(ApplyForm.class);
+            given(applyForm.getId()).willReturn(APPLY_FORM_ID);
+            given(applyFormRepository.findTopByClubIdAndStatusOrderByCreatedAtDesc(CLUB_ID, ACTIVE))
+                    .willReturn(Optional.of(applyForm));
+
+            given(applicantCountCache.get(eq(APPLY_FORM_ID), eq(ApplicantPhaseQuery.INTERVIEW), isNull(), eq(true), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<Long>>getArgument(4).get());
+            given(applicantRepository.countApplicants(APPLY_FORM_ID, "INTERVIEW", true, null)).willReturn(15L);
+            given(applicantRepository.findApplicantsPageWithSortCriteria(
+                    "GRADE", true, 2, null, 7, APPLY_FORM_ID, "INTERVIEW", 15L))
+                    .willReturn(ApplicantPageQueryResponse.builder()
+                            .currentPage(2)
+                            .totalPage(3)
+                            .totalCount(15)
+                            .applicants(List.of())
+                            .build());
+
+            // when
+            ApplicantPageServiceResponse response = applicantAdminService.getApplicantPage(request);
+
+            // then
+            assertThat(response.totalCount()).isEqualTo(15);
+            verify(applicantRepository).countApplicants(APPLY_FORM_ID, "INTERVIEW", true, null);
+        }
+
         @Test
         @DisplayName("활성 지원폼이 없으면 빈 응답을 반환한다")
         void getApplicantPage_returnsEmpty_whenNoActiveApplyForm() {
             // given
             ApplicantPageServiceRequest request = ApplicantPageServiceRequest.of(
-                    USERNAME, "GRADE", false, 1, 7, "DOCUMENT");
+                    USERNAME, "GRADE", false, 1, null, 7, "DOCUMENT");
 
             Club club = mock(Club.class);
             given(club.getId()).willReturn(CLUB_ID);
@@ -142,7 +212,7 @@ class ApplicantAdminServiceTest {
             assertThat(response.hasInterview()).isNull();
             assertThat(response.applicants()).isEmpty();
             verify(applicantRepository, never()).findApplicantsPageWithSortCriteria(
-                    anyString(), eq(false), eq(1), eq(7), anyString(), anyString());
+                    anyString(), eq(false), eq(1), any(), eq(7), anyString(), anyString(), anyLong());
         }
 
         @Test
@@ -150,7 +220,7 @@ class ApplicantAdminServiceTest {
         void getApplicantPage_throwsNotClubAdminException_whenNotClubAdmin() {
             // given
             ApplicantPageServiceRequest request = ApplicantPageServiceRequest.of(
-                    USERNAME, "GRADE", false, 1, 7, "DOCUMENT");
+                    USERNAME, "GRADE", false, 1, null, 7, "DOCUMENT");
             given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.empty());
 
             // when & then
@@ -289,7 +359,7 @@ class ApplicantAdminServiceTest {
         void searchApplicantByKeyword_success() {
             // given
             ApplicantSearchServiceRequest request = ApplicantSearchServiceRequest.of(
-                    USERNAME, "홍길동", "GRADE", false, 1, 7, "DOCUMENT");
+                    USERNAME, "홍길동", "GRADE", false, 1, null, 7, "DOCUMENT");
 
             Club club = mock(Club.class);
             given(club.getId()).willReturn(CLUB_ID);
@@ -308,7 +378,7 @@ class ApplicantAdminServiceTest {
                     .applicants(List.of())
                     .build();
             given(applicantRepository.searchApplicantsByKeyword(
-                    "홍길동", "GRADE", false, 1, 7, APPLY_FORM_ID, "DOCUMENT"))
+                    "홍길동", "GRADE", false, 1, null, 7, APPLY_FORM_ID, "DOCUMENT"))
                     .willReturn(queryResponse);
 
             // when
@@ -324,7 +394,7 @@ class ApplicantAdminServiceTest {
         void searchApplicantByKeyword_returnsEmpty_whenNoActiveApplyForm() {
             // given
             ApplicantSearchServiceRequest request = ApplicantSearchServiceRequest.of(
-                    USERNAME, "홍길동", "GRADE", false, 1, 7, "DOCUMENT");
+                    USERNAME, "홍길동", "GRADE", false, 1, null, 7, "DOCUMENT");
 
             Club club = mock(Club.class);
             given(club.getId()).willReturn(CLUB_ID);
@@ -344,7 +414,7 @@ class ApplicantAdminServiceTest {
         void searchApplicantByKeyword_throwsNotClubAdminException() {
             // given
             ApplicantSearchServiceRequest request = ApplicantSearchServiceRequest.of(
-                    USERNAME, "홍길동", "GRADE", false, 1, 7, "DOCUMENT");
+                    USERNAME, "홍길동", "GRADE", false, 1, null, 7, "DOCUMENT");
             given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.empty());
 
             // when & then
@@ -362,7 +432,7 @@ class ApplicantAdminServiceTest {
         void getApplicantsByStatus_success() {
             // given
             ApplicantStatusServiceRequest request = ApplicantStatusServiceRequest.of(
-                    USERNAME, true, 1, 4, "DOCUMENT");
+                    USERNAME, true, 1, null, 4, "DOCUMENT");
 
             Club club = mock(Club.class);
             given(club.getId()).willReturn(CLUB_ID);
@@ -380,7 +450,10 @@ class ApplicantAdminServiceTest {
                     .totalCount(2)
                     .applicants(List.of())
                     .build();
-            given(applicantRepository.findApplicantsByStatus(true, 1, 4, APPLY_FORM_ID, "DOCUMENT"))
+            given(applicantCountCache.get(
+                    eq(APPLY_FORM_ID), eq(ApplicantPhaseQuery.DOCUMENT), eq(PhaseStatus.PASS), eq(false), any()))
+                    .willReturn(2L);
+            given(applicantRepository.findApplicantsByStatus(true, 1, null, 4, APPLY_FORM_ID, "DOCUMENT", 2L))
                     .willReturn(queryResponse);
 
             // when
@@ -396,7 +469,7 @@ class ApplicantAdminServiceTest {
         void getApplicantsByStatus_returnsEmpty_whenNoActiveApplyForm() {
             // given
             ApplicantStatusServiceRequest request = ApplicantStatusServiceRequest.of(
-                    USERNAME, false, 1, 4, "INTERVIEW");
+                    USERNAME, false, 1, null, 4, "INTERVIEW");
 
             Club club = mock(Club.class);
             given(club.getId()).willReturn(CLUB_ID);
@@ -410,7 +483,7 @@ class ApplicantAdminServiceTest {
             // then
             assertThat(response.applicants()).isEmpty();
             verify(applicantRepository, never()).findApplicantsByStatus(
-                    anyBoolean(), eq(1), eq(4), anyString(), anyString());
+                    anyBoolean(), eq(1), any(), eq(4), anyString(), anyString(), anyLong());
         }
     }
 
@@ -445,6 +518,7 @@ class ApplicantAdminServiceTest {
 
             // then
             verify(applicant).changeEvaluationStatus(ApplicantPhase.DOCUMENT, PhaseStatus.PASS);
+            verify(eventPublisher).publishEvent(any(ApplicantChangedEvent.class));
         }
 
         @Test
@@ -605,24 +679,81 @@ class ApplicantAdminServiceTest {
             given(applyForm.getInterviewStartDate()).willReturn(interviewStartDate);
             given(applyFormRepository.findByClubIdAndStatus(CLUB_ID, ACTIVE)).willReturn(Optional.of(applyForm));
 
-            Applicant passedApplicant = mock(Applicant.class);
-            given(passedApplicant.statusOf(ApplicantPhase.DOCUMENT)).willReturn(Optional.of(PhaseStatus.PASS));
-            given(passedApplicant.isInInterviewPhase()).willReturn(false);
+            given(applicantRepository.countResultsByPhase(APPLY_FORM_ID, ApplicantPhase.DOCUMENT))
+                    .willReturn(ApplicantResultCountQueryResponse.of(1L, 1L));
+
+            // when
+            ApplicantFinalizeServiceResponse response = applicantAdminService.finalizeApplicantsStatus(request);
+
+            // then
+            assertThat(response.passedCount()).isEqualTo(1);
+            assertThat(response.totalFinalizedCount()).isEqualTo(2);
+            verify(applicantPhaseJdbcRepository).promoteDocumentPassersToInterview(APPLY_FORM_ID, interviewStartDate);
+            verify(eventPublisher).publishEvent(new ApplicantChangedEvent(APPLY_FORM_ID));
+            verify(applicantRepository, never()).findByPhaseStatus(anyString(), any(), any());
+            verify(clubMemberJdbcRepository, never()).batchInsert(anyList());
+        }
+
+        @Test
+        @DisplayName("서류 전형 마감 시, 면접이 없는 지원폼이면 합격자를 바로 동아리 부원으로 등록한다")
+        void finalizeApplicantsStatus_documentWithoutInterview_savesClubMembers() {
+            // given
+            ApplicantFinalizationRequest request = ApplicantFinalizationRequest.of(USERNAME, CLUB_ID, "DOCUMENT");
 
-            Applicant failedApplicant = mock(Applicant.class);
-            given(failedApplicant.statusOf(ApplicantPhase.DOCUMENT)).willReturn(Optional.of(PhaseStatus.FAIL));
+            Club club = mock(Club.class);
+            given(club.getId()).willReturn(CLUB_ID);
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(club));
 
-            given(applicantRepository.findByApplyFormId(APPLY_FORM_ID))
-                    .willReturn(List.of(passedApplicant, failedApplicant));
+            ApplyForm applyForm = mock(ApplyForm.class);
+            given(applyForm.getId()).willReturn(APPLY_FORM_ID);
+            given(applyForm.isHasInterview()).willReturn(false);
+            given(applyFormRepository.findByClubIdAndStatus(CLUB_ID, ACTIVE)).willReturn(Optional.of(applyForm));
+
+            Applicant passedApplicant = mock(Applicant.class);
+            given(passedApplicant.getEmail()).willReturn("hong@test.com");
+
+            given(applicantRepository.countResultsByPhase(APPLY_FORM_ID, ApplicantPhase.DOCUMENT))
+                    .willReturn(ApplicantResultCountQueryResponse.of(1L, 0L));
+            given(applicantRepository.findByPhaseStatus(APPLY_FORM_ID, ApplicantPhase.DOCUMENT, PhaseStatus.PASS))
+                    .willReturn(List.of(passedApplicant));
+            given(clubMemberRepository.findEmailsByClubIdAndEmailIn(CLUB_ID, List.of("hong@test.com"))).willReturn(Set.of());
 
             // when
             ApplicantFinalizeServiceResponse response = applicantAdminService.finalizeApplicantsStatus(request);
 
             // then
             assertThat(response.passedCount()).isEqualTo(1);
-            assertThat(response.totalFinalizedCount()).isEqualTo(2);
-            verify(passedApplicant).updateToInterviewPhase(interviewStartDate);
-            verify(clubMemberRepository, never()).saveAll(anyList());
+            assertThat(response.totalFinalizedCount()).isEqualTo(1);
+            verify(clubMemberJdbcRepository).batchInsert(anyList());
+            verify(applicantPhaseJdbcRepository, never()).promoteDocumentPassersToInterview(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("합격자가 없으면 불합격 인원만 집계하고 합격 처리는 하지 않는다")
+        void finalizeApplicantsStatus_noPassedApplicants_skipsProcessing() {
+            // given
+            ApplicantFinalizationRequest request = ApplicantFinalizationRequest.of(USERNAME, CLUB_ID, "INTERVIEW");
+
+            Club club = mock(Club.class);
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(club));
+
+            ApplyForm applyForm = mock(ApplyForm.class);
+            given(applyForm.getId()).willReturn(APPLY_FORM_ID);
+            given(applyFormRepository.findByClubIdAndStatus(CLUB_ID, ACTIVE)).willReturn(Optional.of(applyForm));
+
+            given(applicantRepository.countResultsByPhase(APPLY_FORM_ID, ApplicantPhase.INTERVIEW))
+                    .willReturn(ApplicantResultCountQueryResponse.of(0L, 3L));
+
+            // when
+            ApplicantFinalizeServiceResponse response = applicantAdminService.finalizeApplicantsStatus(request);
+
+            // then
+            assertThat(response.passedCount()).isZero();
+            assertThat(response.totalFinalizedCount()).isEqualTo(3);
+            verify(applicantRepository, never()).findByPhaseStatus(anyString(), any(), any());
+            verify(applicantPhaseJdbcRepository, never()).promoteDocumentPassersToInterview(anyString(), any());
+            verify(clubMemberJdbcRepository, never()).batchInsert(anyList());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
 
         @Test
@@ -640,7 +771,6 @@ class ApplicantAdminServiceTest {
             given(applyFormRepository.findByClubIdAndStatus(CLUB_ID, ACTIVE)).willReturn(Optional.of(applyForm));
 
             Applicant passedApplicant = mock(Applicant.class);
-            given(passedApplicant.statusOf(ApplicantPhase.INTERVIEW)).willReturn(Optional.of(PhaseStatus.PASS));
             given(passedApplicant.getName()).willReturn("홍길동");
             given(passedApplicant.getGrade()).willReturn(Grade.FIRST_GRADE);
             given(passedApplicant.getMajor()).willReturn("컴퓨터공학과");
@@ -648,15 +778,18 @@ class ApplicantAdminServiceTest {
             given(passedApplicant.getPhone()).willReturn("010-1234-5678");
             given(passedApplicant.getGender()).willReturn(Gender.MALE);
 
-            given(applicantRepository.findByApplyFormId(APPLY_FORM_ID)).willReturn(List.of(passedApplicant));
-            given(clubMemberRepository.existsByClubIdAndEmail(CLUB_ID, "hong@test.com")).willReturn(false);
+            given(applicantRepository.countResultsByPhase(APPLY_FORM_ID, ApplicantPhase.INTERVIEW))
+                    .willReturn(ApplicantResultCountQueryResponse.of(1L, 0L));
+            given(applicantRepository.findByPhaseStatus(APPLY_FORM_ID, ApplicantPhase.INTERVIEW, PhaseStatus.PASS))
+                    .willReturn(List.of(passedApplicant));
+            given(clubMemberRepository.findEmailsByClubIdAndEmailIn(CLUB_ID, List.of("hong@test.com"))).willReturn(Set.of());
 
             // when
             ApplicantFinalizeServiceResponse response = applicantAdminService.finalizeApplicantsStatus(request);
 
             // then
             assertThat(response.passedCount()).isEqualTo(1);
-            verify(clubMemberRepository).saveAll(anyList());
+            verify(clubMemberJdbcRepository).batchInsert(anyList());
         }
 
         @Test
@@ -674,17 +807,88 @@ class ApplicantAdminServiceTest {
             given(applyFormRepository.findByClubIdAndStatus(CLUB_ID, ACTIVE)).willReturn(Optional.of(applyForm));
 
             Applicant passedApplicant = mock(Applicant.class);
-            given(passedApplicant.statusOf(ApplicantPhase.INTERVIEW)).willReturn(Optional.of(PhaseStatus.PASS));
             given(passedApplicant.getEmail()).willReturn("hong@test.com");
 
-            given(applicantRepository.findByApplyFormId(APPLY_FORM_ID)).willReturn(List.of(passedApplicant));
-            given(clubMemberRepository.existsByClubIdAndEmail(CLUB_ID, "hong@test.com")).willReturn(true);
+            given(applicantRepository.countResultsByPhase(APPLY_FORM_ID, ApplicantPhase.INTERVIEW))
+                    .willReturn(ApplicantResultCountQueryResponse.of(1L, 0L));
+            given(applicantRepository.findByPhaseStatus(APPLY_FORM_ID, ApplicantPhase.INTERVIEW, PhaseStatus.PASS))
+                    .willReturn(List.of(passedApplicant));
+            given(clubMemberRepository.findEmailsByClubIdAndEmailIn(CLUB_ID, List.of("hong@test.com")))
+                    .willReturn(Set.of("hong@test.com"));
+
+            // when
+            applicantAdminService.finalizeApplicantsStatus(request);
+
+            // then
+            verify(clubMemberJdbcRepository, never()).batchInsert(anyList());
+        }
+
+        @Test
+        @DisplayName("같은 이메일의 합격자가 여럿이면 부원 중복 조회 1회로 한 명만 등록한다")
+        void finalizeApplicantsStatus_registersDuplicatedEmailOnce() {
+            // given
+            ApplicantFinalizationRequest request = ApplicantFinalizationRequest.of(USERNAME, CLUB_ID, "INTERVIEW");
+
+            Club club = mock(Club.class);
+            given(club.getId()).willReturn(CLUB_ID);
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(club));
+
+            ApplyForm applyForm = mock(ApplyForm.class);
+            given(applyForm.getId()).willReturn(APPLY_FORM_ID);
+            given(applyFormRepository.findByClubIdAndStatus(CLUB_ID, ACTIVE)).willReturn(Optional.of(applyForm));
+
+            Applicant first = mock(Applicant.class);
+            given(first.getEmail()).willReturn("hong@test.com");
+            Applicant duplicated = mock(Applicant.class);
+            given(duplicated.getEmail()).willReturn("hong@test.com");
+            Applicant other = mock(Applicant.class);
+            given(other.getEmail()).willReturn("kim@test.com");
+
+            given(applicantRepository.countResultsByPhase(APPLY_FORM_ID, ApplicantPhase.INTERVIEW))
+                    .willReturn(ApplicantResultCountQueryResponse.of(3L, 0L));
+            given(applicantRepository.findByPhaseStatus(APPLY_FORM_ID, ApplicantPhase.INTERVIEW, PhaseStatus.PASS))
+                    .willReturn(List.of(first, duplicated, other));
+            given(clubMemberRepository.findEmailsByClubIdAndEmailIn(anyString(), anyList())).willReturn(Set.of());
+
+            // when
+            applicantAdminService.finalizeApplicantsStatus(request);
+
+            // then
+            verify(clubMemberRepository, times(1)).findEmailsByClubIdAndEmailIn(anyString(), anyList());
+            verify(clubMemberRepository, never()).existsByClubIdAndEmail(anyString(), anyString());
+            verify(clubMemberJdbcRepository).batchInsert(argThat(members -> members.size() == 2));
+            verify(clubPopularityStatsService).addMemberCount(CLUB_ID, 2);
+        }
+
+        @Test
+        @DisplayName("합격자를 부원으로 등록하면 동아리 목록/상세 캐시 무효화 이벤트를 발행한다")
+        void finalizeApplicantsStatus_savesClubMembers_publishesClubListChangedEvent() {
+            // given
+            ApplicantFinalizationRequest request = ApplicantFinalizationRequest.of(USERNAME, CLUB_ID, "INTERVIEW");
+
+            Club club = mock(Club.class);
+            given(club.getId()).willReturn(CLUB_ID);
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(club));
+
+            ApplyForm applyForm = mock(ApplyForm.class);
+            given(applyForm.getId()).willReturn(APPLY_FORM_ID);
+            given(applyFormRepository.findByClubIdAndStatus(CLUB_ID, ACTIVE)).willReturn(Optional.of(applyForm));
+
+            Applicant passedApplicant = mock(Applicant.class);
+            given(passedApplicant.getEmail()).willReturn("hong@test.com");
+
+            given(applicantRepository.countResultsByPhase(APPLY_FORM_ID, ApplicantPhase.INTERVIEW))
+                    .willReturn(ApplicantResultCountQueryResponse.of(1L, 0L));
+            given(applicantRepository.findByPhaseStatus(APPLY_FORM_ID, ApplicantPhase.INTERVIEW, PhaseStatus.PASS))
+                    .willReturn(List.of(passedApplicant));
+            given(clubMemberRepository.findEmailsByClubIdAndEmailIn(CLUB_ID, List.of("hong@test.com"))).willReturn(Set.of());
 
             // when
             applicantAdminService.finalizeApplicantsStatus(request);
 
             // then
-            verify(clubMemberRepository, never()).saveAll(anyList());
+            verify(clubPopularityStatsService).addMemberCount(CLUB_ID, 1);
+            verify(eventPublisher).publishEvent(new ClubListChangedEvent(CLUB_ID));
         }
 
         @Test
@@ -720,7 +924,7 @@ class ApplicantAdminServiceTest {
     class SendResultMailToApplicantsTest {
 
         @Test
-        @DisplayName("합격자와 불합격자 각각에게 결과 메일을 발송한다")
+        @DisplayName("합격자와 불합격자 각각의 메일을 하나의 발송 작업으로 등록하고 작업 ID를 반환한다")
         void sendResultMailToApplicants_success() {
             // given
             MailFormatRequest pass = new MailFormatRequest("합격 안내", "축하합니다.");
@@ -737,23 +941,22 @@ class ApplicantAdminServiceTest {
             given(applyForm.getId()).willReturn(APPLY_FORM_ID);
             given(applyFormRepository.findByClubIdAndStatus(CLUB_ID, ACTIVE)).willReturn(Optional.of(applyForm));
 
-            Applicant passedApplicant = mock(Applicant.class);
-            given(passedApplicant.statusOf(ApplicantPhase.DOCUMENT)).willReturn(Optional.of(PhaseStatus.PASS));
-            given(passedApplicant.getEmail()).willReturn("passed@test.com");
-
-            Applicant failedApplicant = mock(Applicant.class);
-            given(failedApplicant.statusOf(ApplicantPhase.DOCUMENT)).willReturn(Optional.of(PhaseStatus.FAIL));
-            given(failedApplicant.getEmail()).willReturn("failed@test.com");
+            given(applicantRepository.findEmailsByPhaseStatus(APPLY_FORM_ID, ApplicantPhase.DOCUMENT, PhaseStatus.PASS))
+                    .willReturn(List.of("passed@test.com"));
+            given(applicantRepository.findEmailsByPhaseStatus(APPLY_FORM_ID, ApplicantPhase.DOCUMENT, PhaseStatus.FAIL))
+                    .willReturn(List.of("failed@test.com"));
 
-            given(applicantRepository.findByApplyFormId(APPLY_FORM_ID))
-                    .willReturn(List.of(passedApplicant, failedApplicant));
+            given(mailJobService.enqueue(eq(USERNAME), anyList())).willReturn("job-1");
 
             // when
-            applicantAdminService.sendResultMailToApplicants(request, USERNAME, CLUB_ID, "DOCUMENT");
+            String jobId = applicantAdminService.sendResultMailToApplicants(request, USERNAME, CLUB_ID, "DOCUMENT");
 
             // then
-            verify(emailService, times(1)).sendResultMail(List.of("passed@test.com"), pass);
-            verify(emailService, times(1)).sendResultMail(List.of("failed@test.com"), fail);
+            assertThat(jobId).isEqualTo("job-1");
+            verify(mailJobService, times(1)).enqueue(USERNAME, List.of(
+                    MailJobMessageRequest.of("합격 안내", "축하합니다.", List.of("passed@test.com")),
+                    MailJobMessageRequest.of("불합격 안내", "아쉽습니다.", List.of("failed@test.com"))
+            ));
         }
 
         @Test
@@ -775,7 +978,7 @@ class ApplicantAdminServiceTest {
             assertThatThrownBy(() ->
                     applicantAdminService.sendResultMailToApplicants(request, USERNAME, CLUB_ID, "DOCUMENT"))
                     .isInstanceOf(ActiveApplyFormNotFoundException.class);
-            verify(emailService, never()).sendResultMail(anyList(), any());
+            verify(mailJobService, never()).enqueue(anyString(), anyList());
         }
 
         @Test
@@ -797,4 +1000,42 @@ class ApplicantAdminServiceTest {
                     .isInstanceOf(NotClubAdminException.class);
         }
     }
+
+    @Nested
+    @DisplayName("getResultMailJob(): 결과 메일 발송 진행 상태 조회")
+    class GetResultMailJobTest {
+
+        @Test
+        @DisplayName("동아리 관리자면 발송 작업의 진행 상태를 반환한다")
+        void getResultMailJob_success() {
+            // given
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(mock(Club.class)));
+            MailJobServiceResponse job = MailJobServiceResponse.builder()
+                    .jobId("job-1")
+                    .status(MailJobStatus.IN_PROGRESS)
+                    .totalCount(3)
+                    .sentCount(1)
+                    .pendingCount(2)
+                    .build();
+            given(mailJobService.getJob(USERNAME, "job-1")).willReturn(job);
+
+            // when
+            MailJobServiceResponse result = applicantAdminService.getResultMailJob(USERNAME, "job-1");
+
+            // then
+            assertThat(result).isEqualTo(job);
+        }
+
+        @Test
+        @DisplayName("동아리 관리자가 아니면 NotClubAdminException이 발생한다")
+        void getResultMailJob_throwsNotClubAdminException() {
+            // given
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> applicantAdminService.getResultMailJob(USERNAME, "job-1"))
+                    .isInstanceOf(NotClubAdminException.class);
+            verify(mailJobService, never()).getJob(anyString(), anyString());
+        }
+    }
 }
@@ -0,0 +1,170 @@
+package org.project.ttokttok.domain.applicant.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.ttokttok.domain.admin.domain.Admin;
+import org.project.ttokttok.domain.admin.repository.AdminRepository;
+import org.project.ttokttok.domain.applicant.controller.dto.request.AnswerRequest;
+import org.project.ttokttok.domain.applicant.controller.dto.request.ApplyFormRequest;
+import org.project.ttokttok.domain.applicant.domain.enums.Gender;
+import org.project.ttokttok.domain.applicant.domain.enums.Grade;
+import org.project.ttokttok.domain.applicant.domain.enums.StudentStatus;
+import org.project.ttokttok.domain.applicant.repository.ApplicantRepository;
+import org.project.ttokttok.domain.applicant.service.answer.FileAnswerUploader;
+import org.project.ttokttok.domain.applyform.domain.ApplyForm;
+import org.project.ttokttok.domain.applyform.domain.enums.ApplicableGrade;
+import org.project.ttokttok.domain.applyform.domain.enums.QuestionType;
+import org.project.ttokttok.domain.applyform.domain.json.Question;
+import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
+import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.domain.enums.ClubUniv;
+import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.user.domain.User;
+import org.project.ttokttok.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 지원서 제출 커넥션 점유 통합 테스트 (실제 커밋 발생 — {@code @Transactional} 미사용)
+ *
+ * <p>웹 요청처럼 요청 스레드에 OSIV EntityManager 를 묶은 상태로 제출하고,
+ * 파일 업로드({@link FileAnswerUploader#uploadAll}) 중에 커넥션 풀에서 빌려 간 커넥션이 없는지 확인한다.
+ * 업로드 전 검증 조회가 요청 EntityManager 로 실행되면 그 커넥션이 업로드가 끝날 때까지 반납되지 않는다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ApplicantApplyConnectionIT {
+
+    private static final String EMAIL = "apply-connection@sangmyung.kr";
+
+    @Autowired
+    private ApplicantUserService applicantUserService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private ApplyFormRepository applyFormRepository;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @MockitoBean
+    private FileAnswerUploader fileAnswerUploader;
+
+    private User user;
+    private Admin admin;
+    private Club club;
+    private ApplyForm applyForm;
+    private String applicantId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.signUp(EMAIL, "encodedPassword123", "커넥션테스트", true));
+        admin = adminRepository.save(Admin.adminJoin("connadmin", "password123!", "conn-admin@sangmyung.kr"));
+        club = clubRepository.save(Club.builder()
+                .admin(admin)
+                .clubName("커넥션 테스트 동아리")
+                .clubUniv(ClubUniv.ENGINEERING)
+                .build());
+        applyForm = applyFormRepository.save(ApplyForm.builder()
+                .club(club)
+                .hasInterview(false)
+                .applyStartDate(LocalDate.now().minusDays(1))
+                .applyEndDate(LocalDate.now().plusDays(7))
+                .maxApplyCount(30)
+                .grades(Set.of(ApplicableGrade.FIRST_GRADE))
+                .title("모집 공고")
+                .subTitle("부제")
+                .formJson(List.of(new Question("q1", "포트폴리오", null, QuestionType.FILE, true, List.of())))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (applicantId != null) {
+            applicantRepository.deleteById(applicantId);
+        }
+        applyFormRepository.delete(applyForm);
+        clubRepository.delete(club);
+        adminRepository.delete(admin);
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("요청에 OSIV EntityManager 가 묶여 있어도 파일 업로드 중에는 DB 커넥션을 붙잡지 않는다")
+    void noConnectionHeldDuringUpload() {
+        HikariDataSource pool = unwrapPool();
+        AtomicInteger activeDuringUpload = new AtomicInteger(-1);
+        given(fileAnswerUploader.uploadAll(any(), anyString())).willAnswer(invocation -> {
+            activeDuringUpload.set(pool.getHikariPoolMXBean().getActiveConnections());
+            Map<Object, String> urls = new HashMap<>();
+            invocation.<Map<Object, MultipartFile>>getArgument(0)
+                    .keySet()
+                    .forEach(key -> urls.put(key, "https://cdn.example.com/applicant/" + EMAIL + "/portfolio.pdf"));
+            return urls;
+        });
+
+        ApplyFormRequest request = new ApplyFormRequest(
+                "홍길동", 22, "컴퓨터공학과", "hong@test.com", "010-1234-5678",
+                StudentStatus.ENROLLED, Grade.FIRST_GRADE, Gender.MALE, applyForm.getId(),
+                List.of(new AnswerRequest("q1", null)));
+        MultipartFile file = new MockMultipartFile("q1", "portfolio.pdf", "application/pdf", "content".getBytes());
+
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+        try {
+            applicantId = applicantUserService.apply(EMAIL, request, List.of("q1"), List.of(file), club.getId());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+
+        assertThat(applicantId).isNotNull();
+        assertThat(activeDuringUpload).hasValue(0);
+    }
+
+    private HikariDataSource unwrapPool() {
+        try {
+            return dataSource.unwrap(HikariDataSource.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Hikari 커넥션 풀이 아닙니다.", e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.project.ttokttok.domain.applicant.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.ttokttok.domain.applicant.domain.enums.PhaseStatus;
+import org.project.ttokttok.domain.applicant.event.ApplicantChangedEvent;
+import org.project.ttokttok.domain.applicant.repository.ApplicantPhaseQuery;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ApplicantCountCache - 지원자 개수 캐시")
+class ApplicantCountCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    private final ApplicantCountCache applicantCountCache = new ApplicantCountCache(redisTemplate, 60, 100);
+
+    {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("같은 조건의 개수를 다시 조회하면 DB 를 조회하지 않는다")
+    void hitSkipsLoader() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, null, false, () -> {
+            loads.incrementAndGet();
+            return 3L;
+        });
+        long second = applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, null, false, () -> {
+            loads.incrementAndGet();
+            return 5L;
+        });
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("단계, 상태, 평가중 필터가 다르면 따로 캐싱한다")
+    void differentConditionsAreCachedSeparately() {
+        // given
+        applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, null, false, () -> 3L);
+
+        // when & then
+        assertThat(applicantCountCache.get("form-1", ApplicantPhaseQuery.INTERVIEW, null, false, () -> 1L)).isEqualTo(1L);
+        assertThat(applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, PhaseStatus.PASS, false, () -> 2L)).isEqualTo(2L);
+        assertThat(applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, null, true, () -> 4L)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("지원자 변경 이벤트는 해당 지원폼의 개수만 무효화한다")
+    void evictOnlyChangedApplyForm() {
+        // given
+        applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, null, false, () -> 3L);
+        applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, PhaseStatus.PASS, false, () -> 1L);
+        applicantCountCache.get("form-2", ApplicantPhaseQuery.DOCUMENT, null, false, () -> 7L);
+
+        // when
+        applicantCountCache.evict(new ApplicantChangedEvent("form-1"));
+
+        // then
+        verify(valueOperations).increment("applicant:count:version:form-1");
+        assertThat(applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, null, false, () -> 4L)).isEqualTo(4L);
+        assertThat(applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, PhaseStatus.PASS, false, () -> 2L)).isEqualTo(2L);
+        assertThat(applicantCountCache.get("form-2", ApplicantPhaseQuery.DOCUMENT, null, false, () -> 0L)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 버전을 올리면 로컬에 남은 개수를 쓰지 않고 다시 센다")
+    void versionBumpedByOtherInstance() {
+        // given
+        applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, null, false, () -> 3L);
+
+        // when
+        when(valueOperations.get("applicant:count:version:form-1")).thenReturn("1");
+
+        // then
+        assertThat(applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, null, false, () -> 4L)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Redis 를 쓸 수 없으면 캐시 없이 매번 DB 에서 센다")
+    void bypassCacheWhenRedisUnavailable() {
+        // given
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, null, false, () -> (long) loads.incrementAndGet());
+        long second = applicantCountCache.get("form-1", ApplicantPhaseQuery.DOCUMENT, null, false,
+                () -> (long) loads.incrementAndGet());
+
+        // then
+        assertThat(loads).hasValue(2);
+        assertThat(second).isEqualTo(2L);
+    }
+}
@@ -1,5 +1,6 @@
 package org.project.ttokttok.domain.applicant.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,6 +17,7 @@ import org.project.ttokttok.domain.applicant.domain.enums.ApplicantPhase;
 import org.project.ttokttok.domain.applicant.domain.enums.Gender;
 import org.project.ttokttok.domain.applicant.domain.enums.Grade;
 import org.project.ttokttok.domain.applicant.domain.enums.StudentStatus;
+import org.project.ttokttok.domain.applicant.event.ApplicantChangedEvent;
 import org.project.ttokttok.domain.applicant.exception.AlreadyApplicantExistsException;
 import org.project.ttokttok.domain.applicant.exception.AnswerRequestNotMatchException;
 import org.project.ttokttok.domain.applicant.exception.ListSizeNotMatchException;
@@ -35,7 +37,10 @@ import org.project.ttokttok.domain.temp.applicant.repository.TempApplicantReposi
 import org.project.ttokttok.domain.user.exception.UserNotFoundException;
 import org.project.ttokttok.domain.user.repository.UserRepository;
 import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.project.ttokttok.global.util.jpa.RequestEntityManagerSuspender;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
@@ -75,20 +80,27 @@ class ApplicantUserServiceTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * 답변 조립기는 실제 구현을 사용한다.
      * 파일 답변 처리 동작을 계속 검증하기 위해 S3Service만 목으로 두고 그 위 계층은 실물로 조립한다.
+     * 업로드 스레드풀과 트랜잭션은 호출 스레드에서 바로 실행되도록 대체한다.
      */
     @BeforeEach
     void setUp() {
-        AnswerAssembler answerAssembler = new AnswerAssembler(new FileAnswerUploader(s3Service));
+        AnswerAssembler answerAssembler = new AnswerAssembler(new FileAnswerUploader(s3Service, Runnable::run));
 
         applicantUserService = new ApplicantUserService(
                 userRepository,
                 applicantRepository,
                 applyFormRepository,
                 tempApplicantRepository,
-                answerAssembler
+                answerAssembler,
+                eventPublisher,
+                TransactionOperations.withoutTransaction(),
+                new RequestEntityManagerSuspender(mock(EntityManagerFactory.class))
         );
     }
 
@@ -143,6 +155,7 @@ class ApplicantUserServiceTest {
             assertThat(result).isEqualTo(APPLICANT_ID);
             verify(applicantRepository).save(any(Applicant.class));
             verify(s3Service, never()).uploadFile(any(), anyString());
+            verify(eventPublisher).publishEvent(new ApplicantChangedEvent(FORM_ID));
         }
 
         @Test
@@ -174,6 +187,33 @@ class ApplicantUserServiceTest {
             // then
             assertThat(result).isEqualTo(APPLICANT_ID);
             verify(s3Service, times(1)).uploadFile(file, "applicant/" + EMAIL + "/");
+            verify(s3Service).deleteFileOnRollback("https://s3/resume.pdf");
+        }
+
+        @Test
+        @DisplayName("업로드 중 같은 지원폼에 먼저 저장된 지원이 있으면 저장 트랜잭션에서 AlreadyApplicantExistsException이 발생한다")
+        void apply_throwsAlreadyApplicantExistsException_whenSavedDuringUpload() {
+            // given
+            Question question = new Question("q2", "파일질문", null, QuestionType.FILE, true, List.of());
+            ApplyForm form = mock(ApplyForm.class);
+            given(form.getId()).willReturn(FORM_ID);
+            given(form.getFormJson()).willReturn(List.of(question));
+
+            ApplyFormRequest request = createApplyFormRequest(List.of(new AnswerRequest("q2", null)));
+
+            MultipartFile file = new MockMultipartFile("q2", "resume.pdf", "application/pdf", "content".getBytes());
+
+            given(userRepository.existsByEmail(EMAIL)).willReturn(true);
+            given(applyFormRepository.findByClubIdAndStatus(CLUB_ID, ACTIVE)).willReturn(Optional.of(form));
+            // 업로드 전 검사는 통과하지만, 저장 직전 재검사에서는 이미 지원한 상태다.
+            given(applicantRepository.existsByUserEmailAndApplyFormId(EMAIL, FORM_ID)).willReturn(false, true);
+            given(s3Service.uploadFile(file, "applicant/" + EMAIL + "/")).willReturn("https://s3/resume.pdf");
+
+            // when & then
+            assertThatThrownBy(() -> applicantUserService.apply(EMAIL, request, List.of("q2"), List.of(file), CLUB_ID))
+                    .isInstanceOf(AlreadyApplicantExistsException.class);
+            verify(s3Service).deleteFileOnRollback("https://s3/resume.pdf");
+            verify(applicantRepository, never()).save(any(Applicant.class));
         }
 
         @Test
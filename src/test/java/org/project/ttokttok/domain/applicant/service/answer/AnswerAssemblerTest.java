@@ -14,10 +14,15 @@ import org.project.ttokttok.domain.applicant.exception.ListSizeNotMatchException
 import org.project.ttokttok.domain.applicant.exception.QuestionParseFailException;
 import org.project.ttokttok.domain.applyform.domain.enums.QuestionType;
 import org.project.ttokttok.domain.applyform.domain.json.Question;
+import org.project.ttokttok.infrastructure.s3.exception.S3FileUploadException;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -25,6 +30,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -49,7 +55,7 @@ class AnswerAssemblerTest {
 
     @BeforeEach
     void setUp() {
-        answerAssembler = new AnswerAssembler(new FileAnswerUploader(s3Service));
+        answerAssembler = new AnswerAssembler(new FileAnswerUploader(s3Service, Runnable::run));
     }
 
     private Question fileQuestion(String id, boolean essential) {
@@ -333,4 +339,96 @@ class AnswerAssemblerTest {
             assertThat(answerAssembler.assemble(submission, questions, EMAIL)).hasSize(1);
         }
     }
+
+    @Nested
+    @DisplayName("파일 질문 - 동시 업로드")
+    class ParallelUpload {
+
+        @Test
+        @DisplayName("여러 파일을 업로드 스레드풀에서 동시에 올린다")
+        void uploadsFilesConcurrently() throws InterruptedException {
+            ExecutorService uploadExecutor = Executors.newFixedThreadPool(2);
+            AnswerAssembler parallelAssembler = new AnswerAssembler(new FileAnswerUploader(s3Service, uploadExecutor));
+
+            // 두 업로드가 동시에 진행 중일 때만 래치가 열린다. 순차 업로드라면 첫 업로드가 시간 초과로 끝난다.
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            given(s3Service.uploadFile(any(), anyString())).willAnswer(invocation -> {
+                bothStarted.countDown();
+                boolean concurrent = bothStarted.await(5, TimeUnit.SECONDS);
+                MultipartFile uploading = invocation.getArgument(0);
+                return concurrent ? "https://s3/" + uploading.getName() : "sequential";
+            });
+
+            List<Question> questions = List.of(fileQuestion("f1", true), fileQuestion("f2", true));
+            AnswerSubmission submission = new AnswerSubmission(
+                    List.of(new AnswerRequest("f1", null), new AnswerRequest("f2", null)),
+                    List.of("f1", "f2"), List.of(file("f1"), file("f2")));
+
+            try {
+                List<Answer> answers = parallelAssembler.assemble(submission, questions, EMAIL);
+
+                assertThat(answers).extracting(Answer::value)
+                        .containsExactly("https://s3/f1", "https://s3/f2");
+            } finally {
+                uploadExecutor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("하나라도 업로드에 실패하면 성공한 파일을 지우고 실패 예외를 그대로 던진다")
+        void deletesSucceededUploadsWhenOneFails() {
+            List<Question> questions = List.of(fileQuestion("f1", true), fileQuestion("f2", true));
+            MultipartFile succeeded = file("f1");
+            MultipartFile failed = file("f2");
+            given(s3Service.uploadFile(succeeded, UPLOAD_PATH)).willReturn("https://s3/f1.pdf");
+            given(s3Service.uploadFile(failed, UPLOAD_PATH)).willThrow(new S3FileUploadException());
+
+            AnswerSubmission submission = new AnswerSubmission(
+                    List.of(new AnswerRequest("f1", null), new AnswerRequest("f2", null)),
+                    List.of("f1", "f2"), List.of(succeeded, failed));
+
+            assertThatThrownBy(() -> answerAssembler.assemble(submission, questions, EMAIL))
+                    .isInstanceOf(S3FileUploadException.class);
+            verify(s3Service).deleteFileQuietly("https://s3/f1.pdf");
+        }
+
+        @Test
+        @DisplayName("지원폼에 없는 질문 ID가 있으면 어떤 파일도 업로드하지 않는다")
+        void unknownQuestionFailsBeforeUpload() {
+            List<Question> questions = List.of(fileQuestion("f1", true));
+            AnswerSubmission submission = new AnswerSubmission(
+                    List.of(new AnswerRequest("f1", null), new AnswerRequest("존재하지-않는-질문", "값")),
+                    List.of("f1"), List.of(file("f1")));
+
+            assertThatThrownBy(() -> answerAssembler.assemble(submission, questions, EMAIL))
+                    .isInstanceOf(QuestionParseFailException.class);
+            verify(s3Service, never()).uploadFile(any(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteUploadedFilesOnRollback - 업로드 보상 삭제 등록")
+    class DeleteUploadedFilesOnRollback {
+
+        @Test
+        @DisplayName("업로드된 파일 답변만 롤백 시 삭제되도록 등록한다")
+        void registersOnlyUploadedFiles() {
+            List<Question> questions = List.of(textQuestion("q1"), fileQuestion("f1", false), fileQuestion("f2", false));
+            MultipartFile uploaded = file("f1");
+            given(s3Service.uploadFile(uploaded, UPLOAD_PATH)).willReturn("https://s3/f1.pdf");
+
+            // f2 는 파일 없이 제출되어 빈 값이 된다.
+            AnswerSubmission submission = new AnswerSubmission(
+                    List.of(new AnswerRequest("q1", "텍스트답변"),
+                            new AnswerRequest("f1", null),
+                            new AnswerRequest("f2", null)),
+                    List.of("f1"), List.of(uploaded));
+            List<Answer> answers = answerAssembler.assemble(submission, questions, EMAIL);
+
+            answerAssembler.deleteUploadedFilesOnRollback(answers);
+
+            verify(s3Service).deleteFileOnRollback("https://s3/f1.pdf");
+            verify(s3Service, times(1)).deleteFileOnRollback(anyString());
+        }
+    }
 }
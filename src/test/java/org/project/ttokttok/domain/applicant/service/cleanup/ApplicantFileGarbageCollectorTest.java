@@ -0,0 +1,244 @@
+package org.project.ttokttok.domain.applicant.service.cleanup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.applicant.domain.json.Answer;
+import org.project.ttokttok.domain.applicant.repository.ApplicantRepository;
+import org.project.ttokttok.domain.applicant.repository.dto.DocumentAnswersQueryResponse;
+import org.project.ttokttok.domain.applyform.domain.enums.QuestionType;
+import org.project.ttokttok.domain.temp.applicant.controller.dto.request.TempAnswer;
+import org.project.ttokttok.domain.temp.applicant.domain.TempApplicant;
+import org.project.ttokttok.domain.temp.applicant.repository.TempApplicantRepository;
+import org.project.ttokttok.infrastructure.s3.service.S3KeyUrlGenerator;
+import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicantFileGarbageCollectorTest {
+
+    private static final String BASE_URL = "https://cdn.example.com";
+    private static final Instant OLD = Instant.now().minus(30, ChronoUnit.DAYS);
+    private static final Instant RECENT = Instant.now().minus(1, ChronoUnit.MINUTES);
+
+    @Mock
+    private ApplicantRepository applicantRepository;
+
+    @Mock
+    private TempApplicantRepository tempApplicantRepository;
+
+    @Mock
+    private S3Service s3Service;
+
+    private ApplicantFileGarbageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        S3KeyUrlGenerator keyUrlGenerator = new S3KeyUrlGenerator();
+        ReflectionTestUtils.setField(keyUrlGenerator, "fileCloudUrl", BASE_URL);
+        collector = new ApplicantFileGarbageCollector(
+                applicantRepository, tempApplicantRepository, s3Service, keyUrlGenerator);
+
+        lenient().when(applicantRepository.findDocumentAnswersPage(anyString(), any(Limit.class))).thenReturn(List.of());
+        lenient().when(tempApplicantRepository.findPageAfter(anyString(), any(Limit.class))).thenReturn(List.of());
+        lenient().when(s3Service.deleteObjects(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+    }
+
+    private static DocumentAnswersQueryResponse documentAnswers(String id, String fileKey) {
+        Answer file = new Answer("포트폴리오", null, QuestionType.FILE, true, null, BASE_URL + "/" + fileKey);
+        Answer text = new Answer("자기소개", null, QuestionType.LONG_ANSWER, true, null, "안녕하세요");
+        return new DocumentAnswersQueryResponse(id, List.of(file, text));
+    }
+
+    private static DocumentAnswersQueryResponse urlAnswers(String id, String... urls) {
+        List<Answer> answers = Arrays.stream(urls)
+                .map(url -> new Answer("포트폴리오", null, QuestionType.FILE, true, null, url))
+                .toList();
+        return new DocumentAnswersQueryResponse(id, answers);
+    }
+
+    private static S3Object object(String key, Instant lastModified) {
+        return S3Object.builder().key(key).lastModified(lastModified).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenObjects(String prefix, List<S3Object> objects) {
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<S3Object>>>getArgument(1).accept(objects);
+            return null;
+        }).when(s3Service).listObjects(eq(prefix), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("DB 가 참조하지 않고 유예 기간이 지난 객체만 삭제한다.")
+    void deletesOnlyOldUnreferencedObjects() {
+        when(applicantRepository.findDocumentAnswersPage(eq(""), any(Limit.class)))
+                .thenReturn(List.of(documentAnswers("dp-1", "applicant/a@s.kr/uuid_kept.pdf")));
+        when(tempApplicantRepository.findPageAfter(eq(""), any(Limit.class)))
+                .thenReturn(List.of(TempApplicant.create("form-1", "b@s.kr", Map.of("answers",
+                        List.of(new TempAnswer("q1", BASE_URL + "/temp-applicants/b@s.kr/uuid_temp.pdf"))))));
+        givenObjects("temp-applicants/", List.of(
+                object("temp-applicants/b@s.kr/uuid_temp.pdf", OLD),
+                object("temp-applicants/b@s.kr/uuid_old.pdf", OLD)));
+        givenObjects("applicant/", List.of(
+                object("applicant/a@s.kr/uuid_kept.pdf", OLD),
+                object("applicant/a@s.kr/uuid_orphan.pdf", OLD),
+                object("applicant/c@s.kr/uuid_uploading.pdf", RECENT)));
+
+        ApplicantFileGcReport report = collector.collect(false);
+
+        verify(s3Service).deleteObjects(List.of(
+                "temp-applicants/b@s.kr/uuid_old.pdf",
+                "applicant/a@s.kr/uuid_orphan.pdf"));
+        assertThat(report.referencedCount()).isEqualTo(2);
+        assertThat(report.scannedCount()).isEqualTo(5);
+        assertThat(report.orphanCount()).isEqualTo(2);
+        assertThat(report.deletedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("dry-run 이면 고아 객체를 보고만 하고 삭제하지 않는다.")
+    void dryRunReportsWithoutDeleting() {
+        givenObjects("temp-applicants/", List.of());
+        givenObjects("applicant/", List.of(object("applicant/a@s.kr/uuid_orphan.pdf", OLD)));
+
+        ApplicantFileGcReport report = collector.collect(true);
+
+        verify(s3Service, never()).deleteObjects(anyList());
+        assertThat(report.dryRun()).isTrue();
+        assertThat(report.orphanCount()).isEqualTo(1);
+        assertThat(report.deletedCount()).isZero();
+        assertThat(report.orphanSamples()).containsExactly("applicant/a@s.kr/uuid_orphan.pdf");
+    }
+
+    @Test
+    @DisplayName("작업 보관 기간이 지난 지원자 내보내기 파일은 dry-run 이어도 삭제한다.")
+    void deletesExpiredExportsEvenInDryRun() {
+        givenObjects("temp-applicants/", List.of());
+        givenObjects("applicant/", List.of(object("applicant/a@s.kr/uuid_orphan.pdf", OLD)));
+        givenObjects("applicant-exports/", List.of(
+                object("applicant-exports/uuid_expired.xlsx", OLD),
+                object("applicant-exports/uuid_downloading.xlsx", RECENT)));
+
+        ApplicantFileGcReport report = collector.collect(true);
+
+        verify(s3Service).deleteObjects(List.of("applicant-exports/uuid_expired.xlsx"));
+        assertThat(report.expiredExportCount()).isEqualTo(1);
+        assertThat(report.deletedCount()).isZero();
+        assertThat(report.orphanSamples()).containsExactly("applicant/a@s.kr/uuid_orphan.pdf");
+    }
+
+    @Test
+    @DisplayName("고아 객체는 DeleteObjects 한 번에 최대 1000개씩 나눠 삭제한다.")
+    void deletesInBatchesOfThousand() {
+        List<S3Object> objects = IntStream.range(0, S3Service.MAX_DELETE_KEYS + 1)
+                .mapToObj(i -> object("applicant/a@s.kr/uuid_" + i + ".pdf", OLD))
+                .toList();
+        givenObjects("temp-applicants/", List.of());
+        givenObjects("applicant/", objects);
+
+        ApplicantFileGcReport report = collector.collect(false);
+
+        ArgumentCaptor<List<String>> batches = ArgumentCaptor.forClass(List.class);
+        verify(s3Service, times(2)).deleteObjects(batches.capture());
+        assertThat(batches.getAllValues().get(0)).hasSize(S3Service.MAX_DELETE_KEYS);
+        assertThat(batches.getAllValues().get(1)).hasSize(1);
+        assertThat(report.deletedCount()).isEqualTo(S3Service.MAX_DELETE_KEYS + 1);
+    }
+
+    @Test
+    @DisplayName("참조 목록은 서류 답변을 id keyset 페이지로 끝까지 읽어 만든다.")
+    void readsAllDocumentAnswerPages() {
+        List<DocumentAnswersQueryResponse> firstPage = new ArrayList<>();
+        for (int i = 0; i < ApplicantFileGarbageCollector.PAGE_SIZE; i++) {
+            firstPage.add(documentAnswers(String.format("dp-%04d", i), "applicant/a@s.kr/uuid_" + i + ".pdf"));
+        }
+        String lastId = firstPage.get(firstPage.size() - 1).documentPhaseId();
+        when(applicantRepository.findDocumentAnswersPage(eq(""), any(Limit.class))).thenReturn(firstPage);
+        when(applicantRepository.findDocumentAnswersPage(eq(lastId), any(Limit.class)))
+                .thenReturn(List.of(documentAnswers("dp-9999", "applicant/a@s.kr/uuid_last.pdf")));
+        givenObjects("temp-applicants/", List.of());
+        givenObjects("applicant/", List.of(object("applicant/a@s.kr/uuid_last.pdf", OLD)));
+
+        ApplicantFileGcReport report = collector.collect(false);
+
+        assertThat(report.referencedCount()).isEqualTo(ApplicantFileGarbageCollector.PAGE_SIZE + 1);
+        assertThat(report.orphanCount()).isZero();
+        verify(s3Service, never()).deleteObjects(anyList());
+    }
+
+    @Test
+    @DisplayName("이전 CloudFront 도메인이나 S3 직접 URL 로 저장된 참조도 경로의 키로 바꿔 남긴다.")
+    void keepsObjectsReferencedByOtherHosts() {
+        when(applicantRepository.findDocumentAnswersPage(eq(""), any(Limit.class))).thenReturn(List.of(urlAnswers("dp-1",
+                "https://old-cdn.cloudfront.net/applicant/a@s.kr/uuid_old_domain.pdf",
+                "https://bucket.s3.ap-northeast-2.amazonaws.com/applicant/a%40s.kr/uuid_encoded.pdf?X-Amz-Expires=60",
+                "https://s3.ap-northeast-2.amazonaws.com/bucket/temp-applicants/b@s.kr/uuid_path_style.pdf")));
+        givenObjects("temp-applicants/", List.of(object("temp-applicants/b@s.kr/uuid_path_style.pdf", OLD)));
+        givenObjects("applicant/", List.of(
+                object("applicant/a@s.kr/uuid_old_domain.pdf", OLD),
+                object("applicant/a@s.kr/uuid_encoded.pdf", OLD),
+                object("applicant/a@s.kr/uuid_orphan.pdf", OLD)));
+
+        ApplicantFileGcReport report = collector.collect(false);
+
+        verify(s3Service).deleteObjects(List.of("applicant/a@s.kr/uuid_orphan.pdf"));
+        assertThat(report.dryRun()).isFalse();
+        assertThat(report.unmappedReferenceCount()).isZero();
+        assertThat(report.orphanCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장소 URL 인데 키로 바꿀 수 없는 참조가 있으면 dry-run 이 꺼져 있어도 삭제하지 않고 보고한다.")
+    void forcesDryRunWhenReferenceIsUnmappable() {
+        String unmappable = "https://old-cdn.cloudfront.net/legacy-files/a@s.kr/uuid.pdf";
+        when(applicantRepository.findDocumentAnswersPage(eq(""), any(Limit.class)))
+                .thenReturn(List.of(urlAnswers("dp-1", unmappable)));
+        givenObjects("temp-applicants/", List.of());
+        givenObjects("applicant/", List.of(object("applicant/a@s.kr/uuid_orphan.pdf", OLD)));
+
+        ApplicantFileGcReport report = collector.collect(false);
+
+        verify(s3Service, never()).deleteObjects(anyList());
+        assertThat(report.dryRun()).isTrue();
+        assertThat(report.unmappedReferenceCount()).isEqualTo(1);
+        assertThat(report.unmappedReferenceSamples()).containsExactly(unmappable);
+        assertThat(report.orphanSamples()).containsExactly("applicant/a@s.kr/uuid_orphan.pdf");
+    }
+
+    @Test
+    @DisplayName("저장소가 아닌 일반 링크 답변은 키로 바꿀 수 없어도 삭제를 막지 않는다.")
+    void ignoresNonStorageLinks() {
+        when(applicantRepository.findDocumentAnswersPage(eq(""), any(Limit.class)))
+                .thenReturn(List.of(urlAnswers("dp-1", "https://github.com/someone/portfolio")));
+        givenObjects("temp-applicants/", List.of());
+        givenObjects("applicant/", List.of(object("applicant/a@s.kr/uuid_orphan.pdf", OLD)));
+
+        ApplicantFileGcReport report = collector.collect(false);
+
+        verify(s3Service).deleteObjects(List.of("applicant/a@s.kr/uuid_orphan.pdf"));
+        assertThat(report.unmappedReferenceCount()).isZero();
+    }
+}
@@ -0,0 +1,236 @@
+package org.project.ttokttok.domain.applicant.service.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.applicant.exception.ApplicantExportBusyException;
+import org.project.ttokttok.domain.applicant.exception.ApplicantExportNotFoundException;
+import org.project.ttokttok.domain.applicant.exception.ApplicantExportNotReadyException;
+import org.project.ttokttok.domain.applicant.repository.ApplicantRepository;
+import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantExportFileServiceResponse;
+import org.project.ttokttok.domain.applicant.service.dto.response.ApplicantExportJobServiceResponse;
+import org.project.ttokttok.domain.applyform.domain.ApplyForm;
+import org.project.ttokttok.domain.applyform.domain.enums.QuestionType;
+import org.project.ttokttok.domain.applyform.domain.json.Question;
+import org.project.ttokttok.domain.applyform.exception.ApplyFormNotFoundException;
+import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
+import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.exception.NotClubAdminException;
+import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.infrastructure.redis.service.ApplicantExportRedisService;
+import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicantExportServiceTest {
+
+    private static final String USERNAME = "admin";
+    private static final String CLUB_ID = "club-1";
+    private static final String APPLY_FORM_ID = "form-1";
+    private static final String JOB_ID = "job-1";
+
+    @InjectMocks
+    private ApplicantExportService applicantExportService;
+
+    @Mock
+    private ClubRepository clubRepository;
+
+    @Mock
+    private ApplyFormRepository applyFormRepository;
+
+    @Mock
+    private ApplicantRepository applicantRepository;
+
+    @Mock
+    private ApplicantExportRedisService applicantExportRedisService;
+
+    @Mock
+    private ApplicantExportWorker applicantExportWorker;
+
+    @Mock
+    private S3Service s3Service;
+
+    private void givenClubWithApplyForm() {
+        Club club = mock(Club.class);
+        given(club.getId()).willReturn(CLUB_ID);
+        given(club.getName()).willReturn("떡떡");
+        given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(club));
+
+        ApplyForm applyForm = mock(ApplyForm.class);
+        given(applyForm.getId()).willReturn(APPLY_FORM_ID);
+        given(applyForm.getFormJson()).willReturn(List.of(
+                new Question("q1", "지원 동기", null, QuestionType.LONG_ANSWER, true, null),
+                new Question("q2", "포트폴리오", null, QuestionType.FILE, false, null)
+        ));
+        given(applyFormRepository.findTopByClubIdOrderByCreatedAtDesc(CLUB_ID)).willReturn(Optional.of(applyForm));
+        given(applicantRepository.countByApplyFormId(APPLY_FORM_ID)).willReturn(42L);
+    }
+
+    @Nested
+    @DisplayName("submit 메서드")
+    class SubmitTest {
+
+        @Test
+        @DisplayName("작업을 PENDING 으로 등록하고 지원폼 질문 순서대로 내보내기를 요청한다")
+        void submit_success() {
+            // given
+            givenClubWithApplyForm();
+
+            // when
+            ApplicantExportJobServiceResponse response = applicantExportService.submit(USERNAME);
+
+            // then
+            assertThat(response.status()).isEqualTo(ApplicantExportStatus.PENDING);
+            assertThat(response.totalCount()).isEqualTo(42L);
+            assertThat(response.fileName()).isEqualTo("떡떡_지원자_목록.xlsx");
+
+            ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+            verify(applicantExportRedisService).create(eq(response.jobId()), fields.capture());
+            assertThat(fields.getValue())
+                    .containsEntry(ApplicantExportRedisService.STATUS, "PENDING")
+                    .containsEntry(ApplicantExportRedisService.OWNER, USERNAME)
+                    .containsEntry(ApplicantExportRedisService.TOTAL, "42");
+
+            ArgumentCaptor<ApplicantExportRequest> request = ArgumentCaptor.forClass(ApplicantExportRequest.class);
+            verify(applicantExportWorker).export(request.capture());
+            assertThat(request.getValue().jobId()).isEqualTo(response.jobId());
+            assertThat(request.getValue().applyFormId()).isEqualTo(APPLY_FORM_ID);
+            assertThat(request.getValue().questionTitles()).containsExactly("지원 동기", "포트폴리오");
+        }
+
+        @Test
+        @DisplayName("실행 대기열이 가득 차면 작업을 FAILED 로 표시하고 예외가 발생한다")
+        void submit_rejected() {
+            // given
+            givenClubWithApplyForm();
+            willThrow(new TaskRejectedException("full")).given(applicantExportWorker).export(any());
+
+            // when & then
+            assertThatThrownBy(() -> applicantExportService.submit(USERNAME))
+                    .isInstanceOf(ApplicantExportBusyException.class);
+            verify(applicantExportRedisService).update(anyString(),
+                    eq(Map.of(ApplicantExportRedisService.STATUS, "FAILED")));
+        }
+
+        @Test
+        @DisplayName("동아리 관리자가 아니면 NotClubAdminException이 발생한다")
+        void submit_notClubAdmin() {
+            // given
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> applicantExportService.submit(USERNAME))
+                    .isInstanceOf(NotClubAdminException.class);
+            verify(applicantExportWorker, never()).export(any());
+        }
+
+        @Test
+        @DisplayName("지원폼이 없으면 ApplyFormNotFoundException이 발생한다")
+        void submit_noApplyForm() {
+            // given
+            Club club = mock(Club.class);
+            given(club.getId()).willReturn(CLUB_ID);
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(club));
+            given(applyFormRepository.findTopByClubIdOrderByCreatedAtDesc(CLUB_ID)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> applicantExportService.submit(USERNAME))
+                    .isInstanceOf(ApplyFormNotFoundException.class);
+            verify(applicantExportRedisService, never()).create(anyString(), anyMap());
+        }
+    }
+
+    @Nested
+    @DisplayName("getJob / getFile 메서드")
+    class GetJobTest {
+
+        @Test
+        @DisplayName("작업 상태와 진행률을 반환한다")
+        void getJob_success() {
+            // given
+            given(applicantExportRedisService.find(JOB_ID)).willReturn(Optional.of(Map.of(
+                    ApplicantExportRedisService.STATUS, "RUNNING",
+                    ApplicantExportRedisService.OWNER, USERNAME,
+                    ApplicantExportRedisService.TOTAL, "500",
+                    ApplicantExportRedisService.PROCESSED, "200",
+                    ApplicantExportRedisService.FILE_NAME, "떡떡_지원자_목록.xlsx"
+            )));
+
+            // when
+            ApplicantExportJobServiceResponse response = applicantExportService.getJob(USERNAME, JOB_ID);
+
+            // then
+            assertThat(response.status()).isEqualTo(ApplicantExportStatus.RUNNING);
+            assertThat(response.processedCount()).isEqualTo(200L);
+            assertThat(response.totalCount()).isEqualTo(500L);
+        }
+
+        @Test
+        @DisplayName("다른 관리자의 작업은 존재하지 않는 작업으로 처리한다")
+        void getJob_otherOwner() {
+            // given
+            given(applicantExportRedisService.find(JOB_ID)).willReturn(Optional.of(Map.of(
+                    ApplicantExportRedisService.STATUS, "COMPLETED",
+                    ApplicantExportRedisService.OWNER, "other-admin"
+            )));
+
+            // when & then
+            assertThatThrownBy(() -> applicantExportService.getJob(USERNAME, JOB_ID))
+                    .isInstanceOf(ApplicantExportNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("완료된 작업이면 파일 이름과 키를 반환한다")
+        void getFile_completed() {
+            // given
+            given(applicantExportRedisService.find(JOB_ID)).willReturn(Optional.of(Map.of(
+                    ApplicantExportRedisService.STATUS, "COMPLETED",
+                    ApplicantExportRedisService.OWNER, USERNAME,
+                    ApplicantExportRedisService.FILE_NAME, "떡떡_지원자_목록.xlsx",
+                    ApplicantExportRedisService.FILE_KEY, "applicant-exports/uuid_떡떡_지원자_목록.xlsx"
+            )));
+
+            // when
+            ApplicantExportFileServiceResponse file = applicantExportService.getFile(USERNAME, JOB_ID);
+
+            // then
+            assertThat(file.fileKey()).isEqualTo("applicant-exports/uuid_떡떡_지원자_목록.xlsx");
+            assertThat(file.fileName()).isEqualTo("떡떡_지원자_목록.xlsx");
+        }
+
+        @Test
+        @DisplayName("완료되지 않은 작업의 파일을 요청하면 ApplicantExportNotReadyException이 발생한다")
+        void getFile_notReady() {
+            // given
+            given(applicantExportRedisService.find(JOB_ID)).willReturn(Optional.of(Map.of(
+                    ApplicantExportRedisService.STATUS, "RUNNING",
+                    ApplicantExportRedisService.OWNER, USERNAME
+            )));
+
+            // when & then
+            assertThatThrownBy(() -> applicantExportService.getFile(USERNAME, JOB_ID))
+                    .isInstanceOf(ApplicantExportNotReadyException.class);
+        }
+    }
+}
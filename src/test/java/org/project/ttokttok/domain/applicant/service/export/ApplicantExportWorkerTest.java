@@ -0,0 +1,170 @@
+package org.project.ttokttok.domain.applicant.service.export;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.applicant.domain.Applicant;
+import org.project.ttokttok.domain.applicant.domain.enums.Gender;
+import org.project.ttokttok.domain.applicant.domain.enums.Grade;
+import org.project.ttokttok.domain.applicant.domain.enums.StudentStatus;
+import org.project.ttokttok.domain.applicant.domain.json.Answer;
+import org.project.ttokttok.domain.applicant.repository.ApplicantRepository;
+import org.project.ttokttok.domain.applyform.domain.enums.QuestionType;
+import org.project.ttokttok.global.excel.ExcelService;
+import org.project.ttokttok.infrastructure.redis.service.ApplicantExportRedisService;
+import org.project.ttokttok.infrastructure.s3.exception.S3FileUploadException;
+import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicantExportWorkerTest {
+
+    private static final String JOB_ID = "job-1";
+    private static final String APPLY_FORM_ID = "form-1";
+    private static final int PAGE_SIZE = ApplicantExportWorker.PAGE_SIZE;
+
+    @Mock
+    private ApplicantRepository applicantRepository;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private ApplicantExportRedisService applicantExportRedisService;
+
+    private ApplicantExportWorker applicantExportWorker;
+
+    private final ApplicantExportRequest request = new ApplicantExportRequest(
+            JOB_ID, APPLY_FORM_ID, "떡떡 지원자 목록", "떡떡_지원자_목록.xlsx", List.of("지원 동기", "관심 분야")
+    );
+
+    @BeforeEach
+    void setUp() {
+        applicantExportWorker = new ApplicantExportWorker(
+                applicantRepository, new ExcelService(), s3Service, applicantExportRedisService
+        );
+    }
+
+    private Applicant applicant(int index) {
+        Applicant applicant = Applicant.createApplicant(
+                "user" + index + "@sangmyung.kr", "지원자" + index, 21, "컴퓨터과학과", "user" + index + "@gmail.com",
+                "010-0000-0000", StudentStatus.ENROLLED, Grade.SECOND_GRADE, Gender.FEMALE, null
+        );
+        // 답변은 질문 순서와 다르게 저장될 수 있다
+        applicant.submitDocument(List.of(
+                new Answer("관심 분야", null, QuestionType.CHECKBOX, false, List.of("백엔드", "인프라"), List.of("백엔드", "인프라")),
+                new Answer("지원 동기", null, QuestionType.LONG_ANSWER, true, null, "동기" + index)
+        ));
+        ReflectionTestUtils.setField(applicant, "id", String.format("applicant-%04d", index));
+        return applicant;
+    }
+
+    private List<Applicant> applicants(int from, int to) {
+        return IntStream.range(from, to).mapToObj(this::applicant).toList();
+    }
+
+    @Test
+    @DisplayName("지원자를 페이지 단위로 읽어 엑셀을 만들고 업로드한 뒤 작업을 완료 처리한다")
+    void export_pagesThroughApplicantsAndCompletes() throws IOException {
+        // given
+        List<Applicant> firstPage = applicants(0, PAGE_SIZE);
+        List<Applicant> lastPage = applicants(PAGE_SIZE, PAGE_SIZE + 1);
+        given(applicantRepository.findExportPage(APPLY_FORM_ID, "", Limit.of(PAGE_SIZE))).willReturn(firstPage);
+        given(applicantRepository.findExportPage(APPLY_FORM_ID, firstPage.get(PAGE_SIZE - 1).getId(), Limit.of(PAGE_SIZE)))
+                .willReturn(lastPage);
+
+        AtomicReference<byte[]> uploaded = new AtomicReference<>();
+        AtomicReference<Path> tempFile = new AtomicReference<>();
+        given(s3Service.uploadLocalFile(any(Path.class), eq("applicant-exports/"), eq("떡떡_지원자_목록.xlsx"), anyString()))
+                .willAnswer(invocation -> {
+                    Path file = invocation.getArgument(0);
+                    tempFile.set(file);
+                    uploaded.set(Files.readAllBytes(file));
+                    return "applicant-exports/key.xlsx";
+                });
+
+        // when
+        applicantExportWorker.export(request);
+
+        // then
+        verify(applicantExportRedisService).addProcessed(JOB_ID, PAGE_SIZE);
+        verify(applicantExportRedisService).addProcessed(JOB_ID, 1);
+        verify(applicantExportRedisService).update(JOB_ID, Map.of(
+                ApplicantExportRedisService.STATUS, "COMPLETED",
+                ApplicantExportRedisService.FILE_KEY, "applicant-exports/key.xlsx"
+        ));
+        assertThat(tempFile.get()).doesNotExist();
+
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(uploaded.get()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(sheet.getLastRowNum()).isEqualTo(PAGE_SIZE + 1);
+
+            Row header = sheet.getRow(0);
+            assertThat(header.getCell(0).getStringCellValue()).isEqualTo("이름");
+            assertThat(header.getCell(10).getStringCellValue()).isEqualTo("지원 동기");
+            assertThat(header.getCell(11).getStringCellValue()).isEqualTo("관심 분야");
+
+            Row first = sheet.getRow(1);
+            assertThat(first.getCell(0).getStringCellValue()).isEqualTo("지원자0");
+            assertThat(first.getCell(1).getStringCellValue()).isEqualTo("2");
+            assertThat(first.getCell(8).getStringCellValue()).isEqualTo("EVALUATING");
+            assertThat(first.getCell(9).getStringCellValue()).isEmpty();
+            assertThat(first.getCell(10).getStringCellValue()).isEqualTo("동기0");
+            assertThat(first.getCell(11).getStringCellValue()).isEqualTo("백엔드, 인프라");
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 페이지가 페이지 크기보다 작으면 다음 페이지를 조회하지 않는다")
+    void export_lastPageSmallerThanPageSize_stopsPaging() {
+        // given
+        given(applicantRepository.findExportPage(APPLY_FORM_ID, "", Limit.of(PAGE_SIZE))).willReturn(applicants(0, 3));
+        given(s3Service.uploadLocalFile(any(Path.class), anyString(), anyString(), anyString())).willReturn("key");
+
+        // when
+        applicantExportWorker.export(request);
+
+        // then
+        verify(applicantRepository, never()).findExportPage(eq(APPLY_FORM_ID), eq("applicant-0002"), any());
+    }
+
+    @Test
+    @DisplayName("업로드에 실패하면 작업을 FAILED 로 표시한다")
+    void export_uploadFailure_marksFailed() {
+        // given
+        given(applicantRepository.findExportPage(APPLY_FORM_ID, "", Limit.of(PAGE_SIZE))).willReturn(List.of());
+        given(s3Service.uploadLocalFile(any(Path.class), anyString(), anyString(), anyString()))
+                .willThrow(new S3FileUploadException());
+
+        // when
+        applicantExportWorker.export(request);
+
+        // then
+        verify(applicantExportRedisService).update(JOB_ID, Map.of(ApplicantExportRedisService.STATUS, "FAILED"));
+    }
+}
@@ -8,6 +8,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.ttokttok.domain.applyform.domain.ApplyForm;
 import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
+import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,6 +26,9 @@ class ApplyFormSchedulerTest {
     @Mock
     private ApplyFormRepository applyFormRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ApplyFormScheduler applyFormScheduler;
 
@@ -32,6 +38,12 @@ class ApplyFormSchedulerTest {
         // given
         ApplyForm expiredForm1 = mock(ApplyForm.class);
         ApplyForm expiredForm2 = mock(ApplyForm.class);
+        Club club1 = mock(Club.class);
+        Club club2 = mock(Club.class);
+        given(expiredForm1.getClub()).willReturn(club1);
+        given(expiredForm2.getClub()).willReturn(club2);
+        given(club1.getId()).willReturn("club-1");
+        given(club2.getId()).willReturn("club-2");
         given(applyFormRepository.findExpiredApplyForms(any(LocalDate.class)))
                 .willReturn(List.of(expiredForm1, expiredForm2));
 
@@ -41,6 +53,9 @@ class ApplyFormSchedulerTest {
         // then
         verify(expiredForm1, times(1)).endRecruiting();
         verify(expiredForm2, times(1)).endRecruiting();
+        // 모집 마감은 동아리 목록/상세 캐시에 보이므로 커밋 후 무효화되도록 이벤트를 발행한다
+        verify(eventPublisher).publishEvent(new ClubListChangedEvent("club-1"));
+        verify(eventPublisher).publishEvent(new ClubListChangedEvent("club-2"));
     }
 
     @Test
@@ -28,6 +28,7 @@ import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
 import org.project.ttokttok.domain.temp.applyform.domain.TempApplyForm;
 import org.project.ttokttok.domain.temp.applyform.repository.TempApplyFormRepository;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -82,6 +83,9 @@ class ApplyFormAdminServiceTest {
     @Mock
     private TempApplyFormRepository tempApplyFormRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ApplyFormAdminService applyFormAdminService;
 
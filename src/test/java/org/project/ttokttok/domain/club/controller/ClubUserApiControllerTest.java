@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.project.ttokttok.domain.club.domain.enums.ClubCategory;
 import org.project.ttokttok.domain.club.domain.enums.ClubType;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailVersion;
 import org.project.ttokttok.domain.club.service.ClubUserService;
 import org.project.ttokttok.domain.club.service.dto.response.ClubDetailServiceResponse;
 import org.project.ttokttok.domain.club.service.dto.response.ClubListServiceResponse;
@@ -11,18 +12,24 @@ import org.project.ttokttok.global.annotationresolver.auth.AuthUserInfoResolver;
 import org.project.ttokttok.global.auth.jwt.service.TokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -43,6 +50,8 @@ class ClubUserApiControllerTest {
 
     private static final String USER_EMAIL = "test@sangmyung.kr";
     private static final String CLUB_ID = "club-1";
+    private static final ClubDetailVersion VERSION =
+            new ClubDetailVersion(LocalDateTime.of(2025, 3, 1, 12, 0), 5L, 1L, LocalDateTime.of(2025, 3, 2, 12, 0));
 
     private void givenAuthenticatedUser() throws Exception {
         given(authUserInfoResolver.supportsParameter(any())).willReturn(true);
@@ -72,14 +81,83 @@ class ClubUserApiControllerTest {
                 .maxApplyCount(10)
                 .content("소개 내용")
                 .build();
-        given(clubUserService.getClubIntroduction(USER_EMAIL, CLUB_ID)).willReturn(response);
+        given(clubUserService.getClubIntroductionVersion(CLUB_ID)).willReturn(VERSION);
+        given(clubUserService.isBookmarked(USER_EMAIL, CLUB_ID)).willReturn(true);
+        given(clubUserService.getClubIntroduction(USER_EMAIL, CLUB_ID, VERSION)).willReturn(response);
 
         mockMvc.perform(get("/api/clubs/{clubId}/content", CLUB_ID)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("테스트 동아리"))
                 .andExpect(jsonPath("$.bookmarked").value(true))
-                .andExpect(jsonPath("$.clubMemberCount").value(5));
+                .andExpect(jsonPath("$.clubMemberCount").value(5))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("동아리 상세 버전이 같으면 If-None-Match 요청에 상세 조회 없이 304를 반환한다")
+    void getClubIntroductionNotModified() throws Exception {
+        givenAuthenticatedUser();
+
+        given(clubUserService.getClubIntroductionVersion(CLUB_ID)).willReturn(VERSION);
+        given(clubUserService.isBookmarked(USER_EMAIL, CLUB_ID)).willReturn(false);
+        given(clubUserService.getClubIntroduction(USER_EMAIL, CLUB_ID, VERSION)).willReturn(clubDetail(false));
+
+        String eTag = mockMvc.perform(get("/api/clubs/{clubId}/content", CLUB_ID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/clubs/{clubId}/content", CLUB_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // 304 는 상세 본문을 조회하지 않고 조회수만 기록한다
+        verify(clubUserService, times(1)).getClubIntroduction(USER_EMAIL, CLUB_ID, VERSION);
+        verify(clubUserService, times(1)).increaseViewCount(CLUB_ID);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("즐겨찾기 여부나 동아리 상세 버전이 바뀌면 ETag 도 바뀐다")
+    void getClubIntroductionETagChanges() throws Exception {
+        givenAuthenticatedUser();
+
+        given(clubUserService.getClubIntroductionVersion(CLUB_ID)).willReturn(VERSION);
+        given(clubUserService.isBookmarked(USER_EMAIL, CLUB_ID)).willReturn(false);
+        given(clubUserService.getClubIntroduction(eq(USER_EMAIL), eq(CLUB_ID), any())).willReturn(clubDetail(false));
+
+        String eTag = mockMvc.perform(get("/api/clubs/{clubId}/content", CLUB_ID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        given(clubUserService.isBookmarked(USER_EMAIL, CLUB_ID)).willReturn(true);
+        given(clubUserService.getClubIntroduction(eq(USER_EMAIL), eq(CLUB_ID), any())).willReturn(clubDetail(true));
+
+        mockMvc.perform(get("/api/clubs/{clubId}/content", CLUB_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookmarked").value(true));
+
+        given(clubUserService.isBookmarked(USER_EMAIL, CLUB_ID)).willReturn(false);
+        given(clubUserService.getClubIntroductionVersion(CLUB_ID)).willReturn(
+                new ClubDetailVersion(VERSION.clubUpdatedAt(), 6L, VERSION.applyFormCount(), VERSION.applyFormsUpdatedAt()));
+
+        // 회원 수가 바뀌어 버전이 달라졌다
+        mockMvc.perform(get("/api/clubs/{clubId}/content", CLUB_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    private ClubDetailServiceResponse clubDetail(boolean bookmarked) {
+        return ClubDetailServiceResponse.builder()
+                .name("테스트 동아리")
+                .clubType(ClubType.CENTRAL)
+                .clubCategory(ClubCategory.ACADEMIC)
+                .bookmarked(bookmarked)
+                .summary("한줄 소개")
+                .content("소개 내용")
+                .build();
     }
 
     @Test
@@ -24,47 +24,44 @@ class ClubCustomRepositoryImplCoverageTest implements RepositoryTestSupport {
     @Autowired
     private ClubRepository clubRepository;
 
-    private static final String USER = "user@sangmyung.kr";
-
     @Test
     @DisplayName("getClubList는 다양한 필터/정렬 조합에서 빈 결과를 반환한다")
     void getClubList_variousFilters() {
         for (String sort : List.of("latest", "popular", "member_count")) {
             List<ClubCardQueryResponse> result = clubRepository.getClubList(
                     ClubCategory.ACADEMIC, ClubType.CENTRAL, ClubUniv.ENGINEERING, true,
-                    List.of(ApplicableGrade.FIRST_GRADE), 10, null, sort, USER
+                    List.of(ApplicableGrade.FIRST_GRADE), 10, null, sort
             );
             assertThat(result).isNotNull();
         }
         // 필터 없음 + 커서 있음 분기
         assertThat(clubRepository.getClubList(
-                null, null, null, null, List.of(), 10, "cursor-1", "latest", null
+                null, null, null, null, List.of(), 10, "cursor-1", "latest"
         )).isNotNull();
     }
 
     @Test
     @DisplayName("getAllPopularClubs는 빈 결과를 반환한다")
     void getAllPopularClubs() {
-        assertThat(clubRepository.getAllPopularClubs(USER, 7.0)).isNotNull();
-        assertThat(clubRepository.getAllPopularClubs(null, 7.0)).isNotNull();
+        assertThat(clubRepository.getAllPopularClubs(7.0)).isNotNull();
     }
 
     @Test
     @DisplayName("getPopularClubsWithFilters는 다양한 정렬에서 빈 결과를 반환한다")
     void getPopularClubsWithFilters() {
         for (String sort : List.of("latest", "popular", "member_count")) {
-            assertThat(clubRepository.getPopularClubsWithFilters(10, null, sort, USER, 7.0)).isNotNull();
+            assertThat(clubRepository.getPopularClubsWithFilters(10, null, sort, 7.0)).isNotNull();
         }
-        assertThat(clubRepository.getPopularClubsWithFilters(10, "cursor-1", "popular", null, 7.0)).isNotNull();
+        assertThat(clubRepository.getPopularClubsWithFilters(10, "cursor-1", "popular", 7.0)).isNotNull();
     }
 
     @Test
     @DisplayName("searchByKeyword는 다양한 정렬에서 빈 결과를 반환한다")
     void searchByKeyword() {
         for (String sort : List.of("latest", "popular", "member_count")) {
-            assertThat(clubRepository.searchByKeyword("코딩", 10, null, sort, USER)).isNotNull();
+            assertThat(clubRepository.searchByKeyword("코딩", 10, null, sort)).isNotNull();
         }
-        assertThat(clubRepository.searchByKeyword("코딩", 10, "cursor-1", "latest", null)).isNotNull();
+        assertThat(clubRepository.searchByKeyword("코딩", 10, "cursor-1", "latest")).isNotNull();
     }
 
     @Test
@@ -76,7 +73,7 @@ class ClubCustomRepositoryImplCoverageTest implements RepositoryTestSupport {
     @Test
     @DisplayName("getClubIntroduction/getAdminClubIntro는 존재하지 않는 동아리에 대해 null을 반환한다")
     void getIntroductions_emptyDb() {
-        assertThat(clubRepository.getClubIntroduction("no-club", USER)).isNull();
+        assertThat(clubRepository.getClubIntroduction("no-club")).isNull();
         assertThat(clubRepository.getAdminClubIntro("no-club")).isNull();
     }
 }
@@ -1,6 +1,7 @@
 package org.project.ttokttok.domain.club.repository;
 
 import jakarta.persistence.EntityManager;
+import org.openapitools.jackson.nullable.JsonNullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,15 +11,21 @@ import org.project.ttokttok.domain.admin.repository.AdminRepository;
 import org.project.ttokttok.domain.applicant.domain.enums.Gender;
 import org.project.ttokttok.domain.applicant.domain.enums.Grade;
 import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.domain.enums.ClubSortType;
 import org.project.ttokttok.domain.club.domain.enums.ClubUniv;
 import org.project.ttokttok.domain.club.repository.dto.ClubCardQueryResponse;
+import org.project.ttokttok.domain.club.repository.dto.ClubCursor;
+import org.project.ttokttok.domain.club.service.ClubPopularityStatsService;
+import org.project.ttokttok.domain.club.service.dto.request.ClubPatchRequest;
 import org.project.ttokttok.domain.clubMember.domain.ClubMember;
 import org.project.ttokttok.domain.clubMember.domain.MemberRole;
 import org.project.ttokttok.domain.clubMember.repository.ClubMemberRepository;
 import org.project.ttokttok.support.RepositoryTestSupport;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -40,7 +47,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("ClubCustomRepositoryImpl - 정렬 순서")
 class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
 
-    private static final String USER = "user@sangmyung.kr";
     private static final String HIGH_VIEW_CLUB = "조회수많은동아리";
     private static final String MANY_MEMBER_CLUB = "멤버많은동아리";
 
@@ -53,6 +59,12 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
     @Autowired
     private AdminRepository adminRepository;
 
+    @Autowired
+    private ClubPopularityStatsService clubPopularityStatsService;
+
+    @Autowired
+    private ClubViewCountJdbcRepository clubViewCountJdbcRepository;
+
     @Autowired
     private EntityManager em;
 
@@ -83,10 +95,11 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
                 .clubUniv(ClubUniv.ENGINEERING)
                 .build());
 
-        // 조회수 증가는 엔티티 메서드가 아니라 원자적 UPDATE 로만 가능하다 (#346).
+        // 조회수는 버퍼 flush 와 같은 JDBC 배치 UPDATE 로만 바뀐다 (view_count 는 updatable = false).
         // 영속성 컨텍스트를 우회하므로 뒤이어 club 을 save 할 필요가 없다.
-        for (int i = 0; i < viewCount; i++) {
-            clubRepository.increaseViewCount(club.getId());
+        if (viewCount > 0) {
+            em.flush();
+            clubViewCountJdbcRepository.increaseClubViewCounts(Map.of(club.getId(), (long) viewCount));
         }
 
         for (int i = 0; i < memberCount; i++) {
@@ -109,8 +122,10 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
         return clubs.stream().map(ClubCardQueryResponse::name).toList();
     }
 
+    // 픽스처는 서비스가 아닌 리포지토리로 직접 만들므로 카운터 컬럼과 인기도 집계(club_popularity_stats)를 원본에서 재생성한다.
     private void flushAndClear() {
         em.flush();
+        clubPopularityStatsService.rebuildAll();
         em.clear();
     }
 
@@ -124,7 +139,7 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
             givenContrastingClubs();
 
             List<ClubCardQueryResponse> result = clubRepository.getClubList(
-                    null, null, null, null, List.of(), 10, null, "popular", USER);
+                    null, null, null, null, List.of(), 10, null, "popular");
 
             assertThat(namesOf(result)).containsExactly(HIGH_VIEW_CLUB, MANY_MEMBER_CLUB);
         }
@@ -135,7 +150,7 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
             givenContrastingClubs();
 
             List<ClubCardQueryResponse> result = clubRepository.getClubList(
-                    null, null, null, null, List.of(), 10, null, "member_count", USER);
+                    null, null, null, null, List.of(), 10, null, "member_count");
 
             assertThat(namesOf(result)).containsExactly(MANY_MEMBER_CLUB, HIGH_VIEW_CLUB);
         }
@@ -146,9 +161,9 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
             givenContrastingClubs();
 
             List<ClubCardQueryResponse> first = clubRepository.getClubList(
-                    null, null, null, null, List.of(), 10, null, "latest", USER);
+                    null, null, null, null, List.of(), 10, null, "latest");
             List<ClubCardQueryResponse> second = clubRepository.getClubList(
-                    null, null, null, null, List.of(), 10, null, "latest", USER);
+                    null, null, null, null, List.of(), 10, null, "latest");
 
             assertThat(namesOf(first))
                     .containsExactlyInAnyOrder(HIGH_VIEW_CLUB, MANY_MEMBER_CLUB);
@@ -161,11 +176,11 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
             givenContrastingClubs();
 
             List<String> latest = namesOf(clubRepository.getClubList(
-                    null, null, null, null, List.of(), 10, null, "latest", USER));
+                    null, null, null, null, List.of(), 10, null, "latest"));
             List<String> unknown = namesOf(clubRepository.getClubList(
-                    null, null, null, null, List.of(), 10, null, "알 수 없는 정렬", USER));
+                    null, null, null, null, List.of(), 10, null, "알 수 없는 정렬"));
             List<String> nullSort = namesOf(clubRepository.getClubList(
-                    null, null, null, null, List.of(), 10, null, null, USER));
+                    null, null, null, null, List.of(), 10, null, null));
 
             assertThat(unknown).isEqualTo(latest);
             assertThat(nullSort).isEqualTo(latest);
@@ -177,9 +192,9 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
             givenContrastingClubs();
 
             List<String> upperCase = namesOf(clubRepository.getClubList(
-                    null, null, null, null, List.of(), 10, null, "POPULAR", USER));
+                    null, null, null, null, List.of(), 10, null, "POPULAR"));
             List<String> latest = namesOf(clubRepository.getClubList(
-                    null, null, null, null, List.of(), 10, null, "latest", USER));
+                    null, null, null, null, List.of(), 10, null, "latest"));
 
             assertThat(upperCase).isEqualTo(latest);
         }
@@ -193,7 +208,7 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
             flushAndClear();
 
             List<ClubCardQueryResponse> result = clubRepository.getClubList(
-                    null, null, null, null, List.of(), 2, null, "popular", USER);
+                    null, null, null, null, List.of(), 2, null, "popular");
 
             assertThat(result).hasSize(3);
         }
@@ -212,7 +227,7 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
             flushAndClear();
 
             List<ClubCardQueryResponse> result = clubRepository.searchByKeyword(
-                    "코딩동아리", 10, null, "popular", USER);
+                    "코딩동아리", 10, null, "popular");
 
             assertThat(namesOf(result)).containsExactly("코딩동아리높음", "코딩동아리낮음");
         }
@@ -223,10 +238,51 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
             givenContrastingClubs();
 
             List<ClubCardQueryResponse> result = clubRepository.searchByKeyword(
-                    "동아리", 10, null, "member_count", USER);
+                    "동아리", 10, null, "member_count");
 
             assertThat(namesOf(result)).containsExactly(MANY_MEMBER_CLUB, HIGH_VIEW_CLUB);
         }
+
+        /** 인기순과 반대가 되도록 관련도가 낮을수록 조회수를 높게 준다. */
+        private void givenBandClubs() {
+            givenClub("밴드", 0, 0);
+            givenClub("밴드사랑", 50, 0);
+            givenClub("락밴드", 100, 0);
+            Club summaryOnly = givenClub("음악감상", 500, 0);
+            summaryOnly.updateFrom(new ClubPatchRequest(
+                    JsonNullable.undefined(), JsonNullable.undefined(), JsonNullable.undefined(),
+                    JsonNullable.undefined(), JsonNullable.undefined(),
+                    JsonNullable.of("어쿠스틱 밴드 공연"), JsonNullable.undefined()));
+            givenClub("전혀다른동아리", 1000, 0);
+            flushAndClear();
+        }
+
+        @Test
+        @DisplayName("relevance 정렬은 이름 완전 일치 > 접두 일치 > 부분 일치 > 한줄 소개 일치 순으로 반환한다")
+        void searchAppliesRelevanceSort() {
+            givenBandClubs();
+
+            List<ClubCardQueryResponse> result = clubRepository.searchByKeyword("밴드", 10, null, "relevance");
+
+            assertThat(namesOf(result)).containsExactly("밴드", "밴드사랑", "락밴드", "음악감상");
+            assertThat(clubRepository.countByKeyword("밴드")).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("relevance 정렬도 (관련도, id) 커서로 한 건씩 이어서 읽으면 한 번에 읽은 순서와 같다")
+        void relevanceKeysetPagination() {
+            givenBandClubs();
+
+            List<String> names = new ArrayList<>();
+            String cursor = null;
+            for (int page = 0; page < 4; page++) {
+                List<ClubCardQueryResponse> result = clubRepository.searchByKeyword("밴드", 1, cursor, "relevance");
+                names.add(result.get(0).name());
+                cursor = ClubCursor.of(ClubSortType.RELEVANCE, result.get(0)).encode();
+            }
+
+            assertThat(names).containsExactly("밴드", "밴드사랑", "락밴드", "음악감상");
+        }
     }
 
     @Nested
@@ -239,7 +295,7 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
             givenContrastingClubs();
 
             List<ClubCardQueryResponse> result =
-                    clubRepository.getPopularClubsWithFilters(10, null, "popular", USER, 0.0);
+                    clubRepository.getPopularClubsWithFilters(10, null, "popular", 0.0);
 
             assertThat(namesOf(result)).containsExactly(HIGH_VIEW_CLUB, MANY_MEMBER_CLUB);
         }
@@ -250,7 +306,7 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
             givenContrastingClubs();
 
             List<ClubCardQueryResponse> result =
-                    clubRepository.getPopularClubsWithFilters(10, null, "member_count", USER, 0.0);
+                    clubRepository.getPopularClubsWithFilters(10, null, "member_count", 0.0);
 
             assertThat(namesOf(result)).containsExactly(MANY_MEMBER_CLUB, HIGH_VIEW_CLUB);
         }
@@ -264,7 +320,7 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
 
             for (String sort : List.of("popular", "member_count", "latest", "알 수 없는 값")) {
                 List<ClubCardQueryResponse> result =
-                        clubRepository.getPopularClubsWithFilters(10, null, sort, USER, 0.0);
+                        clubRepository.getPopularClubsWithFilters(10, null, sort, 0.0);
 
                 assertThat(namesOf(result))
                         .as("sort=%s 는 정렬만 다를 뿐 같은 동아리 집합을 반환한다", sort)
@@ -279,9 +335,85 @@ class ClubCustomRepositorySortingTest implements RepositoryTestSupport {
 
             // 점수: 조회수많은동아리 = 100 * 0.7 = 70.0, 멤버많은동아리 = 2 * 0.7 = 1.4
             List<ClubCardQueryResponse> result =
-                    clubRepository.getPopularClubsWithFilters(10, null, "popular", USER, 10.0);
+                    clubRepository.getPopularClubsWithFilters(10, null, "popular", 10.0);
 
             assertThat(namesOf(result)).containsExactly(HIGH_VIEW_CLUB);
         }
+
+        @Test
+        @DisplayName("점수 행이 아직 없는 동아리도 점수 0 으로 포함된다 - 목록/검색 경로와 같다")
+        void includesClubWithoutStatsRow() {
+            givenContrastingClubs();
+            Club noStatsClub = givenClub("점수없는동아리", 0, 0);
+            em.flush();
+            em.createNativeQuery("DELETE FROM club_popularity_stats WHERE club_id = :clubId")
+                    .setParameter("clubId", noStatsClub.getId())
+                    .executeUpdate();
+            em.clear();
+
+            List<ClubCardQueryResponse> result =
+                    clubRepository.getPopularClubsWithFilters(10, null, "popular", 0.0);
+
+            assertThat(namesOf(result)).containsExactly(HIGH_VIEW_CLUB, MANY_MEMBER_CLUB, "점수없는동아리");
+        }
+    }
+
+    @Nested
+    @DisplayName("keyset 커서: 정렬 키가 같은 동아리가 있어도 페이지 경계에서 빠지거나 중복되지 않는다")
+    class KeysetPagination {
+
+        /** 점수와 멤버 수가 모두 같은 동아리 3개 + 다른 동아리 1개 */
+        private void givenTiedClubs() {
+            givenClub("동점동아리1", 10, 1);
+            givenClub("동점동아리2", 10, 1);
+            givenClub("동점동아리3", 10, 1);
+            givenClub("단독동아리", 50, 3);
+            flushAndClear();
+        }
+
+        private List<String> readAllPages(ClubSortType sortType, boolean nativePath) {
+            List<String> names = new ArrayList<>();
+            String cursor = null;
+
+            for (int page = 0; page < 10; page++) {
+                List<ClubCardQueryResponse> result = nativePath
+                        ? clubRepository.getPopularClubsWithFilters(1, cursor, sortType.getKey(), 0.0)
+                        : clubRepository.getClubList(null, null, null, null, List.of(), 1, cursor, sortType.getKey());
+
+                ClubCardQueryResponse current = result.get(0);
+                names.add(current.name());
+                if (result.size() <= 1) {
+                    return names;
+                }
+                cursor = ClubCursor.of(sortType, current).encode();
+            }
+            return names;
+        }
+
+        @Test
+        @DisplayName("QueryDSL 경로 - popular / member_count 모두 전체 동아리를 한 번씩 읽는다")
+        void queryDslPath_readsEveryClubOnce() {
+            givenTiedClubs();
+
+            for (ClubSortType sortType : List.of(ClubSortType.POPULAR, ClubSortType.MEMBER_COUNT)) {
+                List<String> names = readAllPages(sortType, false);
+
+                assertThat(names).as("sort=%s", sortType).hasSize(4).doesNotHaveDuplicates();
+                assertThat(names.get(0)).isEqualTo("단독동아리");
+            }
+        }
+
+        @Test
+        @DisplayName("native SQL 경로 - popular / member_count 모두 전체 동아리를 한 번씩 읽는다")
+        void nativePath_readsEveryClubOnce() {
+            givenTiedClubs();
+
+            for (ClubSortType sortType : List.of(ClubSortType.POPULAR, ClubSortType.MEMBER_COUNT)) {
+                List<String> names = readAllPages(sortType, true);
+
+                assertThat(names).as("sort=%s", sortType).hasSize(4).doesNotHaveDuplicates();
+                assertThat(names.get(0)).isEqualTo("단독동아리");
+            }
+        }
     }
 }
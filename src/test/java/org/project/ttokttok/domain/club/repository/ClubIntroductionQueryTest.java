@@ -0,0 +1,114 @@
+package org.project.ttokttok.domain.club.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.ttokttok.domain.admin.domain.Admin;
+import org.project.ttokttok.domain.admin.repository.AdminRepository;
+import org.project.ttokttok.domain.applyform.domain.ApplyForm;
+import org.project.ttokttok.domain.applyform.domain.enums.ApplicableGrade;
+import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
+import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.domain.enums.ClubUniv;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailAdminQueryResponse;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailQueryResponse;
+import org.project.ttokttok.support.RepositoryTestSupport;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동아리 상세 조회는 동아리 컬럼, 모집 중인 활성 지원폼, 지원 가능 학년을 한 번의 쿼리로 읽는다.
+ * 학년 조인으로 행이 학년 수만큼 펼쳐져도 하나의 상세 정보로 모이는지 검증한다.
+ */
+@DisplayName("ClubCustomRepositoryImpl - 동아리 상세 단일 쿼리 조회")
+class ClubIntroductionQueryTest implements RepositoryTestSupport {
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private ApplyFormRepository applyFormRepository;
+
+    @Autowired
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Club club;
+
+    @BeforeEach
+    void setUp() {
+        Admin admin = adminRepository.save(
+                Admin.adminJoin("detailadmin", "password123!", "detail-admin@sangmyung.kr"));
+
+        club = clubRepository.save(Club.builder()
+                .admin(admin)
+                .clubName("상세 조회 테스트 동아리")
+                .clubUniv(ClubUniv.ENGINEERING)
+                .build());
+    }
+
+    private void givenActiveApplyForm(Set<ApplicableGrade> grades) {
+        applyFormRepository.save(ApplyForm.builder()
+                .club(club)
+                .hasInterview(false)
+                .applyStartDate(LocalDate.of(2026, 3, 1))
+                .applyEndDate(LocalDate.of(2026, 3, 15))
+                .maxApplyCount(30)
+                .grades(grades)
+                .title("모집 공고")
+                .subTitle("부제")
+                .formJson(List.of())
+                .build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("활성 지원폼이 있으면 모집 정보와 지원 가능 학년을 모두 담는다")
+    void getClubIntroduction_withActiveApplyForm() {
+        givenActiveApplyForm(Set.of(ApplicableGrade.FIRST_GRADE, ApplicableGrade.SECOND_GRADE));
+
+        ClubDetailQueryResponse detail = clubRepository.getClubIntroduction(club.getId());
+
+        assertThat(detail.name()).isEqualTo("상세 조회 테스트 동아리");
+        assertThat(detail.recruiting()).isTrue();
+        assertThat(detail.applyStartDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(detail.applyDeadLine()).isEqualTo(LocalDate.of(2026, 3, 15));
+        assertThat(detail.maxApplyCount()).isEqualTo(30);
+        assertThat(detail.grades()).containsExactlyInAnyOrder(ApplicableGrade.FIRST_GRADE, ApplicableGrade.SECOND_GRADE);
+    }
+
+    @Test
+    @DisplayName("활성 지원폼이 없으면 모집하지 않는 상태로 빈 학년을 반환한다")
+    void getClubIntroduction_withoutApplyForm() {
+        em.flush();
+        em.clear();
+
+        ClubDetailQueryResponse detail = clubRepository.getClubIntroduction(club.getId());
+
+        assertThat(detail.recruiting()).isFalse();
+        assertThat(detail.applyStartDate()).isNull();
+        assertThat(detail.maxApplyCount()).isZero();
+        assertThat(detail.grades()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관리자 상세 조회도 같은 단일 쿼리로 지원 가능 학년을 모은다")
+    void getAdminClubIntro_withActiveApplyForm() {
+        givenActiveApplyForm(Set.of(ApplicableGrade.THIRD_GRADE));
+
+        ClubDetailAdminQueryResponse detail = clubRepository.getAdminClubIntro(club.getId());
+
+        assertThat(detail.recruiting()).isTrue();
+        assertThat(detail.clubUniv()).isEqualTo(ClubUniv.ENGINEERING);
+        assertThat(detail.grades()).containsExactly(ApplicableGrade.THIRD_GRADE);
+    }
+}
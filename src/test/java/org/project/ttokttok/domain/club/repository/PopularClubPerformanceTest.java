@@ -21,7 +21,6 @@ public class PopularClubPerformanceTest implements RepositoryTestSupport {
         int size = 10;
         String cursor = null;
         String sort = "popular";
-        String userEmail = null;
         double minScore = 7.0;
 
         StopWatch stopWatch = new StopWatch();
@@ -29,7 +28,7 @@ public class PopularClubPerformanceTest implements RepositoryTestSupport {
         // When
         stopWatch.start();
         List<ClubCardQueryResponse> results = clubRepository.getPopularClubsWithFilters(
-                size, cursor, sort, userEmail, minScore
+                size, cursor, sort, minScore
         );
         stopWatch.stop();
 
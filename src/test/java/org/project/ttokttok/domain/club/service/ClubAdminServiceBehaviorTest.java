@@ -11,27 +11,37 @@ import org.project.ttokttok.domain.applyform.domain.ApplyForm;
 import org.project.ttokttok.domain.applyform.exception.ApplyFormNotFoundException;
 import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
 import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
 import org.project.ttokttok.domain.club.exception.ClubNotFoundException;
 import org.project.ttokttok.domain.club.exception.FileIsNotImageException;
 import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
 import org.project.ttokttok.domain.club.service.dto.request.MarkdownImageUpdateRequest;
+import org.project.ttokttok.domain.club.service.dto.request.PresignedImageUploadServiceRequest;
 import org.project.ttokttok.domain.notification.fcm.repository.FCMTokenRepository;
 import org.project.ttokttok.infrastructure.firebase.service.FCMService;
 import org.project.ttokttok.infrastructure.firebase.service.dto.FCMRequest;
+import org.project.ttokttok.infrastructure.s3.service.S3PresignedUploadService;
 import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.project.ttokttok.infrastructure.s3.service.dto.PresignedUpload;
+import org.project.ttokttok.infrastructure.s3.support.AllowedFileTypes;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory.INTRODUCTION_IMAGE;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ClubAdminService - 동아리 관리 동작")
@@ -41,7 +51,9 @@ class ClubAdminServiceBehaviorTest {
     @Mock private ApplyFormRepository applyFormRepository;
     @Mock private FCMTokenRepository fcmTokenRepository;
     @Mock private S3Service s3Service;
+    @Mock private S3PresignedUploadService presignedUploadService;
     @Mock private FCMService fcmService;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private ClubAdminService clubAdminService;
 
@@ -92,6 +104,60 @@ class ClubAdminServiceBehaviorTest {
         }
     }
 
+    @Nested
+    @DisplayName("마크다운 이미지 직접 업로드")
+    class PresignedMarkdownImage {
+
+        @Test
+        @DisplayName("이미지면 소개 이미지 디렉터리로 이미지 형식만 허용하는 업로드 URL 을 발급한다")
+        void issuesUploadForIntroductionImage() {
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(mock(Club.class)));
+            PresignedUpload upload = new PresignedUpload("key", "https://upload", Map.of(), Instant.now());
+            given(presignedUploadService.issueUpload(
+                    USERNAME, INTRODUCTION_IMAGE.getDirectoryName(), "intro.png", "image/png", 1024, AllowedFileTypes.IMAGES))
+                    .willReturn(upload);
+
+            PresignedUpload result = clubAdminService.issueMarkdownImageUpload(
+                    USERNAME, new PresignedImageUploadServiceRequest("intro.png", "image/png", 1024));
+
+            org.assertj.core.api.Assertions.assertThat(result).isEqualTo(upload);
+        }
+
+        @Test
+        @DisplayName("이미지가 아니면 URL 을 발급하지 않고 FileIsNotImageException을 던진다")
+        void throwsWhenNotImage() {
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(mock(Club.class)));
+
+            assertThatThrownBy(() -> clubAdminService.issueMarkdownImageUpload(
+                    USERNAME, new PresignedImageUploadServiceRequest("resume.pdf", "application/pdf", 1024)))
+                    .isInstanceOf(FileIsNotImageException.class);
+            verify(presignedUploadService, never()).issueUpload(anyString(), anyString(), anyString(), anyString(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("업로드 확인은 요청한 관리자 기준으로 소개 이미지 디렉터리의 키를 이미지 형식으로 검증한다")
+        void confirmsUploadInIntroductionDirectory() {
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.of(mock(Club.class)));
+            given(presignedUploadService.confirmUpload(
+                    USERNAME, INTRODUCTION_IMAGE.getDirectoryName(), "key", AllowedFileTypes.IMAGES))
+                    .willReturn("https://cdn/key");
+
+            String result = clubAdminService.confirmMarkdownImageUpload(USERNAME, "key");
+
+            org.assertj.core.api.Assertions.assertThat(result).isEqualTo("https://cdn/key");
+        }
+
+        @Test
+        @DisplayName("동아리 관리자가 아니면 업로드를 확인하지 않는다")
+        void confirmThrowsWhenNotAdmin() {
+            given(clubRepository.findByAdminUsername(USERNAME)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> clubAdminService.confirmMarkdownImageUpload(USERNAME, "key"))
+                    .isInstanceOf(NotClubAdminException.class);
+            verify(presignedUploadService, never()).confirmUpload(anyString(), anyString(), anyString(), any());
+        }
+    }
+
     @Nested
     @DisplayName("getClubContent()")
     class GetClubContent {
@@ -156,6 +222,7 @@ class ClubAdminServiceBehaviorTest {
 
             verify(form).toggleRecruiting();
             verify(fcmService).sendNotification(any(FCMRequest.class));
+            verify(eventPublisher).publishEvent(new ClubListChangedEvent(CLUB_ID)); // 목록 캐시 무효화
         }
 
         @Test
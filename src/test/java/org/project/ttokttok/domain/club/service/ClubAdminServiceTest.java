@@ -13,6 +13,7 @@ import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
 import org.project.ttokttok.domain.club.service.dto.request.ClubContentUpdateServiceRequest;
 import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Optional;
@@ -34,6 +35,9 @@ class ClubAdminServiceTest {
 
     @Mock
     private S3Service s3Service;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 //
 //    private final String ADMIN_USERNAME = "adminUser";
 //    private final String CLUB_ID = "club-id";
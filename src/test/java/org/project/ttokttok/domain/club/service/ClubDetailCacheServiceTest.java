@@ -0,0 +1,96 @@
+package org.project.ttokttok.domain.club.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.ttokttok.domain.club.domain.enums.ClubCategory;
+import org.project.ttokttok.domain.club.domain.enums.ClubType;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailQueryResponse;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailVersion;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClubDetailCacheService - 동아리 상세 캐시")
+class ClubDetailCacheServiceTest {
+
+    private static final ClubDetailVersion VERSION =
+            new ClubDetailVersion(LocalDateTime.of(2025, 3, 1, 12, 0), 3L, 0L, null);
+
+    private final ClubDetailCacheService clubDetailCacheService = new ClubDetailCacheService(60, 100);
+
+    private ClubDetailQueryResponse detail(String name) {
+        return new ClubDetailQueryResponse(
+                name, ClubType.CENTRAL, ClubCategory.ACADEMIC, null, false, false,
+                "요약", null, 3, null, null, Set.of(), 0, "소개"
+        );
+    }
+
+    @Test
+    @DisplayName("같은 동아리를 다시 조회하면 DB 를 조회하지 않는다")
+    void hitSkipsLoader() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        clubDetailCacheService.get("club-1", VERSION, () -> {
+            loads.incrementAndGet();
+            return detail("첫 조회");
+        });
+        ClubDetailQueryResponse second = clubDetailCacheService.get("club-1", VERSION, () -> {
+            loads.incrementAndGet();
+            return detail("두번째 조회");
+        });
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second.name()).isEqualTo("첫 조회");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 동아리(null)는 캐싱하지 않는다")
+    void nullIsNotCached() {
+        // given
+        clubDetailCacheService.get("no-club", VERSION, () -> null);
+
+        // when
+        ClubDetailQueryResponse result = clubDetailCacheService.get("no-club", VERSION, () -> detail("생성됨"));
+
+        // then
+        assertThat(result.name()).isEqualTo("생성됨");
+    }
+
+    @Test
+    @DisplayName("변경 이벤트를 받으면 해당 동아리만 무효화한다")
+    void evictOnlyChangedClub() {
+        // given
+        clubDetailCacheService.get("club-1", VERSION, () -> detail("1-이전"));
+        clubDetailCacheService.get("club-2", VERSION, () -> detail("2-이전"));
+
+        // when
+        clubDetailCacheService.evict(new ClubListChangedEvent("club-1"));
+
+        // then
+        assertThat(clubDetailCacheService.get("club-1", VERSION, () -> detail("1-이후")).name()).isEqualTo("1-이후");
+        assertThat(clubDetailCacheService.get("club-2", VERSION, () -> detail("2-이후")).name()).isEqualTo("2-이전");
+    }
+
+    @Test
+    @DisplayName("요청 버전이 캐시된 항목의 버전과 다르면 다시 조회해 새 버전으로 저장한다")
+    void reloadWhenVersionDiffers() {
+        // given: 다른 인스턴스에서 회원 수가 바뀌어 버전이 올라간 상황
+        clubDetailCacheService.get("club-1", VERSION, () -> detail("이전"));
+        ClubDetailVersion newVersion = new ClubDetailVersion(VERSION.clubUpdatedAt(), 4L, 0L, null);
+
+        // when
+        ClubDetailQueryResponse reloaded = clubDetailCacheService.get("club-1", newVersion, () -> detail("이후"));
+        ClubDetailQueryResponse cached = clubDetailCacheService.get("club-1", newVersion, () -> detail("다시 조회됨"));
+
+        // then
+        assertThat(reloaded.name()).isEqualTo("이후");
+        assertThat(cached.name()).isEqualTo("이후");
+    }
+}
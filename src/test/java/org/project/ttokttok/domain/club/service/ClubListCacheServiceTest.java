@@ -0,0 +1,120 @@
+package org.project.ttokttok.domain.club.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.applyform.domain.enums.ApplicableGrade;
+import org.project.ttokttok.domain.club.domain.enums.ClubCategory;
+import org.project.ttokttok.domain.club.domain.enums.ClubType;
+import org.project.ttokttok.domain.club.event.ClubListChangedEvent;
+import org.project.ttokttok.domain.club.repository.dto.ClubCardQueryResponse;
+import org.project.ttokttok.infrastructure.redis.service.ClubListRedisCacheService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClubListCacheService - 동아리 목록 2단계 캐시")
+class ClubListCacheServiceTest {
+
+    private static final String KEY = "list:key";
+
+    @Mock
+    private ClubListRedisCacheService redisCacheService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ClubListCacheService clubListCacheService;
+
+    @BeforeEach
+    void setUp() {
+        clubListCacheService = new ClubListCacheService(redisCacheService, objectMapper, 60, 30, 100);
+    }
+
+    private ClubCardQueryResponse card(String id) {
+        return new ClubCardQueryResponse(
+                id, "동아리" + id, ClubType.CENTRAL, ClubCategory.ACADEMIC,
+                null, "요약", null, 3, true, false, LocalDate.of(2026, 3, 10), 4.2
+        );
+    }
+
+    @Test
+    @DisplayName("L1/L2 모두 미스면 DB 에서 조회해 Redis 에 저장하고, 이후 요청은 L1 에서 반환한다")
+    void missLoadsOnceThenHitsLocal() {
+        // given
+        given(redisCacheService.get(KEY)).willReturn(Optional.empty());
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        List<ClubCardQueryResponse> first = clubListCacheService.get(KEY, () -> {
+            loads.incrementAndGet();
+            return List.of(card("1"));
+        });
+        List<ClubCardQueryResponse> second = clubListCacheService.get(KEY, () -> {
+            loads.incrementAndGet();
+            return List.of(card("2"));
+        });
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second).isEqualTo(first);
+        verify(redisCacheService).put(eq(KEY), anyString(), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("L2 에 있으면 DB 를 조회하지 않고 역직렬화한 결과를 반환한다")
+    void redisHitSkipsLoader() throws Exception {
+        // given
+        List<ClubCardQueryResponse> cached = List.of(card("1"), card("2"));
+        given(redisCacheService.get(KEY)).willReturn(Optional.of(objectMapper.writeValueAsString(cached)));
+
+        // when
+        List<ClubCardQueryResponse> result = clubListCacheService.get(KEY, () -> {
+            throw new AssertionError("DB 를 조회하면 안 된다");
+        });
+
+        // then
+        assertThat(result).isEqualTo(cached);
+    }
+
+    @Test
+    @DisplayName("목록 변경 이벤트를 받으면 L1 과 L2 를 모두 비운다")
+    void evictAllClearsBothTiers() {
+        // given
+        given(redisCacheService.get(KEY)).willReturn(Optional.empty());
+        clubListCacheService.get(KEY, () -> List.of(card("1")));
+
+        // when
+        clubListCacheService.evictAll(new ClubListChangedEvent("1"));
+        List<ClubCardQueryResponse> reloaded = clubListCacheService.get(KEY, () -> List.of(card("2")));
+
+        // then
+        verify(redisCacheService).evictAll();
+        assertThat(reloaded).extracting(ClubCardQueryResponse::id).containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("학년 필터는 순서와 무관하게 같은 캐시 키를 만든다")
+    void listKeyIgnoresGradeOrder() {
+        String key1 = ClubListCacheService.listKey(null, null, null, null,
+                List.of(ApplicableGrade.FIRST_GRADE, ApplicableGrade.SECOND_GRADE), "popular", null, 20);
+        String key2 = ClubListCacheService.listKey(null, null, null, null,
+                List.of(ApplicableGrade.SECOND_GRADE, ApplicableGrade.FIRST_GRADE), "popular", null, 20);
+
+        assertThat(key1).isEqualTo(key2);
+    }
+}
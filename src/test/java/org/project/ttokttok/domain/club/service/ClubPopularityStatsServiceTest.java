@@ -0,0 +1,148 @@
+package org.project.ttokttok.domain.club.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.club.domain.ClubPopularityStats;
+import org.project.ttokttok.domain.club.repository.ClubPopularityStatsRepository;
+import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.club.repository.ClubViewCountJdbcRepository;
+import org.project.ttokttok.global.config.ClubPopularityConfig;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClubPopularityStatsService - 인기도 집계 증분 갱신")
+class ClubPopularityStatsServiceTest {
+
+    private static final String CLUB_ID = "club-1";
+
+    @Mock
+    private ClubPopularityStatsRepository statsRepository;
+
+    @Mock
+    private ClubRepository clubRepository;
+
+    @Mock
+    private ClubViewCountJdbcRepository viewCountJdbcRepository;
+
+    @Mock
+    private ClubPopularityConfig popularityConfig;
+
+    @InjectMocks
+    private ClubPopularityStatsService clubPopularityStatsService;
+
+    @BeforeEach
+    void setUp() {
+        // 기본값과 다른 가중치로 설정값이 실제로 반영되는지 확인한다.
+        ClubPopularityConfig.Weight weight = new ClubPopularityConfig.Weight();
+        weight.setMembers(1.0);
+        weight.setFavorites(3.0);
+        weight.setViews(0.5);
+        lenient().when(popularityConfig.getWeight()).thenReturn(weight);
+    }
+
+    @Test
+    @DisplayName("멤버 수 증감은 카운터 컬럼을 갱신하고 설정된 멤버 가중치만큼 점수를 함께 바꾼다")
+    void addMemberCount_appliesMemberWeight() {
+        // given
+        given(statsRepository.addScore(CLUB_ID, 2.0)).willReturn(1);
+
+        // when
+        clubPopularityStatsService.addMemberCount(CLUB_ID, 2);
+
+        // then
+        verify(clubRepository).addMemberCount(CLUB_ID, 2);
+        verify(statsRepository).addScore(CLUB_ID, 2.0);
+        verify(statsRepository, never()).insertFromClub(anyString(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("점수 행이 없으면 clubs 카운터로 점수 행을 채운다")
+    void addMemberCount_fillsMissingRowFromClub() {
+        // given
+        given(statsRepository.addScore(CLUB_ID, 1.0)).willReturn(0);
+
+        // when
+        clubPopularityStatsService.addMemberCount(CLUB_ID, 1);
+
+        // then
+        verify(statsRepository).insertFromClub(CLUB_ID, 1.0, 3.0, 0.5);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 해제는 음수 증감으로 점수를 낮춘다")
+    void addFavoriteCount_negativeDelta() {
+        // given
+        given(statsRepository.addScore(CLUB_ID, -3.0)).willReturn(1);
+
+        // when
+        clubPopularityStatsService.addFavoriteCount(CLUB_ID, -1);
+
+        // then
+        verify(clubRepository).addFavoriteCount(CLUB_ID, -1);
+        verify(statsRepository).addScore(CLUB_ID, -3.0);
+    }
+
+    @Test
+    @DisplayName("버퍼링된 조회수만큼 점수를 올리고 점수 행이 없는 동아리는 clubs 카운터로 채운다")
+    void addViewCounts_fillsMissingRowsFromClub() {
+        // given
+        Map<String, Long> deltas = Map.of(CLUB_ID, 4L, "club-2", 2L);
+        given(viewCountJdbcRepository.increaseStatsScores(deltas, 0.5)).willReturn(List.of("club-2"));
+
+        // when
+        clubPopularityStatsService.addViewCounts(deltas);
+
+        // then
+        verify(statsRepository).insertFromClub("club-2", 1.0, 3.0, 0.5);
+        verify(statsRepository, never()).insertFromClub(eq(CLUB_ID), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("신규 동아리는 빈 집계 행으로 초기화된다")
+    void initialize_savesEmptyStats() {
+        // when
+        clubPopularityStatsService.initialize(CLUB_ID);
+
+        // then
+        verify(statsRepository).save(any(ClubPopularityStats.class));
+    }
+
+    @Test
+    @DisplayName("점수 재계산은 설정된 가중치를 그대로 전달한다")
+    void recalculateScores_usesConfiguredWeights() {
+        // when
+        clubPopularityStatsService.recalculateScores();
+
+        // then
+        verify(statsRepository).recalculateScores(1.0, 3.0, 0.5);
+    }
+
+    @Test
+    @DisplayName("전체 재계산은 카운터를 재동기화하고 점수를 제자리 갱신한 뒤 없는 행만 채운다")
+    void rebuildAll_updatesInPlaceThenInsertsMissing() {
+        // when
+        clubPopularityStatsService.rebuildAll();
+
+        // then
+        InOrder inOrder = inOrder(clubRepository, statsRepository);
+        inOrder.verify(clubRepository).syncCountersFromSource();
+        inOrder.verify(statsRepository).recalculateScores(1.0, 3.0, 0.5);
+        inOrder.verify(statsRepository).insertMissingFromClubs(1.0, 3.0, 0.5);
+        verify(statsRepository, never()).deleteAllInBatch();
+    }
+}
@@ -1,5 +1,6 @@
 package org.project.ttokttok.domain.club.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,15 +8,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.ttokttok.domain.club.domain.enums.ClubCategory;
+import org.project.ttokttok.domain.club.domain.enums.ClubSortType;
 import org.project.ttokttok.domain.club.domain.enums.ClubType;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
 import org.project.ttokttok.domain.club.repository.dto.ClubCardQueryResponse;
+import org.project.ttokttok.domain.club.repository.dto.ClubCursor;
 import org.project.ttokttok.domain.club.service.dto.response.ClubListServiceResponse;
+import org.project.ttokttok.domain.favorite.service.FavoriteClubIdsService;
 import org.project.ttokttok.global.config.ClubPopularityConfig;
 import org.project.ttokttok.infrastructure.s3.service.S3Service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,6 +29,9 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ClubUserService - 목록/인기/검색 조회")
@@ -37,15 +46,35 @@ class ClubUserServiceListTest {
     @Mock
     private ClubPopularityConfig popularityConfig;
 
+    @Mock
+    private ClubViewCountService clubViewCountService;
+
+    @Mock
+    private ClubListCacheService clubListCacheService;
+
+    @Mock
+    private ClubDetailCacheService clubDetailCacheService;
+
+    @Mock
+    private FavoriteClubIdsService favoriteClubIdsService;
+
     @InjectMocks
     private ClubUserService clubUserService;
 
     private static final String USER = "user@sangmyung.kr";
 
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 캐시 미스: 로더(DB 조회)를 그대로 실행한다.
+        lenient().when(clubListCacheService.get(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<List<ClubCardQueryResponse>>) invocation.getArgument(1)).get());
+    }
+
     private ClubCardQueryResponse card(String id, LocalDate deadline) {
         return new ClubCardQueryResponse(
                 id, "동아리" + id, ClubType.CENTRAL, ClubCategory.ACADEMIC,
-                null, "요약", "http://img", 10, true, false, deadline
+                null, "요약", "http://img", 10, true, false, deadline, 12.5
         );
     }
 
@@ -53,7 +82,7 @@ class ClubUserServiceListTest {
     @DisplayName("동아리 목록 조회 시 size보다 많으면 hasNext=true, nextCursor가 설정된다")
     void getClubList_hasNext() {
         // given: size=2인데 3개 반환 -> hasNext true, 마지막 잘림
-        given(clubRepository.getClubList(any(), any(), any(), any(), any(), anyInt(), any(), anyString(), anyString()))
+        given(clubRepository.getClubList(any(), any(), any(), any(), any(), anyInt(), any(), anyString()))
                 .willReturn(List.of(
                         card("1", LocalDate.now().plusDays(3)),   // 마감 임박
                         card("2", null),
@@ -76,7 +105,7 @@ class ClubUserServiceListTest {
     @Test
     @DisplayName("동아리 목록 조회 시 size 이하면 hasNext=false, nextCursor는 null이다")
     void getClubList_noNext() {
-        given(clubRepository.getClubList(any(), any(), any(), any(), any(), anyInt(), any(), anyString(), anyString()))
+        given(clubRepository.getClubList(any(), any(), any(), any(), any(), anyInt(), any(), anyString()))
                 .willReturn(List.of(card("1", null)));
 
         ClubListServiceResponse response = clubUserService.getClubList(
@@ -91,7 +120,7 @@ class ClubUserServiceListTest {
     @Test
     @DisplayName("마감일이 8일 이후면 마감 임박이 아니다")
     void getClubList_notImminentWhenFar() {
-        given(clubRepository.getClubList(any(), any(), any(), any(), any(), anyInt(), any(), anyString(), anyString()))
+        given(clubRepository.getClubList(any(), any(), any(), any(), any(), anyInt(), any(), anyString()))
                 .willReturn(List.of(card("1", LocalDate.now().plusDays(8))));
 
         ClubListServiceResponse response = clubUserService.getClubList(
@@ -101,11 +130,37 @@ class ClubUserServiceListTest {
         assertThat(response.clubs().get(0).isDeadlineImminent()).isFalse();
     }
 
+    @Test
+    @DisplayName("로그인 사용자는 비로그인 기준 결과에 본인 즐겨찾기 여부만 덮어씌운다")
+    void getClubList_overlaysBookmarks() {
+        given(clubRepository.getClubList(any(), any(), any(), any(), any(), anyInt(), any(), anyString()))
+                .willReturn(List.of(card("1", null), card("2", null)));
+        given(favoriteClubIdsService.getFavoriteClubIds(USER)).willReturn(Set.of("2"));
+
+        ClubListServiceResponse response = clubUserService.getClubList(
+                null, null, null, null, List.of(), 5, null, "latest", USER
+        );
+
+        assertThat(response.clubs().get(0).bookmarked()).isFalse();
+        assertThat(response.clubs().get(1).bookmarked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 즐겨찾기를 조회하지 않는다")
+    void getClubList_anonymousSkipsFavorites() {
+        given(clubRepository.getClubList(any(), any(), any(), any(), any(), anyInt(), any(), anyString()))
+                .willReturn(List.of(card("1", null)));
+
+        clubUserService.getClubList(null, null, null, null, List.of(), 5, null, "latest", null);
+
+        verify(favoriteClubIdsService, never()).getFavoriteClubIds(any());
+    }
+
     @Test
     @DisplayName("전체 인기 동아리 목록을 조회한다")
     void getAllPopularClubs() {
         given(popularityConfig.getMinScore()).willReturn(7.0);
-        given(clubRepository.getAllPopularClubs(eq(USER), eq(7.0)))
+        given(clubRepository.getAllPopularClubs(eq(7.0)))
                 .willReturn(List.of(card("1", null), card("2", null)));
 
         ClubListServiceResponse response = clubUserService.getAllPopularClubs(USER);
@@ -118,21 +173,30 @@ class ClubUserServiceListTest {
     @DisplayName("필터가 있는 인기 동아리 목록을 무한스크롤 조회한다")
     void getPopularClubsWithFilters_hasNext() {
         given(popularityConfig.getMinScore()).willReturn(7.0);
-        given(clubRepository.getPopularClubsWithFilters(anyInt(), any(), anyString(), anyString(), eq(7.0)))
+        given(clubRepository.getPopularClubsWithFilters(anyInt(), any(), anyString(), eq(7.0)))
                 .willReturn(List.of(card("1", null), card("2", null), card("3", null)));
 
         ClubListServiceResponse response = clubUserService.getPopularClubsWithFilters(2, null, "popular", USER);
 
         assertThat(response.hasNext()).isTrue();
         assertThat(response.clubs()).hasSize(2);
-        assertThat(response.nextCursor()).isEqualTo("2");
+        // 인기순 커서는 마지막 행의 (점수, id) 를 담는다
+        assertThat(ClubCursor.decode(ClubSortType.POPULAR, response.nextCursor()))
+                .isEqualTo(new ClubCursor("12.5", "2"));
+    }
+
+    @Test
+    @DisplayName("레거시 id 커서는 정렬 키 없는 커서로 해석된다")
+    void legacyIdCursor_decodesAsIdOnly() {
+        assertThat(ClubCursor.decode(ClubSortType.POPULAR, "0b9f6c1e-legacy-id"))
+                .isEqualTo(new ClubCursor(null, "0b9f6c1e-legacy-id"));
     }
 
     @Test
     @DisplayName("키워드로 동아리를 검색하면 총 개수와 결과를 반환한다")
     void searchClubs() {
         given(clubRepository.countByKeyword("코딩")).willReturn(5L);
-        given(clubRepository.searchByKeyword(eq("코딩"), anyInt(), any(), anyString(), anyString()))
+        given(clubRepository.searchByKeyword(eq("코딩"), anyInt(), any(), anyString()))
                 .willReturn(List.of(card("1", null), card("2", null), card("3", null)));
 
         ClubListServiceResponse response = clubUserService.searchClubs("코딩", "member_count", null, 2, USER);
@@ -140,6 +204,34 @@ class ClubUserServiceListTest {
         assertThat(response.totalCount()).isEqualTo(5L);
         assertThat(response.hasNext()).isTrue();
         assertThat(response.clubs()).hasSize(2);
-        assertThat(response.nextCursor()).isEqualTo("2");
+        // 멤버순 커서는 마지막 행의 (멤버 수, id) 를 담는다
+        assertThat(ClubCursor.decode(ClubSortType.MEMBER_COUNT, response.nextCursor()))
+                .isEqualTo(new ClubCursor("10", "2"));
+    }
+
+    @Test
+    @DisplayName("첫 페이지에 검색 결과가 모두 담기면 COUNT 쿼리 없이 결과 개수를 총 개수로 쓴다")
+    void searchClubs_singlePageSkipsCount() {
+        given(clubRepository.searchByKeyword(eq("코딩"), anyInt(), any(), anyString()))
+                .willReturn(List.of(card("1", null), card("2", null)));
+
+        ClubListServiceResponse response = clubUserService.searchClubs("코딩", "relevance", null, 5, null);
+
+        assertThat(response.totalCount()).isEqualTo(2L);
+        assertThat(response.hasNext()).isFalse();
+        verify(clubRepository, never()).countByKeyword(any());
+    }
+
+    @Test
+    @DisplayName("검색 결과에도 사용자의 즐겨찾기 여부를 표시한다")
+    void searchClubs_overlaysBookmarks() {
+        given(clubRepository.searchByKeyword(eq("코딩"), anyInt(), any(), anyString()))
+                .willReturn(List.of(card("1", null), card("2", null)));
+        given(favoriteClubIdsService.getFavoriteClubIds(USER)).willReturn(Set.of("1"));
+
+        ClubListServiceResponse response = clubUserService.searchClubs("코딩", "latest", null, 5, USER);
+
+        assertThat(response.clubs().get(0).bookmarked()).isTrue();
+        assertThat(response.clubs().get(1).bookmarked()).isFalse();
     }
 }
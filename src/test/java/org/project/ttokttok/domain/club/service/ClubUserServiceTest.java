@@ -1,5 +1,6 @@
 package org.project.ttokttok.domain.club.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,12 +12,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.ttokttok.domain.club.exception.ClubNotFoundException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
 import org.project.ttokttok.domain.club.repository.dto.ClubDetailQueryResponse;
+import org.project.ttokttok.domain.club.repository.dto.ClubDetailVersion;
 import org.project.ttokttok.domain.club.service.dto.response.ClubDetailServiceResponse;
+import org.project.ttokttok.domain.favorite.service.FavoriteClubIdsService;
 import org.project.ttokttok.global.config.ClubPopularityConfig;
 import org.project.ttokttok.infrastructure.s3.service.S3Service;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -24,6 +33,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ClubUserServiceTest {
 
+    private static final ClubDetailVersion VERSION =
+            new ClubDetailVersion(LocalDateTime.of(2025, 3, 1, 12, 0), 5L, 1L, LocalDateTime.of(2025, 3, 2, 12, 0));
+
     @Mock
     private ClubRepository clubRepository;
 
@@ -33,11 +45,28 @@ class ClubUserServiceTest {
     @Mock
     private ClubPopularityConfig popularityConfig;
 
+    @Mock
+    private ClubViewCountService clubViewCountService;
+
+    @Mock
+    private FavoriteClubIdsService favoriteClubIdsService;
+
+    @Mock
+    private ClubDetailCacheService clubDetailCacheService;
+
     @InjectMocks
     private ClubUserService clubUserService;
 
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 캐시 미스: 로더(DB 조회)를 그대로 실행한다.
+        lenient().when(clubDetailCacheService.get(anyString(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<ClubDetailQueryResponse>) invocation.getArgument(2)).get());
+    }
+
     @Test
-    @DisplayName("동아리 상세 조회 시 조회수가 원자적 UPDATE 로 1 증가한다")
+    @DisplayName("동아리 상세 조회 시 조회수는 UPDATE 없이 버퍼에 1 기록된다")
     void getClubIntroduction_shouldIncreaseViewCount() {
         // given
         String username = "test@sangmyung.kr";
@@ -46,29 +75,28 @@ class ClubUserServiceTest {
         ClubDetailQueryResponse mockQueryResponse = mock(ClubDetailQueryResponse.class);
         ClubDetailServiceResponse mockServiceResponse = mock(ClubDetailServiceResponse.class);
 
-        given(clubRepository.getClubIntroduction(clubId, username)).willReturn(mockQueryResponse);
+        given(clubRepository.getClubIntroduction(clubId)).willReturn(mockQueryResponse);
 
         try (MockedStatic<ClubDetailServiceResponse> mockedStatic = mockStatic(ClubDetailServiceResponse.class)) {
-            mockedStatic.when(() -> ClubDetailServiceResponse.from(mockQueryResponse))
+            mockedStatic.when(() -> ClubDetailServiceResponse.from(mockQueryResponse, false))
                     .thenReturn(mockServiceResponse);
 
             // when
-            ClubDetailServiceResponse result = clubUserService.getClubIntroduction(username, clubId);
+            ClubDetailServiceResponse result = clubUserService.getClubIntroduction(username, clubId, VERSION);
 
             // then
             assertThat(result).isEqualTo(mockServiceResponse);
-            verify(clubRepository, times(1)).increaseViewCount(clubId);
-            verify(clubRepository, times(1)).getClubIntroduction(clubId, username);
-            // 엔티티를 읽어 조회수를 올리던 방식(read-modify-write)이 제거되었는지 확인
+            verify(clubViewCountService, times(1)).increase(clubId);
+            verify(clubRepository, times(1)).getClubIntroduction(clubId);
+            // 조회 트랜잭션에서 read-modify-write 가 제거되었는지 확인
             verify(clubRepository, never()).findById(anyString());
         }
     }
 
     @Test
-    @DisplayName("조회수 증가는 상세 조회보다 뒤에 실행된다")
+    @DisplayName("조회수 기록은 상세 조회보다 뒤에 실행된다")
     void getClubIntroduction_shouldIncreaseViewCountAfterReading() {
-        // 행 배타 락이 커밋까지 유지되므로, 증가를 앞에 두면 뒤따르는 조회 쿼리가 락 구간에 들어간다.
-        // 순서가 뒤바뀌면 처리량이 절반으로 떨어지므로 순서 자체를 고정한다.
+        // 존재 여부를 조회 결과로 판정한 뒤에만 버퍼에 기록해야 없는 동아리 ID 가 버퍼에 쌓이지 않는다.
         // given
         String username = "test@sangmyung.kr";
         String clubId = "test-club-id";
@@ -76,19 +104,19 @@ class ClubUserServiceTest {
         ClubDetailQueryResponse mockQueryResponse = mock(ClubDetailQueryResponse.class);
         ClubDetailServiceResponse mockServiceResponse = mock(ClubDetailServiceResponse.class);
 
-        given(clubRepository.getClubIntroduction(clubId, username)).willReturn(mockQueryResponse);
+        given(clubRepository.getClubIntroduction(clubId)).willReturn(mockQueryResponse);
 
         try (MockedStatic<ClubDetailServiceResponse> mockedStatic = mockStatic(ClubDetailServiceResponse.class)) {
-            mockedStatic.when(() -> ClubDetailServiceResponse.from(mockQueryResponse))
+            mockedStatic.when(() -> ClubDetailServiceResponse.from(mockQueryResponse, false))
                     .thenReturn(mockServiceResponse);
 
             // when
-            clubUserService.getClubIntroduction(username, clubId);
+            clubUserService.getClubIntroduction(username, clubId, VERSION);
 
             // then
-            InOrder inOrder = inOrder(clubRepository);
-            inOrder.verify(clubRepository).getClubIntroduction(clubId, username);
-            inOrder.verify(clubRepository).increaseViewCount(clubId);
+            InOrder inOrder = inOrder(clubRepository, clubViewCountService);
+            inOrder.verify(clubRepository).getClubIntroduction(clubId);
+            inOrder.verify(clubViewCountService).increase(clubId);
         }
     }
 
@@ -100,14 +128,14 @@ class ClubUserServiceTest {
         String clubId = "non-existent-club-id";
 
         // 존재하지 않는 동아리에 대해 리포지토리는 null 을 반환한다
-        given(clubRepository.getClubIntroduction(clubId, username)).willReturn(null);
+        given(clubRepository.getClubIntroduction(clubId)).willReturn(null);
 
         // when & then
-        assertThatThrownBy(() -> clubUserService.getClubIntroduction(username, clubId))
+        assertThatThrownBy(() -> clubUserService.getClubIntroduction(username, clubId, VERSION))
                 .isInstanceOf(ClubNotFoundException.class);
 
-        verify(clubRepository, times(1)).getClubIntroduction(clubId, username);
-        verify(clubRepository, never()).increaseViewCount(anyString());
+        verify(clubRepository, times(1)).getClubIntroduction(clubId);
+        verify(clubViewCountService, never()).increase(anyString());
     }
 
     @Test
@@ -120,20 +148,20 @@ class ClubUserServiceTest {
         ClubDetailQueryResponse mockQueryResponse = mock(ClubDetailQueryResponse.class);
         ClubDetailServiceResponse mockServiceResponse = mock(ClubDetailServiceResponse.class);
 
-        given(clubRepository.getClubIntroduction(clubId, username)).willReturn(mockQueryResponse);
+        given(clubRepository.getClubIntroduction(clubId)).willReturn(mockQueryResponse);
 
         try (MockedStatic<ClubDetailServiceResponse> mockedStatic = mockStatic(ClubDetailServiceResponse.class)) {
-            mockedStatic.when(() -> ClubDetailServiceResponse.from(mockQueryResponse))
+            mockedStatic.when(() -> ClubDetailServiceResponse.from(mockQueryResponse, false))
                     .thenReturn(mockServiceResponse);
 
             // when
-            clubUserService.getClubIntroduction(username, clubId);
-            clubUserService.getClubIntroduction(username, clubId);
-            clubUserService.getClubIntroduction(username, clubId);
+            clubUserService.getClubIntroduction(username, clubId, VERSION);
+            clubUserService.getClubIntroduction(username, clubId, VERSION);
+            clubUserService.getClubIntroduction(username, clubId, VERSION);
 
             // then
-            verify(clubRepository, times(3)).increaseViewCount(clubId);
-            verify(clubRepository, times(3)).getClubIntroduction(clubId, username);
+            verify(clubViewCountService, times(3)).increase(clubId);
+            verify(clubRepository, times(3)).getClubIntroduction(clubId);
         }
     }
 
@@ -148,20 +176,58 @@ class ClubUserServiceTest {
         ClubDetailQueryResponse mockQueryResponse = mock(ClubDetailQueryResponse.class);
         ClubDetailServiceResponse mockServiceResponse = mock(ClubDetailServiceResponse.class);
 
-        given(clubRepository.getClubIntroduction(anyString(), anyString())).willReturn(mockQueryResponse);
+        given(clubRepository.getClubIntroduction(anyString())).willReturn(mockQueryResponse);
+
+        try (MockedStatic<ClubDetailServiceResponse> mockedStatic = mockStatic(ClubDetailServiceResponse.class)) {
+            mockedStatic.when(() -> ClubDetailServiceResponse.from(mockQueryResponse, false))
+                    .thenReturn(mockServiceResponse);
+
+            // when
+            clubUserService.getClubIntroduction(user1, clubId, VERSION);
+            clubUserService.getClubIntroduction(user2, clubId, VERSION);
+
+            // then
+            verify(clubViewCountService, times(2)).increase(clubId);
+            verify(clubRepository, times(2)).getClubIntroduction(clubId);
+            verify(favoriteClubIdsService).getFavoriteClubIds(user1);
+            verify(favoriteClubIdsService).getFavoriteClubIds(user2);
+        }
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 여부는 조회 쿼리가 아닌 사용자의 즐겨찾기 동아리 ID 집합으로 표시한다")
+    void getClubIntroduction_shouldMarkBookmarkFromFavoriteClubIds() {
+        // given
+        String username = "test@sangmyung.kr";
+        String clubId = "test-club-id";
+
+        ClubDetailQueryResponse mockQueryResponse = mock(ClubDetailQueryResponse.class);
+        ClubDetailServiceResponse mockServiceResponse = mock(ClubDetailServiceResponse.class);
+
+        given(clubRepository.getClubIntroduction(clubId)).willReturn(mockQueryResponse);
+        given(favoriteClubIdsService.getFavoriteClubIds(username)).willReturn(Set.of(clubId));
 
         try (MockedStatic<ClubDetailServiceResponse> mockedStatic = mockStatic(ClubDetailServiceResponse.class)) {
-            mockedStatic.when(() -> ClubDetailServiceResponse.from(mockQueryResponse))
+            mockedStatic.when(() -> ClubDetailServiceResponse.from(mockQueryResponse, true))
                     .thenReturn(mockServiceResponse);
 
             // when
-            clubUserService.getClubIntroduction(user1, clubId);
-            clubUserService.getClubIntroduction(user2, clubId);
+            ClubDetailServiceResponse result = clubUserService.getClubIntroduction(username, clubId, VERSION);
 
             // then
-            verify(clubRepository, times(2)).increaseViewCount(clubId);
-            verify(clubRepository, times(1)).getClubIntroduction(clubId, user1);
-            verify(clubRepository, times(1)).getClubIntroduction(clubId, user2);
+            assertThat(result).isEqualTo(mockServiceResponse);
         }
     }
+
+    @Test
+    @DisplayName("상세 버전은 가벼운 버전 쿼리로 조회하고, 동아리가 없으면 예외를 던진다")
+    void getClubIntroductionVersion() {
+        given(clubRepository.findDetailVersion("test-club-id")).willReturn(Optional.of(VERSION));
+        given(clubRepository.findDetailVersion("missing")).willReturn(Optional.empty());
+
+        assertThat(clubUserService.getClubIntroductionVersion("test-club-id")).isEqualTo(VERSION);
+        assertThatThrownBy(() -> clubUserService.getClubIntroductionVersion("missing"))
+                .isInstanceOf(ClubNotFoundException.class);
+        verify(clubRepository, never()).getClubIntroduction(anyString());
+    }
 }
@@ -20,17 +20,22 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -148,14 +153,23 @@ class ClubMemberApiControllerTest {
     void downloadMembersExcel() throws Exception {
         // given
         stubAuthUserInfo();
-        byte[] excelBytes = {1, 2, 3};
-        given(clubMemberService.downloadMembersAsExcel(CLUB_ID, USERNAME))
-                .willReturn(new ExcelServiceResponse("테스트동아리", excelBytes));
-
-        // when & then
-        mockMvc.perform(get("/api/admin/members/{clubId}/download", CLUB_ID))
+        ExcelServiceResponse target = new ExcelServiceResponse(CLUB_ID, "테스트동아리");
+        given(clubMemberService.downloadMembersAsExcel(CLUB_ID, USERNAME)).willReturn(target);
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(new byte[]{1, 2, 3});
+            return null;
+        }).given(clubMemberService).writeMembersExcel(eq(target), any(OutputStream.class));
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(get("/api/admin/members/{clubId}/download", CLUB_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
-                .andExpect(header().exists("Content-Disposition"));
+                .andExpect(header().exists("Content-Disposition"))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
     }
 
     @Test
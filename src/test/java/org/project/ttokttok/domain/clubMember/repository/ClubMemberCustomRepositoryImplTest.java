@@ -23,6 +23,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -31,6 +34,9 @@ class ClubMemberCustomRepositoryImplTest implements RepositoryTestSupport {
     @Autowired
     private ClubMemberRepository clubMemberRepository;
 
+    @Autowired
+    private ClubMemberJdbcRepository clubMemberJdbcRepository;
+
     @Autowired
     private ClubRepository clubRepository;
 
@@ -191,14 +197,17 @@ class ClubMemberCustomRepositoryImplTest implements RepositoryTestSupport {
     }
 
     @Nested
-    @DisplayName("findByClubId 메서드")
-    class FindByClubIdTest {
+    @DisplayName("streamByClubId 메서드")
+    class StreamByClubIdTest {
 
         @Test
-        @DisplayName("동아리의 모든 부원을 엑셀 응답 형태로 조회한다")
-        void findByClubId_success() {
+        @DisplayName("동아리의 모든 부원을 엑셀 응답 형태로 스트림 조회한다")
+        void streamByClubId_success() {
             // when
-            List<ClubMemberInExcelResponse> result = clubMemberRepository.findByClubId(club1.getId());
+            List<ClubMemberInExcelResponse> result;
+            try (Stream<ClubMemberInExcelResponse> stream = clubMemberRepository.streamByClubId(club1.getId())) {
+                result = stream.toList();
+            }
 
             // then
             assertThat(result).hasSize(4);
@@ -263,4 +272,44 @@ class ClubMemberCustomRepositoryImplTest implements RepositoryTestSupport {
             assertThat(exists).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("findEmailsByClubIdAndEmailIn 메서드")
+    class FindEmailsByClubIdAndEmailInTest {
+
+        @Test
+        @DisplayName("주어진 이메일 중 해당 동아리에 이미 등록된 이메일만 반환한다")
+        void returnsOnlyRegisteredEmailsOfClub() {
+            // when
+            Set<String> result = clubMemberRepository.findEmailsByClubIdAndEmailIn(club1.getId(),
+                    List.of("member1@sangmyung.kr", "other@sangmyung.kr", "new@sangmyung.kr"));
+
+            // then
+            assertThat(result).containsExactly("member1@sangmyung.kr");
+        }
+    }
+
+    @Nested
+    @DisplayName("ClubMemberJdbcRepository.batchInsert 메서드")
+    class BatchInsertTest {
+
+        @Test
+        @DisplayName("배치 크기를 넘는 부원도 모두 등록한다")
+        void insertsAllMembersAcrossBatches() {
+            // given
+            Club club = em.find(Club.class, club2.getId());
+            int count = ClubMemberJdbcRepository.BATCH_SIZE + 1;
+            List<ClubMember> members = IntStream.range(0, count)
+                    .mapToObj(i -> ClubMember.create(club, "합격자" + i, MemberRole.MEMBER, Grade.FIRST_GRADE,
+                            "컴퓨터공학과", "passed" + i + "@sangmyung.kr", "010-2222-0000", Gender.FEMALE))
+                    .toList();
+
+            // when
+            clubMemberJdbcRepository.batchInsert(members);
+
+            // then
+            assertThat(clubMemberRepository.findByClubIdAndKeyword(club2.getId(), "합격자")).hasSize(count);
+            assertThat(clubMemberRepository.existsByClubIdAndEmail(club2.getId(), "passed0@sangmyung.kr")).isTrue();
+        }
+    }
 }
@@ -1,11 +1,13 @@
 package org.project.ttokttok.domain.clubMember.service;
 
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.ttokttok.domain.admin.domain.Admin;
 import org.project.ttokttok.domain.applicant.domain.enums.Gender;
@@ -14,6 +16,7 @@ import org.project.ttokttok.domain.club.domain.Club;
 import org.project.ttokttok.domain.club.exception.ClubNotFoundException;
 import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.club.service.ClubPopularityStatsService;
 import org.project.ttokttok.domain.clubMember.domain.ClubMember;
 import org.project.ttokttok.domain.clubMember.domain.MemberRole;
 import org.project.ttokttok.domain.clubMember.exception.AlreadyClubMemberException;
@@ -34,16 +37,24 @@ import org.project.ttokttok.domain.clubMember.service.dto.response.ClubMemberPag
 import org.project.ttokttok.domain.clubMember.service.dto.response.ClubMemberSearchServiceResponse;
 import org.project.ttokttok.domain.clubMember.service.dto.response.ExcelServiceResponse;
 import org.project.ttokttok.global.excel.ExcelService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 import static org.project.ttokttok.domain.clubMember.domain.MemberRole.*;
 
@@ -59,6 +70,15 @@ class ClubMemberServiceTest {
     @Mock
     private ExcelService excelService;
 
+    @Mock
+    private ClubPopularityStatsService clubPopularityStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private ClubMemberService clubMemberService;
 
@@ -166,7 +186,7 @@ class ClubMemberServiceTest {
             given(clubRepository.findById(CLUB_ID)).willReturn(Optional.of(club));
 
             ClubMember member = mock(ClubMember.class);
-            given(clubMemberRepository.findById("member-1")).willReturn(Optional.of(member));
+            given(clubMemberRepository.findByIdAndClubId("member-1", CLUB_ID)).willReturn(Optional.of(member));
 
             ChangeRoleServiceRequest request = ChangeRoleServiceRequest.of(USERNAME, CLUB_ID, "member-1", MEMBER);
 
@@ -183,7 +203,7 @@ class ClubMemberServiceTest {
             // given
             Club club = createClub(USERNAME);
             given(clubRepository.findById(CLUB_ID)).willReturn(Optional.of(club));
-            given(clubMemberRepository.findById("member-1")).willReturn(Optional.empty());
+            given(clubMemberRepository.findByIdAndClubId("member-1", CLUB_ID)).willReturn(Optional.empty());
 
             ChangeRoleServiceRequest request = ChangeRoleServiceRequest.of(USERNAME, CLUB_ID, "member-1", MEMBER);
 
@@ -201,7 +221,7 @@ class ClubMemberServiceTest {
 
             ClubMember member = mock(ClubMember.class);
             given(member.getId()).willReturn("member-1");
-            given(clubMemberRepository.findById("member-1")).willReturn(Optional.of(member));
+            given(clubMemberRepository.findByIdAndClubId("member-1", CLUB_ID)).willReturn(Optional.of(member));
 
             ClubMember existingPresident = mock(ClubMember.class);
             given(existingPresident.getId()).willReturn("member-2");
@@ -226,7 +246,7 @@ class ClubMemberServiceTest {
 
             ClubMember member = mock(ClubMember.class);
             given(member.getId()).willReturn("member-1");
-            given(clubMemberRepository.findById("member-1")).willReturn(Optional.of(member));
+            given(clubMemberRepository.findByIdAndClubId("member-1", CLUB_ID)).willReturn(Optional.of(member));
 
             given(clubMemberRepository.findByClubIdAndRole(CLUB_ID, PRESIDENT))
                     .willReturn(Optional.of(member));
@@ -253,7 +273,7 @@ class ClubMemberServiceTest {
             given(clubRepository.findById(CLUB_ID)).willReturn(Optional.of(club));
 
             ClubMember member = mock(ClubMember.class);
-            given(clubMemberRepository.findById("member-1")).willReturn(Optional.of(member));
+            given(clubMemberRepository.findByIdAndClubId("member-1", CLUB_ID)).willReturn(Optional.of(member));
 
             DeleteMemberServiceRequest request = DeleteMemberServiceRequest.of(USERNAME, CLUB_ID, "member-1");
 
@@ -262,6 +282,26 @@ class ClubMemberServiceTest {
 
             // then
             verify(clubMemberRepository, times(1)).delete(member);
+            verify(clubPopularityStatsService).addMemberCount(CLUB_ID, -1);
+        }
+
+        @Test
+        @DisplayName("다른 동아리의 부원은 삭제하지 않고 ClubMemberNotFoundException이 발생한다")
+        void deleteMember_memberOfOtherClub() {
+            // given
+            Club club = createClub(USERNAME);
+            given(clubRepository.findById(CLUB_ID)).willReturn(Optional.of(club));
+            given(clubMemberRepository.findByIdAndClubId("other-club-member", CLUB_ID)).willReturn(Optional.empty());
+
+            DeleteMemberServiceRequest request = DeleteMemberServiceRequest.of(USERNAME, CLUB_ID, "other-club-member");
+
+            // when & then
+            assertThatThrownBy(() -> clubMemberService.deleteMember(USERNAME, request))
+                    .isInstanceOf(ClubMemberNotFoundException.class);
+
+            verify(clubMemberRepository, never()).delete(any());
+            verify(clubPopularityStatsService, never()).addMemberCount(anyString(), anyLong());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
         }
 
         @Test
@@ -270,7 +310,7 @@ class ClubMemberServiceTest {
             // given
             Club club = createClub(USERNAME);
             given(clubRepository.findById(CLUB_ID)).willReturn(Optional.of(club));
-            given(clubMemberRepository.findById("member-1")).willReturn(Optional.empty());
+            given(clubMemberRepository.findByIdAndClubId("member-1", CLUB_ID)).willReturn(Optional.empty());
 
             DeleteMemberServiceRequest request = DeleteMemberServiceRequest.of(USERNAME, CLUB_ID, "member-1");
 
@@ -287,56 +327,58 @@ class ClubMemberServiceTest {
     class DownloadMembersAsExcelTest {
 
         @Test
-        @DisplayName("부원 목록을 엑셀 파일로 생성한다")
-        void downloadMembersAsExcel_success() throws IOException {
+        @DisplayName("관리자 검증 후 엑셀 작성 대상 동아리 정보를 반환한다")
+        void downloadMembersAsExcel_success() {
             // given
             Club club = createClub(USERNAME);
             given(clubRepository.findById(CLUB_ID)).willReturn(Optional.of(club));
 
-            List<ClubMemberInExcelResponse> excelTargets =
-                    List.of(new ClubMemberInExcelResponse(Grade.FIRST_GRADE, "홍길동", "컴퓨터공학과", MEMBER));
-            given(clubMemberRepository.findByClubId(CLUB_ID)).willReturn(excelTargets);
-
-            given(clubRepository.findByName("테스트동아리")).willReturn(Optional.of(club));
-
-            byte[] excelBytes = {1, 2, 3};
-            given(excelService.createMemberExcel("테스트동아리", excelTargets)).willReturn(excelBytes);
-
             // when
             ExcelServiceResponse result = clubMemberService.downloadMembersAsExcel(CLUB_ID, USERNAME);
 
             // then
             assertThat(result.clubName()).isEqualTo("테스트동아리");
-            assertThat(result.excelData()).isEqualTo(excelBytes);
+            verifyNoInteractions(excelService);
         }
 
         @Test
-        @DisplayName("엑셀 생성 중 IOException이 발생하면 ExcelFileCreateFailException이 발생한다")
-        void downloadMembersAsExcel_ioException() throws IOException {
+        @DisplayName("부원 목록 스트림으로 워크북을 채우고 스트림을 닫은 뒤 out 으로 내보낸다")
+        void writeMembersExcel_success() throws IOException {
             // given
-            Club club = createClub(USERNAME);
-            given(clubRepository.findById(CLUB_ID)).willReturn(Optional.of(club));
-            given(clubMemberRepository.findByClubId(CLUB_ID)).willReturn(List.of());
-            given(clubRepository.findByName("테스트동아리")).willReturn(Optional.of(club));
-            given(excelService.createMemberExcel(anyString(), any())).willThrow(new IOException("엑셀 생성 실패"));
+            AtomicBoolean closed = new AtomicBoolean(false);
+            Stream<ClubMemberInExcelResponse> members =
+                    Stream.of(new ClubMemberInExcelResponse(Grade.FIRST_GRADE, "홍길동", "컴퓨터공학과", MEMBER))
+                            .onClose(() -> closed.set(true));
+            given(clubMemberRepository.streamByClubId(CLUB_ID)).willReturn(members);
+            SXSSFWorkbook workbook = new SXSSFWorkbook();
+            given(excelService.fillMemberExcel("테스트동아리", members)).willReturn(workbook);
+            OutputStream out = new ByteArrayOutputStream();
+            willAnswer(invocation -> {
+                // 응답 스트림 쓰기 시점에는 커서 스트림이 이미 닫혀 있어야 한다.
+                assertThat(closed).isTrue();
+                return null;
+            }).given(excelService).write(workbook, out);
 
-            // when & then
-            assertThatThrownBy(() -> clubMemberService.downloadMembersAsExcel(CLUB_ID, USERNAME))
-                    .isInstanceOf(ExcelFileCreateFailException.class);
+            // when
+            clubMemberService.writeMembersExcel(new ExcelServiceResponse(CLUB_ID, "테스트동아리"), out);
+
+            // then
+            verify(excelService).write(workbook, out);
         }
 
         @Test
-        @DisplayName("엑셀 생성 대상 동아리 이름을 찾지 못하면 ClubNotFoundException이 발생한다")
-        void downloadMembersAsExcel_clubNameNotFound() {
+        @DisplayName("엑셀 작성 중 IOException이 발생하면 ExcelFileCreateFailException이 발생한다")
+        void writeMembersExcel_ioException() throws IOException {
             // given
-            Club club = createClub(USERNAME);
-            given(clubRepository.findById(CLUB_ID)).willReturn(Optional.of(club));
-            given(clubMemberRepository.findByClubId(CLUB_ID)).willReturn(List.of());
-            given(clubRepository.findByName("테스트동아리")).willReturn(Optional.empty());
+            given(clubMemberRepository.streamByClubId(CLUB_ID)).willReturn(Stream.empty());
+            given(excelService.fillMemberExcel(anyString(), any())).willReturn(new SXSSFWorkbook());
+            willThrow(new IOException("엑셀 생성 실패"))
+                    .given(excelService).write(any(), any());
 
             // when & then
-            assertThatThrownBy(() -> clubMemberService.downloadMembersAsExcel(CLUB_ID, USERNAME))
-                    .isInstanceOf(ClubNotFoundException.class);
+            assertThatThrownBy(() -> clubMemberService.writeMembersExcel(
+                    new ExcelServiceResponse(CLUB_ID, "테스트동아리"), new ByteArrayOutputStream()))
+                    .isInstanceOf(ExcelFileCreateFailException.class);
         }
     }
 
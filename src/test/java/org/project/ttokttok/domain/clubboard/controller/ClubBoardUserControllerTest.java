@@ -2,6 +2,7 @@ package org.project.ttokttok.domain.clubboard.controller;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.project.ttokttok.domain.club.exception.ClubNotFoundException;
 import org.project.ttokttok.domain.clubboard.controller.dto.response.ClubBoardDetailResponse;
 import org.project.ttokttok.domain.clubboard.controller.dto.response.ClubBoardListResponse;
 import org.project.ttokttok.domain.clubboard.controller.dto.response.ClubBoardListResponse.ClubBoardSummary;
@@ -9,6 +10,8 @@ import org.project.ttokttok.domain.clubboard.exception.ClubBoardNotFoundExceptio
 import org.project.ttokttok.domain.clubboard.service.ClubBoardUserService;
 import org.project.ttokttok.global.annotationresolver.auth.AuthUserInfoResolver;
 import org.project.ttokttok.global.auth.jwt.service.TokenProvider;
+import org.project.ttokttok.global.util.http.ContentVersion;
+import org.springframework.http.HttpHeaders;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
@@ -19,10 +22,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -43,13 +50,16 @@ class ClubBoardUserControllerTest {
 
     private static final String CLUB_ID = "club-1";
     private static final String THUMBNAIL_URL = "https://cdn.example.com/board-images/uuid_thumb.png";
+    private static final ContentVersion BOARD_LIST_VERSION =
+            new ContentVersion(1L, LocalDateTime.of(2026, 1, 1, 0, 0));
 
     @Test
     @WithMockUser
     @DisplayName("게시판 목록 조회 API를 기본 파라미터로 호출한다")
     void getBoardListWithDefaultParams() throws Exception {
+        given(clubBoardUserService.getBoardListVersion(CLUB_ID)).willReturn(BOARD_LIST_VERSION);
         ClubBoardSummary summary = new ClubBoardSummary(
-                "board-1", THUMBNAIL_URL, LocalDateTime.of(2026, 1, 1, 0, 0)
+                "board-1", THUMBNAIL_URL, null, null, LocalDateTime.of(2026, 1, 1, 0, 0)
         );
         given(clubBoardUserService.getBoardList(CLUB_ID, 20, null))
                 .willReturn(ClubBoardListResponse.of(List.of(summary), false, null));
@@ -69,6 +79,7 @@ class ClubBoardUserControllerTest {
     @WithMockUser
     @DisplayName("size와 cursor 파라미터를 전달하여 게시판 목록을 조회한다")
     void getBoardListWithCursorAndSize() throws Exception {
+        given(clubBoardUserService.getBoardListVersion(CLUB_ID)).willReturn(BOARD_LIST_VERSION);
         given(clubBoardUserService.getBoardList(eq(CLUB_ID), eq(5), eq("cursor-1")))
                 .willReturn(ClubBoardListResponse.of(List.of(), true, "cursor-2"));
 
@@ -81,6 +92,96 @@ class ClubBoardUserControllerTest {
                 .andExpect(jsonPath("$.nextCursor").value("cursor-2"));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("게시판 목록의 버전이 같으면 목록을 조회하지 않고 304를 반환한다")
+    void getBoardListNotModified() throws Exception {
+        given(clubBoardUserService.getBoardListVersion(CLUB_ID)).willReturn(BOARD_LIST_VERSION);
+        given(clubBoardUserService.getBoardList(CLUB_ID, 20, null))
+                .willReturn(ClubBoardListResponse.of(List.of(), false, null));
+
+        String eTag = mockMvc.perform(get("/api/clubs/{clubId}/boards", CLUB_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/clubs/{clubId}/boards", CLUB_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // 첫 요청에서만 목록을 조회한다
+        verify(clubBoardUserService).getBoardList(CLUB_ID, 20, null);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("게시판 목록의 버전이 바뀌면 같은 ETag 로 요청해도 200을 반환한다")
+    void getBoardListModified() throws Exception {
+        given(clubBoardUserService.getBoardListVersion(CLUB_ID)).willReturn(BOARD_LIST_VERSION);
+        given(clubBoardUserService.getBoardList(CLUB_ID, 20, null))
+                .willReturn(ClubBoardListResponse.of(List.of(), false, null));
+
+        String eTag = mockMvc.perform(get("/api/clubs/{clubId}/boards", CLUB_ID))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 게시글이 하나 삭제된 경우
+        given(clubBoardUserService.getBoardListVersion(CLUB_ID))
+                .willReturn(new ContentVersion(0L, BOARD_LIST_VERSION.lastModifiedAt()));
+
+        mockMvc.perform(get("/api/clubs/{clubId}/boards", CLUB_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("If-Modified-Since 만 보낸 요청은 삭제를 감지할 수 없으므로 304 로 판정하지 않는다")
+    void getBoardListIgnoresIfModifiedSince() throws Exception {
+        // 게시글이 삭제되어도 최대 수정 시각은 그대로다
+        given(clubBoardUserService.getBoardListVersion(CLUB_ID))
+                .willReturn(new ContentVersion(0L, BOARD_LIST_VERSION.lastModifiedAt()));
+        given(clubBoardUserService.getBoardList(CLUB_ID, 20, null))
+                .willReturn(ClubBoardListResponse.of(List.of(), false, null));
+
+        mockMvc.perform(get("/api/clubs/{clubId}/boards", CLUB_ID)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 01 Jan 2100 00:00:00 GMT"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("존재하지 않는 동아리의 게시판 목록 조회는 목록을 조회하지 않고 404를 반환한다")
+    void getBoardListClubNotFound() throws Exception {
+        given(clubBoardUserService.getBoardListVersion("missing"))
+                .willThrow(new ClubNotFoundException());
+
+        mockMvc.perform(get("/api/clubs/{clubId}/boards", "missing"))
+                .andExpect(status().isNotFound());
+
+        verify(clubBoardUserService, never()).getBoardList(eq("missing"), eq(20), eq(null));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("게시판 상세 응답이 같으면 If-None-Match 요청에 304를 반환한다")
+    void getBoardDetailNotModified() throws Exception {
+        ClubBoardDetailResponse response = new ClubBoardDetailResponse(
+                "board-1", "제목", "본문", THUMBNAIL_URL, "동아리", LocalDateTime.of(2026, 1, 1, 0, 0)
+        );
+        given(clubBoardUserService.getBoardDetail(CLUB_ID, "board-1")).willReturn(response);
+
+        String eTag = mockMvc.perform(get("/api/clubs/{clubId}/boards/{boardId}", CLUB_ID, "board-1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/clubs/{clubId}/boards/{boardId}", CLUB_ID, "board-1")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     @WithMockUser
     @DisplayName("게시판 상세 조회 API를 호출한다")
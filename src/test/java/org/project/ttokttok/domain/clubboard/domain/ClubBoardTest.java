@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.project.ttokttok.domain.club.domain.Club;
+import org.project.ttokttok.domain.clubboard.domain.enums.ThumbnailVariantStatus;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -202,4 +203,65 @@ class ClubBoardTest {
                     .hasMessage("대표 이미지가 없습니다.");
         }
     }
+
+    @Nested
+    @DisplayName("markThumbnailVariantsReady()")
+    class MarkThumbnailVariantsReady {
+
+        @Test
+        @DisplayName("현재 대표 이미지의 변형이면 생성 완료로 표시한다.")
+        void markReadyForCurrentThumbnail() {
+            ClubBoard board = ClubBoard.create("제목", "내용", THUMBNAIL_URL, mock(Club.class));
+
+            assertThat(board.markThumbnailVariantsReady(THUMBNAIL_URL)).isTrue();
+            assertThat(board.isThumbnailVariantsReady()).isTrue();
+        }
+
+        @Test
+        @DisplayName("생성 중에 교체된 이전 대표 이미지의 변형이면 표시하지 않는다.")
+        void markReadyIgnoresReplacedThumbnail() {
+            ClubBoard board = ClubBoard.create("제목", "내용", THUMBNAIL_URL, mock(Club.class));
+            board.updateThumbnailUrl("https://cdn.example.com/board-images/uuid_new.png");
+
+            assertThat(board.markThumbnailVariantsReady(THUMBNAIL_URL)).isFalse();
+            assertThat(board.isThumbnailVariantsReady()).isFalse();
+        }
+
+        @Test
+        @DisplayName("대표 이미지를 교체하면 완료 표시가 초기화된다.")
+        void updateThumbnailUrlResetsReady() {
+            ClubBoard board = ClubBoard.create("제목", "내용", THUMBNAIL_URL, mock(Club.class));
+            board.markThumbnailVariantsReady(THUMBNAIL_URL);
+
+            board.updateThumbnailUrl("https://cdn.example.com/board-images/uuid_new.png");
+
+            assertThat(board.isThumbnailVariantsReady()).isFalse();
+            assertThat(board.getThumbnailVariantStatus()).isEqualTo(ThumbnailVariantStatus.PENDING);
+        }
+    }
+
+    @Nested
+    @DisplayName("markThumbnailVariantsSkipped()")
+    class MarkThumbnailVariantsSkipped {
+
+        @Test
+        @DisplayName("현재 대표 이미지면 건너뜀으로 표시하고 완료로는 보지 않는다.")
+        void markSkippedForCurrentThumbnail() {
+            ClubBoard board = ClubBoard.create("제목", "내용", THUMBNAIL_URL, mock(Club.class));
+
+            assertThat(board.markThumbnailVariantsSkipped(THUMBNAIL_URL)).isTrue();
+            assertThat(board.getThumbnailVariantStatus()).isEqualTo(ThumbnailVariantStatus.SKIPPED);
+            assertThat(board.isThumbnailVariantsReady()).isFalse();
+        }
+
+        @Test
+        @DisplayName("생성 중에 교체된 이전 대표 이미지면 새 이미지의 상태를 건드리지 않는다.")
+        void markSkippedIgnoresReplacedThumbnail() {
+            ClubBoard board = ClubBoard.create("제목", "내용", THUMBNAIL_URL, mock(Club.class));
+            board.updateThumbnailUrl("https://cdn.example.com/board-images/uuid_new.png");
+
+            assertThat(board.markThumbnailVariantsSkipped(THUMBNAIL_URL)).isFalse();
+            assertThat(board.getThumbnailVariantStatus()).isEqualTo(ThumbnailVariantStatus.PENDING);
+        }
+    }
 }
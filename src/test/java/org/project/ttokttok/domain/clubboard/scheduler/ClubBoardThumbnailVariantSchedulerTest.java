@@ -0,0 +1,91 @@
+package org.project.ttokttok.domain.clubboard.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.clubboard.event.ClubBoardThumbnailChangedEvent;
+import org.project.ttokttok.domain.clubboard.service.ClubBoardAdminService;
+import org.project.ttokttok.domain.clubboard.service.ClubBoardThumbnailVariantWorker;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClubBoardThumbnailVariantSchedulerTest {
+
+    @Mock
+    private ClubBoardAdminService clubBoardAdminService;
+
+    @Mock
+    private ClubBoardThumbnailVariantWorker clubBoardThumbnailVariantWorker;
+
+    @InjectMocks
+    private ClubBoardThumbnailVariantScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "retryAfterMinutes", 10L);
+        ReflectionTestUtils.setField(scheduler, "giveUpAfterHours", 24L);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 50);
+    }
+
+    @Test
+    @DisplayName("retryPendingVariants(): 완료 표시가 없는 게시글의 변형 생성을 다시 넣는다")
+    void retryPendingVariants_enqueuesTargets() {
+        // given
+        given(clubBoardAdminService.findThumbnailVariantRetryTargets(any(LocalDateTime.class), any(LocalDateTime.class), eq(50)))
+                .willReturn(List.of(
+                        new ClubBoardThumbnailChangedEvent("board-1", "url-1"),
+                        new ClubBoardThumbnailChangedEvent("board-2", "url-2")));
+        given(clubBoardThumbnailVariantWorker.enqueue(anyString(), anyString())).willReturn(true);
+
+        // when
+        scheduler.retryPendingVariants();
+
+        // then
+        verify(clubBoardThumbnailVariantWorker).enqueue("board-1", "url-1");
+        verify(clubBoardThumbnailVariantWorker).enqueue("board-2", "url-2");
+    }
+
+    @Test
+    @DisplayName("retryPendingVariants(): 스레드풀이 아직 포화 상태면 나머지는 다음 주기로 미룬다")
+    void retryPendingVariants_stopsWhenRejected() {
+        // given
+        given(clubBoardAdminService.findThumbnailVariantRetryTargets(any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .willReturn(List.of(
+                        new ClubBoardThumbnailChangedEvent("board-1", "url-1"),
+                        new ClubBoardThumbnailChangedEvent("board-2", "url-2")));
+        given(clubBoardThumbnailVariantWorker.enqueue("board-1", "url-1")).willReturn(false);
+
+        // when
+        scheduler.retryPendingVariants();
+
+        // then
+        verify(clubBoardThumbnailVariantWorker, never()).enqueue("board-2", "url-2");
+    }
+
+    @Test
+    @DisplayName("retryPendingVariants(): 조회 중 오류가 나도 예외를 던지지 않는다")
+    void retryPendingVariants_swallowsException() {
+        // given
+        given(clubBoardAdminService.findThumbnailVariantRetryTargets(any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .willThrow(new IllegalStateException("DB 오류"));
+
+        // when & then
+        assertThatCode(() -> scheduler.retryPendingVariants()).doesNotThrowAnyException();
+        verifyNoInteractions(clubBoardThumbnailVariantWorker);
+    }
+}
@@ -10,16 +10,22 @@ import org.project.ttokttok.domain.club.exception.FileIsNotImageException;
 import org.project.ttokttok.domain.club.exception.NotClubAdminException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
 import org.project.ttokttok.domain.clubboard.domain.ClubBoard;
+import org.project.ttokttok.domain.clubboard.event.ClubBoardThumbnailChangedEvent;
 import org.project.ttokttok.domain.clubboard.exception.ClubAdminNameNotMatchException;
 import org.project.ttokttok.domain.clubboard.exception.ClubBoardNotFoundException;
 import org.project.ttokttok.domain.clubboard.repository.ClubBoardRepository;
 import org.project.ttokttok.domain.clubboard.service.dto.request.ClubBoardUpdateServiceRequest;
 import org.project.ttokttok.domain.clubboard.service.dto.request.CreateBoardServiceRequest;
 import org.project.ttokttok.domain.clubboard.service.dto.request.DeleteBoardServiceRequest;
+import org.project.ttokttok.infrastructure.image.service.ImageVariantService;
 import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,8 +42,10 @@ class ClubBoardAdminServiceTest {
     private final ClubRepository clubRepository = mock(ClubRepository.class);
     private final ClubBoardRepository clubBoardRepository = mock(ClubBoardRepository.class);
     private final S3Service s3Service = mock(S3Service.class);
-    private final ClubBoardAdminService clubBoardService =
-            new ClubBoardAdminService(clubRepository, clubBoardRepository, s3Service);
+    private final ImageVariantService imageVariantService = mock(ImageVariantService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ClubBoardAdminService clubBoardService = new ClubBoardAdminService(
+            clubRepository, clubBoardRepository, s3Service, imageVariantService, eventPublisher);
 
     private static final String THUMBNAIL_URL = "https://cdn.example.com/board-images/uuid_thumb.png";
 
@@ -81,6 +89,8 @@ class ClubBoardAdminServiceTest {
             verify(clubBoardRepository).save(any(ClubBoard.class));
             // 롤백 시 업로드본이 보상 삭제되도록 훅이 등록되어야 한다.
             verify(s3Service).deleteFileOnRollback(THUMBNAIL_URL);
+            // 피드용 변형은 커밋 이후 생성되도록 이벤트로 넘긴다.
+            verify(eventPublisher).publishEvent(new ClubBoardThumbnailChangedEvent("board123", THUMBNAIL_URL));
         }
 
         @Test
@@ -187,6 +197,7 @@ class ClubBoardAdminServiceTest {
             ClubBoard board = mock(ClubBoard.class);
             when(board.getClub()).thenReturn(club);
             when(board.getThumbnailUrl()).thenReturn(oldUrl);
+            when(board.getId()).thenReturn("board123");
             when(clubBoardRepository.findById("board123")).thenReturn(Optional.of(board));
             when(s3Service.uploadFile(any(MultipartFile.class), eq(BOARD_IMAGE.getDirectoryName())))
                     .thenReturn(THUMBNAIL_URL);
@@ -204,6 +215,9 @@ class ClubBoardAdminServiceTest {
             // 새 업로드본은 롤백 보상 훅 등록, 기존 파일은 커밋 이후 삭제로 예약되어야 한다.
             verify(s3Service).deleteFileOnRollback(THUMBNAIL_URL);
             verify(s3Service).deleteFileAfterCommit(oldUrl);
+            // 새 썸네일의 변형 생성을 요청하고, 기존 썸네일의 변형도 함께 지운다.
+            verify(eventPublisher).publishEvent(new ClubBoardThumbnailChangedEvent("board123", THUMBNAIL_URL));
+            verify(imageVariantService).deleteVariantsAfterCommit(oldUrl);
         }
 
         @Test
@@ -296,6 +310,7 @@ class ClubBoardAdminServiceTest {
 
             verify(clubBoardRepository).delete(board);
             verify(s3Service).deleteFileAfterCommit(THUMBNAIL_URL);
+            verify(imageVariantService).deleteVariantsAfterCommit(THUMBNAIL_URL);
         }
 
         @Test
@@ -314,7 +329,7 @@ class ClubBoardAdminServiceTest {
             clubBoardService.deleteBoard(request);
 
             verify(clubBoardRepository).delete(board);
-            verifyNoInteractions(s3Service);
+            verifyNoInteractions(s3Service, imageVariantService);
         }
 
         @Test
@@ -337,4 +352,70 @@ class ClubBoardAdminServiceTest {
             verifyNoInteractions(s3Service);
         }
     }
+
+    @Nested
+    @DisplayName("markThumbnailVariantsReady()")
+    class MarkThumbnailVariantsReady {
+
+        @Test
+        @DisplayName("게시글의 대표 이미지가 그대로면 변형 생성 완료로 기록한다.")
+        void markReadySuccess() {
+            ClubBoard board = mock(ClubBoard.class);
+            when(board.markThumbnailVariantsReady(THUMBNAIL_URL)).thenReturn(true);
+            when(clubBoardRepository.findById("board123")).thenReturn(Optional.of(board));
+
+            assertThat(clubBoardService.markThumbnailVariantsReady("board123", THUMBNAIL_URL)).isTrue();
+        }
+
+        @Test
+        @DisplayName("변형 생성 중에 게시글이 삭제되었으면 false를 반환한다.")
+        void markReadyBoardDeleted() {
+            when(clubBoardRepository.findById("board123")).thenReturn(Optional.empty());
+
+            assertThat(clubBoardService.markThumbnailVariantsReady("board123", THUMBNAIL_URL)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("markThumbnailVariantsSkipped()")
+    class MarkThumbnailVariantsSkipped {
+
+        @Test
+        @DisplayName("게시글의 대표 이미지가 그대로면 변형 건너뜀으로 기록한다.")
+        void markSkippedSuccess() {
+            ClubBoard board = mock(ClubBoard.class);
+            when(board.markThumbnailVariantsSkipped(THUMBNAIL_URL)).thenReturn(true);
+            when(clubBoardRepository.findById("board123")).thenReturn(Optional.of(board));
+
+            assertThat(clubBoardService.markThumbnailVariantsSkipped("board123", THUMBNAIL_URL)).isTrue();
+        }
+
+        @Test
+        @DisplayName("변형 생성 중에 게시글이 삭제되었으면 false를 반환한다.")
+        void markSkippedBoardDeleted() {
+            when(clubBoardRepository.findById("board123")).thenReturn(Optional.empty());
+
+            assertThat(clubBoardService.markThumbnailVariantsSkipped("board123", THUMBNAIL_URL)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("findThumbnailVariantRetryTargets()")
+    class FindThumbnailVariantRetryTargets {
+
+        @Test
+        @DisplayName("변형 생성이 끝나지 않은 게시글을 재시도 대상(게시글 ID, 대표 이미지 URL)으로 반환한다.")
+        void findTargets() {
+            LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+            LocalDateTime to = from.plusHours(23);
+            ClubBoard board = mock(ClubBoard.class);
+            when(board.getId()).thenReturn("board123");
+            when(board.getThumbnailUrl()).thenReturn(THUMBNAIL_URL);
+            when(clubBoardRepository.findThumbnailVariantsPending(from, to, Limit.of(50))).thenReturn(List.of(board));
+
+            List<ClubBoardThumbnailChangedEvent> targets = clubBoardService.findThumbnailVariantRetryTargets(from, to, 50);
+
+            assertThat(targets).containsExactly(new ClubBoardThumbnailChangedEvent("board123", THUMBNAIL_URL));
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package org.project.ttokttok.domain.clubboard.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.clubboard.event.ClubBoardThumbnailChangedEvent;
+import org.project.ttokttok.infrastructure.image.service.ImageVariantService;
+import org.springframework.core.task.TaskRejectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClubBoardThumbnailVariantWorkerTest {
+
+    private static final String THUMBNAIL_URL = "https://cdn.example.com/board-images/uuid_thumb.png";
+    private static final ClubBoardThumbnailChangedEvent EVENT =
+            new ClubBoardThumbnailChangedEvent("board123", THUMBNAIL_URL);
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    @Mock
+    private ClubBoardAdminService clubBoardAdminService;
+
+    private ClubBoardThumbnailVariantWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        // 제출 즉시 호출 스레드에서 실행해 비동기 작업의 결과를 바로 검증한다.
+        worker = new ClubBoardThumbnailVariantWorker(imageVariantService, clubBoardAdminService, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("변형을 만들고 게시글에 생성 완료를 기록한다.")
+    void createVariantsAndMarkReady() {
+        when(imageVariantService.createVariants(THUMBNAIL_URL)).thenReturn(true);
+        when(clubBoardAdminService.markThumbnailVariantsReady("board123", THUMBNAIL_URL)).thenReturn(true);
+
+        worker.onThumbnailChanged(EVENT);
+
+        verify(clubBoardAdminService).markThumbnailVariantsReady("board123", THUMBNAIL_URL);
+        verify(imageVariantService, never()).deleteVariantsQuietly(anyString());
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 형식이면 완료 대신 건너뜀을 기록해 재시도 대상에서 뺀다.")
+    void skipUnsupportedImage() {
+        when(imageVariantService.createVariants(THUMBNAIL_URL)).thenReturn(false);
+
+        worker.onThumbnailChanged(EVENT);
+
+        verify(clubBoardAdminService).markThumbnailVariantsSkipped("board123", THUMBNAIL_URL);
+        verify(clubBoardAdminService, never()).markThumbnailVariantsReady(anyString(), anyString());
+        verify(imageVariantService, never()).deleteVariantsQuietly(anyString());
+    }
+
+    @Test
+    @DisplayName("생성 중에 썸네일이 교체되었으면 늦게 만든 변형을 삭제한다.")
+    void deleteVariantsOfReplacedThumbnail() {
+        when(imageVariantService.createVariants(THUMBNAIL_URL)).thenReturn(true);
+        when(clubBoardAdminService.markThumbnailVariantsReady("board123", THUMBNAIL_URL)).thenReturn(false);
+
+        worker.onThumbnailChanged(EVENT);
+
+        verify(imageVariantService).deleteVariantsQuietly(THUMBNAIL_URL);
+    }
+
+    @Test
+    @DisplayName("생성에 실패하면 예외를 삼키고 일부 올라간 변형을 정리한다.")
+    void cleanUpOnFailure() {
+        when(imageVariantService.createVariants(THUMBNAIL_URL)).thenThrow(new IllegalStateException("S3 오류"));
+
+        assertThatCode(() -> worker.onThumbnailChanged(EVENT)).doesNotThrowAnyException();
+
+        verify(imageVariantService).deleteVariantsQuietly(THUMBNAIL_URL);
+        verifyNoInteractions(clubBoardAdminService);
+    }
+
+    @Test
+    @DisplayName("스레드풀이 포화되어 제출이 거절되면 예외 없이 false 를 반환한다.")
+    void enqueueRejected() {
+        worker = new ClubBoardThumbnailVariantWorker(imageVariantService, clubBoardAdminService, task -> {
+            throw new TaskRejectedException("포화");
+        });
+
+        boolean enqueued = worker.enqueue("board123", THUMBNAIL_URL);
+
+        assertThat(enqueued).isFalse();
+        verifyNoInteractions(imageVariantService, clubBoardAdminService);
+    }
+}
@@ -14,6 +14,8 @@ import org.project.ttokttok.domain.clubboard.controller.dto.response.ClubBoardLi
 import org.project.ttokttok.domain.clubboard.domain.ClubBoard;
 import org.project.ttokttok.domain.clubboard.exception.ClubBoardNotFoundException;
 import org.project.ttokttok.domain.clubboard.repository.ClubBoardRepository;
+import org.project.ttokttok.infrastructure.image.enums.ImageVariant;
+import org.project.ttokttok.infrastructure.image.service.ImageVariantService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,8 +30,9 @@ class ClubBoardUserServiceTest {
 
     private final ClubBoardRepository clubBoardRepository = mock(ClubBoardRepository.class);
     private final ClubRepository clubRepository = mock(ClubRepository.class);
+    private final ImageVariantService imageVariantService = mock(ImageVariantService.class);
     private final ClubBoardUserService clubBoardUserService =
-            new ClubBoardUserService(clubBoardRepository, clubRepository);
+            new ClubBoardUserService(clubBoardRepository, clubRepository, imageVariantService);
 
     private static final String THUMBNAIL_URL = "https://cdn.example.com/board-images/uuid_thumb.webp";
 
@@ -61,6 +64,17 @@ class ClubBoardUserServiceTest {
             verify(clubBoardRepository, never()).findBoardsByClubIdWithCursor(any(), anyInt(), any());
         }
 
+        @Test
+        @DisplayName("존재하지 않는 동아리의 목록 버전을 조회하면 예외가 발생한다.")
+        void getBoardListVersionClubNotFound() {
+            when(clubRepository.existsById("missing")).thenReturn(false);
+
+            assertThatThrownBy(() -> clubBoardUserService.getBoardListVersion("missing"))
+                    .isInstanceOf(ClubNotFoundException.class);
+
+            verify(clubBoardRepository, never()).findContentVersionByClubId(any());
+        }
+
         @Test
         @DisplayName("다음 페이지가 없으면 hasNext가 false이고 nextCursor는 null이다.")
         void getBoardListNoNextPage() {
@@ -115,6 +129,43 @@ class ClubBoardUserServiceTest {
             assertThat(response.boards().get(0).thumbnailUrl()).isEqualTo(THUMBNAIL_URL);
         }
 
+        @Test
+        @DisplayName("변형 생성이 끝난 게시글은 256px/1080px 변형 URL이 함께 내려간다.")
+        void getBoardListWithThumbnailVariants() {
+            when(clubRepository.existsById("club123")).thenReturn(true);
+
+            ClubBoard board = mockBoard("board1", "제목", "내용");
+            when(board.getThumbnailUrl()).thenReturn(THUMBNAIL_URL);
+            when(board.isThumbnailVariantsReady()).thenReturn(true);
+            when(clubBoardRepository.findBoardsByClubIdWithCursor("club123", 20, null))
+                    .thenReturn(List.of(board));
+            when(imageVariantService.getVariantUrl(THUMBNAIL_URL, ImageVariant.SMALL)).thenReturn("small-url");
+            when(imageVariantService.getVariantUrl(THUMBNAIL_URL, ImageVariant.LARGE)).thenReturn("large-url");
+
+            ClubBoardSummary summary = clubBoardUserService.getBoardList("club123", 20, null).boards().get(0);
+
+            assertThat(summary.thumbnailUrl()).isEqualTo(THUMBNAIL_URL);
+            assertThat(summary.thumbnailSmallUrl()).isEqualTo("small-url");
+            assertThat(summary.thumbnailLargeUrl()).isEqualTo("large-url");
+        }
+
+        @Test
+        @DisplayName("변형 생성 전인 게시글은 변형 URL이 null이다.")
+        void getBoardListBeforeThumbnailVariantsReady() {
+            when(clubRepository.existsById("club123")).thenReturn(true);
+
+            ClubBoard board = mockBoard("board1", "제목", "내용");
+            lenient().when(board.getThumbnailUrl()).thenReturn(THUMBNAIL_URL);
+            when(clubBoardRepository.findBoardsByClubIdWithCursor("club123", 20, null))
+                    .thenReturn(List.of(board));
+
+            ClubBoardSummary summary = clubBoardUserService.getBoardList("club123", 20, null).boards().get(0);
+
+            assertThat(summary.thumbnailSmallUrl()).isNull();
+            assertThat(summary.thumbnailLargeUrl()).isNull();
+            verifyNoInteractions(imageVariantService);
+        }
+
         @Test
         @DisplayName("썸네일이 없는 레거시 게시글은 thumbnailUrl이 null이다.")
         void getBoardListLegacyBoardWithoutThumbnail() {
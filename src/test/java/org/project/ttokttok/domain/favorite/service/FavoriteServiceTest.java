@@ -12,6 +12,7 @@ import org.project.ttokttok.domain.applyform.repository.ApplyFormRepository;
 import org.project.ttokttok.domain.club.domain.Club;
 import org.project.ttokttok.domain.club.exception.ClubNotFoundException;
 import org.project.ttokttok.domain.club.repository.ClubRepository;
+import org.project.ttokttok.domain.club.service.ClubPopularityStatsService;
 import org.project.ttokttok.domain.club.service.dto.response.ClubCardServiceResponse;
 import org.project.ttokttok.domain.favorite.domain.Favorite;
 import org.project.ttokttok.domain.favorite.repository.FavoriteRepository;
@@ -56,6 +57,12 @@ class FavoriteServiceTest {
     @Mock
     private PopularityCalculator popularityCalculator;
 
+    @Mock
+    private ClubPopularityStatsService clubPopularityStatsService;
+
+    @Mock
+    private FavoriteClubIdsService favoriteClubIdsService;
+
     @Nested
     @DisplayName("toggleFavorite 메서드")
     class ToggleFavoriteTest {
@@ -81,6 +88,8 @@ class FavoriteServiceTest {
             // then
             assertThat(response.favorited()).isTrue();
             verify(favoriteRepository, times(1)).save(any(Favorite.class));
+            verify(clubPopularityStatsService, times(1)).addFavoriteCount(clubId, 1);
+            verify(favoriteClubIdsService).evictAfterCommit(userEmail);
         }
 
         @Test
@@ -105,6 +114,8 @@ class FavoriteServiceTest {
             // then
             assertThat(response.favorited()).isFalse();
             verify(favoriteRepository, times(1)).delete(favorite);
+            verify(clubPopularityStatsService, times(1)).addFavoriteCount(clubId, -1);
+            verify(favoriteClubIdsService).evictAfterCommit(userEmail);
         }
 
         @Test
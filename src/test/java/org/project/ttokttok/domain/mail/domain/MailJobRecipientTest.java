@@ -0,0 +1,88 @@
+package org.project.ttokttok.domain.mail.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus.*;
+
+class MailJobRecipientTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    private MailJobRecipient recipient(int attemptCount) {
+        return MailJobRecipient.builder()
+                .id("recipient-1")
+                .jobId("job-1")
+                .messageId("message-1")
+                .email("user@sangmyung.kr")
+                .status(PENDING)
+                .attemptCount(attemptCount)
+                .nextAttemptAt(NOW)
+                .build();
+    }
+
+    @Test
+    @DisplayName("발송을 시작하면 SENDING 으로 바뀌고 시도 횟수와 임대 시간이 갱신된다")
+    void startSending() {
+        MailJobRecipient recipient = recipient(0);
+
+        recipient.startSending(NOW.plusMinutes(5));
+
+        assertThat(recipient.getStatus()).isEqualTo(SENDING);
+        assertThat(recipient.getAttemptCount()).isEqualTo(1);
+        assertThat(recipient.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수 전에 실패하면 PENDING 으로 돌아가 재시도 시각을 기다린다")
+    void markFailed_retry() {
+        MailJobRecipient recipient = recipient(0);
+        recipient.startSending(NOW.plusMinutes(5));
+
+        recipient.markFailed("421 try again later", NOW.plusMinutes(1), 5);
+
+        assertThat(recipient.getStatus()).isEqualTo(PENDING);
+        assertThat(recipient.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(1));
+        assertThat(recipient.getLastError()).isEqualTo("421 try again later");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 FAILED 로 확정된다")
+    void markFailed_giveUp() {
+        MailJobRecipient recipient = recipient(4);
+        recipient.startSending(NOW.plusMinutes(5));
+
+        recipient.markFailed("550 mailbox unavailable", NOW.plusMinutes(16), 5);
+
+        assertThat(recipient.getStatus()).isEqualTo(FAILED);
+        assertThat(recipient.getAttemptCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("오류 메시지는 컬럼 길이에 맞춰 잘라 저장한다")
+    void markFailed_truncatesError() {
+        MailJobRecipient recipient = recipient(0);
+        recipient.startSending(NOW.plusMinutes(5));
+
+        recipient.markFailed("x".repeat(1000), NOW.plusMinutes(1), 5);
+
+        assertThat(recipient.getLastError()).hasSize(MailJobRecipient.MAX_ERROR_LENGTH);
+    }
+
+    @Test
+    @DisplayName("발송에 성공하면 SENT 로 바뀌고 이전 오류를 지운다")
+    void markSent() {
+        MailJobRecipient recipient = recipient(1);
+        recipient.startSending(NOW.plusMinutes(5));
+        recipient.markFailed("421 try again later", NOW.plusMinutes(1), 5);
+        recipient.startSending(NOW.plusMinutes(6));
+
+        recipient.markSent();
+
+        assertThat(recipient.getStatus()).isEqualTo(SENT);
+        assertThat(recipient.getLastError()).isNull();
+    }
+}
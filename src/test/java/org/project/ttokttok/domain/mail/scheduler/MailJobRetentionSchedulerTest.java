@@ -0,0 +1,64 @@
+package org.project.ttokttok.domain.mail.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.mail.service.MailJobService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MailJobRetentionSchedulerTest {
+
+    @Mock
+    private MailJobService mailJobService;
+
+    @InjectMocks
+    private MailJobRetentionScheduler mailJobRetentionScheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mailJobRetentionScheduler, "retentionDays", 30L);
+        ReflectionTestUtils.setField(mailJobRetentionScheduler, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("purgeCompletedJobs(): 보관 기간이 지난 작업을 배치가 덜 찰 때까지 나눠 삭제한다")
+    void purgeCompletedJobs_deletesInBatches() {
+        // given
+        given(mailJobService.purgeCompletedJobs(any(LocalDateTime.class), eq(2))).willReturn(2, 2, 1);
+
+        // when
+        mailJobRetentionScheduler.purgeCompletedJobs();
+
+        // then
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(mailJobService, times(3)).purgeCompletedJobs(cutoff.capture(), eq(2));
+        assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusDays(29));
+    }
+
+    @Test
+    @DisplayName("purgeCompletedJobs(): 삭제 중 오류가 나도 예외를 던지지 않는다")
+    void purgeCompletedJobs_swallowsException() {
+        // given
+        given(mailJobService.purgeCompletedJobs(any(LocalDateTime.class), eq(2)))
+                .willThrow(new IllegalStateException("DB 오류"));
+
+        // when & then
+        assertThatCode(() -> mailJobRetentionScheduler.purgeCompletedJobs()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,104 @@
+package org.project.ttokttok.domain.mail.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.mail.service.dto.response.MailDelivery;
+import org.project.ttokttok.infrastructure.email.dto.EmailRequest;
+import org.project.ttokttok.infrastructure.email.service.EmailService;
+import org.project.ttokttok.infrastructure.email.service.MailRateLimiter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class MailDispatcherTest {
+
+    @Mock
+    private MailOutbox mailOutbox;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private MailRateLimiter mailRateLimiter;
+
+    @InjectMocks
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mailDispatcher, "messagesPerConnection", 2);
+    }
+
+    private MailDelivery delivery(String id) {
+        return new MailDelivery(id, "message-1", id + "@sangmyung.kr", "합격 안내", "축하합니다.");
+    }
+
+    @Test
+    @DisplayName("가져올 행이 없을 때까지 배치 단위로 발송하고 실패 인덱스를 수신자 ID로 바꿔 반영한다")
+    void drainsUntilEmpty() throws InterruptedException {
+        // given
+        List<MailDelivery> first = List.of(delivery("a"), delivery("b"));
+        List<MailDelivery> second = List.of(delivery("c"));
+        given(mailOutbox.claim(2)).willReturn(first, second, List.of());
+        given(emailService.sendBatch(anyList())).willReturn(Map.of(1, "550 mailbox unavailable"), Map.of());
+
+        // when
+        mailDispatcher.drain();
+
+        // then
+        verify(mailRateLimiter).acquire(2);
+        verify(mailRateLimiter).acquire(1);
+        verify(emailService, times(2)).sendBatch(anyList());
+        verify(mailOutbox).complete(first, Map.of("b", "550 mailbox unavailable"));
+        verify(mailOutbox).complete(second, Map.of());
+    }
+
+    @Test
+    @DisplayName("같은 메일 종류는 본문을 한 번만 렌더링해 수신자만 바꿔 보낸다")
+    void rendersOncePerMessage() {
+        // given
+        given(mailOutbox.claim(2)).willReturn(List.of(delivery("a"), delivery("b")), List.of());
+        given(emailService.sendBatch(anyList())).willReturn(Map.of());
+
+        // when
+        mailDispatcher.drain();
+
+        // then
+        ArgumentCaptor<List<EmailRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(emailService).sendBatch(captor.capture());
+        List<EmailRequest> requests = captor.getValue();
+        assertThat(requests).extracting(EmailRequest::getTo).containsExactly("a@sangmyung.kr", "b@sangmyung.kr");
+        assertThat(requests.get(0).getContent()).isSameAs(requests.get(1).getContent());
+    }
+
+    @Test
+    @DisplayName("가져오기 중 오류가 나면 다음 주기에 다시 발송할 수 있도록 루프를 정리한다")
+    void releasesGuardOnFailure() {
+        // given
+        willThrow(new IllegalStateException("db down")).given(mailOutbox).claim(2);
+
+        // when
+        mailDispatcher.drain();
+        mailDispatcher.drain();
+
+        // then: 두 번째 호출도 실제로 실행된다.
+        verify(mailOutbox, times(2)).claim(2);
+        verify(emailService, never()).sendBatch(anyList());
+    }
+}
@@ -0,0 +1,141 @@
+package org.project.ttokttok.domain.mail.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.mail.domain.MailJob;
+import org.project.ttokttok.domain.mail.domain.MailJobMessage;
+import org.project.ttokttok.domain.mail.domain.enums.MailJobStatus;
+import org.project.ttokttok.domain.mail.exception.MailJobNotFoundException;
+import org.project.ttokttok.domain.mail.repository.MailJobMessageRepository;
+import org.project.ttokttok.domain.mail.repository.MailJobRecipientJdbcRepository;
+import org.project.ttokttok.domain.mail.repository.MailJobRecipientRepository;
+import org.project.ttokttok.domain.mail.repository.MailJobRepository;
+import org.project.ttokttok.domain.mail.repository.dto.MailRecipientStatusCount;
+import org.project.ttokttok.domain.mail.service.dto.request.MailJobMessageRequest;
+import org.project.ttokttok.domain.mail.service.dto.response.MailJobServiceResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailJobServiceTest {
+
+    private static final String USERNAME = "admin@sangmyung.kr";
+
+    @Mock
+    private MailJobRepository mailJobRepository;
+
+    @Mock
+    private MailJobMessageRepository mailJobMessageRepository;
+
+    @Mock
+    private MailJobRecipientRepository mailJobRecipientRepository;
+
+    @Mock
+    private MailJobRecipientJdbcRepository mailJobRecipientJdbcRepository;
+
+    @InjectMocks
+    private MailJobService mailJobService;
+
+    private MailJob job(String id) {
+        MailJob job = MailJob.create(USERNAME);
+        ReflectionTestUtils.setField(job, "id", id);
+        return job;
+    }
+
+    @Nested
+    @DisplayName("enqueue(): 발송 작업 등록")
+    class EnqueueTest {
+
+        @Test
+        @DisplayName("올바른 주소는 PENDING, 잘못된 주소는 FAILED 로 적재하고 작업 ID를 반환한다")
+        void enqueuesRecipients() {
+            // given
+            given(mailJobRepository.save(any(MailJob.class))).willReturn(job("job-1"));
+            given(mailJobMessageRepository.saveAndFlush(any(MailJobMessage.class))).willAnswer(invocation -> {
+                MailJobMessage message = invocation.getArgument(0);
+                ReflectionTestUtils.setField(message, "id", "message-1");
+                return message;
+            });
+
+            // when
+            String jobId = mailJobService.enqueue(USERNAME, List.of(MailJobMessageRequest.of(
+                    "합격 안내", "축하합니다.",
+                    Arrays.asList("a@sangmyung.kr", "not-an-email", null, "b@gmail.com"))));
+
+            // then
+            assertThat(jobId).isEqualTo("job-1");
+            verify(mailJobRecipientJdbcRepository).batchInsert(
+                    "job-1", "message-1", List.of("a@sangmyung.kr", "b@gmail.com"), PENDING, null);
+            verify(mailJobRecipientJdbcRepository).batchInsert(
+                    "job-1", "message-1", List.of("not-an-email", ""), FAILED, MailJobService.INVALID_EMAIL_ERROR);
+        }
+    }
+
+    @Nested
+    @DisplayName("getJob(): 발송 진행 상태 조회")
+    class GetJobTest {
+
+        @Test
+        @DisplayName("상태별 수신자 수를 모아 진행률을 반환한다")
+        void aggregatesCounts() {
+            // given
+            given(mailJobRepository.findById("job-1")).willReturn(Optional.of(job("job-1")));
+            given(mailJobRecipientRepository.countByJobIdGroupByStatus("job-1")).willReturn(List.of(
+                    new MailRecipientStatusCount(SENT, 7),
+                    new MailRecipientStatusCount(FAILED, 1),
+                    new MailRecipientStatusCount(PENDING, 1),
+                    new MailRecipientStatusCount(SENDING, 1)));
+
+            // when
+            MailJobServiceResponse response = mailJobService.getJob(USERNAME, "job-1");
+
+            // then
+            assertThat(response.status()).isEqualTo(MailJobStatus.IN_PROGRESS);
+            assertThat(response.totalCount()).isEqualTo(10);
+            assertThat(response.sentCount()).isEqualTo(7);
+            assertThat(response.failedCount()).isEqualTo(1);
+            assertThat(response.pendingCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("남은 수신자가 없으면 COMPLETED 를 반환한다")
+        void completedWhenNothingPending() {
+            // given
+            given(mailJobRepository.findById("job-1")).willReturn(Optional.of(job("job-1")));
+            given(mailJobRecipientRepository.countByJobIdGroupByStatus("job-1"))
+                    .willReturn(List.of(new MailRecipientStatusCount(SENT, 3)));
+
+            // when
+            MailJobServiceResponse response = mailJobService.getJob(USERNAME, "job-1");
+
+            // then
+            assertThat(response.status()).isEqualTo(MailJobStatus.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("다른 관리자의 작업이면 MailJobNotFoundException이 발생한다")
+        void throwsWhenNotOwner() {
+            // given
+            given(mailJobRepository.findById("job-1")).willReturn(Optional.of(job("job-1")));
+
+            // when & then
+            assertThatThrownBy(() -> mailJobService.getJob("other@sangmyung.kr", "job-1"))
+                    .isInstanceOf(MailJobNotFoundException.class);
+        }
+    }
+}
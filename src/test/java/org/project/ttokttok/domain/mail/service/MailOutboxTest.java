@@ -0,0 +1,157 @@
+package org.project.ttokttok.domain.mail.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.domain.mail.domain.MailJobMessage;
+import org.project.ttokttok.domain.mail.domain.MailJobRecipient;
+import org.project.ttokttok.domain.mail.repository.MailJobMessageRepository;
+import org.project.ttokttok.domain.mail.repository.MailJobRecipientRepository;
+import org.project.ttokttok.domain.mail.service.dto.response.MailDelivery;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.project.ttokttok.domain.mail.domain.enums.MailRecipientStatus.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxTest {
+
+    @Mock
+    private MailJobRecipientRepository mailJobRecipientRepository;
+
+    @Mock
+    private MailJobMessageRepository mailJobMessageRepository;
+
+    @InjectMocks
+    private MailOutbox mailOutbox;
+
+    private MailJobRecipient recipient(String id, int attemptCount) {
+        return MailJobRecipient.builder()
+                .id(id)
+                .jobId("job-1")
+                .messageId("message-1")
+                .email(id + "@sangmyung.kr")
+                .status(PENDING)
+                .attemptCount(attemptCount)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    private MailJobMessage message() {
+        MailJobMessage message = MailJobMessage.of("job-1", "합격 안내", "축하합니다.");
+        ReflectionTestUtils.setField(message, "id", "message-1");
+        return message;
+    }
+
+    @Nested
+    @DisplayName("claim(): 발송 대상 가져가기")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("발송 시각이 된 수신자를 SENDING 으로 바꾸고 본문과 함께 반환한다")
+        void claimsDueRecipients() {
+            // given
+            MailJobRecipient first = recipient("a", 0);
+            MailJobRecipient second = recipient("b", 0);
+            given(mailJobRecipientRepository.findDueForUpdate(eq(List.of(PENDING, SENDING)), any(), eq(Limit.of(20))))
+                    .willReturn(List.of(first, second));
+            given(mailJobMessageRepository.findAllById(List.of("message-1"))).willReturn(List.of(message()));
+
+            // when
+            List<MailDelivery> deliveries = mailOutbox.claim(20);
+
+            // then
+            assertThat(deliveries).extracting(MailDelivery::email)
+                    .containsExactly("a@sangmyung.kr", "b@sangmyung.kr");
+            assertThat(deliveries).extracting(MailDelivery::subject).containsOnly("합격 안내");
+            assertThat(deliveries).extracting(MailDelivery::messageId).containsOnly("message-1");
+            assertThat(first.getStatus()).isEqualTo(SENDING);
+            assertThat(first.getAttemptCount()).isEqualTo(1);
+            assertThat(first.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(4));
+        }
+
+        @Test
+        @DisplayName("발송 대상이 없으면 본문을 조회하지 않고 빈 목록을 반환한다")
+        void returnsEmptyWhenNothingDue() {
+            // given
+            given(mailJobRecipientRepository.findDueForUpdate(any(), any(), any())).willReturn(List.of());
+
+            // when
+            List<MailDelivery> deliveries = mailOutbox.claim(20);
+
+            // then
+            assertThat(deliveries).isEmpty();
+            verify(mailJobMessageRepository, never()).findAllById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("complete(): 발송 결과 반영")
+    class CompleteTest {
+
+        @Test
+        @DisplayName("실패한 수신자는 재시도 대기로, 나머지는 발송 완료로 바꾼다")
+        void marksSentAndFailed() {
+            // given
+            MailJobRecipient sent = recipient("a", 0);
+            MailJobRecipient failed = recipient("b", 0);
+            sent.startSending(LocalDateTime.now().plusMinutes(5));
+            failed.startSending(LocalDateTime.now().plusMinutes(5));
+            given(mailJobRecipientRepository.findAllById(List.of("a", "b"))).willReturn(List.of(sent, failed));
+
+            List<MailDelivery> deliveries = List.of(
+                    new MailDelivery("a", "message-1", "a@sangmyung.kr", "합격 안내", "축하합니다."),
+                    new MailDelivery("b", "message-1", "b@sangmyung.kr", "합격 안내", "축하합니다."));
+
+            // when
+            mailOutbox.complete(deliveries, Map.of("b", "421 try again later"));
+
+            // then
+            assertThat(sent.getStatus()).isEqualTo(SENT);
+            assertThat(failed.getStatus()).isEqualTo(PENDING);
+            assertThat(failed.getLastError()).isEqualTo("421 try again later");
+            assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달한 수신자는 실패로 확정한다")
+        void givesUpAfterMaxAttempts() {
+            // given
+            MailJobRecipient recipient = recipient("a", MailOutbox.MAX_ATTEMPTS - 1);
+            recipient.startSending(LocalDateTime.now().plusMinutes(5));
+            given(mailJobRecipientRepository.findAllById(List.of("a"))).willReturn(List.of(recipient));
+
+            // when
+            mailOutbox.complete(List.of(new MailDelivery("a", "message-1", "a@sangmyung.kr", "제목", "본문")),
+                    Map.of("a", "550 mailbox unavailable"));
+
+            // then
+            assertThat(recipient.getStatus()).isEqualTo(FAILED);
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 1분부터 두 배씩 늘어나고 1시간을 넘지 않는다")
+    void backoff() {
+        assertThat(MailOutbox.backoff(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(MailOutbox.backoff(2)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(MailOutbox.backoff(4)).isEqualTo(Duration.ofMinutes(8));
+        assertThat(MailOutbox.backoff(10)).isEqualTo(Duration.ofHours(1));
+        assertThat(MailOutbox.backoff(100)).isEqualTo(Duration.ofHours(1));
+    }
+}
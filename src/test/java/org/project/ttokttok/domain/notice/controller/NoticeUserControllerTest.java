@@ -6,15 +6,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.ttokttok.domain.notice.controller.dto.response.NoticeDetailResponse;
 import org.project.ttokttok.domain.notice.controller.dto.response.NoticeListResponse;
+import org.project.ttokttok.domain.notice.repository.dto.NoticeDetailVersion;
+import org.project.ttokttok.domain.notice.repository.dto.NoticeListVersion;
 import org.project.ttokttok.domain.notice.service.NoticeUserService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,19 +33,82 @@ class NoticeUserControllerTest {
     private final NoticeUserService noticeUserService = mock(NoticeUserService.class);
     private final NoticeUserController noticeUserController = new NoticeUserController(noticeUserService);
 
+    private static final NoticeListVersion NOTICES_VERSION =
+            new NoticeListVersion(3L, LocalDateTime.of(2026, 1, 1, 0, 0), 10L);
+    private static final NoticeDetailVersion DETAIL_VERSION =
+            new NoticeDetailVersion(LocalDateTime.of(2026, 1, 1, 0, 0), 1);
+
     @Test
     @DisplayName("목록 조회 요청 시 200과 목록 응답을 반환한다.")
     void getNotices() {
         // given
         NoticeListResponse listResponse = NoticeListResponse.of(1, 1, 0, List.of());
+        when(noticeUserService.getNoticesVersion()).thenReturn(NOTICES_VERSION);
         when(noticeUserService.getNotices(1, 10, null)).thenReturn(listResponse);
 
         // when
-        ResponseEntity<NoticeListResponse> response = noticeUserController.getNotices(1, 10, null);
+        ResponseEntity<NoticeListResponse> response = noticeUserController.getNotices(1, 10, null, webRequest());
 
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(listResponse);
+        assertThat(response.getHeaders().getETag()).startsWith("W/");
+        // 조회수 반영은 updatedAt 을 바꾸지 않으므로 Last-Modified 로는 재검증하지 않는다.
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("목록 버전에 해당하는 If-None-Match 요청 시 목록을 조회하지 않고 304를 반환한다.")
+    void getNotices_notModified() {
+        // given
+        when(noticeUserService.getNoticesVersion()).thenReturn(NOTICES_VERSION);
+        when(noticeUserService.getNotices(1, 10, null)).thenReturn(NoticeListResponse.of(1, 1, 0, List.of()));
+        String eTag = noticeUserController.getNotices(1, 10, null, webRequest()).getHeaders().getETag();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notices");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // when
+        ResponseEntity<NoticeListResponse> response =
+                noticeUserController.getNotices(1, 10, null, new ServletWebRequest(request, servletResponse));
+
+        // then
+        assertThat(response).isNull();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        verify(noticeUserService).getNotices(1, 10, null);
+    }
+
+    @Test
+    @DisplayName("페이지나 검색어가 다르면 같은 목록 버전이어도 ETag 가 다르다.")
+    void getNotices_eTagDependsOnParameters() {
+        // given
+        when(noticeUserService.getNoticesVersion()).thenReturn(NOTICES_VERSION);
+        when(noticeUserService.getNotices(anyInt(), anyInt(), any())).thenReturn(NoticeListResponse.of(1, 1, 0, List.of()));
+
+        // when
+        String firstPage = noticeUserController.getNotices(1, 10, null, webRequest()).getHeaders().getETag();
+        String secondPage = noticeUserController.getNotices(2, 10, null, webRequest()).getHeaders().getETag();
+        String searched = noticeUserController.getNotices(1, 10, "모집", webRequest()).getHeaders().getETag();
+
+        // then
+        assertThat(firstPage).isNotEqualTo(secondPage).isNotEqualTo(searched);
+    }
+
+    @Test
+    @DisplayName("DB 에 반영된 조회수 합계가 바뀌면 목록 ETag 도 바뀐다.")
+    void getNotices_eTagDependsOnViewCount() {
+        // given
+        when(noticeUserService.getNoticesVersion()).thenReturn(NOTICES_VERSION,
+                new NoticeListVersion(NOTICES_VERSION.count(), NOTICES_VERSION.lastModifiedAt(), 11L));
+        when(noticeUserService.getNotices(1, 10, null)).thenReturn(NoticeListResponse.of(1, 1, 0, List.of()));
+
+        // when
+        String before = noticeUserController.getNotices(1, 10, null, webRequest()).getHeaders().getETag();
+        String after = noticeUserController.getNotices(1, 10, null, webRequest()).getHeaders().getETag();
+
+        // then
+        assertThat(before).isNotEqualTo(after);
     }
 
     @Test
@@ -44,13 +117,65 @@ class NoticeUserControllerTest {
         // given
         NoticeDetailResponse detailResponse =
                 new NoticeDetailResponse("notice-1", "제목", "내용", "ttok_operator", LocalDateTime.now(), 1);
+        when(noticeUserService.getNoticeDetailVersion("notice-1")).thenReturn(DETAIL_VERSION);
         when(noticeUserService.getNoticeDetail("notice-1")).thenReturn(detailResponse);
 
         // when
-        ResponseEntity<NoticeDetailResponse> response = noticeUserController.getNoticeDetail("notice-1");
+        ResponseEntity<NoticeDetailResponse> response = noticeUserController.getNoticeDetail("notice-1", webRequest());
 
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo(detailResponse);
+        assertThat(response.getHeaders().getETag()).startsWith("W/");
+    }
+
+    @Test
+    @DisplayName("상세 버전에 해당하는 If-None-Match 요청 시 상세를 조회하지 않고 조회수만 기록한 뒤 304를 반환한다.")
+    void getNoticeDetail_notModified() {
+        // given
+        when(noticeUserService.getNoticeDetailVersion("notice-1")).thenReturn(DETAIL_VERSION);
+        when(noticeUserService.getNoticeDetail("notice-1")).thenReturn(
+                new NoticeDetailResponse("notice-1", "제목", "내용", "ttok_operator", LocalDateTime.now(), 1));
+        String eTag = noticeUserController.getNoticeDetail("notice-1", webRequest()).getHeaders().getETag();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notices/notice-1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // when
+        ResponseEntity<NoticeDetailResponse> response =
+                noticeUserController.getNoticeDetail("notice-1", new ServletWebRequest(request, servletResponse));
+
+        // then
+        assertThat(response).isNull();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        verify(noticeUserService, times(1)).getNoticeDetail("notice-1");
+        verify(noticeUserService).increaseViewCount("notice-1");
+    }
+
+    @Test
+    @DisplayName("DB 에 반영된 조회수나 수정 시각이 바뀌면 상세 ETag 도 바뀐다.")
+    void getNoticeDetail_eTagDependsOnVersion() {
+        // given
+        when(noticeUserService.getNoticeDetailVersion("notice-1")).thenReturn(
+                DETAIL_VERSION,
+                new NoticeDetailVersion(DETAIL_VERSION.updatedAt(), 2),
+                new NoticeDetailVersion(DETAIL_VERSION.updatedAt().plusMinutes(1), 2)
+        );
+        when(noticeUserService.getNoticeDetail("notice-1")).thenReturn(
+                new NoticeDetailResponse("notice-1", "제목", "내용", "ttok_operator", LocalDateTime.now(), 1));
+
+        // when
+        String first = noticeUserController.getNoticeDetail("notice-1", webRequest()).getHeaders().getETag();
+        String viewCountFlushed = noticeUserController.getNoticeDetail("notice-1", webRequest()).getHeaders().getETag();
+        String edited = noticeUserController.getNoticeDetail("notice-1", webRequest()).getHeaders().getETag();
+
+        // then
+        assertThat(first).isNotEqualTo(viewCountFlushed);
+        assertThat(viewCountFlushed).isNotEqualTo(edited);
+    }
+
+    private ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/notices"), new MockHttpServletResponse());
     }
 }
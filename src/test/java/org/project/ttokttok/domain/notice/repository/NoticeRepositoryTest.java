@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.project.ttokttok.domain.notice.domain.Notice;
+import org.project.ttokttok.domain.notice.repository.dto.NoticeListVersion;
 import org.project.ttokttok.domain.notice.repository.dto.NoticePageQueryResponse;
 import org.project.ttokttok.support.RepositoryTestSupport;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -56,17 +57,26 @@ class NoticeRepositoryTest implements RepositoryTestSupport {
     }
 
     @Test
-    @DisplayName("increaseViewCount는 조회수를 DB에서 원자적으로 1 증가시킨다.")
-    void increaseViewCount() {
-        // given
-        Notice saved = noticeRepository.save(Notice.create("조회수 테스트", "내용", "ttok_operator"));
-
+    @DisplayName("목록 버전은 공지 수, 최대 수정 시각, 조회수 합계를 한 번에 조회한다.")
+    void findListVersion() {
         // when
-        int updated = noticeRepository.increaseViewCount(saved.getId());
-        Notice reloaded = noticeRepository.findById(saved.getId()).orElseThrow();
+        NoticeListVersion version = noticeRepository.findListVersion();
 
         // then
-        assertThat(updated).isEqualTo(1);
-        assertThat(reloaded.getViewCount()).isEqualTo(1);
+        assertThat(version.count()).isEqualTo(3);
+        assertThat(version.lastModifiedAt()).isNotNull();
+        assertThat(version.totalViewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("상세 버전은 해당 공지의 수정 시각과 조회수만 조회하고, 없는 공지는 빈 값을 반환한다.")
+    void findDetailVersion() {
+        // given
+        Notice notice = noticeRepository.save(Notice.create("상세 공지", "내용", "ttok_operator"));
+
+        // when & then
+        assertThat(noticeRepository.findDetailVersion(notice.getId()))
+                .hasValueSatisfying(version -> assertThat(version.viewCount()).isZero());
+        assertThat(noticeRepository.findDetailVersion("missing")).isEmpty();
     }
 }
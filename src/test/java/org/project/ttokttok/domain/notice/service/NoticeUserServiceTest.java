@@ -10,8 +10,10 @@ import org.project.ttokttok.domain.notice.controller.dto.response.NoticeListResp
 import org.project.ttokttok.domain.notice.domain.Notice;
 import org.project.ttokttok.domain.notice.exception.NoticeNotFoundException;
 import org.project.ttokttok.domain.notice.repository.NoticeRepository;
+import org.project.ttokttok.domain.notice.repository.dto.NoticeDetailVersion;
 import org.project.ttokttok.domain.notice.repository.dto.NoticePageQueryResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,7 +28,9 @@ import static org.mockito.Mockito.when;
 class NoticeUserServiceTest {
 
     private final NoticeRepository noticeRepository = mock(NoticeRepository.class);
-    private final NoticeUserService noticeUserService = new NoticeUserService(noticeRepository);
+    private final NoticeViewCountService noticeViewCountService = mock(NoticeViewCountService.class);
+    private final NoticeUserService noticeUserService =
+            new NoticeUserService(noticeRepository, noticeViewCountService);
 
     @Nested
     @DisplayName("getNotices()")
@@ -97,7 +101,7 @@ class NoticeUserServiceTest {
     class GetNoticeDetail {
 
         @Test
-        @DisplayName("상세 조회 시 조회수를 원자적으로 증가시키고 증가된 상세 응답을 반환한다.")
+        @DisplayName("상세 조회 시 조회수를 버퍼에 기록하고 미반영 증가분을 포함한 상세 응답을 반환한다.")
         void getNoticeDetailSuccess() {
             // given
             Notice notice = mock(Notice.class);
@@ -105,15 +109,15 @@ class NoticeUserServiceTest {
             when(notice.getTitle()).thenReturn("제목");
             when(notice.getContent()).thenReturn("내용");
             when(notice.getCreatedBy()).thenReturn("ttok_operator");
-            when(notice.getViewCount()).thenReturn(2); // 증가 후 재조회된 값
-            when(noticeRepository.increaseViewCount("notice-1")).thenReturn(1);
+            when(notice.getViewCount()).thenReturn(1); // DB 에 반영된 값
             when(noticeRepository.findById("notice-1")).thenReturn(Optional.of(notice));
+            when(noticeViewCountService.pendingCount("notice-1")).thenReturn(1L); // 이번 조회분
 
             // when
             NoticeDetailResponse response = noticeUserService.getNoticeDetail("notice-1");
 
             // then
-            verify(noticeRepository).increaseViewCount("notice-1");
+            verify(noticeViewCountService).increase("notice-1");
             assertThat(response.noticeId()).isEqualTo("notice-1");
             assertThat(response.content()).isEqualTo("내용");
             assertThat(response.createdBy()).isEqualTo("ttok_operator");
@@ -121,15 +125,46 @@ class NoticeUserServiceTest {
         }
 
         @Test
-        @DisplayName("존재하지 않는 공지를 조회하면 예외가 발생하고 재조회하지 않는다.")
+        @DisplayName("존재하지 않는 공지를 조회하면 예외가 발생하고 조회수를 기록하지 않는다.")
         void getNoticeDetailNotFound() {
             // given
-            when(noticeRepository.increaseViewCount("missing")).thenReturn(0);
+            when(noticeRepository.findById("missing")).thenReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> noticeUserService.getNoticeDetail("missing"))
                     .isInstanceOf(NoticeNotFoundException.class);
-            verify(noticeRepository, never()).findById("missing");
+            verify(noticeViewCountService, never()).increase("missing");
+        }
+    }
+
+    @Nested
+    @DisplayName("getNoticeDetailVersion()")
+    class GetNoticeDetailVersion {
+
+        @Test
+        @DisplayName("상세 버전은 공지 본문을 조회하지 않고 버전 쿼리로만 조회한다.")
+        void getNoticeDetailVersionSuccess() {
+            // given
+            NoticeDetailVersion version = new NoticeDetailVersion(LocalDateTime.of(2026, 1, 1, 0, 0), 3);
+            when(noticeRepository.findDetailVersion("notice-1")).thenReturn(Optional.of(version));
+
+            // when
+            NoticeDetailVersion result = noticeUserService.getNoticeDetailVersion("notice-1");
+
+            // then
+            assertThat(result).isEqualTo(version);
+            verify(noticeRepository, never()).findById("notice-1");
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 공지의 버전을 조회하면 예외가 발생한다.")
+        void getNoticeDetailVersionNotFound() {
+            // given
+            when(noticeRepository.findDetailVersion("missing")).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> noticeUserService.getNoticeDetailVersion("missing"))
+                    .isInstanceOf(NoticeNotFoundException.class);
         }
     }
 }
@@ -6,10 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.project.ttokttok.domain.temp.applicant.domain.TempApplicant;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -205,4 +207,24 @@ class TempApplicantRepositoryTest {
         assertThat(result2.get().getFormId()).isEqualTo(form2Id);
         assertThat(result2.get().getTempData().get("club")).isEqualTo("음악동아리");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findPageAfter: lastId 이후의 임시 지원서를 id 순으로 limit 개씩 반환한다")
+    void findPageAfter_ReturnsKeysetPages() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            tempApplicantRepository.save(TempApplicant.create(testFormId + i, testUserEmail, testTempData));
+        }
+
+        // when
+        List<TempApplicant> firstPage = tempApplicantRepository.findPageAfter("", Limit.of(2));
+        List<TempApplicant> secondPage = tempApplicantRepository.findPageAfter(
+                firstPage.get(firstPage.size() - 1).getId(), Limit.of(2));
+
+        // then
+        assertThat(firstPage).hasSize(2);
+        assertThat(firstPage.get(0).getId()).isLessThan(firstPage.get(1).getId());
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getId()).isGreaterThan(firstPage.get(1).getId());
+    }
+}
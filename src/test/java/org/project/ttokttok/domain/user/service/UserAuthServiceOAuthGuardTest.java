@@ -8,12 +8,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.ttokttok.domain.user.domain.User;
 import org.project.ttokttok.domain.user.exception.OAuthOnlyAccountException;
-import org.project.ttokttok.domain.user.repository.EmailVerificationRepository;
 import org.project.ttokttok.domain.user.repository.UserRepository;
 import org.project.ttokttok.domain.user.service.dto.request.LoginServiceRequest;
 import org.project.ttokttok.domain.user.service.dto.request.ResetPasswordServiceRequest;
 import org.project.ttokttok.global.auth.jwt.service.TokenProvider;
 import org.project.ttokttok.infrastructure.email.service.EmailService;
+import org.project.ttokttok.infrastructure.redis.service.EmailVerificationRedisService;
 import org.project.ttokttok.infrastructure.redis.service.RefreshTokenRedisService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -35,7 +35,7 @@ class UserAuthServiceOAuthGuardTest {
     private UserRepository userRepository;
 
     @Mock
-    private EmailVerificationRepository emailVerificationRepository;
+    private EmailVerificationRedisService emailVerificationRedisService;
 
     @Mock
     private EmailService emailService;
@@ -87,7 +87,7 @@ class UserAuthServiceOAuthGuardTest {
     @DisplayName("OAuth 전용 계정으로 비밀번호 재설정을 시도하면 OAuthOnlyAccountException을 던진다")
     void resetPassword_withOAuthOnlyAccount_throwsOAuthOnlyException() {
         // given
-        given(emailVerificationRepository.existsByEmailAndCodeAndIsVerifiedTrue(GMAIL, "123456"))
+        given(emailVerificationRedisService.consumeVerified(GMAIL, "123456"))
                 .willReturn(true);
         given(userRepository.findByEmail(GMAIL)).willReturn(Optional.of(oauthOnlyUser()));
         ResetPasswordServiceRequest request = new ResetPasswordServiceRequest(
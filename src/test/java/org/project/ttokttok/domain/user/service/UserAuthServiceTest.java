@@ -7,9 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.project.ttokttok.domain.user.domain.EmailVerification;
 import org.project.ttokttok.domain.user.domain.User;
-import org.project.ttokttok.domain.user.repository.EmailVerificationRepository;
 import org.project.ttokttok.domain.user.repository.UserRepository;
 import org.project.ttokttok.domain.user.service.dto.request.LoginServiceRequest;
 import org.project.ttokttok.domain.user.service.dto.request.ResetPasswordServiceRequest;
@@ -21,10 +19,11 @@ import org.project.ttokttok.global.auth.jwt.dto.response.TokenResponse;
 import org.project.ttokttok.global.auth.jwt.exception.InvalidRefreshTokenException;
 import org.project.ttokttok.global.auth.jwt.service.TokenProvider;
 import org.project.ttokttok.infrastructure.email.service.EmailService;
+import org.project.ttokttok.infrastructure.redis.service.EmailVerificationRedisService;
+import org.project.ttokttok.infrastructure.redis.service.EmailVerificationRedisService.VerifyResult;
 import org.project.ttokttok.infrastructure.redis.service.RefreshTokenRedisService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,7 +39,7 @@ class UserAuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private EmailVerificationRepository emailVerificationRepository;
+    private EmailVerificationRedisService emailVerificationRedisService;
 
     @Mock
     private EmailService emailService;
@@ -74,7 +73,7 @@ class UserAuthServiceTest {
                     .build();
 
             given(userRepository.existsByEmail(request.email())).willReturn(false);
-            given(emailVerificationRepository.existsByEmailAndIsVerifiedTrue(request.email())).willReturn(true);
+            given(emailVerificationRedisService.consumeVerified(request.email())).willReturn(true);
             given(passwordEncoder.encode(request.password())).willReturn("encoded-password");
             
             User user = User.signUp(request.email(), "encoded-password", request.name(), true);
@@ -92,6 +91,84 @@ class UserAuthServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("이메일 인증 테스트")
+    class VerifyEmail {
+
+        @Test
+        @DisplayName("인증코드를 발송하면 발송한 코드를 Redis 에 저장한다")
+        void sendVerificationCode_issuesCode() {
+            // given
+            String email = "test@sangmyung.kr";
+            given(emailService.isValidSangmyungEmail(email)).willReturn(true);
+            given(emailService.sendVerificationCode(email)).willReturn("123456");
+
+            // when
+            userAuthService.sendVerificationCode(email);
+
+            // then
+            verify(emailVerificationRedisService, times(1)).issue(email, "123456");
+        }
+
+        @Test
+        @DisplayName("인증코드가 일치하면 true 를 반환한다")
+        void verifyEmail_success() {
+            // given
+            given(emailVerificationRedisService.verify("test@sangmyung.kr", "123456"))
+                    .willReturn(VerifyResult.VERIFIED);
+
+            // when & then
+            assertThat(userAuthService.verifyEmail("test@sangmyung.kr", "123456")).isTrue();
+        }
+
+        @Test
+        @DisplayName("인증코드가 틀리면 IllegalArgumentException 이 발생한다")
+        void verifyEmail_mismatch() {
+            // given
+            given(emailVerificationRedisService.verify("test@sangmyung.kr", "000000"))
+                    .willReturn(VerifyResult.MISMATCH);
+
+            // when & then
+            assertThatThrownBy(() -> userAuthService.verifyEmail("test@sangmyung.kr", "000000"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("올바르지 않은 인증코드입니다.");
+        }
+
+        @Test
+        @DisplayName("시도 횟수를 넘기면 코드를 다시 요청하라는 예외가 발생한다")
+        void verifyEmail_tooManyAttempts() {
+            // given
+            given(emailVerificationRedisService.verify("test@sangmyung.kr", "000000"))
+                    .willReturn(VerifyResult.TOO_MANY_ATTEMPTS);
+
+            // when & then
+            assertThatThrownBy(() -> userAuthService.verifyEmail("test@sangmyung.kr", "000000"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("다시 요청");
+        }
+
+        @Test
+        @DisplayName("인증 완료 표시가 없으면(이미 사용했거나 만료) 회원가입에 실패한다")
+        void signup_withoutVerification_fails() {
+            // given
+            SignupServiceRequest request = SignupServiceRequest.builder()
+                    .email("test@sangmyung.kr")
+                    .password("password123")
+                    .passwordConfirm("password123")
+                    .name("테스터")
+                    .termsAgreed(true)
+                    .build();
+            given(userRepository.existsByEmail(request.email())).willReturn(false);
+            given(emailVerificationRedisService.consumeVerified(request.email())).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> userAuthService.signup(request))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("이메일 인증이 완료되지 않았습니다.");
+            verify(userRepository, never()).save(any(User.class));
+        }
+    }
+
     @Nested
     @DisplayName("로그인 테스트")
     class Login {
@@ -146,7 +223,7 @@ class UserAuthServiceTest {
 
             User user = User.signUp(email, "old-password", "홍길동", true);
 
-            given(emailVerificationRepository.existsByEmailAndCodeAndIsVerifiedTrue(email, code)).willReturn(true);
+            given(emailVerificationRedisService.consumeVerified(email, code)).willReturn(true);
             given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
             given(passwordEncoder.encode(newPassword)).willReturn("encoded-new-password");
 
@@ -0,0 +1,56 @@
+package org.project.ttokttok.global.auth.jwt.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.project.ttokttok.global.auth.jwt.exception.InvalidRoleException;
+import org.project.ttokttok.global.auth.jwt.principal.AuthPrincipal;
+import org.project.ttokttok.global.entity.Role;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtAuthenticationManagerTest {
+
+    private final JwtAuthenticationManager jwtAuthenticationManager = new JwtAuthenticationManager();
+
+    @ParameterizedTest
+    @EnumSource(Role.class)
+    @DisplayName("토큰 클레임만으로 principal 과 권한을 구성한다")
+    void getAuthentication_buildsPrincipalFromClaims(Role role) {
+        // when
+        Authentication authentication = jwtAuthenticationManager.getAuthentication("user@example.com", role.name());
+
+        // then
+        assertThat(authentication.getPrincipal()).isEqualTo(AuthPrincipal.of("user@example.com", role));
+        assertThat(authentication.getName()).isEqualTo("user@example.com");
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly(role.name());
+        assertThat(authentication.isAuthenticated()).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "ROLE_UNKNOWN", "role_user"})
+    @DisplayName("알 수 없는 역할이면 InvalidRoleException 이 발생한다")
+    void getAuthentication_withInvalidRole_throwsException(String role) {
+        assertThatThrownBy(() -> jwtAuthenticationManager.getAuthentication("user@example.com", role))
+                .isInstanceOf(InvalidRoleException.class);
+    }
+
+    @Test
+    @DisplayName("principal 의 이름은 토큰의 subject 이다")
+    void authPrincipal_getName_returnsUsername() {
+        // given
+        AuthPrincipal principal = AuthPrincipal.of("admin", Role.ROLE_ADMIN);
+
+        // then
+        assertThat(principal.getName()).isEqualTo("admin");
+    }
+}
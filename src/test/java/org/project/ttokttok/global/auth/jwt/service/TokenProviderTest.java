@@ -45,7 +45,7 @@ class TokenProviderTest {
 
     @BeforeEach
     void setUp() {
-        tokenProvider = new TokenProvider(TEST_SECRET, refreshTokenRedisService);
+        tokenProvider = new TokenProvider(TEST_SECRET, 100L, refreshTokenRedisService);
         ReflectionTestUtils.setField(tokenProvider, "issuer", TEST_ISSUER);
 
         byte[] keyBytes = Decoders.BASE64.decode(TEST_SECRET);
@@ -161,6 +161,37 @@ class TokenProviderTest {
             // then
             assertThat(result).isFalse();
         }
+
+        @Test
+        @DisplayName("이미 검증된 토큰이라도 이후 블랙리스트에 등록되면 false를 반환한다")
+        void validateToken_cachedTokenBlacklistedLater_returnsFalse() {
+            // given
+            String token = createValidToken(TEST_USERNAME, TEST_ROLE.toString());
+            when(refreshTokenRedisService.isAccessTokenBlacklisted(token)).thenReturn(false, true);
+
+            // when
+            boolean first = tokenProvider.validateToken(token);
+            boolean second = tokenProvider.validateToken(token);
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+        }
+
+        @Test
+        @DisplayName("검증에 실패한 토큰은 캐싱되지 않아 다시 호출해도 false를 반환한다")
+        void validateToken_invalidTokenNotCached_returnsFalseAgain() {
+            // given
+            String tokenWithWrongIssuer = createTokenWithWrongIssuer(TEST_USERNAME, TEST_ROLE.toString());
+            when(refreshTokenRedisService.isAccessTokenBlacklisted(tokenWithWrongIssuer)).thenReturn(false);
+
+            // when
+            tokenProvider.validateToken(tokenWithWrongIssuer);
+            boolean result = tokenProvider.validateToken(tokenWithWrongIssuer);
+
+            // then
+            assertThat(result).isFalse();
+        }
     }
 
     // ===== generateToken 테스트 =====
@@ -235,6 +266,24 @@ class TokenProviderTest {
             assertThat(profile.username()).isEqualTo(TEST_USERNAME);
             assertThat(profile.role()).isEqualTo(TEST_ROLE.toString());
         }
+
+        @Test
+        @DisplayName("검증된 토큰은 캐시된 클레임으로 사용자 정보를 추출한다")
+        void getUserProfile_afterValidate_returnsCachedProfile() {
+            // given
+            String token = createValidToken(TEST_USERNAME, TEST_ROLE.toString());
+            when(refreshTokenRedisService.isAccessTokenBlacklisted(token)).thenReturn(false);
+            tokenProvider.validateToken(token);
+
+            // when
+            UserProfileResponse profile = tokenProvider.getUserProfile(token);
+            String username = tokenProvider.getUsernameFromToken(token);
+
+            // then
+            assertThat(profile.username()).isEqualTo(TEST_USERNAME);
+            assertThat(profile.role()).isEqualTo(TEST_ROLE.toString());
+            assertThat(username).isEqualTo(TEST_USERNAME);
+        }
     }
 
     // ===== reissueToken 테스트 =====
@@ -17,7 +17,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
  * {@code @Async("mailExecutor")}가 실제로 프록시를 통해 별도 스레드에서 실행되는지 검증한다.
  *
  * <p>과거 버그(self-invocation + protected)에서는 호출 스레드에서 동기 실행됐다.
- * 본 테스트는 EmailService.sendResultMail과 동일한 애노테이션 조합(다른 빈에서 호출되는
+ * 본 테스트는 MailDispatcher.dispatch와 동일한 애노테이션 조합(다른 빈에서 호출되는
  * public @Async 메서드)이 mail- 풀 스레드로 넘어가 호출 스레드를 블로킹하지 않음을 증명한다.
  * DB/Redis/SMTP 없이 최소 컨텍스트만 띄운다.
  */
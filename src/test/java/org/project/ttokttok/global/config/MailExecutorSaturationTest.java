@@ -32,11 +32,11 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
  *   제출 106     → 큐 만석 + max 도달 → 거부 → CallerRunsPolicy → 호출 스레드가 직접 실행
  * </pre>
  *
- * <p><b>이 상한이 제한하는 대상.</b> 태스크 1개 = {@code EmailService#sendResultMail} 호출 1회다.
- * 이 메서드는 {@code List<String>}을 받아 내부에서 순회하므로, 200통을 발송해도 태스크는 1개이고
- * SMTP 전송은 그 태스크 안에서 순차로 일어난다({@code ApplicantAdminService}는 합격/불합격
- * 두 번만 호출한다). 따라서 max=5가 제한하는 것은 <b>동시에 진행 중인 벌크 발송 요청 수</b>이지
- * 메일 통수가 아니다. 메일 통수는 이 풀의 동시성과 무관하다.
+ * <p><b>이 상한이 제한하는 대상.</b> 태스크 1개 = {@code MailDispatcher#dispatch} 호출 1회다.
+ * 디스패처는 인스턴스당 발송 루프를 하나만 돌리고(나머지 호출은 즉시 반환), 루프 안에서
+ * 아웃박스 행을 배치 단위로 가져와 순차 발송한다. 따라서 max=5가 제한하는 것은
+ * <b>동시에 깨어 있는 발송 태스크 수</b>이지 메일 통수가 아니다. 메일 통수(속도)는
+ * {@code MailRateLimiter}가 정한다.
  *
  * <p>{@code AsyncConfig}의 상한 값을 바꾸면 이 테스트는 깨진다. 계약을 바꾸는 변경에는
  * 위 표와 아래 상수도 함께 갱신해야 한다는 신호다.
@@ -0,0 +1,202 @@
+package org.project.ttokttok.global.db;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.project.ttokttok.support.ExplainPlanSupport;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * 핫 쿼리가 Flyway 인덱스(V29)로 처리되는지 PostgreSQL 실행 계획으로 검증한다.
+ *
+ * <p>H2 로는 실행 계획을 검증할 수 없으므로 Flyway 마이그레이션까지 적용된 PostgreSQL 이 있을 때만 실행한다.
+ * <pre>
+ * EXPLAIN_DB_URL=jdbc:postgresql://localhost:5432/ttokttok EXPLAIN_DB_USERNAME=... EXPLAIN_DB_PASSWORD=... \
+ *   ./gradlew test --tests '*HotQueryIndexPlanTest'
+ * </pre>
+ *
+ * <p><b>CI 에서는 실행되지 않는다.</b> CI 에는 {@code EXPLAIN_DB_URL} 이 없어 이 클래스 전체가 건너뛰어지므로,
+ * 테스트가 초록이어도 실행 계획이 검증된 것은 아니다. V29 인덱스나 아래 쿼리에 대응하는 리포지토리 쿼리를 바꿀 때는
+ * 위 명령으로 로컬 PostgreSQL 에 직접 돌려 확인한다.
+ *
+ * <ul>
+ *     <li>시드는 FK 검사 없이 자식 테이블에 바로 넣기 위해 {@code session_replication_role = replica} 를 쓰므로 superuser 계정이 필요하다.</li>
+ *     <li>시드 규모가 운영보다 작아 플래너가 순차 스캔을 더 싸다고 볼 수 있으므로 {@code enable_seqscan} 을 끄고 본다.
+ *     그래도 Seq Scan 이 남으면 그 조건을 처리할 인덱스가 없다는 뜻이다.</li>
+ *     <li>모든 작업은 한 트랜잭션에서 실행 후 롤백한다.</li>
+ * </ul>
+ *
+ * <p>쿼리는 각 리포지토리 메서드가 만드는 SQL 의 WHERE/ORDER BY 형태를 옮겨 적은 것이다.
+ * 지원자 목록은 keyset 조건이 플래너 판단을 크게 바꾸므로 Hibernate 가 실제로 내보내는 SQL
+ * ({@code spring.jpa.show-sql} 출력)을 바인딩 값만 채워 그대로 옮겼다.
+ * 리포지토리 쿼리의 조건이 바뀌면 여기도 함께 고친다.
+ */
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_DB_URL", matches = ".+")
+@DisplayName("핫 쿼리 실행 계획 - 인덱스 사용 검증 (PostgreSQL)")
+class HotQueryIndexPlanTest {
+
+    private static final String FORM_ID = "seed-form-1";
+    private static final String CLUB_ID = "seed-club-1";
+    private static final String USER_ID = "seed-user-1";
+
+    private static final String SEED_APPLICANTS = """
+            INSERT INTO applicants (id, user_email, name, age, major, email, phone, student_status, grade, gender,
+                                    current_phase, applyform_id, created_at, updated_at)
+            SELECT 'seed-applicant-' || g, 'seed' || g || '@sangmyung.kr', '지원자' || g, 22, '컴퓨터공학과',
+                   'seed' || g || '@test.com', '010-0000-0000', 'ENROLLED',
+                   (ARRAY ['FIRST_GRADE', 'SECOND_GRADE', 'THIRD_GRADE', 'FOURTH_GRADE'])[1 + g % 4], 'MALE',
+                   CASE WHEN g % 5 = 0 THEN 'INTERVIEW' ELSE 'DOCUMENT' END,
+                   'seed-form-' || g % 50, now() - g * interval '1 second', now()
+            FROM generate_series(1, 20000) g
+            """;
+
+    private static final String SEED_DOCUMENT_PHASES = """
+            INSERT INTO document_phases (id, applicant_id, answers, status, created_at, updated_at)
+            SELECT 'seed-document-' || g, 'seed-applicant-' || g, '[]'::jsonb,
+                   (ARRAY ['EVALUATING', 'PASS', 'FAIL'])[1 + g % 3], now(), now()
+            FROM generate_series(1, 20000) g
+            """;
+
+    private static final String SEED_INTERVIEW_PHASES = """
+            INSERT INTO interview_phases (id, applicant_id, interview_date, status, created_at, updated_at)
+            SELECT 'seed-interview-' || g, 'seed-applicant-' || g, current_date,
+                   (ARRAY ['EVALUATING', 'PASS', 'FAIL'])[1 + g % 3], now(), now()
+            FROM generate_series(5, 20000, 5) g
+            """;
+
+    private static final String SEED_CLUB_MEMBERS = """
+            INSERT INTO club_members (id, club_id, role, grade, major, member_name, email, phone_number, gender,
+                                      created_at, updated_at)
+            SELECT 'seed-member-' || g, 'seed-club-' || g % 200, 'MEMBER', 'FIRST_GRADE', '컴퓨터공학과',
+                   '부원' || g, 'member' || g || '@sangmyung.kr', '010-0000-0000', 'FEMALE', now(), now()
+            FROM generate_series(1, 20000) g
+            """;
+
+    private static final String SEED_USER_FAVORITES = """
+            INSERT INTO user_favorites (id, user_id, club_id, created_at, updated_at)
+            SELECT 'seed-favorite-' || g, 'seed-user-' || g % 2000, 'seed-club-' || g % 200, now(), now()
+            FROM generate_series(1, 20000) g
+            """;
+
+    // 직전 페이지 마지막 지원자 (keyset 커서)
+    private static final String LAST_ID = "seed-applicant-101";
+
+    // ApplicantPhaseQuery.DOCUMENT.createBaseQuery 가 만드는 select/from/join 과 phaseFilters 의 기본 조건
+    private static final String DOCUMENT_APPLICANT_PAGE_BASE = """
+            select a1_0.id, a1_0.grade, a1_0.name, a1_0.major,
+                   case when dp2_0.status = 'EVALUATING' then 'EVALUATING'
+                        when dp2_0.status = 'PASS' then 'PASS'
+                        else 'FAIL' end,
+                   null
+            from applicants a1_0
+            left join document_phases dp1_0 on dp1_0.applicant_id = a1_0.id
+            left join document_phases dp2_0 on a1_0.id = dp2_0.applicant_id
+            where a1_0.applyform_id = '%s' and dp1_0.applicant_id = a1_0.id
+            """.formatted(FORM_ID);
+
+    private ExplainPlanSupport db;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        db = ExplainPlanSupport.connect(
+                System.getenv("EXPLAIN_DB_URL"),
+                System.getenv("EXPLAIN_DB_USERNAME"),
+                System.getenv("EXPLAIN_DB_PASSWORD"));
+
+        db.execute("SET LOCAL session_replication_role = replica");
+        db.execute(SEED_APPLICANTS);
+        db.execute(SEED_DOCUMENT_PHASES);
+        db.execute(SEED_INTERVIEW_PHASES);
+        db.execute(SEED_CLUB_MEMBERS);
+        db.execute(SEED_USER_FAVORITES);
+        db.analyze("applicants", "document_phases", "interview_phases", "club_members", "user_favorites", "applyforms");
+        db.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        db.rollbackAndClose();
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                arguments("지원자 목록 - 학년순 첫 페이지 (ApplicantCustomRepositoryImpl)",
+                        DOCUMENT_APPLICANT_PAGE_BASE +
+                                "order by a1_0.grade, a1_0.id " +
+                                "fetch first 7 rows only",
+                        List.of("applicants")),
+                arguments("지원자 목록 - 학년순 keyset (ApplicantCustomRepositoryImpl.afterLastApplicant)",
+                        DOCUMENT_APPLICANT_PAGE_BASE +
+                                "and (a1_0.grade > (select la1_0.grade from applicants la1_0 where la1_0.id = '" + LAST_ID + "') " +
+                                "or a1_0.grade = (select la2_0.grade from applicants la2_0 where la2_0.id = '" + LAST_ID + "') " +
+                                "and a1_0.id > '" + LAST_ID + "') " +
+                                "order by a1_0.grade, a1_0.id " +
+                                "fetch first 7 rows only",
+                        List.of("applicants")),
+                arguments("지원자 목록 - 지원순(SUBMIT) keyset (ApplicantCustomRepositoryImpl.afterLastApplicant)",
+                        DOCUMENT_APPLICANT_PAGE_BASE +
+                                "and (a1_0.created_at > (select la1_0.created_at from applicants la1_0 where la1_0.id = '" + LAST_ID + "') " +
+                                "or a1_0.created_at = (select la2_0.created_at from applicants la2_0 where la2_0.id = '" + LAST_ID + "') " +
+                                "and a1_0.id > '" + LAST_ID + "') " +
+                                "order by a1_0.created_at, a1_0.id " +
+                                "fetch first 7 rows only",
+                        List.of("applicants")),
+                arguments("서류 단계 상태별 개수 (ApplicantPhaseQuery.DOCUMENT)",
+                        "SELECT count(a.id) FROM applicants a " +
+                                "LEFT JOIN document_phases dp ON dp.applicant_id = a.id " +
+                                "WHERE a.applyform_id = '" + FORM_ID + "' AND dp.status = 'PASS'",
+                        List.of("applicants", "document_phases")),
+                arguments("면접 단계 상태별 개수 (ApplicantPhaseQuery.INTERVIEW)",
+                        "SELECT count(a.id) FROM applicants a " +
+                                "LEFT JOIN interview_phases ip ON ip.applicant_id = a.id " +
+                                "WHERE a.applyform_id = '" + FORM_ID + "' AND a.current_phase = 'INTERVIEW' " +
+                                "AND ip.status = 'PASS'",
+                        List.of("applicants", "interview_phases")),
+                arguments("중복 지원 검사 (ApplicantRepository.existsByUserEmailAndApplyFormId)",
+                        "SELECT a.id FROM applicants a " +
+                                "WHERE a.user_email = 'seed1@sangmyung.kr' AND a.applyform_id = '" + FORM_ID + "' LIMIT 1",
+                        List.of("applicants")),
+                arguments("부원 중복 검사 (ClubMemberRepository.existsByClubIdAndEmail)",
+                        "SELECT cm.id FROM club_members cm " +
+                                "WHERE cm.club_id = '" + CLUB_ID + "' AND cm.email = 'member1@sangmyung.kr' LIMIT 1",
+                        List.of("club_members")),
+                arguments("부원 일괄 중복 검사 (ClubMemberRepository.findEmailsByClubIdAndEmailIn)",
+                        "SELECT cm.email FROM club_members cm WHERE cm.club_id = '" + CLUB_ID + "' " +
+                                "AND cm.email IN ('member1@sangmyung.kr', 'member201@sangmyung.kr')",
+                        List.of("club_members")),
+                arguments("즐겨찾기 여부 (FavoriteRepository.existsByUserEmailAndClubId)",
+                        "SELECT f.id FROM user_favorites f " +
+                                "WHERE f.user_id = '" + USER_ID + "' AND f.club_id = '" + CLUB_ID + "'",
+                        List.of("user_favorites")),
+                arguments("동아리별 즐겨찾기 수 (FavoriteRepository.countByClubId)",
+                        "SELECT count(f.id) FROM user_favorites f WHERE f.club_id = '" + CLUB_ID + "'",
+                        List.of("user_favorites")),
+                arguments("활성 지원폼 조회 (ApplyFormRepository.findTopByClubIdAndStatusOrderByCreatedAtDesc)",
+                        "SELECT af.id FROM applyforms af WHERE af.club_id = '" + CLUB_ID + "' " +
+                                "AND af.status = 'ACTIVE' ORDER BY af.created_at DESC LIMIT 1",
+                        List.of("applyforms"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("핫 쿼리는 대상 테이블을 순차 스캔하지 않는다")
+    void hotQueryDoesNotSeqScan(String name, String sql, List<String> indexedTables) throws SQLException {
+        JsonNode plan = db.explain(sql);
+
+        assertThat(ExplainPlanSupport.seqScannedRelations(plan))
+                .as("%s%n%s", name, plan.toPrettyString())
+                .doesNotContainAnyElementsOf(indexedTables);
+    }
+}
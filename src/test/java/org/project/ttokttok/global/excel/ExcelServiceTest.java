@@ -4,6 +4,7 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.project.ttokttok.domain.applicant.domain.enums.Grade;
@@ -11,19 +12,22 @@ import org.project.ttokttok.domain.clubMember.domain.MemberRole;
 import org.project.ttokttok.domain.clubMember.service.dto.response.ClubMemberInExcelResponse;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DisplayName("ExcelService - 부원 목록 엑셀 생성")
+@DisplayName("ExcelService - 부원 목록 엑셀 스트리밍 작성")
 class ExcelServiceTest {
 
     private final ExcelService excelService = new ExcelService();
 
     @Test
-    @DisplayName("부원 목록으로 유효한 XLSX 바이트 배열을 생성한다")
-    void createMemberExcel_returnsValidXlsxBytes() throws IOException {
+    @DisplayName("부원 목록으로 유효한 XLSX 파일을 출력 스트림에 쓴다")
+    void writeMemberExcel_writesValidXlsx() throws IOException {
         // given
         List<ClubMemberInExcelResponse> members = List.of(
                 new ClubMemberInExcelResponse(Grade.FIRST_GRADE, "홍길동", "컴퓨터과학과", MemberRole.PRESIDENT),
@@ -31,7 +35,7 @@ class ExcelServiceTest {
         );
 
         // when
-        byte[] result = excelService.createMemberExcel("떡떡 동아리", members);
+        byte[] result = write("떡떡 동아리", members.stream());
 
         // then
         assertThat(result).isNotEmpty();
@@ -42,14 +46,14 @@ class ExcelServiceTest {
 
     @Test
     @DisplayName("생성된 엑셀의 시트명/헤더/데이터 행이 올바르게 채워진다")
-    void createMemberExcel_hasCorrectSheetHeaderAndRows() throws IOException {
+    void writeMemberExcel_hasCorrectSheetHeaderAndRows() throws IOException {
         // given
         List<ClubMemberInExcelResponse> members = List.of(
                 new ClubMemberInExcelResponse(Grade.SECOND_GRADE, "이영희", "경영학과", MemberRole.EXECUTIVE)
         );
 
         // when
-        byte[] result = excelService.createMemberExcel("테스트동아리", members);
+        byte[] result = write("테스트동아리", members.stream());
 
         // then
         try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(result))) {
@@ -72,9 +76,9 @@ class ExcelServiceTest {
 
     @Test
     @DisplayName("부원이 없어도 헤더만 있는 엑셀을 생성한다")
-    void createMemberExcel_withEmptyMembers_createsHeaderOnly() throws IOException {
+    void writeMemberExcel_withEmptyMembers_createsHeaderOnly() throws IOException {
         // when
-        byte[] result = excelService.createMemberExcel("빈동아리", List.of());
+        byte[] result = write("빈동아리", Stream.empty());
 
         // then
         try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(result))) {
@@ -83,4 +87,49 @@ class ExcelServiceTest {
             assertThat(sheet.getRow(1)).isNull();
         }
     }
+
+    @Test
+    @DisplayName("행 윈도우보다 많은 부원도 순서대로 모두 기록한다")
+    void writeMemberExcel_moreRowsThanWindow_writesAllRows() throws IOException {
+        // given
+        int memberCount = 1_000;
+        Stream<ClubMemberInExcelResponse> members = IntStream.range(0, memberCount)
+                .mapToObj(i -> new ClubMemberInExcelResponse(Grade.FIRST_GRADE, "부원" + i, "전공", MemberRole.MEMBER));
+
+        // when
+        byte[] result = write("큰동아리", members);
+
+        // then
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(result))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(sheet.getLastRowNum()).isEqualTo(memberCount);
+            assertThat(sheet.getRow(1).getCell(1).getStringCellValue()).isEqualTo("부원0");
+            assertThat(sheet.getRow(memberCount).getCell(1).getStringCellValue()).isEqualTo("부원" + (memberCount - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("워크북을 채우는 동안 부원 스트림을 모두 소비하므로 스트림을 닫은 뒤에도 파일을 쓸 수 있다")
+    void fillMemberExcel_consumesStreamBeforeWrite() throws IOException {
+        // given
+        Stream<ClubMemberInExcelResponse> members = Stream.of(
+                new ClubMemberInExcelResponse(Grade.FIRST_GRADE, "홍길동", "컴퓨터과학과", MemberRole.MEMBER));
+
+        // when
+        SXSSFWorkbook workbook = excelService.fillMemberExcel("떡떡 동아리", members);
+        members.close();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        excelService.write(workbook, out);
+
+        // then
+        try (Workbook written = WorkbookFactory.create(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(written.getSheetAt(0).getRow(1).getCell(1).getStringCellValue()).isEqualTo("홍길동");
+        }
+    }
+
+    private byte[] write(String clubName, Stream<ClubMemberInExcelResponse> members) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        excelService.write(excelService.fillMemberExcel(clubName, members), out);
+        return out.toByteArray();
+    }
 }
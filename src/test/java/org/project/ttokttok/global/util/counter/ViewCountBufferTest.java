@@ -0,0 +1,72 @@
+package org.project.ttokttok.global.util.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ViewCountBuffer - 조회수 write-behind 버퍼")
+class ViewCountBufferTest {
+
+    private final ViewCountBuffer buffer = new ViewCountBuffer();
+
+    @Test
+    @DisplayName("drain 은 ID별 누적 증가분을 반환하고 카운터를 0으로 되돌린다")
+    void drain_returnsDeltasAndResets() {
+        // given
+        buffer.increment("a");
+        buffer.increment("a");
+        buffer.increment("b");
+
+        // when
+        Map<String, Long> deltas = buffer.drain();
+
+        // then
+        assertThat(deltas).containsExactlyInAnyOrderEntriesOf(Map.of("a", 2L, "b", 1L));
+        assertThat(buffer.pendingCount("a")).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("restore 한 증가분은 새 증가분과 합쳐져 다음 drain 에 포함된다")
+    void restore_mergesWithNewIncrements() {
+        // given
+        buffer.increment("a");
+        Map<String, Long> failed = buffer.drain();
+        buffer.increment("a");
+
+        // when
+        buffer.restore(failed);
+
+        // then
+        assertThat(buffer.pendingCount("a")).isEqualTo(2L);
+        assertThat(buffer.drain()).containsEntry("a", 2L);
+    }
+
+    @Test
+    @DisplayName("동시 증가와 drain 이 섞여도 증가분이 유실되지 않는다")
+    void concurrentIncrementAndDrain_losesNothing() throws InterruptedException {
+        // given
+        int increments = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        long drained = 0L;
+
+        // when
+        IntStream.range(0, increments).forEach(i -> executor.submit(() -> buffer.increment("a")));
+        for (int i = 0; i < 10; i++) {
+            drained += buffer.drain().getOrDefault("a", 0L);
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        drained += buffer.drain().getOrDefault("a", 0L);
+
+        // then
+        assertThat(drained).isEqualTo(increments);
+    }
+}
@@ -0,0 +1,42 @@
+package org.project.ttokttok.global.util.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConditionalGetUtil - ETag 생성")
+class ConditionalGetUtilTest {
+
+    @Test
+    @DisplayName("같은 값이면 같은 약한 ETag 를 생성한다")
+    void weakETag_sameValues_sameETag() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        String first = ConditionalGetUtil.weakETag(3L, updatedAt, 20, null);
+        String second = ConditionalGetUtil.weakETag(3L, updatedAt, 20, null);
+
+        assertThat(first).isEqualTo(second).matches("W/\"[0-9a-f]{32}\"");
+    }
+
+    @Test
+    @DisplayName("값의 경계가 달라지면 다른 ETag 를 생성한다")
+    void weakETag_differentBoundary_differentETag() {
+        assertThat(ConditionalGetUtil.weakETag("ab", "c"))
+                .isNotEqualTo(ConditionalGetUtil.weakETag("a", "bc"));
+    }
+
+    @Test
+    @DisplayName("ETag 와 Cache-Control 만 붙이고 Last-Modified 는 넣지 않는다")
+    void ok_setsETagWithoutLastModified() {
+        ResponseEntity<String> response = ConditionalGetUtil.ok("body", "W/\"1\"", CacheControl.noCache());
+
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"1\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(-1);
+    }
+}
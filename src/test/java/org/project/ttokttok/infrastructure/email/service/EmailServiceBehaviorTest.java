@@ -1,5 +1,6 @@
 package org.project.ttokttok.infrastructure.email.service;
 
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,18 +9,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.project.ttokttok.domain.applicant.controller.dto.request.MailFormatRequest;
 import org.project.ttokttok.infrastructure.email.dto.EmailRequest;
 import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -117,14 +121,28 @@ class EmailServiceBehaviorTest {
     }
 
     @Test
-    @DisplayName("sendResultMail은 유효하지 않은 이메일은 건너뛰고 유효한 이메일에만 발송한다")
-    void sendResultMail_skipsInvalidEmails() {
+    @DisplayName("sendBatch는 일부 메일만 실패하면 실패한 메일의 인덱스와 오류만 반환한다")
+    void sendBatch_returnsOnlyFailedIndexes() {
+        List<MimeMessage> created = new ArrayList<>();
         given(mailSender.createMimeMessage()).willReturn(emptyMimeMessage());
-        MailFormatRequest request = new MailFormatRequest("합격", "축하합니다");
-
-        emailService.sendResultMail(List.of("valid@sangmyung.kr", "invalid-email", "another@gmail.com"), request);
-
-        // 유효한 이메일 2건에 대해서만 발송 시도 (invalid-email 제외)
-        verify(mailSender, atLeastOnce()).send(org.mockito.ArgumentMatchers.any(MimeMessage.class));
+        given(mailSender.createMimeMessage(org.mockito.ArgumentMatchers.any(InputStream.class))).willAnswer(invocation -> {
+            MimeMessage message = new MimeMessage(null, invocation.<InputStream>getArgument(0));
+            created.add(message);
+            return message;
+        });
+        doAnswer(invocation -> {
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            failed.put(created.get(1), new MessagingException("550 mailbox unavailable"));
+            throw new MailSendException("일부 실패", null, failed);
+        }).when(mailSender).send(org.mockito.ArgumentMatchers.any(MimeMessage[].class));
+
+        Map<Integer, String> failures = emailService.sendBatch(List.of(
+                EmailRequest.createResultEmail("a@sangmyung.kr", "합격", "축하합니다"),
+                EmailRequest.createResultEmail("b@sangmyung.kr", "합격", "축하합니다"),
+                EmailRequest.createResultEmail("c@sangmyung.kr", "합격", "축하합니다")
+        ));
+
+        assertThat(failures).containsOnlyKeys(1);
+        assertThat(failures.get(1)).contains("550");
     }
 }
@@ -3,15 +3,21 @@ package org.project.ttokttok.infrastructure.email.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
-import org.project.ttokttok.domain.applicant.controller.dto.request.MailFormatRequest;
+import java.util.Map;
+import org.project.ttokttok.infrastructure.email.dto.EmailRequest;
 
+import jakarta.mail.Message;
+import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,9 +27,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -214,11 +222,11 @@ class EmailServiceTest {
         }
     }
 
-    // ===== sendResultMail 테스트 =====
+    // ===== sendBatch 테스트 =====
 
     @Nested
-    @DisplayName("sendResultMail 메서드")
-    class SendResultMailTest {
+    @DisplayName("sendBatch 메서드")
+    class SendBatchTest {
 
         @BeforeEach
         void setUp() {
@@ -227,36 +235,97 @@ class EmailServiceTest {
             ReflectionTestUtils.setField(emailService, "replyTo", "reply@example.com");
         }
 
+        private void useRealMimeMessages() {
+            when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+            when(mailSender.createMimeMessage(any(InputStream.class)))
+                    .thenAnswer(invocation -> new MimeMessage(null, invocation.<InputStream>getArgument(0)));
+        }
+
+        private List<EmailRequest> requests(String... emails) {
+            return Arrays.stream(emails)
+                    .map(email -> EmailRequest.createResultEmail(email, "합격 안내", "축하합니다."))
+                    .toList();
+        }
+
         @Test
-        @DisplayName("유효한 이메일마다 한 번씩 실제 발송(sendEmail)을 수행한다")
-        void sendsOncePerValidEmail() {
+        @DisplayName("여러 통의 메일을 한 번의 send 호출(SMTP 연결 하나)로 발송한다")
+        void sendsAllMessagesInSingleCall() {
             // given
-            MimeMessage mimeMessage = mock(MimeMessage.class);
-            when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-            List<String> emails = List.of("a@sangmyung.kr", "b@gmail.com", "c@naver.com");
-            MailFormatRequest request = new MailFormatRequest("합격 안내", "축하합니다.");
+            useRealMimeMessages();
 
             // when
-            emailService.sendResultMail(emails, request);
+            Map<Integer, String> failures = emailService.sendBatch(
+                    requests("a@sangmyung.kr", "b@gmail.com", "c@naver.com"));
 
             // then
-            verify(mailSender, times(3)).send(any(MimeMessage.class));
+            assertThat(failures).isEmpty();
+            verify(mailSender, times(1)).send(any(MimeMessage[].class));
+            verify(mailSender, never()).send(any(MimeMessage.class));
         }
 
         @Test
-        @DisplayName("유효하지 않은 이메일은 건너뛰고 발송하지 않는다")
-        void skipsInvalidEmails() {
+        @DisplayName("같은 내용의 메일은 MIME 골격을 한 번만 만들고 수신자 헤더만 바꿔 발송한다")
+        void reusesSkeletonForSameContent() throws Exception {
             // given
-            List<String> emails = List.of("not-an-email", "  ", "@no-local.kr");
-            MailFormatRequest request = new MailFormatRequest("합격 안내", "축하합니다.");
+            useRealMimeMessages();
+            ArgumentCaptor<MimeMessage[]> captor = ArgumentCaptor.forClass(MimeMessage[].class);
 
             // when
-            emailService.sendResultMail(emails, request);
+            emailService.sendBatch(requests("a@sangmyung.kr", "b@gmail.com"));
 
-            // then: 유효하지 않아 MimeMessage 생성/발송이 전혀 일어나지 않음
-            verify(mailSender, never()).createMimeMessage();
-            verify(mailSender, never()).send(any(MimeMessage.class));
+            // then
+            verify(mailSender, times(1)).createMimeMessage();
+            verify(mailSender).send(captor.capture());
+            MimeMessage[] sent = captor.getValue();
+            assertThat(sent).hasSize(2);
+            assertThat(sent[0].getRecipients(Message.RecipientType.TO)[0].toString()).isEqualTo("a@sangmyung.kr");
+            assertThat(sent[1].getRecipients(Message.RecipientType.TO)[0].toString()).isEqualTo("b@gmail.com");
+            assertThat(sent[0].getSubject()).isEqualTo("합격 안내");
+            // 발송 시 메시지마다 새로 붙도록 골격의 Message-ID 는 지워져 있다.
+            assertThat(sent[0].getMessageID()).isNull();
+        }
+
+        @Test
+        @DisplayName("내용이 다른 메일은 각각의 골격으로 발송한다")
+        void createsSkeletonPerContent() {
+            // given
+            useRealMimeMessages();
+
+            // when
+            emailService.sendBatch(List.of(
+                    EmailRequest.createResultEmail("a@sangmyung.kr", "합격 안내", "축하합니다."),
+                    EmailRequest.createResultEmail("b@sangmyung.kr", "불합격 안내", "아쉽습니다."),
+                    EmailRequest.createResultEmail("c@sangmyung.kr", "합격 안내", "축하합니다.")));
+
+            // then
+            verify(mailSender, times(2)).createMimeMessage();
+            verify(mailSender, times(3)).createMimeMessage(any(InputStream.class));
+        }
+
+        @Test
+        @DisplayName("실패 메시지 정보 없이 발송이 실패하면 모든 메일을 실패로 반환한다")
+        void returnsAllIndexesWhenConnectionFails() {
+            // given
+            useRealMimeMessages();
+            doThrow(new MailSendException("connection refused"))
+                    .when(mailSender).send(any(MimeMessage[].class));
+
+            // when
+            Map<Integer, String> failures = emailService.sendBatch(requests("a@sangmyung.kr", "b@gmail.com"));
+
+            // then
+            assertThat(failures).containsOnlyKeys(0, 1);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 발송하지 않는다")
+        void doesNothingWhenEmpty() {
+            // when
+            Map<Integer, String> failures = emailService.sendBatch(List.of());
+
+            // then
+            assertThat(failures).isEmpty();
+            verify(mailSender, never()).send(any(MimeMessage[].class));
         }
     }
 }
-
@@ -0,0 +1,82 @@
+package org.project.ttokttok.infrastructure.email.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MailRateLimiter - 토큰 버킷 발송 속도 제한")
+class MailRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> sleeps = new ArrayList<>();
+
+    // 잠들면 그만큼 시계가 흐르는 가짜 시계/슬리퍼
+    private MailRateLimiter limiter(double ratePerSecond, int burst) {
+        return new MailRateLimiter(ratePerSecond, burst, clock::get, nanos -> {
+            sleeps.add(nanos);
+            clock.addAndGet(nanos);
+        });
+    }
+
+    @Test
+    @DisplayName("버스트 한도 안에서는 기다리지 않는다")
+    void noWaitWithinBurst() throws InterruptedException {
+        MailRateLimiter limiter = limiter(5, 10);
+
+        limiter.acquire(10);
+
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버스트를 넘으면 모자란 토큰이 찰 때까지 기다린다")
+    void waitsForMissingTokens() throws InterruptedException {
+        MailRateLimiter limiter = limiter(5, 10);
+
+        limiter.acquire(10);
+        limiter.acquire(5);
+
+        // 5개가 모자라고 초당 5개씩 차므로 1초를 기다린다.
+        assertThat(sleeps).containsExactly(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("반복 요청해도 평균 발송 속도는 설정값을 넘지 않는다")
+    void averageRateIsBounded() throws InterruptedException {
+        MailRateLimiter limiter = limiter(5, 10);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(20);
+        }
+
+        // 200건 중 버스트 10건을 빼면 190건 / 초당 5건 = 38초
+        assertThat(clock.get()).isEqualTo(TimeUnit.SECONDS.toNanos(38));
+    }
+
+    @Test
+    @DisplayName("쉬는 동안 토큰이 차지만 버스트 이상으로 쌓이지는 않는다")
+    void refillIsCappedAtBurst() throws InterruptedException {
+        MailRateLimiter limiter = limiter(5, 10);
+        limiter.acquire(10);
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        limiter.acquire(12);
+
+        // 1분 쉬어도 10개까지만 차므로 2개 분량(0.4초)을 기다린다.
+        assertThat(sleeps).containsExactly(TimeUnit.MILLISECONDS.toNanos(400));
+    }
+
+    @Test
+    @DisplayName("속도나 버스트가 0 이하이면 생성할 수 없다")
+    void rejectsNonPositiveSettings() {
+        assertThatThrownBy(() -> limiter(0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> limiter(5, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package org.project.ttokttok.infrastructure.email.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailTemplateTest {
+
+    @Test
+    @DisplayName("변수를 값으로 치환하고 고정 문자열은 그대로 둔다")
+    void rendersVariables() {
+        MailTemplate template = MailTemplate.compile("<p>{{name}}님, {{ club }} 지원 결과입니다.</p>");
+
+        String rendered = template.render(Map.of("name", "홍길동", "club", "똑똑"));
+
+        assertThat(rendered).isEqualTo("<p>홍길동님, 똑똑 지원 결과입니다.</p>");
+    }
+
+    @Test
+    @DisplayName("{{ }} 변수는 HTML 이스케이프하고 {{{ }}} 변수는 그대로 넣는다")
+    void escapesOnlyDoubleBraces() {
+        MailTemplate template = MailTemplate.compile("{{escaped}}|{{{raw}}}");
+
+        String rendered = template.render(Map.of("escaped", "<b>", "raw", "<b>"));
+
+        assertThat(rendered).isEqualTo("&lt;b&gt;|<b>");
+    }
+
+    @Test
+    @DisplayName("값이 없는 변수는 빈 문자열로 렌더링한다")
+    void missingVariableIsEmpty() {
+        MailTemplate template = MailTemplate.compile("안녕하세요{{name}}!");
+
+        assertThat(template.render(Map.of())).isEqualTo("안녕하세요!");
+    }
+
+    @Test
+    @DisplayName("한 번 컴파일한 템플릿을 다른 값으로 여러 번 렌더링할 수 있다")
+    void reusable() {
+        MailTemplate template = MailTemplate.compile("코드: {{code}}");
+
+        assertThat(template.render(Map.of("code", "123456"))).isEqualTo("코드: 123456");
+        assertThat(template.render(Map.of("code", "654321"))).isEqualTo("코드: 654321");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 변수가 있으면 컴파일할 수 없다")
+    void rejectsUnclosedVariable() {
+        assertThatThrownBy(() -> MailTemplate.compile("코드: {{code"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
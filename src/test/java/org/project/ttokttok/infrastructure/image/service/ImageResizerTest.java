@@ -0,0 +1,85 @@
+package org.project.ttokttok.infrastructure.image.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizerTest {
+
+    private static final long MAX_PIXELS = 10_000_000L;
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("가로를 목표 너비로 줄이고 비율을 유지한다.")
+    void resizeKeepsAspectRatio() {
+        BufferedImage source = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage resized = ImageResizer.resize(source, 256);
+
+        assertThat(resized.getWidth()).isEqualTo(256);
+        assertThat(resized.getHeight()).isEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("원본이 목표 너비보다 작으면 확대하지 않는다.")
+    void resizeDoesNotUpscale() {
+        BufferedImage source = new BufferedImage(200, 300, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = ImageResizer.resize(source, 1080);
+
+        assertThat(resized.getWidth()).isEqualTo(200);
+        assertThat(resized.getHeight()).isEqualTo(300);
+        // JPEG 로 인코딩할 수 있도록 알파 채널 없는 RGB 로 바뀐다.
+        assertThat(resized.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Test
+    @DisplayName("축소본을 JPEG 로 인코딩하면 다시 같은 크기로 읽힌다.")
+    void encodeJpeg() throws IOException {
+        BufferedImage resized = ImageResizer.resize(new BufferedImage(600, 400, BufferedImage.TYPE_INT_RGB), 256);
+
+        byte[] jpeg = ImageResizer.encodeJpeg(resized);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertThat(decoded.getWidth()).isEqualTo(256);
+        assertThat(decoded.getHeight()).isEqualTo(171);
+    }
+
+    @Test
+    @DisplayName("지원하는 형식은 디코딩한다.")
+    void decodeSupportedImage() throws IOException {
+        Optional<BufferedImage> decoded = ImageResizer.decode(new ByteArrayInputStream(png(30, 20)), MAX_PIXELS);
+
+        assertThat(decoded).hasValueSatisfying(image -> {
+            assertThat(image.getWidth()).isEqualTo(30);
+            assertThat(image.getHeight()).isEqualTo(20);
+        });
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 형식이면 빈 값을 반환한다.")
+    void decodeUnsupportedImage() throws IOException {
+        byte[] webpLike = "RIFF\0\0\0\0WEBPVP8 ".getBytes();
+
+        assertThat(ImageResizer.decode(new ByteArrayInputStream(webpLike), MAX_PIXELS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 상한을 넘으면 픽셀을 읽지 않고 빈 값을 반환한다.")
+    void decodeTooLargeImage() throws IOException {
+        assertThat(ImageResizer.decode(new ByteArrayInputStream(png(100, 100)), 9_999L)).isEmpty();
+    }
+}
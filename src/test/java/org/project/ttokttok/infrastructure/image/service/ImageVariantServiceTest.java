@@ -0,0 +1,118 @@
+package org.project.ttokttok.infrastructure.image.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.infrastructure.image.enums.ImageVariant;
+import org.project.ttokttok.infrastructure.s3.service.S3KeyUrlGenerator;
+import org.project.ttokttok.infrastructure.s3.service.S3Service;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+    private static final String BASE_URL = "https://cdn.example.com";
+    private static final String KEY = "board-images/uuid_thumb.png";
+    private static final String IMAGE_URL = BASE_URL + "/" + KEY;
+
+    @Mock
+    private S3Service s3Service;
+
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        S3KeyUrlGenerator keyUrlGenerator = new S3KeyUrlGenerator();
+        ReflectionTestUtils.setField(keyUrlGenerator, "fileCloudUrl", BASE_URL);
+        imageVariantService = new ImageVariantService(s3Service, keyUrlGenerator);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    @Nested
+    @DisplayName("createVariants()")
+    class CreateVariants {
+
+        @Test
+        @DisplayName("원본을 한 번 내려받아 너비별 JPEG 변형을 결정적 키로 업로드한다.")
+        void createVariantsUploadsEachWidth() throws IOException {
+            when(s3Service.openFile(KEY)).thenReturn(new ByteArrayInputStream(png(2000, 1000)));
+
+            boolean created = imageVariantService.createVariants(IMAGE_URL);
+
+            assertThat(created).isTrue();
+            verify(s3Service, times(1)).openFile(KEY);
+
+            ArgumentCaptor<byte[]> small = ArgumentCaptor.forClass(byte[].class);
+            ArgumentCaptor<byte[]> large = ArgumentCaptor.forClass(byte[].class);
+            verify(s3Service).uploadGeneratedFile(eq("board-images/variants/w256/uuid_thumb.jpg"),
+                    small.capture(), eq("image/jpeg"));
+            verify(s3Service).uploadGeneratedFile(eq("board-images/variants/w1080/uuid_thumb.jpg"),
+                    large.capture(), eq("image/jpeg"));
+
+            assertThat(ImageIO.read(new ByteArrayInputStream(small.getValue())).getWidth()).isEqualTo(256);
+            assertThat(ImageIO.read(new ByteArrayInputStream(large.getValue())).getWidth()).isEqualTo(1080);
+        }
+
+        @Test
+        @DisplayName("서버에서 디코딩할 수 없는 형식이면 변형을 만들지 않고 false를 반환한다.")
+        void createVariantsSkipsUnsupportedFormat() {
+            when(s3Service.openFile(KEY)).thenReturn(new ByteArrayInputStream("not-an-image".getBytes()));
+
+            boolean created = imageVariantService.createVariants(IMAGE_URL);
+
+            assertThat(created).isFalse();
+            verify(s3Service, never()).uploadGeneratedFile(anyString(), any(), anyString());
+        }
+    }
+
+    @Test
+    @DisplayName("원본 URL 로부터 변형 URL 을 계산한다.")
+    void getVariantUrl() {
+        assertThat(imageVariantService.getVariantUrl(IMAGE_URL, ImageVariant.SMALL))
+                .isEqualTo(BASE_URL + "/board-images/variants/w256/uuid_thumb.jpg");
+    }
+
+    @Nested
+    @DisplayName("deleteVariantsAfterCommit()")
+    class DeleteVariantsAfterCommit {
+
+        @Test
+        @DisplayName("모든 변형을 커밋 이후 삭제로 예약한다.")
+        void deleteAllVariants() {
+            imageVariantService.deleteVariantsAfterCommit(IMAGE_URL);
+
+            verify(s3Service).deleteFileAfterCommit(BASE_URL + "/board-images/variants/w256/uuid_thumb.jpg");
+            verify(s3Service).deleteFileAfterCommit(BASE_URL + "/board-images/variants/w1080/uuid_thumb.jpg");
+        }
+
+        @Test
+        @DisplayName("버킷 밖의 레거시 URL 이면 아무것도 하지 않는다.")
+        void ignoreExternalUrl() {
+            imageVariantService.deleteVariantsAfterCommit("https://legacy.example.com/thumb.png");
+
+            verifyNoInteractions(s3Service);
+        }
+    }
+}
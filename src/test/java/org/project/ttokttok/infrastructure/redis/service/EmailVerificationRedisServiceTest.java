@@ -0,0 +1,115 @@
+package org.project.ttokttok.infrastructure.redis.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.infrastructure.redis.service.EmailVerificationRedisService.VerifyResult;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class EmailVerificationRedisServiceTest {
+
+    private static final String EMAIL = "user@sangmyung.kr";
+    private static final List<String> KEYS = List.of(
+            "email-verification:code:" + EMAIL,
+            "email-verification:verified:" + EMAIL);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private EmailVerificationRedisService emailVerificationRedisService;
+
+    @BeforeEach
+    void setUp() {
+        emailVerificationRedisService = new EmailVerificationRedisService(redisTemplate);
+    }
+
+    private void givenVerifyScriptReturns(Long result) {
+        given(redisTemplate.execute(any(RedisScript.class), eq(KEYS),
+                eq("123456"),
+                eq(String.valueOf(EmailVerificationRedisService.MAX_ATTEMPTS)),
+                eq(String.valueOf(EmailVerificationRedisService.VERIFIED_TTL.toMillis()))))
+                .willReturn(result);
+    }
+
+    @Test
+    @DisplayName("발급 시 코드와 TTL(ms)을 이메일별 키로 저장한다")
+    void issue() {
+        // when
+        emailVerificationRedisService.issue(EMAIL, "123456");
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS),
+                eq("123456"), eq(String.valueOf(EmailVerificationRedisService.CODE_TTL.toMillis())));
+    }
+
+    @Test
+    @DisplayName("스크립트 결과 1 이면 인증 성공")
+    void verify_verified() {
+        givenVerifyScriptReturns(1L);
+
+        assertThat(emailVerificationRedisService.verify(EMAIL, "123456")).isEqualTo(VerifyResult.VERIFIED);
+    }
+
+    @Test
+    @DisplayName("스크립트 결과 0 이면 코드 불일치")
+    void verify_mismatch() {
+        givenVerifyScriptReturns(0L);
+
+        assertThat(emailVerificationRedisService.verify(EMAIL, "123456")).isEqualTo(VerifyResult.MISMATCH);
+    }
+
+    @Test
+    @DisplayName("코드가 없으면(-1) 만료로 본다")
+    void verify_expired() {
+        givenVerifyScriptReturns(-1L);
+
+        assertThat(emailVerificationRedisService.verify(EMAIL, "123456")).isEqualTo(VerifyResult.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("시도 횟수를 넘겨 코드가 폐기되면(-2) 시도 횟수 초과")
+    void verify_tooManyAttempts() {
+        givenVerifyScriptReturns(-2L);
+
+        assertThat(emailVerificationRedisService.verify(EMAIL, "123456")).isEqualTo(VerifyResult.TOO_MANY_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("인증 완료 표시를 처음 사용하면 true 를 반환한다")
+    void consumeVerified_firstTime() {
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("email-verification:verified:" + EMAIL)), eq("")))
+                .willReturn(1L);
+
+        assertThat(emailVerificationRedisService.consumeVerified(EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 사용했거나 다른 코드로 인증한 표시면 false 를 반환한다")
+    void consumeVerified_alreadyUsed() {
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("email-verification:verified:" + EMAIL)), eq("123456")))
+                .willReturn(0L);
+
+        assertThat(emailVerificationRedisService.consumeVerified(EMAIL, "123456")).isFalse();
+    }
+
+    @Test
+    @DisplayName("코드 없이 비밀번호 재설정용 표시를 사용하려 하면 Redis 를 조회하지 않고 false 를 반환한다")
+    void consumeVerified_blankCode() {
+        assertThat(emailVerificationRedisService.consumeVerified(EMAIL, null)).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,155 @@
+package org.project.ttokttok.infrastructure.redis.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class FavoriteClubIdsRedisServiceTest {
+
+    private static final String USER = "user@sangmyung.kr";
+    private static final String KEY = "favorite:clubs:" + USER;
+    private static final String VERSION_KEY = "favorite:clubs:version:" + USER;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private FavoriteClubIdsRedisService favoriteClubIdsRedisService;
+
+    @BeforeEach
+    void setUp() {
+        favoriteClubIdsRedisService = new FavoriteClubIdsRedisService(redisTemplate);
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("적재 완료 표시가 있으면 표시를 제외한 동아리 ID 집합을 반환한다")
+    void get_loaded_returnsClubIds() {
+        // given
+        given(setOperations.members(KEY)).willReturn(Set.of("#loaded", "club-1", "club-2"));
+
+        // when
+        Optional<Set<String>> result = favoriteClubIdsRedisService.get(USER);
+
+        // then
+        assertThat(result).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder("club-1", "club-2"));
+    }
+
+    @Test
+    @DisplayName("즐겨찾기가 없는 사용자는 빈 집합으로 캐시 히트된다")
+    void get_loadedEmpty_returnsEmptySet() {
+        // given
+        given(setOperations.members(KEY)).willReturn(Set.of("#loaded"));
+
+        // when
+        Optional<Set<String>> result = favoriteClubIdsRedisService.get(USER);
+
+        // then
+        assertThat(result).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("적재 완료 표시가 없으면 캐시 미스로 본다 (만료 후 증분 반영으로 생긴 키)")
+    void get_withoutMarker_isMiss() {
+        // given
+        given(setOperations.members(KEY)).willReturn(Set.of("club-1"));
+
+        // when & then
+        assertThat(favoriteClubIdsRedisService.get(USER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 예외 없이 캐시 미스로 처리한다")
+    void get_redisFailure_isMiss() {
+        // given
+        given(setOperations.members(KEY)).willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThat(favoriteClubIdsRedisService.get(USER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버전 키가 없으면 초기 버전 0 을 반환한다")
+    void currentVersion_withoutKey_returnsInitialVersion() {
+        // given
+        given(valueOperations.get(VERSION_KEY)).willReturn(null);
+
+        // when & then
+        assertThat(favoriteClubIdsRedisService.currentVersion(USER)).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("적재는 읽어 둔 버전과 적재 표시, 동아리 ID 를 스크립트 한 번으로 저장한다")
+    @SuppressWarnings("unchecked")
+    void save_executesVersionGuardedScript() {
+        // when
+        favoriteClubIdsRedisService.save(USER, "3", Set.of("club-1"));
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, VERSION_KEY)),
+                eq("3"), eq(String.valueOf(Duration.ofDays(1).toMillis())), eq("#loaded"), eq("club-1"));
+    }
+
+    @Test
+    @DisplayName("버전 조회에 실패했으면(null) 저장하지 않는다")
+    void save_withoutVersion_skips() {
+        // when
+        favoriteClubIdsRedisService.save(USER, null, Set.of("club-1"));
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 변경 시 버전을 올리고 집합을 지우는 스크립트를 실행한다")
+    @SuppressWarnings("unchecked")
+    void evict_executesScriptWithBothKeys() {
+        // when
+        favoriteClubIdsRedisService.evict(USER);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, VERSION_KEY)), any());
+    }
+
+    @Test
+    @DisplayName("무효화 중 Redis 장애가 나도 예외를 던지지 않는다")
+    @SuppressWarnings("unchecked")
+    void evict_redisFailure_doesNotThrow() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThatCode(() -> favoriteClubIdsRedisService.evict(USER)).doesNotThrowAnyException();
+    }
+}
@@ -11,13 +11,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.ttokttok.infrastructure.s3.exception.S3FileMaxSizeOverException;
 import org.project.ttokttok.infrastructure.s3.exception.UnsupportedFileTypeException;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.util.unit.DataSize;
 
+import java.io.IOException;
+
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -84,6 +88,27 @@ class ContentValidatorTest {
             contentValidator.validateArchive(file);
             verify(zipContentValidator, never()).validateZip(any(), any());
         }
+
+        @Test
+        @DisplayName("저장소 객체처럼 스트림만 있는 경우, ZIP이 아니면 스트림을 열지 않는다.")
+        void doesNotOpenStreamWhenNotZip() throws IOException {
+            InputStreamSource storedObject = mock(InputStreamSource.class);
+
+            contentValidator.validateArchive("image/png", storedObject);
+
+            verify(storedObject, never()).getInputStream();
+            verify(zipContentValidator, never()).validateZip(any(), any());
+        }
+
+        @Test
+        @DisplayName("저장소 객체처럼 스트림만 있는 경우에도 ZIP이면 ZipContentValidator를 호출한다.")
+        void callZipValidatorForStoredObject() {
+            InputStreamSource storedObject = mock(InputStreamSource.class);
+
+            contentValidator.validateArchive("application/x-zip-compressed", storedObject);
+
+            verify(zipContentValidator).validateZip(eq(storedObject), any());
+        }
     }
 
     @Nested
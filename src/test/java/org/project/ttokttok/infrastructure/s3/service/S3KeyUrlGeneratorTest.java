@@ -158,6 +158,24 @@ class S3KeyUrlGeneratorTest {
         assertUrlKeyConsistency(result);
     }
 
+    @Test
+    @DisplayName("변형 키 생성 - 원본 디렉터리 아래 너비별 경로에 확장자만 바꿔 결정적으로 생성")
+    void generateVariantKey_ShouldBeDeterministic() {
+        // Given
+        String originalKey = "board-images/12345678-1234-1234-1234-123456789abc_file.with.dots.png";
+
+        // When
+        String first = generator.generateVariantKey(originalKey, 256, "jpg");
+        String second = generator.generateVariantKey(originalKey, 256, "jpg");
+
+        // Then
+        assertThat(first)
+                .isEqualTo("board-images/variants/w256/12345678-1234-1234-1234-123456789abc_file.with.dots.jpg")
+                .isEqualTo(second);
+        assertThat(generator.generateVariantKey(originalKey, 1080, "jpg"))
+                .startsWith("board-images/variants/w1080/");
+    }
+
     // Helper Methods
     private void assertValidKeyFormat(String key, String dirName, String fileName) {
         assertThat(key)
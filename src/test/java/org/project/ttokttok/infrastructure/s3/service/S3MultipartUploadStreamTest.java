@@ -0,0 +1,111 @@
+package org.project.ttokttok.infrastructure.s3.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3MultipartUploadStream - 파트 단위 스트리밍 업로드")
+class S3MultipartUploadStreamTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String KEY = "applicant/uuid_portfolio.zip";
+    private static final int PART_SIZE = 10;
+
+    @Mock
+    private S3Client s3Client;
+
+    private S3MultipartUploadStream upload;
+
+    @BeforeEach
+    void setUp() {
+        upload = new S3MultipartUploadStream(s3Client, BUCKET, KEY, "application/zip", PART_SIZE);
+    }
+
+    private void givenMultipartUpload() {
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willReturn(UploadPartResponse.builder().eTag("etag").build());
+    }
+
+    @Test
+    @DisplayName("파트 크기에 못 미치면 multipart 없이 PutObject 한 번으로 올린다")
+    void putsSmallObjectAtOnce() {
+        upload.write(new byte[PART_SIZE - 1], 0, PART_SIZE - 1);
+        upload.complete();
+
+        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("파트 크기만큼 찰 때마다 파트를 올리고, 남은 바이트를 마지막 파트로 올린 뒤 순서대로 완료한다")
+    void uploadsPartsInOrder() {
+        givenMultipartUpload();
+
+        upload.write(new byte[PART_SIZE], 0, PART_SIZE);
+        upload.write(new byte[PART_SIZE], 0, PART_SIZE);
+        upload.write(new byte[5], 0, 5);
+        upload.complete();
+
+        ArgumentCaptor<UploadPartRequest> partRequests = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(partRequests.capture(), any(RequestBody.class));
+        assertThat(partRequests.getAllValues()).extracting(UploadPartRequest::contentLength)
+                .containsExactly(10L, 10L, 5L);
+        verify(s3Client, times(1)).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        List<CompletedPart> parts = complete.getValue().multipartUpload().parts();
+        assertThat(parts).extracting(CompletedPart::partNumber).containsExactly(1, 2, 3);
+        assertThat(complete.getValue().uploadId()).isEqualTo("upload-1");
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    @DisplayName("abort 하면 진행 중인 multipart upload 를 취소한다")
+    void abortsStartedUpload() {
+        givenMultipartUpload();
+        upload.write(new byte[PART_SIZE], 0, PART_SIZE);
+
+        upload.abort();
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abort.capture());
+        assertThat(abort.getValue().uploadId()).isEqualTo("upload-1");
+    }
+
+    @Test
+    @DisplayName("multipart 를 시작하기 전이면 abort 는 아무 요청도 보내지 않는다")
+    void abortBeforeStartDoesNothing() {
+        upload.write(new byte[PART_SIZE - 1], 0, PART_SIZE - 1);
+
+        upload.abort();
+
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+}
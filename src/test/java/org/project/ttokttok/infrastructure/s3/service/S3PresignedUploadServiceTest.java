@@ -0,0 +1,309 @@
+package org.project.ttokttok.infrastructure.s3.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.ttokttok.infrastructure.redis.service.PresignedUploadRedisService;
+import org.project.ttokttok.infrastructure.s3.exception.InvalidUploadKeyException;
+import org.project.ttokttok.infrastructure.s3.exception.S3UploadedFileNotFoundException;
+import org.project.ttokttok.infrastructure.s3.exception.UnsupportedFileTypeException;
+import org.project.ttokttok.infrastructure.s3.service.dto.PresignedUpload;
+import org.project.ttokttok.infrastructure.s3.support.AllowedFileTypes;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3PresignedUploadService - 직접 업로드 발급/확인")
+class S3PresignedUploadServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String DIR = "introduction-images/";
+    private static final String STAGING_DIR = "uploads/" + DIR;
+    private static final String FILE_NAME = "123e4567-e89b-12d3-a456-426614174000_intro.png";
+    private static final String STAGING_KEY = STAGING_DIR + FILE_NAME;
+    private static final String KEY = DIR + FILE_NAME;
+    private static final String URL_OF_KEY = "https://cdn.test.com/" + KEY;
+    private static final String OWNER = "admin";
+    private static final Duration CONFIRM_WINDOW = Duration.ofHours(1);
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private ContentValidatable validator;
+
+    @Mock
+    private S3KeyUrlGenerator keyUrlGenerator;
+
+    @Mock
+    private PresignedUploadRedisService presignedUploadRedisService;
+
+    @Mock
+    private S3Service s3Service;
+
+    private S3PresignedUploadService presignedUploadService;
+
+    @BeforeEach
+    void setUp() {
+        presignedUploadService = new S3PresignedUploadService(
+                s3Client, s3Presigner, validator, keyUrlGenerator, presignedUploadRedisService, s3Service);
+        ReflectionTestUtils.setField(presignedUploadService, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(presignedUploadService, "expiration", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(presignedUploadService, "confirmWindow", CONFIRM_WINDOW);
+    }
+
+    @Nested
+    @DisplayName("issueUpload()")
+    class IssueUpload {
+
+        @Test
+        @DisplayName("Content-Type 과 Content-Length 를 서명에 묶은 PUT URL 을 발급하고, Host 헤더는 내려주지 않는다")
+        void presignsWithTypeAndLength() throws Exception {
+            given(keyUrlGenerator.generateKey(STAGING_DIR, "intro.png")).willReturn(STAGING_KEY);
+
+            PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+            Instant expiresAt = Instant.parse("2026-01-01T00:05:00Z");
+            given(presigned.url()).willReturn(new URL("https://bucket.s3/" + STAGING_KEY + "?X-Amz-Signature=sig"));
+            given(presigned.expiration()).willReturn(expiresAt);
+            given(presigned.signedHeaders()).willReturn(Map.of(
+                    "host", List.of("bucket.s3"),
+                    "content-type", List.of("image/png"),
+                    "content-length", List.of("1024")));
+            given(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).willReturn(presigned);
+
+            PresignedUpload upload = presignedUploadService.issueUpload(
+                    OWNER, DIR, "intro.png", "image/png", 1024, AllowedFileTypes.IMAGES);
+
+            ArgumentCaptor<PutObjectPresignRequest> captor = ArgumentCaptor.forClass(PutObjectPresignRequest.class);
+            verify(s3Presigner).presignPutObject(captor.capture());
+            assertThat(captor.getValue().signatureDuration()).isEqualTo(Duration.ofMinutes(5));
+            assertThat(captor.getValue().putObjectRequest().bucket()).isEqualTo(BUCKET);
+            assertThat(captor.getValue().putObjectRequest().key()).isEqualTo(STAGING_KEY);
+            assertThat(captor.getValue().putObjectRequest().contentType()).isEqualTo("image/png");
+            assertThat(captor.getValue().putObjectRequest().contentLength()).isEqualTo(1024L);
+
+            assertThat(upload.key()).isEqualTo(STAGING_KEY);
+            assertThat(upload.expiresAt()).isEqualTo(expiresAt);
+            assertThat(upload.headers())
+                    .containsOnlyKeys("content-type", "content-length")
+                    .containsEntry("content-type", "image/png");
+        }
+
+        @Test
+        @DisplayName("발급한 키를 요청한 사용자에게 확인 허용 시간 동안 묶어 둔다")
+        void bindsKeyToOwner() throws Exception {
+            given(keyUrlGenerator.generateKey(STAGING_DIR, "intro.png")).willReturn(STAGING_KEY);
+            PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+            given(presigned.url()).willReturn(new URL("https://bucket.s3/" + STAGING_KEY));
+            given(presigned.signedHeaders()).willReturn(Map.of());
+            given(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).willReturn(presigned);
+
+            presignedUploadService.issueUpload(OWNER, DIR, "intro.png", "image/png", 1024, AllowedFileTypes.IMAGES);
+
+            verify(presignedUploadRedisService).bindOwner(STAGING_KEY, OWNER, CONFIRM_WINDOW);
+        }
+
+        @Test
+        @DisplayName("용도에서 허용하지 않는 형식이면 URL 을 발급하지 않는다")
+        void rejectsTypeNotAllowedForPurpose() {
+            assertThatThrownBy(() -> presignedUploadService.issueUpload(
+                    OWNER, DIR, "resume.pdf", "application/pdf", 1024, AllowedFileTypes.IMAGES))
+                    .isInstanceOf(UnsupportedFileTypeException.class);
+
+            verify(s3Presigner, never()).presignPutObject(any(PutObjectPresignRequest.class));
+        }
+
+        @Test
+        @DisplayName("크기가 0 이면 URL 을 발급하지 않는다")
+        void rejectsEmptyFile() {
+            assertThatThrownBy(() -> presignedUploadService.issueUpload(
+                    OWNER, DIR, "intro.png", "image/png", 0, AllowedFileTypes.IMAGES))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            verify(s3Presigner, never()).presignPutObject(any(PutObjectPresignRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("confirmUpload()")
+    class ConfirmUpload {
+
+        private void givenStoredObject(String contentType, long size) {
+            given(presignedUploadRedisService.isOwner(STAGING_KEY, OWNER)).willReturn(true);
+            given(s3Client.headObject(any(HeadObjectRequest.class))).willReturn(HeadObjectResponse.builder()
+                    .contentType(contentType)
+                    .contentLength(size)
+                    .build());
+        }
+
+        @Test
+        @DisplayName("저장된 객체의 메타데이터와 파일 이름을 검증하고 대상 디렉터리로 옮긴 뒤 접근 URL 을 반환한다")
+        void validatesStoredObject() {
+            givenStoredObject("image/png", 1024);
+            given(keyUrlGenerator.createUrl(KEY)).willReturn(URL_OF_KEY);
+
+            String url = presignedUploadService.confirmUpload(OWNER, DIR, STAGING_KEY, AllowedFileTypes.IMAGES);
+
+            assertThat(url).isEqualTo(URL_OF_KEY);
+            verify(validator).validateSize(1024);
+            verify(validator).validateType("image/png");
+            verify(validator).validateFileName("intro.png");
+            verify(validator).validateArchive(eq("image/png"), any(InputStreamSource.class));
+
+            ArgumentCaptor<CopyObjectRequest> copy = ArgumentCaptor.forClass(CopyObjectRequest.class);
+            verify(s3Client).copyObject(copy.capture());
+            assertThat(copy.getValue().sourceKey()).isEqualTo(STAGING_KEY);
+            assertThat(copy.getValue().destinationKey()).isEqualTo(KEY);
+
+            ArgumentCaptor<DeleteObjectRequest> delete = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+            verify(s3Client).deleteObject(delete.capture());
+            assertThat(delete.getValue().key()).isEqualTo(STAGING_KEY);
+            verify(presignedUploadRedisService).release(STAGING_KEY);
+        }
+
+        @Test
+        @DisplayName("다른 사용자에게 발급했거나 확인 허용 시간이 지난 키는 저장소를 건드리지 않고 거절한다")
+        void rejectsKeyIssuedToOthers() {
+            given(presignedUploadRedisService.isOwner(STAGING_KEY, "other-admin")).willReturn(false);
+
+            assertThatThrownBy(() -> presignedUploadService.confirmUpload(
+                    "other-admin", DIR, STAGING_KEY, AllowedFileTypes.IMAGES))
+                    .isInstanceOf(InvalidUploadKeyException.class);
+
+            verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+            verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+            verify(presignedUploadRedisService, never()).release(anyString());
+        }
+
+        @Test
+        @DisplayName("아카이브 검증 스트림은 저장소 객체를 읽는다")
+        void archiveValidationReadsStoredObject() throws Exception {
+            givenStoredObject("application/zip", 1024);
+            given(keyUrlGenerator.createUrl(KEY)).willReturn(URL_OF_KEY);
+
+            presignedUploadService.confirmUpload(OWNER, DIR, STAGING_KEY, AllowedFileTypes.DOCUMENTS);
+
+            ArgumentCaptor<InputStreamSource> captor = ArgumentCaptor.forClass(InputStreamSource.class);
+            verify(validator).validateArchive(eq("application/zip"), captor.capture());
+
+            captor.getValue().getInputStream();
+            ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+            verify(s3Client).getObject(request.capture());
+            assertThat(request.getValue().key()).isEqualTo(STAGING_KEY);
+        }
+
+        @Test
+        @DisplayName("검증에 실패하면 저장된 객체를 삭제하고 예외를 그대로 던진다")
+        void deletesObjectWhenValidationFails() {
+            givenStoredObject("application/zip", 1024);
+            willThrow(new UnsupportedFileTypeException()).given(validator)
+                    .validateArchive(eq("application/zip"), any(InputStreamSource.class));
+
+            assertThatThrownBy(() -> presignedUploadService.confirmUpload(
+                    OWNER, DIR, STAGING_KEY, AllowedFileTypes.DOCUMENTS))
+                    .isInstanceOf(UnsupportedFileTypeException.class);
+
+            ArgumentCaptor<DeleteObjectRequest> captor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+            verify(s3Client).deleteObject(captor.capture());
+            assertThat(captor.getValue().key()).isEqualTo(STAGING_KEY);
+            verify(s3Client, never()).copyObject(any(CopyObjectRequest.class));
+            verify(presignedUploadRedisService).release(STAGING_KEY);
+        }
+
+        @Test
+        @DisplayName("다른 디렉터리의 키이거나 발급 형식이 아니면 저장소를 조회하지 않고 거절한다")
+        void rejectsKeyOutsideDirectory() {
+            assertThatThrownBy(() -> presignedUploadService.confirmUpload(
+                    OWNER, DIR, "uploads/profile-images/" + FILE_NAME, AllowedFileTypes.IMAGES))
+                    .isInstanceOf(InvalidUploadKeyException.class);
+            assertThatThrownBy(() -> presignedUploadService.confirmUpload(
+                    OWNER, DIR, STAGING_DIR + "a.png", AllowedFileTypes.IMAGES))
+                    .isInstanceOf(InvalidUploadKeyException.class);
+            assertThatThrownBy(() -> presignedUploadService.confirmUpload(OWNER, DIR, KEY, AllowedFileTypes.IMAGES))
+                    .isInstanceOf(InvalidUploadKeyException.class);
+
+            verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+        }
+
+        @Test
+        @DisplayName("아직 업로드되지 않았으면 S3UploadedFileNotFoundException")
+        void throwsWhenNotUploadedYet() {
+            given(presignedUploadRedisService.isOwner(STAGING_KEY, OWNER)).willReturn(true);
+            given(s3Client.headObject(any(HeadObjectRequest.class)))
+                    .willThrow(S3Exception.builder().statusCode(404).build());
+
+            assertThatThrownBy(() -> presignedUploadService.confirmUpload(
+                    OWNER, DIR, STAGING_KEY, AllowedFileTypes.IMAGES))
+                    .isInstanceOf(S3UploadedFileNotFoundException.class);
+            verify(validator, never()).validateFileName(anyString());
+            verify(presignedUploadRedisService, never()).release(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteExpiredStagingUploads()")
+    class DeleteExpiredStagingUploads {
+
+        @Test
+        @DisplayName("확인 허용 시간이 지난 스테이징 객체만 삭제한다")
+        @SuppressWarnings("unchecked")
+        void deletesOnlyExpiredObjects() {
+            S3Object expired = S3Object.builder()
+                    .key(STAGING_KEY)
+                    .lastModified(Instant.now().minus(CONFIRM_WINDOW).minusSeconds(60))
+                    .build();
+            S3Object recent = S3Object.builder()
+                    .key(STAGING_DIR + "223e4567-e89b-12d3-a456-426614174000_new.png")
+                    .lastModified(Instant.now())
+                    .build();
+            willAnswer(invocation -> {
+                invocation.<Consumer<List<S3Object>>>getArgument(1).accept(List.of(expired, recent));
+                return null;
+            }).given(s3Service).listObjects(eq("uploads/"), any(Consumer.class));
+            given(s3Service.deleteObjects(List.of(STAGING_KEY))).willReturn(1);
+
+            int deletedCount = presignedUploadService.deleteExpiredStagingUploads();
+
+            assertThat(deletedCount).isEqualTo(1);
+            verify(s3Service).deleteObjects(List.of(STAGING_KEY));
+        }
+    }
+}
@@ -6,10 +6,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.ttokttok.infrastructure.s3.enums.S3FileDirectory;
 import org.project.ttokttok.infrastructure.s3.exception.S3FileUploadException;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -20,6 +22,9 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -85,7 +90,7 @@ class S3ServiceTest {
         verify(validator).validateSize(file.getSize());
         verify(validator).validateType(contentType);
         verify(validator).validateFileName(fileName);
-        verify(validator).validateArchive(file);
+        verify(validator).isArchive(contentType);
         verify(keyUrlGenerator).generateKey(dirName, fileName);
         verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
         verify(keyUrlGenerator).createUrl(expectedKey);
@@ -111,7 +116,7 @@ class S3ServiceTest {
         // 검증 실패 후에는 다른 작업들이 호출되지 않아야 함
         verify(validator, never()).validateType(anyString());
         verify(validator, never()).validateFileName(anyString());
-        verify(validator, never()).validateArchive(any());
+        verify(validator, never()).isArchive(anyString());
         verify(keyUrlGenerator, never()).generateKey(anyString(), anyString());
         verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
     }
@@ -141,7 +146,7 @@ class S3ServiceTest {
         verify(validator).validateSize(1024L);
         verify(validator).validateType(contentType);
         verify(validator).validateFileName(fileName);
-        verify(validator).validateArchive(mockFile);
+        verify(validator).isArchive(contentType);
         verify(keyUrlGenerator).generateKey(dirName, fileName);
         // I/O 에러로 인해 S3 업로드는 시도되지 않음
         verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
@@ -213,6 +218,67 @@ class S3ServiceTest {
         verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
     }
 
+    @Nested
+    @DisplayName("uploadFile() - 아카이브 단일 패스 업로드")
+    class UploadArchive {
+
+        private static final String ZIP = "application/zip";
+        private static final String DIR = "applicant/user@sangmyung.kr/";
+        private static final String KEY = DIR + "uuid_portfolio.zip";
+
+        private final byte[] content = "zip-local-headers|zip-central-directory".getBytes();
+
+        private MultipartFile zipFile() {
+            return spy(new MockMultipartFile("file", "portfolio.zip", ZIP, content));
+        }
+
+        @BeforeEach
+        void givenArchive() {
+            when(validator.isArchive(ZIP)).thenReturn(true);
+            when(keyUrlGenerator.generateKey(DIR, "portfolio.zip")).thenReturn(KEY);
+        }
+
+        @Test
+        @DisplayName("원본을 한 번만 읽고, 검증기가 읽지 않은 나머지까지 모두 업로드한다")
+        void readsOnceAndUploadsEveryByte() throws IOException {
+            MultipartFile file = zipFile();
+            when(keyUrlGenerator.createUrl(KEY)).thenReturn("https://cdn.test.com/" + KEY);
+            // ZipInputStream 처럼 앞부분(로컬 헤더)만 읽고 중앙 디렉터리 전에 검증을 끝낸다.
+            doAnswer(invocation -> {
+                InputStreamSource source = invocation.getArgument(1);
+                try (InputStream in = source.getInputStream()) {
+                    in.readNBytes("zip-local-headers".length());
+                }
+                return null;
+            }).when(validator).validateArchive(eq(ZIP), any(InputStreamSource.class));
+
+            String url = s3Service.uploadFile(file, DIR);
+
+            assertEquals("https://cdn.test.com/" + KEY, url);
+            verify(file, times(1)).getInputStream();
+            ArgumentCaptor<RequestBody> body = ArgumentCaptor.forClass(RequestBody.class);
+            verify(s3Client).putObject(any(PutObjectRequest.class), body.capture());
+            try (InputStream uploaded = body.getValue().contentStreamProvider().newStream()) {
+                assertArrayEquals(content, uploaded.readAllBytes());
+            }
+            verify(validator, never()).validateArchive(any(MultipartFile.class));
+        }
+
+        @Test
+        @DisplayName("검증에 실패하면 업로드를 완료하지 않고 검증 예외를 그대로 던진다")
+        void doesNotCompleteWhenValidationFails() {
+            MultipartFile file = zipFile();
+            RuntimeException invalidZip = new RuntimeException("압축 파일 내 허용되지 않는 파일 형식");
+            doThrow(invalidZip).when(validator).validateArchive(eq(ZIP), any(InputStreamSource.class));
+
+            assertThatThrownBy(() -> s3Service.uploadFile(file, DIR)).isSameAs(invalidZip);
+
+            verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+            verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+            verify(keyUrlGenerator, never()).createUrl(anyString());
+        }
+    }
+
     // ------- 트랜잭션 연동 삭제 (tx-aware) -------
 
     private static final String FILE_URL = "https://cdn.test.com/board-images/uuid_thumb.png";
@@ -353,4 +419,78 @@ class S3ServiceTest {
                     .doesNotThrowAnyException();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("listObjects()")
+    class ListObjects {
+
+        @Test
+        @DisplayName("잘린 응답이면 continuation token 으로 다음 페이지를 이어서 나열한다.")
+        void followsContinuationToken() {
+            when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+                    .thenReturn(ListObjectsV2Response.builder()
+                            .contents(S3Object.builder().key("applicant/a").build())
+                            .isTruncated(true)
+                            .nextContinuationToken("token-1")
+                            .build())
+                    .thenReturn(ListObjectsV2Response.builder()
+                            .contents(S3Object.builder().key("applicant/b").build())
+                            .isTruncated(false)
+                            .build());
+
+            List<String> keys = new ArrayList<>();
+            s3Service.listObjects("applicant/", page -> page.forEach(object -> keys.add(object.key())));
+
+            assertEquals(List.of("applicant/a", "applicant/b"), keys);
+
+            ArgumentCaptor<ListObjectsV2Request> captor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+            verify(s3Client, times(2)).listObjectsV2(captor.capture());
+            assertNull(captor.getAllValues().get(0).continuationToken());
+            assertEquals("token-1", captor.getAllValues().get(1).continuationToken());
+            assertEquals("applicant/", captor.getAllValues().get(1).prefix());
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteObjects()")
+    class DeleteObjects {
+
+        @Test
+        @DisplayName("키 목록을 한 번의 DeleteObjects 로 지우고 실패한 키를 뺀 개수를 반환한다.")
+        void deletesInOneRequest() {
+            when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                    .thenReturn(DeleteObjectsResponse.builder()
+                            .errors(S3Error.builder().key("applicant/b").code("AccessDenied").build())
+                            .build());
+
+            int deleted = s3Service.deleteObjects(List.of("applicant/a", "applicant/b"));
+
+            assertEquals(1, deleted);
+            ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+            verify(s3Client).deleteObjects(captor.capture());
+            assertEquals(TEST_BUCKET, captor.getValue().bucket());
+            assertEquals(2, captor.getValue().delete().objects().size());
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 S3 를 호출하지 않는다.")
+        void skipsEmptyKeys() {
+            assertEquals(0, s3Service.deleteObjects(List.of()));
+
+            verifyNoInteractions(s3Client);
+        }
+
+        @Test
+        @DisplayName("한 번에 1000개를 넘기면 예외가 발생한다.")
+        void rejectsTooManyKeys() {
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i <= S3Service.MAX_DELETE_KEYS; i++) {
+                keys.add("applicant/" + i);
+            }
+
+            assertThatThrownBy(() -> s3Service.deleteObjects(keys))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(s3Client);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.project.ttokttok.infrastructure.s3.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TeeInputStream - 읽은 바이트 복제")
+class TeeInputStreamTest {
+
+    private final byte[] source = "0123456789abcdef".getBytes();
+
+    @Test
+    @DisplayName("read/skip 으로 지나간 바이트가 빠짐없이 원본 순서대로 sink 에 기록된다")
+    void copiesEveryConsumedByte() throws IOException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+        try (InputStream tee = new TeeInputStream(new ByteArrayInputStream(source), sink)) {
+            tee.read();
+            tee.readNBytes(4);
+            tee.skip(3);
+            tee.transferTo(OutputStream.nullOutputStream());
+        }
+
+        assertThat(sink.toByteArray()).isEqualTo(source);
+    }
+
+    @Test
+    @DisplayName("mark/reset 으로 같은 바이트를 두 번 기록하지 않도록 mark 를 지원하지 않는다")
+    void doesNotSupportMark() {
+        InputStream tee = new TeeInputStream(new ByteArrayInputStream(source), new ByteArrayOutputStream());
+
+        assertThat(tee.markSupported()).isFalse();
+    }
+}
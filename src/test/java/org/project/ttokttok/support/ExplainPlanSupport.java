@@ -0,0 +1,89 @@
+package org.project.ttokttok.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * PostgreSQL 실행 계획(EXPLAIN) 검증용 JDBC 헬퍼
+ *
+ * <p>하나의 트랜잭션 안에서 시드/ANALYZE/EXPLAIN 을 실행하고 {@link #rollbackAndClose()} 로 모두 되돌린다.
+ * 인메모리 H2 는 실행 계획이 PostgreSQL 과 다르므로, 인덱스 검증은 실제 PostgreSQL 에 대해서만 의미가 있다.
+ */
+public final class ExplainPlanSupport {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Connection connection;
+
+    private ExplainPlanSupport(Connection connection) {
+        this.connection = connection;
+    }
+
+    public static ExplainPlanSupport connect(String url, String username, String password) throws SQLException {
+        Connection connection = DriverManager.getConnection(url, username, password);
+        connection.setAutoCommit(false);
+        return new ExplainPlanSupport(connection);
+    }
+
+    public void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // 시드 직후 통계를 갱신해 플래너가 시드 데이터 분포를 보게 한다. (트랜잭션 롤백 시 함께 되돌아간다)
+    public void analyze(String... tables) throws SQLException {
+        for (String table : tables) {
+            execute("ANALYZE " + table);
+        }
+    }
+
+    /**
+     * 쿼리의 실행 계획 루트 노드를 반환한다.
+     */
+    public JsonNode explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+            resultSet.next();
+            return OBJECT_MAPPER.readTree(resultSet.getString(1)).get(0).get("Plan");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("실행 계획 JSON 파싱 실패", e);
+        }
+    }
+
+    /**
+     * 실행 계획에서 순차 스캔(Seq Scan)된 테이블 이름을 모은다.
+     */
+    public static Set<String> seqScannedRelations(JsonNode plan) {
+        Set<String> relations = new LinkedHashSet<>();
+        collectSeqScans(plan, relations);
+        return relations;
+    }
+
+    private static void collectSeqScans(JsonNode node, Set<String> relations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            relations.add(node.path("Relation Name").asText());
+        }
+
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, relations);
+        }
+    }
+
+    public void rollbackAndClose() throws SQLException {
+        try {
+            connection.rollback();
+        } finally {
+            connection.close();
+        }
+    }
+}